@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.os.Parcel;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.Actions;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.RecordData.TimeRecord;
+import de.webducer.android.zeiterfassung.contract.notification.ChangeEvent;
+import de.webducer.android.zeiterfassung.contract.notification.ChangeEventCodec;
+import de.webducer.android.zeiterfassung.contract.notification.DataTable;
+
+public class ChangeEventTests extends TestCase {
+
+   public final void testDecode_WithEncodedEvents_ReturnsSameEvents() {
+      final List<ChangeEvent> expected = createEvents();
+
+      final long[] data = ChangeEventCodec.encode(expected);
+      final List<ChangeEvent> actual = ChangeEventCodec.decode(data);
+
+      Assert.assertEquals(expected.size() * ChangeEventCodec.EVENT_SIZE, data.length);
+      Assert.assertEquals(expected, actual);
+      Assert.assertEquals(DataTable.TimeRecord, ChangeEventCodec.getTable(data, 1));
+      Assert.assertEquals(ChangeEvent.OPERATION_UPDATE, ChangeEventCodec.getOperation(data, 1));
+      Assert.assertEquals(Long.MAX_VALUE, ChangeEventCodec.getId(data, 1));
+   }
+
+   public final void testGetEvents_WithIntentAndBundle_ReturnsWrittenEvents() {
+      final long[] expected = ChangeEventCodec.encode(createEvents());
+      final Bundle bundle = new Bundle();
+
+      ChangeEventCodec.putEvents(bundle, expected);
+      final Intent intent = ChangeEventCodec.putEvents(new Intent(Actions.ACTION_RECORD_DATA_CHANGED), expected);
+
+      Assert.assertTrue(Arrays.equals(expected, ChangeEventCodec.getEvents(bundle)));
+      Assert.assertTrue(Arrays.equals(expected, ChangeEventCodec.getEvents(intent)));
+      Assert.assertNull(ChangeEventCodec.getEvents(new Intent(Actions.ACTION_RECORD_DATA_CHANGED)));
+   }
+
+   public final void testCreateFromParcel_WithWrittenEvent_ReturnsSameEvent() {
+      final ChangeEvent expected = createEvents().get(1);
+      final Parcel parcel = Parcel.obtain();
+
+      try {
+         expected.writeToParcel(parcel, 0);
+         parcel.setDataPosition(0);
+
+         Assert.assertEquals(expected, ChangeEvent.CREATOR.createFromParcel(parcel));
+      } finally {
+         parcel.recycle();
+      }
+   }
+
+   public final void testCreateFromParcel_WithUnknownOperation_ThrowsException() {
+      final Parcel parcel = Parcel.obtain();
+
+      try {
+         // Header with operation 7 and without table
+         parcel.writeLong(7L << 32);
+         parcel.writeLong(1L);
+         parcel.setDataPosition(0);
+
+         ChangeEvent.CREATOR.createFromParcel(parcel);
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      } finally {
+         parcel.recycle();
+      }
+   }
+
+   public final void testIsColumnChanged_WithUpdateMask_ReturnsOnlyMaskedColumns() {
+      final ChangeEvent actual = createEvents().get(1);
+
+      Assert.assertTrue(actual.isColumnChanged(TimeRecord.Columns.END_TIME));
+      Assert.assertTrue(actual.isColumnChanged(TimeRecord.Columns.COMMENT));
+      Assert.assertFalse(actual.isColumnChanged(TimeRecord.Columns.START_TIME));
+   }
+
+   public final void testDataTable_AllContractTables_HaveUniqueCode() throws Exception {
+      final List<String> directories = new ArrayList<String>();
+      collectContentDirectories(TimeTrackingContract.ConfigurationData.class, directories);
+      collectContentDirectories(TimeTrackingContract.MasterData.class, directories);
+      collectContentDirectories(TimeTrackingContract.RecordData.class, directories);
+      collectContentDirectories(TimeTrackingContract.ReportData.class, directories);
+
+      for (String directory : directories) {
+         final DataTable table = DataTable.getByContentDirectory(directory);
+
+         Assert.assertNotNull(directory, table);
+         Assert.assertSame(table, DataTable.getByCode(table.getCode()));
+      }
+
+      Assert.assertEquals(DataTable.values().length, directories.size());
+   }
+
+   private static List<ChangeEvent> createEvents() {
+      final List<ChangeEvent> events = new ArrayList<ChangeEvent>();
+      events.add(ChangeEvent.insert(DataTable.RecordPause, 1));
+      events.add(ChangeEvent.update(DataTable.TimeRecord, Long.MAX_VALUE,
+            DataTable.TimeRecord.getColumnMask(Arrays.asList(TimeRecord.Columns.END_TIME, TimeRecord.Columns.COMMENT))));
+      events.add(ChangeEvent.delete(DataTable.Data, -5));
+
+      return events;
+   }
+
+   private static void collectContentDirectories(Class<?> type, List<String> directories) throws Exception {
+      for (Field field : type.getDeclaredFields()) {
+         if ("CONTENT_DIRECTORY".equals(field.getName())) {
+            directories.add((String) field.get(null));
+         }
+      }
+
+      for (Class<?> nested : type.getDeclaredClasses()) {
+         collectContentDirectories(nested, directories);
+      }
+   }
+}
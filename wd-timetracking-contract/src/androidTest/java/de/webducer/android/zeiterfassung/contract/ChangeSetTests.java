@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.content.Intent;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.Actions;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.RecordData.RecordPause;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.RecordData.TimeRecord;
+import de.webducer.android.zeiterfassung.contract.notification.ChangeSet;
+
+public class ChangeSetTests extends TestCase {
+   private final static String _records = TimeRecord.CONTENT_DIRECTORY;
+   private final static String _pauses = RecordPause.CONTENT_DIRECTORY;
+
+   public final void testFromIntent_WithWrittenChanges_ReturnsSortedDistinctIds() {
+      final ChangeSet changes = new ChangeSet.Builder(10)
+            .addId(_records, 7)
+            .addId(_records, 3)
+            .addId(_records, 7)
+            .addTable(_pauses)
+            .build();
+
+      final ChangeSet actual = ChangeSet.fromIntent(changes.writeTo(new Intent(Actions.ACTION_RECORD_DATA_CHANGED)));
+
+      Assert.assertFalse(actual.isComplete());
+      Assert.assertTrue(Arrays.equals(new String[]{_records, _pauses}, actual.getTables()));
+      Assert.assertTrue(Arrays.equals(new long[]{3, 7}, actual.getIds(_records)));
+      Assert.assertTrue(actual.isChanged(_records, 3));
+      Assert.assertFalse(actual.isChanged(_records, 4));
+      Assert.assertTrue(actual.isTableReloadRequired(_pauses));
+      Assert.assertNull(actual.getIds(_pauses));
+      Assert.assertFalse(actual.isTableChanged(TimeTrackingContract.MasterData.Project.CONTENT_DIRECTORY));
+   }
+
+   public final void testBuilder_WithTooManyIds_RequiresReload() {
+      final ChangeSet.Builder builder = new ChangeSet.Builder(3);
+      for (int id = 1; id <= 3; id++) {
+         builder.addId(_records, id);
+         builder.addId(_records, id);
+      }
+
+      Assert.assertFalse(builder.build().isTableReloadRequired(_records));
+
+      builder.addId(_records, 4);
+
+      Assert.assertTrue(builder.build().isTableReloadRequired(_records));
+   }
+
+   public final void testFromIntent_WithoutPayload_ReturnsCompleteChange() {
+      final ChangeSet actual = ChangeSet.fromIntent(new Intent(Actions.ACTION_RECORD_DATA_CHANGED));
+
+      Assert.assertTrue(actual.isComplete());
+      Assert.assertTrue(actual.isChanged(_records, 1));
+      Assert.assertNull(actual.getIds(_records));
+   }
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.database.MatrixCursor;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ConfigurationData.Configuration;
+import de.webducer.android.zeiterfassung.contract.cache.ConfigurationSnapshot;
+import de.webducer.android.zeiterfassung.contract.enums.ConfigDataType;
+
+public class ConfigurationSnapshotTests extends TestCase {
+
+   public final void testGetters_WithTypedValues_ReturnParsedValues() {
+      final ConfigurationSnapshot actual = ConfigurationSnapshot.fromCursor(createCursor());
+
+      Assert.assertEquals(7, actual.size());
+      Assert.assertEquals("Text", actual.getString("string", null));
+      Assert.assertTrue(actual.getBoolean("boolean", false));
+      Assert.assertEquals(42, actual.getInt("integer", 0));
+      Assert.assertEquals(42L, actual.getLong("integer", 0));
+      Assert.assertEquals(5000000000L, actual.getLong("long", 0));
+      Assert.assertEquals(1.5, actual.getDouble("double", 0), 0);
+      Assert.assertEquals(2.25f, actual.getFloat("float", 0), 0);
+      Assert.assertEquals(ConfigDataType.Long, actual.getType("long"));
+   }
+
+   public final void testGetters_WithMissingOrInvalidValues_ReturnDefault() {
+      final ConfigurationSnapshot actual = ConfigurationSnapshot.fromCursor(createCursor());
+
+      Assert.assertFalse(actual.contains("missing"));
+      Assert.assertEquals(-1, actual.getInt("missing", -1));
+      Assert.assertEquals(-1, actual.getInt("long", -1));
+      Assert.assertEquals(-1, actual.getInt("invalid", -1));
+      Assert.assertEquals("x", actual.getString("invalid", null));
+      Assert.assertFalse(actual.getBoolean("integer", false));
+      Assert.assertEquals(ConfigDataType.NotSet, actual.getType("missing"));
+   }
+
+   private static MatrixCursor createCursor() {
+      final MatrixCursor cursor = new MatrixCursor(Configuration.Columns.ALL_COLUMNS);
+      addRow(cursor, 1, "string", ConfigDataType.String, "Text");
+      addRow(cursor, 2, "long", ConfigDataType.Long, "5000000000");
+      addRow(cursor, 3, "boolean", ConfigDataType.Boolean, TimeTrackingContract.BOOL_TRUE_AS_STRING);
+      addRow(cursor, 4, "integer", ConfigDataType.Integer, " 42 ");
+      addRow(cursor, 5, "double", ConfigDataType.Double, "1.5");
+      addRow(cursor, 6, "float", ConfigDataType.Float, "2.25");
+      addRow(cursor, 7, "invalid", ConfigDataType.Integer, "x");
+
+      return cursor;
+   }
+
+   private static void addRow(MatrixCursor cursor, long id, String key, ConfigDataType type, String value) {
+      cursor.addRow(new Object[]{id, key, type.getEnumCode(), value, TimeTrackingContract.BOOL_TRUE, TimeTrackingContract.BOOL_TRUE});
+   }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeCodec;
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeFormat;
+
+public class DbDateTimeCodecTests extends TestCase {
+   private final static String _dateTime = "2013-11-27T18:15";
+   private final static String _date = "2013-11-27";
+   private final static String _time = "18:15";
+
+   public final void testToEpochDay_WithEpochStart_ReturnsZero() {
+      Assert.assertEquals(0, DbDateTimeCodec.toEpochDay(1970, 1, 1));
+      Assert.assertEquals(-1, DbDateTimeCodec.toEpochDay(1969, 12, 31));
+      Assert.assertEquals(11016, DbDateTimeCodec.toEpochDay(2000, 2, 29));
+   }
+
+   public final void testToYearMonthDay_WithAllDaysOfFourCenturies_RoundTrips() {
+      final int start = DbDateTimeCodec.toEpochDay(1900, 1, 1);
+      final int end = DbDateTimeCodec.toEpochDay(2300, 1, 1);
+
+      for (int epochDay = start; epochDay < end; epochDay++) {
+         final int ymd = DbDateTimeCodec.toYearMonthDay(epochDay);
+
+         Assert.assertEquals(epochDay, DbDateTimeCodec.toEpochDay(ymd / 10000, (ymd / 100) % 100, ymd % 100));
+      }
+   }
+
+   public final void testParseDateTime_WithValidValue_ReturnsSameAsFormatter() throws ParseException {
+      final SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm", Locale.GERMANY);
+      final Date expected = formatter.parse(_dateTime);
+
+      final long epochMinute = DbDateTimeCodec.parseDateTime(_dateTime, 0);
+
+      Assert.assertEquals(expected.getTime(), DbDateTimeCodec.toMillis(epochMinute, formatter.getTimeZone()));
+   }
+
+   public final void testFormatDateTime_WithParsedValue_ReturnsOriginal() {
+      final char[] buffer = new char[DbDateTimeCodec.DATE_TIME_LENGTH + 2];
+
+      final int end = DbDateTimeCodec.formatDateTime(DbDateTimeCodec.parseDateTime(_dateTime, 0), buffer, 2);
+
+      Assert.assertEquals(buffer.length, end);
+      Assert.assertEquals(_dateTime, new String(buffer, 2, DbDateTimeCodec.DATE_TIME_LENGTH));
+   }
+
+   public final void testAppendDateAndTime_WithParsedValues_ReturnsOriginal() {
+      final StringBuilder builder = new StringBuilder();
+
+      DbDateTimeCodec.appendDate(DbDateTimeCodec.parseDate(_date, 0), builder).append(' ');
+      DbDateTimeCodec.appendTime(DbDateTimeCodec.parseTime(_time, 0), builder);
+
+      Assert.assertEquals(_date + " " + _time, builder.toString());
+   }
+
+   public final void testParseDate_WithInvalidDay_ThrowsException() {
+      try {
+         DbDateTimeCodec.parseDate("2015-02-29", 0);
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+   }
+
+   public final void testParseTime_WithInvalidHour_ThrowsException() {
+      try {
+         DbDateTimeCodec.parseTime("24:00", 0);
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+   }
+
+   public final void testLegacyFormatter_WithDate_ReturnsSameAsSimpleDateFormat() throws ParseException {
+      final SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm", Locale.GERMANY);
+      final Date date = formatter.parse(_dateTime);
+
+      Assert.assertEquals(_dateTime, TimeTrackingContract.Converter.DB_DATE_TIME_FORMATTER.format(date));
+      Assert.assertEquals(_date, TimeTrackingContract.Converter.DB_DATE_FORMATTER.format(date));
+      Assert.assertEquals(_time, TimeTrackingContract.Converter.DB_TIME_FORMATTER.format(date));
+      Assert.assertEquals(date, TimeTrackingContract.Converter.DB_DATE_TIME_FORMATTER.parse(_dateTime));
+   }
+
+   public final void testLegacyFormatter_WithLenient_StaysStrict() {
+      final DateFormat formatter = new DbDateTimeFormat(DbDateTimeFormat.STYLE_DATE_TIME);
+      formatter.setLenient(false);
+
+      Assert.assertFalse(formatter.isLenient());
+      try {
+         formatter.setLenient(true);
+         Assert.fail("Lenient parsing not rejected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+      Assert.assertFalse(formatter.isLenient());
+   }
+}
@@ -24,9 +24,14 @@
 
 package de.webducer.android.zeiterfassung.contract;
 
+import android.content.Context;
+
 import junit.framework.Assert;
 
 import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 import de.webducer.android.zeiterfassung.contract.enums.DurationFormat;
 import de.webducer.android.zeiterfassung.contract.enums.ITranslatableEnum;
@@ -43,6 +48,7 @@ public class DurationFormatTests extends ITranslatableEnumTests {
    private final static int _totalNegativeMinutes = -2325486;
    private final static String _totalNegativeHours = "-38758";
    private final static String _totalNegativeDays = "-1614";
+   private final static Locale[] _locales = {Locale.GERMANY, Locale.US, Locale.FRANCE, new Locale("ru", "RU"), new Locale("de", "CH")};
 
    @Override
    protected ITranslatableEnum[] getEnumValues() {
@@ -59,6 +65,11 @@ public class DurationFormatTests extends ITranslatableEnumTests {
       return DurationFormat.None;
    }
 
+   @Override
+   protected List<String> getVisibleTranslations(Context context) {
+      return DurationFormat.getVisibleTranslations(context);
+   }
+
    public void test_getDurationFormatByCode_ReturnsValidValue() {
       DurationFormat format = DurationFormat.None;
       DurationFormat formatFromCode = DurationFormat.getDurationFormatByCode(format.getEnumCode());
@@ -154,4 +165,159 @@ public class DurationFormatTests extends ITranslatableEnumTests {
       Assert.assertEquals(actual[1], _hours);
       Assert.assertEquals(actual[2], _minutes);
    }
+
+   public void test_formatTo_WithAllFormatsAndLocales_ReturnsSameAsStringFormat() {
+      final Locale defaultLocale = Locale.getDefault();
+      final char[] buffer = new char[DurationFormat.MAX_FORMATTED_LENGTH];
+
+      try {
+         for (Locale locale : _locales) {
+            Locale.setDefault(locale);
+
+            for (int duration : new int[] {0, 1, -1, 59, -61, 999, 1000, -1000, 1439, 1440, 10080, -23456, _totalMinutes, _totalNegativeMinutes, Integer.MAX_VALUE}) {
+               for (DurationFormat format : DurationFormat.values()) {
+                  final String expected = formatWithStringFormat(format, duration);
+
+                  Assert.assertEquals(locale + " " + format, expected, format.format(duration));
+                  Assert.assertEquals(locale + " " + format, expected, format.formatTo(duration, new StringBuilder()).toString());
+                  Assert.assertEquals(locale + " " + format, expected, new String(buffer, 0, format.formatTo(duration, buffer, 0)));
+               }
+            }
+         }
+      } finally {
+         Locale.setDefault(defaultLocale);
+      }
+   }
+
+   public void test_formatTo_WithExistingContent_AppendsDuration() {
+      final StringBuilder builder = new StringBuilder("Sum: ");
+
+      DurationFormat.HoursMinutes.formatTo(-75, builder);
+
+      Assert.assertEquals("Sum: -01:15", builder.toString());
+   }
+
+   public void test_parse_WithFormattedValue_ReturnsDuration() {
+      final Locale defaultLocale = Locale.getDefault();
+
+      try {
+         for (Locale locale : _locales) {
+            Locale.setDefault(locale);
+
+            for (int duration : new int[] {0, 1, -1, 59, -61, 1000, -1000, 1440, _totalMinutes, _totalNegativeMinutes}) {
+               for (DurationFormat format : DurationFormat.values()) {
+                  Assert.assertEquals(locale + " " + format, duration, format.parse(format.format(duration)));
+               }
+            }
+         }
+      } finally {
+         Locale.setDefault(defaultLocale);
+      }
+   }
+
+   public void test_parse_WithInvalidValue_ThrowsException() {
+      try {
+         DurationFormat.HoursMinutes.parse("12:3x");
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+   }
+
+   public void test_format_WithCacheEnabled_ReturnsSharedInstances() {
+      final Locale defaultLocale = Locale.getDefault();
+      final DurationFormat format = DurationFormat.HoursMinutes;
+
+      try {
+         Locale.setDefault(Locale.GERMANY);
+         format.setCacheMemoryLimit(DurationFormat.DEFAULT_CACHE_MEMORY_LIMIT);
+
+         final String first = format.format(485);
+
+         Assert.assertSame(first, format.format(485));
+         Assert.assertEquals(1, format.getCacheSize());
+         Assert.assertTrue(format.getCacheMemoryUsage() > 0);
+         Assert.assertNotSame(format.format(_totalMinutes), format.format(_totalMinutes));
+
+         Locale.setDefault(Locale.US);
+
+         Assert.assertEquals(first, format.format(485));
+         Assert.assertEquals(1, format.getCacheSize());
+      } finally {
+         format.setCacheMemoryLimit(0);
+         Locale.setDefault(defaultLocale);
+      }
+
+      Assert.assertEquals(0, format.getCacheSize());
+   }
+
+   public void test_format_WithFullCache_StaysInMemoryLimit() {
+      final DurationFormat format = DurationFormat.DaysHoursMinutes;
+
+      try {
+         format.setCacheMemoryLimit(DurationFormat.DEFAULT_CACHE_MEMORY_LIMIT);
+
+         for (int duration = -2000; duration < 12000; duration++) {
+            format.format(duration);
+         }
+
+         Assert.assertEquals(1440 + 7 * 1440 + 1, format.getCacheSize());
+         Assert.assertTrue(format.getCacheMemoryUsage() <= DurationFormat.DEFAULT_CACHE_MEMORY_LIMIT);
+      } finally {
+         format.setCacheMemoryLimit(0);
+      }
+   }
+
+   public void test_setCacheMemoryLimit_WithLimitBelowTable_ThrowsException() {
+      final DurationFormat format = DurationFormat.Minutes;
+
+      try {
+         format.setCacheMemoryLimit(DurationFormat.MIN_CACHE_MEMORY_LIMIT - 1);
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+
+      Assert.assertEquals(0, format.getCacheMemoryUsage());
+
+      try {
+         format.setCacheMemoryLimit(DurationFormat.MIN_CACHE_MEMORY_LIMIT);
+         format.format(30);
+         Assert.assertEquals(1, format.getCacheSize());
+      } finally {
+         format.setCacheMemoryLimit(0);
+      }
+   }
+
+   public void test_getVisibleValueList_ReturnsSharedUnmodifiableList() {
+      final List<DurationFormat> values = DurationFormat.getVisibleValueList();
+
+      Assert.assertSame(values, DurationFormat.getVisibleValueList());
+      Assert.assertEquals(Arrays.asList(DurationFormat.getVisibleValues()), values);
+      Assert.assertFalse(values.contains(DurationFormat.None));
+
+      try {
+         values.clear();
+         Assert.fail("Exception expected");
+      } catch (UnsupportedOperationException e) {
+         // expected
+      }
+   }
+
+   // Reference implementation (before formatTo)
+   private static String formatWithStringFormat(DurationFormat format, int duration) {
+      final int absMinutes = Math.abs(duration);
+      final String sign = duration < 0 ? "-" : Constants.EMPTY;
+
+      switch (format) {
+         case DaysHoursMinutes:
+            return String.format(Locale.getDefault(), "%s%01d %02d:%02d", sign, absMinutes / Constants.MINUTES_IN_A_DAY, (absMinutes % Constants.MINUTES_IN_A_DAY) / Constants.MINUTES_IN_A_HOUR, absMinutes % Constants.MINUTES_IN_A_HOUR);
+
+         case HoursMinutes:
+            return String.format(Locale.getDefault(), "%s%02d:%02d", sign, absMinutes / Constants.MINUTES_IN_A_HOUR, absMinutes % Constants.MINUTES_IN_A_HOUR);
+
+         default:
+            return NumberFormat.getInstance().format(duration);
+      }
+   }
 }
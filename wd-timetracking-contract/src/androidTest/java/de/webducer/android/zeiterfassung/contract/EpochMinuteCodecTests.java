@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeCodec;
+import de.webducer.android.zeiterfassung.contract.converter.EpochMinuteCodec;
+
+public class EpochMinuteCodecTests extends TestCase {
+   private final static String _start = "2013-11-27T18:15";
+   private final static String _end = "2013-11-28T01:30";
+
+   public final void testDecode_WithWellFormedValue_ReturnsSameAsStrictParser() {
+      final long expected = DbDateTimeCodec.parseDateTime(_start, 0);
+
+      Assert.assertEquals(expected, EpochMinuteCodec.decode(_start));
+      Assert.assertEquals(expected, EpochMinuteCodec.decode(_start.toCharArray(), 0, _start.length()));
+   }
+
+   public final void testDecode_WithLenientValues_ReturnsTruncatedMinute() {
+      final long expected = DbDateTimeCodec.parseDateTime(_start, 0);
+
+      Assert.assertEquals(expected, EpochMinuteCodec.decode("2013-11-27 18:15"));
+      Assert.assertEquals(expected, EpochMinuteCodec.decode("2013-11-27T18:15:59"));
+      Assert.assertEquals(expected, EpochMinuteCodec.decode(" 2013-11-27T18:15:59.999 "));
+      Assert.assertEquals(expected - (18 * 60 + 15), EpochMinuteCodec.decode("2013-11-27"));
+   }
+
+   public final void testDecode_WithMissingOrInvalidValues_ReturnsNoValue() {
+      Assert.assertEquals(EpochMinuteCodec.NO_VALUE, EpochMinuteCodec.decode((CharSequence) null));
+      Assert.assertEquals(EpochMinuteCodec.NO_VALUE, EpochMinuteCodec.decode(""));
+      Assert.assertEquals(EpochMinuteCodec.NO_VALUE, EpochMinuteCodec.decode("2013-13-27T18:15"));
+      Assert.assertEquals(EpochMinuteCodec.NO_VALUE, EpochMinuteCodec.decode("2013-11-27T18:1x"));
+      Assert.assertEquals(EpochMinuteCodec.NO_VALUE, EpochMinuteCodec.decode("2013-11-27T18"));
+      Assert.assertEquals(EpochMinuteCodec.NO_VALUE, EpochMinuteCodec.decode("27.11.2013 18:15"));
+   }
+
+   public final void testEncode_WithDecodedValue_ReturnsOriginal() {
+      Assert.assertEquals(_start, EpochMinuteCodec.encode(EpochMinuteCodec.decode(_start)));
+      Assert.assertNull(EpochMinuteCodec.encode(EpochMinuteCodec.NO_VALUE));
+   }
+
+   public final void testGetDuration_WithStartAndEnd_ReturnsMinutes() {
+      final int expected = 7 * 60 + 15;
+
+      Assert.assertEquals(expected, EpochMinuteCodec.getDuration(EpochMinuteCodec.decode(_start), EpochMinuteCodec.decode(_end)));
+      Assert.assertEquals(0, EpochMinuteCodec.getDuration(EpochMinuteCodec.decode(_start), EpochMinuteCodec.NO_VALUE));
+   }
+}
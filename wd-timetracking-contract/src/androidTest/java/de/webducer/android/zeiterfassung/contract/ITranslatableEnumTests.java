@@ -24,13 +24,21 @@
 
 package de.webducer.android.zeiterfassung.contract;
 
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.test.mock.MockContext;
+import android.test.mock.MockResources;
+
 import junit.framework.Assert;
 import junit.framework.TestCase;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 import de.webducer.android.zeiterfassung.contract.enums.ITranslatableEnum;
+import de.webducer.android.zeiterfassung.contract.enums.TranslationCache;
 
 /**
  * Created by eugen on 08.02.15.
@@ -71,7 +79,115 @@ public abstract class ITranslatableEnumTests extends TestCase {
       }
    }
 
+   public void test_getByEnumCode_WithOwnCode_ReturnsSameValue() {
+      ITranslatableEnum[] values = getEnumValues();
+
+      for (ITranslatableEnum value : values) {
+         Assert.assertSame(value, value.getByEnumCode(value.getEnumCode()));
+      }
+   }
+
+   public void test_getByEnumCode_WithUnknownCode_ReturnsDefaultValue() {
+      ITranslatableEnum testValue = getSingleValue();
+
+      for (int enumCode : new int[] {-1, Integer.MIN_VALUE, Integer.MAX_VALUE, 1000}) {
+         ITranslatableEnum value = testValue.getByEnumCode(enumCode);
+
+         Assert.assertNotNull("Value is null", value);
+         Assert.assertEquals(0, value.getEnumCode());
+      }
+   }
+
+   public void test_getTranslatedValue_WithRepeatedCall_LoadsTranslationsOnce() {
+      final TranslationResources resources = new TranslationResources(Locale.GERMANY);
+      final Context context = new TranslationContext(resources);
+      final ITranslatableEnum value = getSingleValue();
+      TranslationCache.clear();
+      TranslationCache.resetStatistics();
+
+      final String first = value.getTranslatedValue(context);
+      final String second = value.getTranslatedValue(context);
+
+      Assert.assertEquals("de_DE:" + value.getTranslationId(), first);
+      Assert.assertSame(first, second);
+      Assert.assertEquals(1, TranslationCache.getMissCount());
+      Assert.assertEquals(1, TranslationCache.getHitCount());
+      Assert.assertEquals(getEnumValues().length, resources.loadCount);
+   }
+
+   public void test_getTranslatedValue_WithChangedLocale_LoadsNewTranslations() {
+      final TranslationResources resources = new TranslationResources(Locale.GERMANY);
+      final Context context = new TranslationContext(resources);
+      final ITranslatableEnum value = getSingleValue();
+      TranslationCache.clear();
+
+      Assert.assertEquals("de_DE:" + value.getTranslationId(), value.getTranslatedValue(context));
+      resources.configuration.locale = Locale.US;
+
+      Assert.assertEquals("en_US:" + value.getTranslationId(), value.getTranslatedValue(context));
+      Assert.assertEquals(getEnumValues().length * 2, resources.loadCount);
+   }
+
+   public void test_getVisibleTranslations_WithSameLocale_ReturnsSharedList() {
+      final TranslationResources resources = new TranslationResources(Locale.GERMANY);
+      final Context context = new TranslationContext(resources);
+      TranslationCache.clear();
+
+      final List<String> first = getVisibleTranslations(context);
+      final List<String> second = getVisibleTranslations(context);
+
+      Assert.assertSame(first, second);
+      try {
+         first.add("");
+         Assert.fail("List must not be modifiable");
+      } catch (UnsupportedOperationException e) {
+         // expected
+      }
+
+      resources.configuration.locale = Locale.US;
+      final List<String> changed = getVisibleTranslations(context);
+
+      Assert.assertNotSame(first, changed);
+      Assert.assertEquals(first.size(), changed.size());
+   }
+
    protected abstract int[] getEnumCodes();
 
    protected abstract ITranslatableEnum getSingleValue();
+
+   protected abstract List<String> getVisibleTranslations(Context context);
+
+   // Resources with the translation "<locale>:<resource ID>", counts the loaded strings
+   private static class TranslationResources extends MockResources {
+      final Configuration configuration = new Configuration();
+      int loadCount = 0;
+
+      TranslationResources(Locale locale) {
+         configuration.locale = locale;
+      }
+
+      @Override
+      public String getString(int id) {
+         loadCount++;
+         return configuration.locale + ":" + id;
+      }
+
+      @Override
+      public Configuration getConfiguration() {
+         return configuration;
+      }
+   }
+
+   private static class TranslationContext extends MockContext {
+      private final Resources _resources;
+
+      TranslationContext(Resources resources) {
+         _resources = resources;
+      }
+
+      @Override
+      public Resources getResources() {
+         return _resources;
+      }
+   }
 }
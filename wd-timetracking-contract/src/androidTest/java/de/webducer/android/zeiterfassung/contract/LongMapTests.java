@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import de.webducer.android.zeiterfassung.contract.cache.LongIntMap;
+import de.webducer.android.zeiterfassung.contract.cache.LongObjectMap;
+
+public class LongMapTests extends TestCase {
+   public final void testLongObjectMap_WithSentinelKeys_StoresSeparateValues() {
+      final LongObjectMap<String> map = new LongObjectMap<String>();
+      map.put(TimeTrackingContract.NO_ID, "no");
+      map.put(TimeTrackingContract.NULL_ID, "null");
+      map.put(TimeTrackingContract.ALL_ID, "all");
+      map.put(0, "zero");
+      map.put(1, "one");
+
+      Assert.assertEquals(5, map.size());
+      Assert.assertEquals("no", map.get(TimeTrackingContract.NO_ID));
+      Assert.assertEquals("null", map.get(TimeTrackingContract.NULL_ID));
+      Assert.assertEquals("all", map.get(TimeTrackingContract.ALL_ID));
+      Assert.assertEquals("zero", map.get(0));
+      Assert.assertEquals("null", map.remove(TimeTrackingContract.NULL_ID));
+      Assert.assertFalse(map.containsKey(TimeTrackingContract.NULL_ID));
+      Assert.assertEquals(4, map.keys().length);
+   }
+
+   public final void testLongObjectMap_WithRandomOperations_MatchesHashMap() {
+      final Random random = new Random(42);
+      final LongObjectMap<Long> actual = new LongObjectMap<Long>();
+      final Map<Long, Long> expected = new HashMap<Long, Long>();
+
+      for (int operation = 0; operation < 50000; operation++) {
+         final long key = random.nextInt(2000) - 10;
+         if (random.nextInt(3) == 0) {
+            Assert.assertEquals(expected.remove(key), actual.remove(key));
+         } else {
+            Assert.assertEquals(expected.put(key, (long) operation), actual.put(key, (long) operation));
+         }
+      }
+
+      Assert.assertEquals(expected.size(), actual.size());
+      for (long key = -1100; key < 2000; key++) {
+         Assert.assertEquals(expected.get(key), actual.get(key));
+         Assert.assertEquals(expected.containsKey(key), actual.containsKey(key));
+      }
+   }
+
+   public final void testLongIntMap_WithRandomOperations_MatchesHashMap() {
+      final Random random = new Random(7);
+      final LongIntMap actual = new LongIntMap(16);
+      final Map<Long, Integer> expected = new HashMap<Long, Integer>();
+
+      for (int operation = 0; operation < 50000; operation++) {
+         final long key = random.nextInt(2000) - 1001;
+         switch (random.nextInt(3)) {
+            case 0:
+               Assert.assertEquals(expected.remove(key) != null, actual.remove(key));
+               break;
+            case 1:
+               expected.put(key, operation);
+               actual.put(key, operation);
+               break;
+            default:
+               final Integer previous = expected.get(key);
+               expected.put(key, (previous == null ? 0 : previous) + 3);
+               Assert.assertEquals(expected.get(key).intValue(), actual.add(key, 3));
+               break;
+         }
+      }
+
+      Assert.assertEquals(expected.size(), actual.size());
+      for (long key = -1100; key < 1100; key++) {
+         Assert.assertEquals(expected.containsKey(key) ? expected.get(key) : -1, actual.get(key, -1));
+      }
+
+      actual.clear();
+      Assert.assertTrue(actual.isEmpty());
+      Assert.assertEquals(-1, actual.get(TimeTrackingContract.NO_ID, -1));
+   }
+}
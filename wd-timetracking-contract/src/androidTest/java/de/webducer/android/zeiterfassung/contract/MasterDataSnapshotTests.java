@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.database.MatrixCursor;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.MasterData;
+import de.webducer.android.zeiterfassung.contract.cache.MasterDataSnapshot;
+import de.webducer.android.zeiterfassung.contract.enums.TimeKind;
+
+public class MasterDataSnapshotTests extends TestCase {
+
+   public final void testGetters_WithUnsortedRows_ReturnRowsById() {
+      final MasterDataSnapshot actual = createSnapshot();
+
+      Assert.assertEquals(2, actual.getProjectCount());
+      Assert.assertEquals(3L, actual.getProjectAt(0).getId());
+      Assert.assertEquals("Second", actual.getProject(7).getName());
+      Assert.assertEquals(TimeTrackingContract.NO_ID, actual.getProject(7).getAddressId());
+      Assert.assertFalse(actual.getProject(7).isActive());
+      Assert.assertEquals("Berlin", actual.getAddress(actual.getProject(3).getAddressId()).getCity());
+      Assert.assertEquals(TimeKind.WorkingTime, actual.getTimeType(5).getKind());
+      Assert.assertEquals(1.5, actual.getTimeType(5).getTimeFactor(), 0);
+      Assert.assertNull(actual.getProject(4));
+   }
+
+   public final void testProjectTimeType_WithReferences_ResolvesProjectAndTimeType() {
+      final MasterDataSnapshot actual = createSnapshot();
+
+      Assert.assertTrue(actual.getProjectTimeType(11).isDefault());
+      Assert.assertEquals("First", actual.getProjectOfProjectTimeType(11).getName());
+      Assert.assertEquals("Work", actual.getTimeTypeOfProjectTimeType(11).getName());
+      Assert.assertNull(actual.getTimeTypeOfProjectTimeType(12));
+      Assert.assertNull(actual.getProjectOfProjectTimeType(99));
+   }
+
+   public final void testEmpty_WithoutRows_ReturnsNothing() {
+      final MasterDataSnapshot actual = MasterDataSnapshot.fromCursors(null, null, null, null);
+
+      Assert.assertEquals(0, actual.getAddressCount());
+      Assert.assertEquals(0, MasterDataSnapshot.EMPTY.getTimeTypeCount());
+      Assert.assertNull(actual.getProjectTimeType(1));
+   }
+
+   private static MasterDataSnapshot createSnapshot() {
+      final MatrixCursor addresses = new MatrixCursor(MasterData.Address.Columns.ALL_COLUMNS);
+      addresses.addRow(new Object[]{1L, "Office", "Street 1", "10115", "Berlin", "DE", TimeTrackingContract.BOOL_TRUE});
+
+      final MatrixCursor projects = new MatrixCursor(MasterData.Project.Columns.ALL_COLUMNS);
+      projects.addRow(new Object[]{7L, null, "Second", null, TimeTrackingContract.BOOL_FALSE});
+      projects.addRow(new Object[]{3L, 1L, "First", "Description", TimeTrackingContract.BOOL_TRUE});
+
+      final MatrixCursor timeTypes = new MatrixCursor(MasterData.TimeType.Columns.ALL_COLUMNS);
+      timeTypes.addRow(new Object[]{5L, TimeKind.WorkingTime.getEnumCode(), "Work", null, 50.0, 1.5, TimeTrackingContract.BOOL_TRUE});
+
+      final MatrixCursor projectTimeTypes = new MatrixCursor(MasterData.ProjectTimeType.Columns.ALL_COLUMNS);
+      projectTimeTypes.addRow(new Object[]{12L, 7L, 6L, 0.0, TimeTrackingContract.BOOL_FALSE});
+      projectTimeTypes.addRow(new Object[]{11L, 3L, 5L, 10.0, TimeTrackingContract.BOOL_TRUE});
+
+      return MasterDataSnapshot.fromCursors(addresses, projects, timeTypes, projectTimeTypes);
+   }
+}
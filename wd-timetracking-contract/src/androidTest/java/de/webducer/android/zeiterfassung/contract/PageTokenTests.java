@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.database.MatrixCursor;
+import android.net.Uri;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.RecordData.TimeRecord;
+import de.webducer.android.zeiterfassung.contract.converter.EpochMinuteCodec;
+
+public class PageTokenTests extends TestCase {
+   private final static String _start = "2013-11-27T18:15";
+
+   public final void testDecode_WithEncodedToken_ReturnsSameToken() {
+      final PageToken[] tokens = {
+            new PageToken(EpochMinuteCodec.decode(_start), 4711, false),
+            new PageToken(-1, Long.MAX_VALUE, true),
+            new PageToken(0, 0, false)};
+
+      for (PageToken expected : tokens) {
+         Assert.assertEquals(expected, PageToken.decode(expected.encode()));
+      }
+   }
+
+   public final void testDecode_WithInvalidToken_ThrowsException() {
+      final String[] tokens = {"", "1a", "2a1.1", "1x1.1", "1a.1", "1a1.", "1a1.1.1", "1a!.1"};
+
+      for (String token : tokens) {
+         try {
+            PageToken.decode(token);
+            Assert.fail("Exception expected for " + token);
+         } catch (IllegalArgumentException e) {
+            // expected
+         }
+      }
+   }
+
+   public final void testFromUri_WithPageUri_ReturnsTokenAndLimit() {
+      final long startTime = EpochMinuteCodec.decode(_start);
+
+      final Uri uri = TimeRecord.buildPageUri(startTime, 12, 50);
+
+      Assert.assertEquals(new PageToken(startTime, 12, false), PageToken.fromUri(uri));
+      Assert.assertEquals(50, TimeTrackingContract.getLimit(uri));
+      Assert.assertNull(PageToken.fromUri(TimeRecord.buildFirstPageUri(TimeRecord.DEFAULT_PAGE_SIZE)));
+      Assert.assertEquals(TimeTrackingContract.NO_LIMIT, TimeTrackingContract.getLimit(TimeRecord.CONTENT_URI));
+   }
+
+   public final void testGetSelection_WithDescendingToken_UsesKeysetCondition() {
+      final PageToken token = new PageToken(EpochMinuteCodec.decode(_start), 12, true);
+
+      final String actual = token.getSelection(TimeRecord.Columns.START_TIME, TimeRecord.Columns._ID);
+
+      Assert.assertEquals("(tr_start_time < ? OR (tr_start_time = ? AND _id < ?))", actual);
+      Assert.assertTrue(Arrays.equals(new String[]{_start, _start, "12"}, token.getSelectionArgs()));
+   }
+
+   public final void testCreatePageToken_WithCursor_UsesLastRow() {
+      final MatrixCursor cursor = new MatrixCursor(new String[]{TimeRecord.Columns._ID, TimeRecord.Columns.START_TIME});
+      cursor.addRow(new Object[]{5L, "2013-11-26T08:00"});
+      cursor.addRow(new Object[]{3L, _start});
+
+      final PageToken actual = TimeRecord.createPageToken(cursor, true);
+
+      Assert.assertEquals(new PageToken(EpochMinuteCodec.decode(_start), 3, true), actual);
+      Assert.assertNull(TimeRecord.createPageToken(new MatrixCursor(new String[]{TimeRecord.Columns._ID, TimeRecord.Columns.START_TIME}), true));
+   }
+
+   public final void testCreatePageToken_WithoutTime_ThrowsException() {
+      for (String value : new String[]{null, "", "yesterday"}) {
+         final MatrixCursor cursor = new MatrixCursor(new String[]{TimeRecord.Columns._ID, TimeRecord.Columns.START_TIME});
+         cursor.addRow(new Object[]{5L, value});
+
+         try {
+            TimeRecord.createPageToken(cursor, true);
+            Assert.fail("Exception expected for " + value);
+         } catch (IllegalArgumentException e) {
+            // expected
+         }
+      }
+   }
+
+   public final void testCreatePageToken_WithNonCanonicalTime_ThrowsException() {
+      // Readable by the lenient codec, but not comparable with the canonical value of the selection
+      for (String value : new String[]{"2013-11-27T18:15:30", "2013-11-27 18:15"}) {
+         final MatrixCursor cursor = new MatrixCursor(new String[]{TimeRecord.Columns._ID, TimeRecord.Columns.START_TIME});
+         cursor.addRow(new Object[]{5L, value});
+
+         try {
+            TimeRecord.createPageToken(cursor, true);
+            Assert.fail("Exception expected for " + value);
+         } catch (IllegalArgumentException e) {
+            // expected
+         }
+      }
+   }
+}
@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.util.Log;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import de.webducer.android.zeiterfassung.contract.cache.LongObjectMap;
+import de.webducer.android.zeiterfassung.contract.report.ReportAggregation;
+import de.webducer.android.zeiterfassung.contract.report.ReportAggregator;
+import de.webducer.android.zeiterfassung.contract.report.ReportEntityGrouping;
+import de.webducer.android.zeiterfassung.contract.report.ReportTimeGrouping;
+
+/**
+ * Timing measurements, reported to the log (tag {@link #TAG}).
+ * <p/>
+ * The benchmarks only check the results, never the timings, so a loaded device can not fail the build.
+ */
+public class PerformanceBenchmarks extends TestCase {
+   /**
+    * Log tag of the measurements
+    */
+   public final static String TAG = "WDZeitBenchmark";
+
+   private final static int _MAP_SIZE = 5000;
+   private final static int _ROUNDS = 20;
+   private final static int _PARTITION_DATA_SIZE = 120000;
+   private final static int _PARTITION_ROUNDS = 10;
+
+   public final void testLongObjectMap_ComparedToHashMap() {
+      final long[] ids = new long[_MAP_SIZE];
+      final Random random = new Random(3);
+      for (int index = 0; index < ids.length; index++) {
+         ids[index] = index * 3 + random.nextInt(3) + 1;
+      }
+
+      long primitiveTime = Long.MAX_VALUE;
+      long boxedTime = Long.MAX_VALUE;
+      long checksum = 0;
+
+      for (int round = 0; round < _ROUNDS; round++) {
+         long start = System.nanoTime();
+         final LongObjectMap<String> primitive = new LongObjectMap<String>(ids.length);
+         for (long id : ids) {
+            primitive.put(id, "");
+         }
+         for (long id : ids) {
+            checksum += primitive.get(id).length() + (primitive.containsKey(id + 1) ? 1 : 0);
+         }
+         primitiveTime = Math.min(primitiveTime, System.nanoTime() - start);
+
+         start = System.nanoTime();
+         final Map<Long, String> boxed = new HashMap<Long, String>(ids.length * 2);
+         for (long id : ids) {
+            boxed.put(id, "");
+         }
+         for (long id : ids) {
+            checksum -= boxed.get(id).length() + (boxed.containsKey(id + 1) ? 1 : 0);
+         }
+         boxedTime = Math.min(boxedTime, System.nanoTime() - start);
+      }
+
+      Assert.assertEquals(0, checksum);
+      Log.i(TAG, "LongObjectMap: " + primitiveTime + " ns, HashMap: " + boxedTime + " ns (" + _MAP_SIZE + " keys)");
+   }
+
+   public final void testAggregatePartitioned_WithOneToAllThreads() throws InterruptedException {
+      final ReportAggregator aggregator = new ReportAggregator(ReportPartitionTests.createData(_PARTITION_DATA_SIZE));
+      final int maxThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+      final ReportAggregation expected = aggregator.aggregate(ReportTimeGrouping.Month, ReportEntityGrouping.Project);
+
+      long serialTime = Long.MAX_VALUE;
+      for (int round = 0; round < _PARTITION_ROUNDS; round++) {
+         final long start = System.nanoTime();
+         aggregator.aggregate(ReportTimeGrouping.Month, ReportEntityGrouping.Project);
+         serialTime = Math.min(serialTime, System.nanoTime() - start);
+      }
+
+      final StringBuilder report = new StringBuilder("Partitioned aggregation (" + _PARTITION_DATA_SIZE + " rows): serial: ")
+            .append(serialTime).append(" ns;");
+
+      for (int threads = 1; threads <= maxThreads; threads++) {
+         final ExecutorService executor = Executors.newFixedThreadPool(threads);
+         // At least two tasks, so one thread runs the partitioned path too (parallelism 1 falls back to serial)
+         final int parallelism = Math.max(2, threads);
+         long time = Long.MAX_VALUE;
+
+         try {
+            for (int round = 0; round < _PARTITION_ROUNDS; round++) {
+               final long start = System.nanoTime();
+               final ReportAggregation actual = aggregator.aggregatePartitioned(ReportTimeGrouping.Month, ReportEntityGrouping.Project,
+                     null, ReportTimeGrouping.Month, executor, parallelism);
+               time = Math.min(time, System.nanoTime() - start);
+               ReportPartitionTests.assertSameResult(expected, actual);
+            }
+         } finally {
+            executor.shutdownNow();
+         }
+
+         report.append(' ').append(threads).append(" threads: ").append(time).append(" ns;");
+      }
+
+      Log.i(TAG, report.toString());
+   }
+}
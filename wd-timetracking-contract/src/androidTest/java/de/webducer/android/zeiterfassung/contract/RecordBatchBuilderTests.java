@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.content.ContentProviderOperation;
+import android.content.ContentValues;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.RecordData.RecordPause;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.RecordData.TimeRecord;
+import de.webducer.android.zeiterfassung.contract.batch.RecordBatchBuilder;
+import de.webducer.android.zeiterfassung.contract.converter.EpochMinuteCodec;
+
+public class RecordBatchBuilderTests extends TestCase {
+   private final static String _start = "2013-11-27T18:15";
+   private final static String _end = "2013-11-27T23:30";
+
+   public final void testBuildOperations_WithRecordsAndPauses_KeepsOrderAndTables() {
+      final RecordBatchBuilder builder = createBatch();
+
+      final ArrayList<ContentProviderOperation> actual = builder.buildOperations();
+
+      Assert.assertEquals(4, actual.size());
+      Assert.assertEquals(TimeRecord.CONTENT_URI, actual.get(0).getUri());
+      Assert.assertEquals(RecordPause.CONTENT_URI, actual.get(1).getUri());
+      Assert.assertEquals(TimeRecord.CONTENT_URI, actual.get(2).getUri());
+      Assert.assertEquals(RecordPause.CONTENT_URI, actual.get(3).getUri());
+   }
+
+   public final void testBuildTimeRecordValues_WithoutPauses_ReturnsEncodedValues() {
+      final RecordBatchBuilder builder = new RecordBatchBuilder();
+      builder.addTimeRecord(5, EpochMinuteCodec.decode(_start), EpochMinuteCodec.NO_VALUE, "Comment");
+
+      final ContentValues[] actual = builder.buildTimeRecordValues();
+
+      Assert.assertEquals(1, actual.length);
+      Assert.assertEquals(Long.valueOf(5), actual[0].getAsLong(TimeRecord.Columns.PROJECT_TIME_TYPE_ID));
+      Assert.assertEquals(_start, actual[0].getAsString(TimeRecord.Columns.START_TIME));
+      Assert.assertNull(actual[0].getAsString(TimeRecord.Columns.END_TIME));
+      Assert.assertEquals("Comment", actual[0].getAsString(TimeRecord.Columns.COMMENT));
+   }
+
+   public final void testBuildRecordPauseValues_WithStoredRecord_ContainsRecordId() {
+      final RecordBatchBuilder builder = new RecordBatchBuilder();
+      builder.addRecordPause(42, EpochMinuteCodec.decode(_start), EpochMinuteCodec.decode(_end), null);
+
+      final ContentValues[] actual = builder.buildRecordPauseValues();
+
+      Assert.assertEquals(1, actual.length);
+      Assert.assertEquals(Long.valueOf(42), actual[0].getAsLong(RecordPause.Columns.TIME_RECORD_ID));
+      Assert.assertEquals(_end, actual[0].getAsString(RecordPause.Columns.END_TIME));
+   }
+
+   public final void testBuildTimeRecordValues_WithPausesOfNewRecords_ThrowsException() {
+      final RecordBatchBuilder builder = createBatch();
+
+      try {
+         builder.buildTimeRecordValues();
+         Assert.fail("Exception expected");
+      } catch (IllegalStateException e) {
+         // expected
+      }
+   }
+
+   public final void testAddRecordPause_WithoutRecord_ThrowsException() {
+      final RecordBatchBuilder builder = new RecordBatchBuilder();
+
+      try {
+         builder.addRecordPause(EpochMinuteCodec.decode(_start), EpochMinuteCodec.decode(_end), null);
+         Assert.fail("Exception expected");
+      } catch (IllegalStateException e) {
+         // expected
+      }
+   }
+
+   public final void testAddTimeRecord_WithoutStartTime_ThrowsException() {
+      final RecordBatchBuilder builder = new RecordBatchBuilder();
+
+      try {
+         builder.addTimeRecord(1, EpochMinuteCodec.NO_VALUE, EpochMinuteCodec.decode(_end), null);
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+
+      Assert.assertEquals(0, builder.size());
+   }
+
+   public final void testAddRecordPause_WithoutStartOrEndTime_ThrowsException() {
+      final long start = EpochMinuteCodec.decode(_start);
+      final long end = EpochMinuteCodec.decode(_end);
+      final RecordBatchBuilder builder = new RecordBatchBuilder().addTimeRecord(1, start, end, null);
+
+      assertMissingPauseTime(builder, EpochMinuteCodec.NO_VALUE, end);
+      assertMissingPauseTime(builder, start, EpochMinuteCodec.NO_VALUE);
+
+      try {
+         builder.addRecordPause(42, start, EpochMinuteCodec.NO_VALUE, null);
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+
+      Assert.assertEquals(1, builder.size());
+   }
+
+   private static void assertMissingPauseTime(RecordBatchBuilder builder, long startTime, long endTime) {
+      try {
+         builder.addRecordPause(startTime, endTime, null);
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+   }
+
+   private static RecordBatchBuilder createBatch() {
+      final long start = EpochMinuteCodec.decode(_start);
+      final long end = EpochMinuteCodec.decode(_end);
+
+      return new RecordBatchBuilder(2)
+            .addTimeRecord(1, start, end, null)
+            .addRecordPause(start + 60, start + 90, "Lunch")
+            .addTimeRecord(2, start + 1440, end + 1440, null)
+            .addRecordPause(start + 1500, start + 1530, null);
+   }
+}
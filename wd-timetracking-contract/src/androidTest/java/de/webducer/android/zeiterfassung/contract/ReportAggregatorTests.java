@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.database.MatrixCursor;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Data;
+import de.webducer.android.zeiterfassung.contract.enums.TimeKind;
+import de.webducer.android.zeiterfassung.contract.report.ReportAggregation;
+import de.webducer.android.zeiterfassung.contract.report.ReportAggregator;
+import de.webducer.android.zeiterfassung.contract.report.ReportDataSnapshot;
+import de.webducer.android.zeiterfassung.contract.report.ReportEntityGrouping;
+import de.webducer.android.zeiterfassung.contract.report.ReportTimeGrouping;
+
+public class ReportAggregatorTests extends TestCase {
+
+   public final void testAggregate_WithMonthAndProject_SumsPerGroup() {
+      final MatrixCursor cursor = new MatrixCursor(Data.Columns.ALL_COLUMNS);
+      addRow(cursor, 2015, 3, 10, 2, 480, 30, 1L, 10L, 5L, TimeKind.WorkingTime);
+      addRow(cursor, 2015, 3, 10, 3, 420, 0, 1L, 10L, 5L, TimeKind.WorkingTime);
+      addRow(cursor, 2015, 3, 11, 2, 60, 0, null, null, null, TimeKind.Overtime);
+      addRow(cursor, 2015, 4, 14, 2, 100, 10, 1L, 10L, 5L, TimeKind.WorkingTime);
+
+      final ReportAggregation actual = new ReportAggregator(ReportDataSnapshot.fromCursor(cursor))
+            .aggregate(ReportTimeGrouping.Month, ReportEntityGrouping.Project);
+
+      Assert.assertEquals(3, actual.size());
+      Assert.assertEquals(201503, actual.getTimeKey(0));
+      Assert.assertEquals(TimeTrackingContract.NULL_ID, actual.getEntityKey(0));
+      Assert.assertEquals(60L, actual.getTimeSum(0));
+
+      final int index = actual.indexOf(201503, 10L);
+      Assert.assertEquals(1, index);
+      Assert.assertEquals(900L, actual.getTimeSum(index));
+      Assert.assertEquals(30L, actual.getPauseSum(index));
+      Assert.assertEquals(930L, actual.getOverallSum(index));
+      Assert.assertEquals(2, actual.getRowCount(index));
+      Assert.assertEquals(-1, actual.indexOf(201504, 11L));
+   }
+
+   public final void testAggregate_WithWeekdayAndKind_UsesKindCodes() {
+      final MatrixCursor cursor = new MatrixCursor(Data.Columns.ALL_COLUMNS);
+      addRow(cursor, 2015, 3, 10, 2, 480, 30, 1L, 10L, 5L, TimeKind.WorkingTime);
+      addRow(cursor, 2015, 3, 11, 2, 60, 0, 1L, 10L, 6L, TimeKind.Overtime);
+      addRow(cursor, 2015, 4, 14, 2, 100, 10, 1L, 10L, 5L, TimeKind.WorkingTime);
+
+      final ReportAggregation actual = new ReportAggregator(ReportDataSnapshot.fromCursor(cursor))
+            .aggregate(ReportTimeGrouping.Weekday, ReportEntityGrouping.TimeKind);
+
+      Assert.assertEquals(2, actual.size());
+      Assert.assertEquals(580L, actual.getTimeSum(actual.indexOf(2, TimeKind.WorkingTime.getEnumCode())));
+      Assert.assertEquals(60L, actual.getTimeSum(actual.indexOf(2, TimeKind.Overtime.getEnumCode())));
+   }
+
+   public final void testAggregate_WithExecutor_MatchesSequentialResult() throws InterruptedException {
+      final Random random = new Random(11);
+      final MatrixCursor cursor = new MatrixCursor(Data.Columns.ALL_COLUMNS);
+      for (int row = 0; row < 5 * ReportAggregator.MIN_CHUNK_SIZE; row++) {
+         final long project = random.nextInt(20) + 1;
+         addRow(cursor, 2010 + random.nextInt(5), random.nextInt(12) + 1, random.nextInt(52) + 1, random.nextInt(7) + 1,
+               random.nextInt(600), random.nextInt(60), project % 4 + 1, project, random.nextInt(6) + 1L, TimeKind.WorkingTime);
+      }
+
+      final ReportAggregator aggregator = new ReportAggregator(ReportDataSnapshot.fromCursor(cursor));
+      final ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+         final ReportAggregation expected = aggregator.aggregate(ReportTimeGrouping.Week, ReportEntityGrouping.Address);
+         final ReportAggregation actual = aggregator.aggregate(ReportTimeGrouping.Week, ReportEntityGrouping.Address, executor, 4);
+
+         Assert.assertEquals(expected.size(), actual.size());
+         for (int index = 0; index < expected.size(); index++) {
+            Assert.assertEquals(expected.getTimeKey(index), actual.getTimeKey(index));
+            Assert.assertEquals(expected.getEntityKey(index), actual.getEntityKey(index));
+            Assert.assertEquals(expected.getTimeSum(index), actual.getTimeSum(index));
+            Assert.assertEquals(expected.getPauseSum(index), actual.getPauseSum(index));
+            Assert.assertEquals(expected.getRowCount(index), actual.getRowCount(index));
+         }
+      } finally {
+         executor.shutdown();
+      }
+   }
+
+   private static void addRow(MatrixCursor cursor, int year, int month, int week, int weekday, int timeSum, int pauseSum,
+                              Long addressId, Long projectId, Long timeTypeId, TimeKind kind) {
+      final Object[] row = new Object[Data.Columns.ALL_COLUMNS.length];
+      row[Data.Columns.IDX_ID] = (long) cursor.getCount() + 1;
+      row[Data.Columns.IDX_YEAR] = year;
+      row[Data.Columns.IDX_MONTH] = month;
+      row[Data.Columns.IDX_WEEK_YEAR] = year;
+      row[Data.Columns.IDX_WEEK_NUMBER] = week;
+      row[Data.Columns.IDX_WEEKDAY] = weekday;
+      row[Data.Columns.IDX_TIME_SUM] = timeSum;
+      row[Data.Columns.IDX_PAUSE_SUM] = pauseSum;
+      row[Data.Columns.IDX_OVERALL_SUM] = timeSum + pauseSum;
+      row[Data.Columns.IDX_ADDRESS_ID] = addressId;
+      row[Data.Columns.IDX_PROJECT_ID] = projectId;
+      row[Data.Columns.IDX_TIME_TYPE_ID] = timeTypeId;
+      row[Data.Columns.IDX_TIME_KIND] = kind.getEnumCode();
+      cursor.addRow(row);
+   }
+}
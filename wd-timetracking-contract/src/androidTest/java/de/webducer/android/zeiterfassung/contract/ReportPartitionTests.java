@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.database.MatrixCursor;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Data;
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeCodec;
+import de.webducer.android.zeiterfassung.contract.enums.TimeKind;
+import de.webducer.android.zeiterfassung.contract.report.ReportAggregation;
+import de.webducer.android.zeiterfassung.contract.report.ReportAggregator;
+import de.webducer.android.zeiterfassung.contract.report.ReportDataSnapshot;
+import de.webducer.android.zeiterfassung.contract.report.ReportEntityGrouping;
+import de.webducer.android.zeiterfassung.contract.report.ReportTimeGrouping;
+import de.webducer.android.zeiterfassung.contract.report.StatisticFilter;
+
+public class ReportPartitionTests extends TestCase {
+   private final static int _DATA_SIZE = 30000;
+
+   public final void testAggregatePartitioned_WithAnyGrouping_ReturnsSerialResult() throws InterruptedException {
+      final ReportAggregator aggregator = new ReportAggregator(createData(_DATA_SIZE));
+      final StatisticFilter filter = new StatisticFilter.Builder().addProjectIds(1L, 2L, TimeTrackingContract.NULL_ID).build();
+      final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+      try {
+         for (ReportTimeGrouping partitioning : new ReportTimeGrouping[]{ReportTimeGrouping.Month, ReportTimeGrouping.Week}) {
+            for (ReportTimeGrouping time : ReportTimeGrouping.values()) {
+               for (ReportEntityGrouping entity : ReportEntityGrouping.values()) {
+                  assertSameResult(aggregator.aggregate(time, entity),
+                        aggregator.aggregatePartitioned(time, entity, null, partitioning, executor, 3));
+                  assertSameResult(aggregator.aggregate(time, entity, filter),
+                        aggregator.aggregatePartitioned(time, entity, filter, partitioning, executor, 5));
+               }
+            }
+         }
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   public final void testAggregatePartitioned_WithWeekdayPartitioning_ThrowsException() throws InterruptedException {
+      try {
+         new ReportAggregator(createData(10)).aggregatePartitioned(ReportTimeGrouping.Month, ReportEntityGrouping.None, null,
+               ReportTimeGrouping.Weekday, null, 1);
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+   }
+
+   static void assertSameResult(ReportAggregation expected, ReportAggregation actual) {
+      Assert.assertEquals(expected.size(), actual.size());
+      for (int index = 0; index < expected.size(); index++) {
+         Assert.assertEquals(expected.getTimeKey(index), actual.getTimeKey(index));
+         Assert.assertEquals(expected.getEntityKey(index), actual.getEntityKey(index));
+         Assert.assertEquals(expected.getTimeSum(index), actual.getTimeSum(index));
+         Assert.assertEquals(expected.getPauseSum(index), actual.getPauseSum(index));
+         Assert.assertEquals(expected.getOverallSum(index), actual.getOverallSum(index));
+         Assert.assertEquals(expected.getRowCount(index), actual.getRowCount(index));
+      }
+   }
+
+   // About ten years of report data in random order
+   static ReportDataSnapshot createData(int size) {
+      final MatrixCursor cursor = new MatrixCursor(Data.Columns.ALL_COLUMNS, size);
+      final Random random = new Random(11);
+      final int firstDay = DbDateTimeCodec.toEpochDay(2006, 1, 1);
+      final TimeKind[] kinds = TimeKind.values();
+
+      for (int index = 0; index < size; index++) {
+         final int epochDay = firstDay + random.nextInt(3650);
+         final int year = DbDateTimeCodec.getYear(epochDay);
+         final int dayOfYear = epochDay - DbDateTimeCodec.toEpochDay(year, 1, 1);
+         final int timeSum = random.nextInt(600);
+         final int pauseSum = random.nextInt(60);
+
+         final Object[] row = new Object[Data.Columns.ALL_COLUMNS.length];
+         row[Data.Columns.IDX_ID] = (long) index + 1;
+         row[Data.Columns.IDX_YEAR] = year;
+         row[Data.Columns.IDX_MONTH] = DbDateTimeCodec.getMonth(epochDay);
+         row[Data.Columns.IDX_DAY_OF_MONTH] = DbDateTimeCodec.getDayOfMonth(epochDay);
+         row[Data.Columns.IDX_WEEK_YEAR] = year;
+         row[Data.Columns.IDX_WEEK_NUMBER] = dayOfYear / 7 + 1;
+         row[Data.Columns.IDX_WEEKDAY] = (epochDay + 4) % 7;
+         row[Data.Columns.IDX_TIME_SUM] = timeSum;
+         row[Data.Columns.IDX_PAUSE_SUM] = pauseSum;
+         row[Data.Columns.IDX_OVERALL_SUM] = timeSum + pauseSum;
+         row[Data.Columns.IDX_ADDRESS_ID] = random.nextInt(4) == 0 ? null : Long.valueOf(random.nextInt(3) + 1);
+         row[Data.Columns.IDX_PROJECT_ID] = random.nextInt(5) == 0 ? null : Long.valueOf(random.nextInt(6) + 1);
+         row[Data.Columns.IDX_TIME_TYPE_ID] = Long.valueOf(random.nextInt(4) + 1);
+         row[Data.Columns.IDX_TIME_KIND] = kinds[random.nextInt(kinds.length)].getEnumCode();
+         cursor.addRow(row);
+      }
+
+      return ReportDataSnapshot.fromCursor(cursor);
+   }
+}
@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.database.MatrixCursor;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Report;
+import de.webducer.android.zeiterfassung.contract.enums.ReportType;
+import de.webducer.android.zeiterfassung.contract.report.ReportPlan;
+import de.webducer.android.zeiterfassung.contract.report.ReportPlanCache;
+
+public class ReportPlanTests extends TestCase {
+
+   public final void testFromCursor_WithParts_AssemblesSql() {
+      final ReportPlan actual = ReportPlan.fromCursor(createCursor(1, "view_report_base", "pj_id, SUM(vbr_time_sum) AS total, COALESCE(pj_id, 0)",
+            "vbr_start_year = ? AND tt_kind IN (?, '?')", "2015", "pj_id", "total DESC", null, "project, timerange"));
+
+      Assert.assertEquals(ReportType.List, actual.getType());
+      Assert.assertEquals("SELECT pj_id, SUM(vbr_time_sum) AS total, COALESCE(pj_id, 0) FROM view_report_base WHERE vbr_start_year = ? AND tt_kind IN (?, '?') GROUP BY pj_id ORDER BY total DESC",
+            actual.getSql());
+      Assert.assertEquals(3, actual.getProjection().length);
+      Assert.assertEquals(2, actual.getParameterCount());
+      Assert.assertEquals(1, actual.getBoundParameterCount());
+      Assert.assertTrue(Arrays.equals(new String[]{"2015", "1"}, actual.bind("1")));
+      Assert.assertTrue(actual.isFilterAvailable("PROJECT"));
+      Assert.assertFalse(actual.isFilterAvailable("ADDRESS"));
+   }
+
+   public final void testFromCursor_WithSql_UsesStoredSql() {
+      final ReportPlan actual = ReportPlan.fromCursor(createCursor(2, null, null, null, null, null, null, "SELECT COUNT(*) FROM tbl_time_record", null));
+
+      Assert.assertEquals("SELECT COUNT(*) FROM tbl_time_record", actual.getSql());
+      Assert.assertNull(actual.getProjection());
+      Assert.assertEquals(0, actual.bind().length);
+   }
+
+   public final void testFromCursor_WithInvalidDefinition_ThrowsException() {
+      assertInvalid(createCursor(3, null, "pj_id", null, null, null, null, null, null));
+      assertInvalid(createCursor(4, "view_report_base", "pj_id, PJ_ID", null, null, null, null, null, null));
+      assertInvalid(createCursor(5, "view_report_base", "SUM(vbr_time_sum", null, null, null, null, null, null));
+      assertInvalid(createCursor(6, "view_report_base", null, "pj_id = ?", "1, 2", null, null, null, null));
+   }
+
+   public final void testBind_WithMissingArguments_ThrowsException() {
+      final ReportPlan plan = ReportPlan.fromCursor(createCursor(7, "view_report_base", null, "pj_id = ?", null, null, null, null, null));
+
+      try {
+         plan.bind();
+         Assert.fail("Missing argument not detected");
+      } catch (IllegalArgumentException e) {
+         // Expected
+      }
+   }
+
+   public final void testGet_WithUnchangedAndChangedReport_CompilesOnlyOnChange() {
+      final ReportPlanCache cache = new ReportPlanCache(2);
+
+      final ReportPlan first = cache.get(createCursor(1, "view_report_base", "pj_id", null, null, null, null, null, null));
+      Assert.assertSame(first, cache.get(createCursor(1, "view_report_base", "pj_id", null, null, null, null, null, null)));
+
+      final ReportPlan changed = cache.get(createCursor(1, "view_report_base", "tt_id", null, null, null, null, null, null));
+      Assert.assertNotSame(first, changed);
+      Assert.assertEquals("tt_id", changed.getProjection()[0]);
+      Assert.assertEquals(1, cache.getHitCount());
+      Assert.assertEquals(2, cache.getMissCount());
+
+      cache.get(createCursor(2, "view_report_base", null, null, null, null, null, null, null));
+      cache.get(createCursor(3, "view_report_base", null, null, null, null, null, null, null));
+      Assert.assertEquals(2, cache.size());
+      Assert.assertNull(cache.peek(1));
+   }
+
+   public final void testGet_WithRenamedReport_ReturnsNewName() {
+      final ReportPlanCache cache = new ReportPlanCache();
+      final MatrixCursor original = createCursor(1, "view_report_base", "pj_id", null, null, null, null, null, null);
+
+      final ReportPlan first = cache.get(original);
+      final ReportPlan renamed = cache.get(rename(original, "Renamed"));
+
+      Assert.assertEquals("Report 1", first.getName());
+      Assert.assertEquals("Renamed", renamed.getName());
+   }
+
+   public final void testPeek_WithFullCache_KeepsPeekedPlan() {
+      final ReportPlanCache cache = new ReportPlanCache(2);
+
+      cache.get(createCursor(1, "view_report_base", null, null, null, null, null, null, null));
+      cache.get(createCursor(2, "view_report_base", null, null, null, null, null, null, null));
+      Assert.assertNotNull(cache.peek(1));
+      cache.get(createCursor(3, "view_report_base", null, null, null, null, null, null, null));
+
+      Assert.assertNotNull(cache.peek(1));
+      Assert.assertNull(cache.peek(2));
+   }
+
+   private static void assertInvalid(MatrixCursor cursor) {
+      try {
+         ReportPlan.fromCursor(cursor);
+         Assert.fail("Invalid report not detected");
+      } catch (IllegalArgumentException e) {
+         // Expected
+      }
+   }
+
+   private static MatrixCursor rename(MatrixCursor cursor, String name) {
+      final MatrixCursor result = new MatrixCursor(Report.Columns.ALL_COLUMNS);
+      final Object[] row = new Object[Report.Columns.ALL_COLUMNS.length];
+      for (int index = 0; index < row.length; index++) {
+         row[index] = cursor.isNull(index) ? null : cursor.getString(index);
+      }
+      row[Report.Columns.IDX_ID] = cursor.getLong(Report.Columns.IDX_ID);
+      row[Report.Columns.IDX_TYPE] = cursor.getInt(Report.Columns.IDX_TYPE);
+      row[Report.Columns.IDX_NAME] = name;
+      result.addRow(row);
+      result.moveToFirst();
+
+      return result;
+   }
+
+   private static MatrixCursor createCursor(long id, String from, String projection, String selection, String selectionArgs,
+                                            String groupBy, String sortOrder, String sql, String filters) {
+      final MatrixCursor cursor = new MatrixCursor(Report.Columns.ALL_COLUMNS);
+      final Object[] row = new Object[Report.Columns.ALL_COLUMNS.length];
+      row[Report.Columns.IDX_ID] = id;
+      row[Report.Columns.IDX_TYPE] = ReportType.List.getEnumCode();
+      row[Report.Columns.IDX_NAME] = "Report " + id;
+      row[Report.Columns.IDX_FROM] = from;
+      row[Report.Columns.IDX_PROJECTION] = projection;
+      row[Report.Columns.IDX_SELECTION] = selection;
+      row[Report.Columns.IDX_SELECTION_ARGS] = selectionArgs;
+      row[Report.Columns.IDX_GROUP_BY] = groupBy;
+      row[Report.Columns.IDX_SORT_ORDER] = sortOrder;
+      row[Report.Columns.IDX_SQL] = sql;
+      row[Report.Columns.IDX_AVAILABLE_FILTER] = filters;
+      row[Report.Columns.IDX_ACTIVE] = TimeTrackingContract.BOOL_TRUE;
+      cursor.addRow(row);
+      cursor.moveToFirst();
+
+      return cursor;
+   }
+}
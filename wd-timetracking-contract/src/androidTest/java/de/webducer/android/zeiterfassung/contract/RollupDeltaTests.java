@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.content.ContentValues;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.List;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Rollup;
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeCodec;
+import de.webducer.android.zeiterfassung.contract.converter.EpochMinuteCodec;
+import de.webducer.android.zeiterfassung.contract.enums.RollupPeriod;
+import de.webducer.android.zeiterfassung.contract.enums.TimeKind;
+import de.webducer.android.zeiterfassung.contract.report.RollupDelta;
+
+public class RollupDeltaTests extends TestCase {
+   private final static int _WEDNESDAY = DbDateTimeCodec.toEpochDay(2015, 3, 4);
+
+   public final void testGetPeriodStart_WithWednesday_ReturnsPeriodStart() {
+      Assert.assertEquals(_WEDNESDAY, RollupPeriod.Day.getPeriodStart(_WEDNESDAY));
+      Assert.assertEquals(DbDateTimeCodec.toEpochDay(2015, 3, 2), RollupPeriod.Week.getPeriodStart(_WEDNESDAY));
+      Assert.assertEquals(DbDateTimeCodec.toEpochDay(2015, 3, 1), RollupPeriod.Month.getPeriodStart(_WEDNESDAY));
+      Assert.assertEquals(DbDateTimeCodec.toEpochDay(1969, 12, 29), RollupPeriod.Week.getPeriodStart(0));
+      Assert.assertEquals(DbDateTimeCodec.toEpochDay(1969, 12, 29), RollupPeriod.Week.getPeriodStart(-1));
+   }
+
+   public final void testBuildValues_WithInsertedRecord_ReturnsOneRowPerPeriod() {
+      final List<ContentValues> actual = new RollupDelta()
+            .addRecord(EpochMinuteCodec.decode("2015-03-04T08:00"), 10, 5, TimeKind.WorkingTime.getEnumCode(), 480, 30)
+            .buildValues();
+
+      Assert.assertEquals(3, actual.size());
+      Assert.assertEquals(RollupPeriod.Week.getEnumCode(), actual.get(1).getAsInteger(Rollup.Columns.PERIOD).intValue());
+      Assert.assertEquals(DbDateTimeCodec.toEpochDay(2015, 3, 2), actual.get(1).getAsInteger(Rollup.Columns.PERIOD_START).intValue());
+      Assert.assertEquals(10L, actual.get(2).getAsLong(Rollup.Columns.PROJECT_ID).longValue());
+      Assert.assertEquals(480L, actual.get(2).getAsLong(Rollup.Columns.TIME_SUM).longValue());
+      Assert.assertEquals(1, actual.get(0).getAsInteger(Rollup.Columns.RECORD_COUNT).intValue());
+   }
+
+   public final void testBuildValues_WithUpdatedRecordInSameMonth_KeepsOnlyChangedPeriods() {
+      final RollupDelta delta = new RollupDelta()
+            .removeRecord(EpochMinuteCodec.decode("2015-03-04T08:00"), 10, 5, TimeKind.WorkingTime.getEnumCode(), 480, 30)
+            .addRecord(EpochMinuteCodec.decode("2015-03-12T08:00"), 10, 5, TimeKind.WorkingTime.getEnumCode(), 480, 30);
+
+      final List<ContentValues> actual = delta.buildValues();
+
+      Assert.assertFalse(delta.isEmpty());
+      Assert.assertEquals(4, actual.size());
+      for (ContentValues values : actual) {
+         Assert.assertFalse(RollupPeriod.Month.getEnumCode() == values.getAsInteger(Rollup.Columns.PERIOD));
+      }
+   }
+
+   public final void testIsEmpty_WithUnchangedRecord_ReturnsTrue() {
+      final RollupDelta actual = new RollupDelta()
+            .removeRecord(EpochMinuteCodec.decode("2015-03-04T08:00"), 10, 5, TimeKind.WorkingTime.getEnumCode(), 480, 30)
+            .addRecord(EpochMinuteCodec.decode("2015-03-04T08:00"), 10, 5, TimeKind.WorkingTime.getEnumCode(), 480, 30);
+
+      Assert.assertTrue(actual.isEmpty());
+      Assert.assertEquals(0, actual.buildOperations().size());
+   }
+
+   public final void testBuildPeriodUri_WithPeriod_ReturnsPeriod() {
+      Assert.assertEquals(RollupPeriod.Week, Rollup.getPeriod(Rollup.buildPeriodUri(RollupPeriod.Week)));
+      Assert.assertEquals(RollupPeriod.None, Rollup.getPeriod(Rollup.CONTENT_URI));
+   }
+}
@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.database.Cursor;
+import android.database.MatrixCursor;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Statistic;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.StatisticData;
+import de.webducer.android.zeiterfassung.contract.report.ReportPlanCache;
+import de.webducer.android.zeiterfassung.contract.report.StatisticBatch;
+
+public class StatisticBatchTests extends TestCase {
+
+   public final void testFromCursor_WithSameSource_CreatesOneScan() {
+      final StatisticBatch actual = StatisticBatch.fromCursor(createCursor());
+
+      Assert.assertEquals(4, actual.size());
+      Assert.assertEquals(2, actual.getQueryCount());
+      Assert.assertEquals("SELECT SUM(CASE WHEN (vbr_start_year = ?) AND (tt_kind = ?) THEN vbr_time_sum END), COUNT(CASE WHEN pj_id = ? THEN 1 END), "
+            + "(SELECT SUM(a) - SUM(b) FROM view_report_base LIMIT 1) FROM view_report_base", actual.getSql(0));
+      Assert.assertTrue(Arrays.equals(new String[]{"2015", "1", "7"}, actual.getSelectionArgs(0)));
+      Assert.assertEquals("SELECT (SELECT MAX(vbr_time_sum) FROM view_report_base GROUP BY pj_id LIMIT 1)", actual.getSql(1));
+   }
+
+   public final void testEvaluate_WithResults_ReturnsValuesInOrder() {
+      final StatisticBatch batch = StatisticBatch.fromCursor(createCursor());
+
+      final Cursor actual = batch.evaluate(new StatisticBatch.QueryExecutor() {
+         @Override
+         public Cursor rawQuery(String sql, String[] selectionArgs) {
+            if (sql.contains("GROUP BY")) {
+               final MatrixCursor result = new MatrixCursor(new String[]{"v0"});
+               result.addRow(new Object[]{null});
+               return result;
+            }
+
+            final MatrixCursor result = new MatrixCursor(new String[]{"v0", "v1", "v2"});
+            result.addRow(new Object[]{480L, 3L, 12L});
+            return result;
+         }
+      });
+
+      Assert.assertEquals(4, actual.getCount());
+      actual.moveToFirst();
+      Assert.assertEquals(4L, actual.getLong(StatisticData.Columns.IDX_ID));
+      Assert.assertEquals(3L, actual.getLong(StatisticData.Columns.IDX_VALUE));
+      actual.moveToNext();
+      Assert.assertEquals("Time", actual.getString(StatisticData.Columns.IDX_CAPTION));
+      Assert.assertEquals(480L, actual.getLong(StatisticData.Columns.IDX_VALUE));
+      actual.moveToNext();
+      Assert.assertTrue(actual.isNull(StatisticData.Columns.IDX_VALUE));
+      actual.moveToNext();
+      Assert.assertEquals(12L, actual.getLong(StatisticData.Columns.IDX_VALUE));
+   }
+
+   public final void testFromCursor_WithSharedPlanCache_ParsesReportsOnce() {
+      final ReportPlanCache planCache = new ReportPlanCache();
+
+      final StatisticBatch first = StatisticBatch.fromCursor(createCursor(), false, planCache);
+      final StatisticBatch second = StatisticBatch.fromCursor(createCursor(), false, planCache);
+
+      Assert.assertEquals(4, planCache.getMissCount());
+      Assert.assertEquals(4, planCache.getHitCount());
+      Assert.assertEquals(first.getSql(0), second.getSql(0));
+   }
+
+   public final void testFromCursor_WithMismatchingArgs_ThrowsException() {
+      // Too many, too few and unplaceable report arguments
+      assertInvalid("vbr_start_year = ?", "2015, 2016", null, null, "SUM(vbr_time_sum)");
+      assertInvalid("vbr_start_year = ? AND tt_kind = ?", "2015", "pj_id = ?", "7", "SUM(vbr_time_sum)");
+      assertInvalid(null, "2", null, null, "SUM(vbr_time_sum * ?)");
+      // Filter arguments
+      assertInvalid(null, null, "pj_id = ?", null, "SUM(vbr_time_sum)");
+      assertInvalid(null, null, "pj_id = 7", "7", "SUM(vbr_time_sum)");
+   }
+
+   public final void testFromCursor_WithScalarMinMax_UsesSubQuery() {
+      final MatrixCursor cursor = new MatrixCursor(Statistic.QueryColumns.ALL_QUERY_COLUMNS);
+      addRow(cursor, 1, "Longest", 1, null, null, "pj_id = ?", "7", "MAX(vbr_time_sum, vbr_pause_sum)", null);
+      addRow(cursor, 2, "Shortest", 2, null, null, null, null, "min(vbr_time_sum, 60)", null);
+
+      final StatisticBatch actual = StatisticBatch.fromCursor(cursor);
+
+      Assert.assertEquals(1, actual.getQueryCount());
+      Assert.assertEquals("SELECT (SELECT MAX(vbr_time_sum, vbr_pause_sum) FROM view_report_base WHERE pj_id = ? LIMIT 1), "
+            + "(SELECT min(vbr_time_sum, 60) FROM view_report_base LIMIT 1)", actual.getSql(0));
+      Assert.assertTrue(Arrays.equals(new String[]{"7"}, actual.getSelectionArgs(0)));
+   }
+
+   private static void assertInvalid(String selection, String selectionArgs, String filter, String filterArgs, String projection) {
+      final MatrixCursor cursor = new MatrixCursor(Statistic.QueryColumns.ALL_QUERY_COLUMNS);
+      addRow(cursor, 1, "Time", 1, selection, selectionArgs, filter, filterArgs, projection, null);
+
+      try {
+         StatisticBatch.fromCursor(cursor);
+         Assert.fail("Mismatching arguments not detected");
+      } catch (IllegalArgumentException e) {
+         // Expected
+      }
+   }
+
+   private static MatrixCursor createCursor() {
+      final MatrixCursor cursor = new MatrixCursor(Statistic.QueryColumns.ALL_QUERY_COLUMNS);
+      addRow(cursor, 1, "Time", 2, "vbr_start_year = ?", "2015", "tt_kind = ?", "1", "SUM(vbr_time_sum)", null);
+      addRow(cursor, 4, "Count", 1, null, null, "pj_id = ?", "7", "count(*)", null);
+      addRow(cursor, 2, "Maximum", 3, null, null, null, null, "MAX(vbr_time_sum)", "pj_id");
+      addRow(cursor, 3, "Difference", 4, null, null, null, null, "SUM(a) - SUM(b)", null);
+
+      return cursor;
+   }
+
+   private static void addRow(MatrixCursor cursor, long id, String caption, int order, String selection, String selectionArgs,
+                              String filter, String filterArgs, String projection, String groupBy) {
+      final Object[] row = new Object[Statistic.QueryColumns.ALL_QUERY_COLUMNS.length];
+      row[Statistic.Columns.IDX_ID] = id;
+      row[Statistic.Columns.IDX_REPORT_ID] = id * 10;
+      row[Statistic.Columns.IDX_CAPTION] = caption;
+      row[Statistic.Columns.IDX_DURATION_FORMAT] = 1;
+      row[Statistic.Columns.IDX_FILTER] = filter;
+      row[Statistic.Columns.IDX_FILTER_ARGS] = filterArgs;
+      row[Statistic.Columns.IDX_ORDER] = order;
+      row[Statistic.QueryColumns.IDX_REPORT_PROJECTION] = projection;
+      row[Statistic.QueryColumns.IDX_REPORT_FROM] = "view_report_base";
+      row[Statistic.QueryColumns.IDX_REPORT_GROUP_BY] = groupBy;
+      row[Statistic.QueryColumns.IDX_REPORT_SELECTION] = selection;
+      row[Statistic.QueryColumns.IDX_REPORT_SELECTION_ARGS] = selectionArgs;
+      cursor.addRow(row);
+   }
+}
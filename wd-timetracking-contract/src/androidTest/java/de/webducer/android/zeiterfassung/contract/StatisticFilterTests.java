@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.database.MatrixCursor;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Data;
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeCodec;
+import de.webducer.android.zeiterfassung.contract.enums.TimeKind;
+import de.webducer.android.zeiterfassung.contract.report.ReportAggregation;
+import de.webducer.android.zeiterfassung.contract.report.ReportAggregator;
+import de.webducer.android.zeiterfassung.contract.report.ReportDataSnapshot;
+import de.webducer.android.zeiterfassung.contract.report.ReportEntityGrouping;
+import de.webducer.android.zeiterfassung.contract.report.ReportTimeGrouping;
+import de.webducer.android.zeiterfassung.contract.report.StatisticFilter;
+import de.webducer.android.zeiterfassung.contract.report.StatisticFilterCodec;
+
+public class StatisticFilterTests extends TestCase {
+
+   public final void testEncode_WithTypedFilter_ReturnsCompactValue() {
+      final StatisticFilter filter = new StatisticFilter.Builder()
+            .setDateRange(DbDateTimeCodec.toEpochDay(2015, 1, 1), DbDateTimeCodec.toEpochDay(2015, 12, 31))
+            .addProjectIds(7L, 3L, TimeTrackingContract.NULL_ID)
+            .addTimeKinds(TimeKind.WorkingTime, TimeKind.Overtime)
+            .build();
+
+      Assert.assertEquals("#1;D2015-01-01:2015-12-31;P-500,3,7;K1,2", StatisticFilterCodec.encode(filter));
+      Assert.assertEquals("vbr_start_date >= ? AND vbr_start_date <= ? AND (pj_id IN (3,7) OR pj_id IS NULL) AND tt_kind IN (1,2)",
+            filter.getSelection());
+      Assert.assertTrue(Arrays.equals(new String[]{"2015-01-01", "2015-12-31"}, filter.getSelectionArgs()));
+   }
+
+   public final void testDecode_WithEncodedFilter_ReturnsSameFilter() {
+      final String encoded = "#1;D:2015-06-30;A5;T1,2;K3";
+
+      final StatisticFilter actual = StatisticFilterCodec.decode(encoded, null);
+
+      Assert.assertTrue(actual.isTyped());
+      Assert.assertEquals(StatisticFilter.NO_DAY, actual.getFromDay());
+      Assert.assertEquals(DbDateTimeCodec.toEpochDay(2015, 6, 30), actual.getToDay());
+      Assert.assertTrue(Arrays.equals(new long[]{5L}, actual.getAddressIds()));
+      Assert.assertNull(actual.getProjectIds());
+      Assert.assertTrue(Arrays.equals(new long[]{1L, 2L}, actual.getTimeTypeIds()));
+      Assert.assertTrue(actual.isTimeKindAllowed(TimeKind.Holiday));
+      Assert.assertFalse(actual.isTimeKindAllowed(TimeKind.WorkingTime));
+      Assert.assertEquals(encoded, StatisticFilterCodec.encode(actual));
+   }
+
+   public final void testDecode_WithRepeatedValue_ParsesOnce() {
+      StatisticFilterCodec.clearCache();
+
+      final StatisticFilter first = StatisticFilterCodec.decode("tt_kind = ?", "1");
+      final StatisticFilter second = StatisticFilterCodec.decode("tt_kind = ?", "1");
+
+      Assert.assertSame(first, second);
+      Assert.assertFalse(first.isTyped());
+      Assert.assertEquals("tt_kind = ?", first.getSelection());
+      Assert.assertTrue(Arrays.equals(new String[]{"1"}, first.getSelectionArgs()));
+      Assert.assertEquals(1L, StatisticFilterCodec.getHitCount());
+      Assert.assertEquals(1L, StatisticFilterCodec.getMissCount());
+   }
+
+   public final void testDecode_WithEmptyValue_ReturnsAll() {
+      Assert.assertSame(StatisticFilter.ALL, StatisticFilterCodec.decode("  ", null));
+      Assert.assertNull(StatisticFilterCodec.encode(StatisticFilter.ALL));
+   }
+
+   public final void testDecode_WithUnsupportedVersion_ThrowsException() {
+      try {
+         StatisticFilterCodec.decode("#2;P1", null);
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+
+      try {
+         StatisticFilterCodec.decode("#1;X1", null);
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+   }
+
+   public final void testAggregate_WithTypedFilter_SumsMatchingRows() {
+      final MatrixCursor cursor = new MatrixCursor(Data.Columns.ALL_COLUMNS);
+      addRow(cursor, 2015, 3, 31, 480, 10L, TimeKind.WorkingTime);
+      addRow(cursor, 2015, 4, 1, 420, 10L, TimeKind.WorkingTime);
+      addRow(cursor, 2015, 4, 2, 60, null, TimeKind.Overtime);
+      addRow(cursor, 2015, 4, 3, 100, 11L, TimeKind.WorkingTime);
+      addRow(cursor, 2015, 5, 1, 200, 10L, TimeKind.WorkingTime);
+      final StatisticFilter filter = StatisticFilterCodec.decode("#1;D2015-04-01:2015-04-30;P10,-500", null);
+
+      final ReportAggregation actual = new ReportAggregator(ReportDataSnapshot.fromCursor(cursor))
+            .aggregate(ReportTimeGrouping.None, ReportEntityGrouping.None, filter);
+
+      Assert.assertEquals(1, actual.size());
+      Assert.assertEquals(480L, actual.getTimeSum(0));
+      Assert.assertEquals(2, actual.getRowCount(0));
+   }
+
+   private static void addRow(MatrixCursor cursor, int year, int month, int day, int timeSum, Long projectId, TimeKind kind) {
+      final Object[] row = new Object[Data.Columns.ALL_COLUMNS.length];
+      row[Data.Columns.IDX_ID] = (long) cursor.getCount() + 1;
+      row[Data.Columns.IDX_YEAR] = year;
+      row[Data.Columns.IDX_MONTH] = month;
+      row[Data.Columns.IDX_DAY_OF_MONTH] = day;
+      row[Data.Columns.IDX_TIME_SUM] = timeSum;
+      row[Data.Columns.IDX_PAUSE_SUM] = 0;
+      row[Data.Columns.IDX_OVERALL_SUM] = timeSum;
+      row[Data.Columns.IDX_PROJECT_ID] = projectId;
+      row[Data.Columns.IDX_TIME_KIND] = kind.getEnumCode();
+      cursor.addRow(row);
+   }
+}
@@ -0,0 +1,237 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.database.Cursor;
+import android.database.MatrixCursor;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Statistic;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.StatisticData;
+import de.webducer.android.zeiterfassung.contract.report.StatisticBatch;
+import de.webducer.android.zeiterfassung.contract.report.StatisticStream;
+
+public class StatisticStreamTests extends TestCase {
+
+   public final void testStart_WithSlowSubQuery_DeliversFastStatisticsFirst() throws InterruptedException {
+      final StatisticBatch batch = StatisticBatch.fromCursor(createCursor(), true);
+      final CountDownLatch slowStarted = new CountDownLatch(1);
+      final CountDownLatch releaseSlow = new CountDownLatch(1);
+      final CountDownLatch complete = new CountDownLatch(1);
+      final List<Long> delivered = Collections.synchronizedList(new ArrayList<Long>());
+      final Cursor[] all = new Cursor[1];
+      final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+      try {
+         new StatisticStream(batch, new StatisticBatch.QueryExecutor() {
+            @Override
+            public Cursor rawQuery(String sql, String[] selectionArgs) {
+               if (sql.contains("GROUP BY")) {
+                  slowStarted.countDown();
+                  await(releaseSlow);
+                  return createResult(7L);
+               }
+
+               return createResult(480L, 3L);
+            }
+         }, new StatisticStream.Listener() {
+            @Override
+            public void onStatisticData(Cursor data) {
+               while (data.moveToNext()) {
+                  delivered.add(data.getLong(StatisticData.Columns.IDX_ID));
+               }
+
+               if (delivered.size() == 2) {
+                  releaseSlow.countDown();
+               }
+            }
+
+            @Override
+            public void onComplete(Cursor data) {
+               all[0] = data;
+               complete.countDown();
+            }
+
+            @Override
+            public void onError(RuntimeException error) {
+               complete.countDown();
+            }
+         }).start(executor);
+
+         Assert.assertTrue(complete.await(5, TimeUnit.SECONDS));
+      } finally {
+         executor.shutdownNow();
+      }
+
+      Assert.assertEquals(2, batch.getQueryCount());
+      Assert.assertEquals(0L, slowStarted.getCount());
+      Assert.assertEquals(3, delivered.size());
+      Assert.assertEquals(2L, (long) delivered.get(2));
+      Assert.assertEquals(3, all[0].getCount());
+      all[0].moveToPosition(2);
+      Assert.assertEquals(7L, all[0].getLong(StatisticData.Columns.IDX_VALUE));
+   }
+
+   public final void testCancel_WithRunningStatement_StopsCallbacks() throws InterruptedException {
+      final StatisticBatch batch = StatisticBatch.fromCursor(createCursor(), true);
+      final CountDownLatch started = new CountDownLatch(2);
+      final CountDownLatch release = new CountDownLatch(1);
+      final List<String> callbacks = Collections.synchronizedList(new ArrayList<String>());
+      final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+      try {
+         final StatisticStream stream = new StatisticStream(batch, new StatisticBatch.QueryExecutor() {
+            @Override
+            public Cursor rawQuery(String sql, String[] selectionArgs) {
+               started.countDown();
+               await(release);
+               return createResult(1L, 2L);
+            }
+         }, new StatisticStream.Listener() {
+            @Override
+            public void onStatisticData(Cursor data) {
+               callbacks.add("data");
+            }
+
+            @Override
+            public void onComplete(Cursor data) {
+               callbacks.add("complete");
+            }
+
+            @Override
+            public void onError(RuntimeException error) {
+               callbacks.add("error");
+            }
+         }).start(executor);
+
+         Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+         stream.cancel();
+         release.countDown();
+         executor.shutdown();
+         Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+         Assert.assertTrue(stream.isCancelled());
+         Assert.assertFalse(stream.isComplete());
+         Assert.assertTrue(callbacks.isEmpty());
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   public final void testStart_WithFailingListener_CallsOnError() throws InterruptedException {
+      final StatisticBatch batch = StatisticBatch.fromCursor(createCursor(), true);
+      final IllegalStateException failure = new IllegalStateException("Listener failed");
+      final List<Object> callbacks = Collections.synchronizedList(new ArrayList<Object>());
+      final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+      try {
+         final StatisticStream stream = new StatisticStream(batch, new StatisticBatch.QueryExecutor() {
+            @Override
+            public Cursor rawQuery(String sql, String[] selectionArgs) {
+               return createResult(1L, 2L);
+            }
+         }, new StatisticStream.Listener() {
+            @Override
+            public void onStatisticData(Cursor data) {
+               callbacks.add("data");
+               throw failure;
+            }
+
+            @Override
+            public void onComplete(Cursor data) {
+               callbacks.add("complete");
+            }
+
+            @Override
+            public void onError(RuntimeException error) {
+               callbacks.add(error);
+            }
+         }).start(executor);
+
+         executor.shutdown();
+         Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+         Assert.assertTrue(stream.isCancelled());
+         Assert.assertFalse(stream.isComplete());
+         Assert.assertEquals(2, callbacks.size());
+         Assert.assertEquals("data", callbacks.get(0));
+         Assert.assertSame(failure, callbacks.get(1));
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   private static void await(CountDownLatch latch) {
+      try {
+         latch.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   private static MatrixCursor createResult(Long... values) {
+      final String[] columns = new String[values.length];
+      for (int index = 0; index < columns.length; index++) {
+         columns[index] = "v" + index;
+      }
+
+      final MatrixCursor result = new MatrixCursor(columns);
+      result.addRow(values);
+
+      return result;
+   }
+
+   private static MatrixCursor createCursor() {
+      final MatrixCursor cursor = new MatrixCursor(Statistic.QueryColumns.ALL_QUERY_COLUMNS);
+      addRow(cursor, 1, 1, "SUM(vbr_time_sum)", null);
+      addRow(cursor, 2, 3, "MAX(vbr_time_sum)", "pj_id");
+      addRow(cursor, 3, 2, "COUNT(*)", null);
+
+      return cursor;
+   }
+
+   private static void addRow(MatrixCursor cursor, long id, int order, String projection, String groupBy) {
+      final Object[] row = new Object[Statistic.QueryColumns.ALL_QUERY_COLUMNS.length];
+      row[Statistic.Columns.IDX_ID] = id;
+      row[Statistic.Columns.IDX_REPORT_ID] = id;
+      row[Statistic.Columns.IDX_CAPTION] = "Statistic " + id;
+      row[Statistic.Columns.IDX_DURATION_FORMAT] = 1;
+      row[Statistic.Columns.IDX_ORDER] = order;
+      row[Statistic.QueryColumns.IDX_REPORT_PROJECTION] = projection;
+      row[Statistic.QueryColumns.IDX_REPORT_FROM] = "view_report_base";
+      row[Statistic.QueryColumns.IDX_REPORT_GROUP_BY] = groupBy;
+      cursor.addRow(row);
+   }
+}
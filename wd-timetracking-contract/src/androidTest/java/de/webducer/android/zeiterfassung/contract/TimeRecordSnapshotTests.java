@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.database.MatrixCursor;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.RecordData.TimeRecord;
+import de.webducer.android.zeiterfassung.contract.converter.EpochMinuteCodec;
+import de.webducer.android.zeiterfassung.contract.enums.TimeKind;
+import de.webducer.android.zeiterfassung.contract.report.TimeRecordSnapshot;
+
+public class TimeRecordSnapshotTests extends TestCase {
+
+   public final void testFromCursor_WithRows_ReadsColumns() {
+      final TimeRecordSnapshot actual = TimeRecordSnapshot.fromCursor(createCursor());
+
+      Assert.assertEquals(3, actual.size());
+      Assert.assertEquals(2L, actual.getId(1));
+      Assert.assertEquals(EpochMinuteCodec.decode("2015-03-01T08:00"), actual.getStartTime(0));
+      Assert.assertEquals(EpochMinuteCodec.decode("2015-03-01T16:30"), actual.getEndTime(0));
+      Assert.assertEquals(TimeRecordSnapshot.NO_TIME, actual.getEndTime(2));
+      Assert.assertEquals(510, actual.getTimeSum(0));
+      Assert.assertEquals(30, actual.getPauseSum(0));
+      Assert.assertEquals(TimeKind.Holiday, actual.getTimeKind(1));
+   }
+
+   public final void testFromCursor_WithRepeatedProjects_EncodesNamesOnce() {
+      final TimeRecordSnapshot actual = TimeRecordSnapshot.fromCursor(createCursor());
+
+      Assert.assertEquals(2, actual.getProjectCount());
+      Assert.assertEquals(actual.getProjectCode(0), actual.getProjectCode(2));
+      Assert.assertEquals("Beta", actual.getProjectName(actual.getProjectCode(1)));
+      Assert.assertEquals(20L, actual.getProjectId(actual.getProjectCode(1)));
+      Assert.assertEquals(1, actual.getTimeTypeCount());
+      Assert.assertEquals(TimeRecordSnapshot.NO_CODE, actual.getTimeTypeCode(1));
+      Assert.assertEquals("Work", actual.getTimeTypeName(actual.getTimeTypeCode(2)));
+   }
+
+   public final void testFromCursor_WithNullCursor_ReturnsEmptySnapshot() {
+      final TimeRecordSnapshot actual = TimeRecordSnapshot.fromCursor(null);
+
+      Assert.assertEquals(0, actual.size());
+      Assert.assertEquals(0, actual.getProjectCount());
+   }
+
+   private static MatrixCursor createCursor() {
+      final MatrixCursor cursor = new MatrixCursor(TimeRecord.QueryColumns.ALL_QUERY_COLUMNS);
+      addRow(cursor, 1, "2015-03-01T08:00", "2015-03-01T16:30", 510, 30, TimeKind.WorkingTime, 10L, "Alpha", 5L, "Work");
+      addRow(cursor, 2, "2015-03-02T08:00", "2015-03-02T16:00", 480, 0, TimeKind.Holiday, 20L, "Beta", null, null);
+      addRow(cursor, 3, "2015-03-03T08:00", null, 0, 0, TimeKind.WorkingTime, 10L, "Alpha", 5L, "Work");
+
+      return cursor;
+   }
+
+   private static void addRow(MatrixCursor cursor, long id, String start, String end, int timeSum, int pauseSum,
+                              TimeKind kind, Long projectId, String projectName, Long timeTypeId, String timeTypeName) {
+      final Object[] row = new Object[TimeRecord.QueryColumns.ALL_QUERY_COLUMNS.length];
+      row[TimeRecord.Columns.IDX_ID] = id;
+      row[TimeRecord.Columns.IDX_PROJECT_TIME_TYPE_ID] = id * 100;
+      row[TimeRecord.Columns.IDX_START_TIME] = start;
+      row[TimeRecord.Columns.IDX_END_TIME] = end;
+      row[TimeRecord.QueryColumns.IDX_TIME_SUM] = timeSum;
+      row[TimeRecord.QueryColumns.IDX_PAUSE_SUM] = pauseSum;
+      row[TimeRecord.QueryColumns.IDX_TIME_TYPE_KIND] = kind.getEnumCode();
+      row[TimeRecord.QueryColumns.IDX_PROJECT_ID] = projectId;
+      row[TimeRecord.QueryColumns.IDX_PROJECT_NAME] = projectName;
+      row[TimeRecord.QueryColumns.IDX_TIME_TYPE_ID] = timeTypeId;
+      row[TimeRecord.QueryColumns.IDX_TIME_TYPE_NAME] = timeTypeName;
+      cursor.addRow(row);
+   }
+}
@@ -24,9 +24,19 @@
 
 package de.webducer.android.zeiterfassung.contract;
 
+import android.net.Uri;
+
 import junit.framework.Assert;
 import junit.framework.TestCase;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
 
 public class TimeTrackingContractTests extends TestCase {
    public final void testConcatArrays_WithNullFirst_ReturnSecond() {
@@ -83,4 +93,112 @@ public class TimeTrackingContractTests extends TestCase {
       Assert.assertEquals(value4, actual[3]);
       Assert.assertEquals(value5, actual[4]);
    }
+
+   public final void testProjectionIndex_WithQueryColumns_ReturnsPositionInProjection() {
+      final String[] projection = TimeTrackingContract.RecordData.TimeRecord.QueryColumns.ALL_QUERY_COLUMNS;
+
+      final int actual = TimeTrackingContract.RecordData.TimeRecord.QueryColumns.IDX_PROJECT_NAME;
+
+      Assert.assertEquals(TimeTrackingContract.RecordData.TimeRecord.QueryColumns.PROJECT_NAME, projection[actual]);
+      Assert.assertEquals(0, TimeTrackingContract.RecordData.TimeRecord.Columns.IDX_ID);
+   }
+
+   public final void testProjectionIndex_WithUnknownColumn_ThrowsException() {
+      final ProjectionIndex index = new ProjectionIndex(new String[]{"a", "b"});
+
+      try {
+         index.indexOf("c");
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+   }
+
+   public final void testProjectionBuilder_WithDuplicateColumn_KeepsFirstOccurrence() {
+      final String[] actual = new ProjectionBuilder("a", "b").add("c", "a", "c").build();
+
+      Assert.assertEquals(3, actual.length);
+      Assert.assertEquals("a", actual[0]);
+      Assert.assertEquals("b", actual[1]);
+      Assert.assertEquals("c", actual[2]);
+   }
+
+   public final void testProjectionBuilder_WithCaseCollision_ThrowsException() {
+      final ProjectionBuilder builder = new ProjectionBuilder("pj_name");
+
+      try {
+         builder.add("PJ_NAME");
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+   }
+
+   public final void testProjectionBuilder_WithEmptyColumn_ThrowsException() {
+      try {
+         new ProjectionBuilder("a", "");
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+   }
+
+   public final void testProjections_AllPublished_HaveNoDuplicates() throws Exception {
+      final List<String> errors = new ArrayList<String>();
+
+      checkProjections(TimeTrackingContract.class, errors);
+
+      Assert.assertTrue(errors.toString(), errors.isEmpty());
+   }
+
+   private static void checkProjections(Class<?> type, List<String> errors) throws Exception {
+      for (Field field : type.getDeclaredFields()) {
+         if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String[].class) {
+            continue;
+         }
+
+         final String[] projection = (String[]) field.get(null);
+         final Set<String> columns = new HashSet<String>();
+         for (String column : projection) {
+            if (!columns.add(column.toLowerCase(Locale.US))) {
+               errors.add(type.getSimpleName() + "." + field.getName() + ": " + column);
+            }
+         }
+      }
+
+      for (Class<?> nested : type.getDeclaredClasses()) {
+         checkProjections(nested, errors);
+      }
+   }
+
+   public final void testGetSince_WithSinceUri_ReturnsChangeSequence() {
+      final Uri uri = TimeTrackingContract.RecordData.TimeRecord.buildSinceUri(4711);
+
+      Assert.assertEquals(4711, TimeTrackingContract.getSince(uri));
+      Assert.assertEquals(TimeTrackingContract.NO_CHANGE_SEQUENCE, TimeTrackingContract.getSince(TimeTrackingContract.RecordData.TimeRecord.CONTENT_URI));
+      Assert.assertEquals(TimeTrackingContract.RecordData.TimeRecord.Columns.CHANGE_SEQUENCE,
+            TimeTrackingContract.RecordData.TimeRecord.Columns.SYNC_COLUMNS[TimeTrackingContract.RecordData.TimeRecord.Columns.IDX_SYNC_CHANGE_SEQUENCE]);
+   }
+
+   public final void testGetSince_WithInvalidValue_ThrowsException() {
+      final Uri uri = TimeTrackingContract.SyncData.Tombstone.CONTENT_URI.buildUpon()
+            .appendQueryParameter(TimeTrackingContract.QUERY_PARAMETER_SINCE, "-1")
+            .build();
+
+      try {
+         TimeTrackingContract.getSince(uri);
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+   }
+
+   public final void testBuildSinceUri_WithNegativeSequence_ThrowsException() {
+      try {
+         TimeTrackingContract.RecordData.TimeRecord.buildSinceUri(-1);
+         Assert.fail("Exception expected");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+   }
 }
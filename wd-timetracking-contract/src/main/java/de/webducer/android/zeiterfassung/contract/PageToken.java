@@ -0,0 +1,261 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.database.CharArrayBuffer;
+import android.database.Cursor;
+import android.net.Uri;
+
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeCodec;
+import de.webducer.android.zeiterfassung.contract.converter.EpochMinuteCodec;
+
+/**
+ * Position after the last row of a page for keyset pagination over a date time column and _ID.
+ * <p/>
+ * The next page contains the rows sorted after (time, _ID) of the token, so the provider can use an index on both
+ * columns instead of skipping rows with OFFSET. Tokens are short URL safe strings, e.g. for the saved state of a list.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class PageToken {
+   /* Private fields */
+   private final static char _VERSION = '1';
+   private final static char _ASCENDING = 'a';
+   private final static char _DESCENDING = 'd';
+   private final static char _SEPARATOR = '.';
+   private final static int _RADIX = Character.MAX_RADIX;
+
+   private final long _afterTime;
+   private final long _afterId;
+   private final boolean _descending;
+
+   /* Constructors */
+
+   /**
+    * Create token for the position after a row
+    *
+    * @param afterTime  Date time of the last row as epoch minute (see {@link EpochMinuteCodec})
+    * @param afterId    _ID of the last row
+    * @param descending True, if the rows are sorted descending (newest first)
+    */
+   public PageToken(long afterTime, long afterId, boolean descending) {
+
+      if (afterTime == EpochMinuteCodec.NO_VALUE) {
+         throw new IllegalArgumentException("Page token needs a date time");
+      }
+
+      _afterTime = afterTime;
+      _afterId = afterId;
+      _descending = descending;
+   }
+
+   /**
+    * Create token for the page after the last row of the cursor
+    *
+    * @param cursor     Cursor of the current page (position is moved to the last row)
+    * @param timeColumn Index of the date time column
+    * @param idColumn   Index of the _ID column
+    * @param descending True, if the rows are sorted descending
+    * @return Token for the next page or null, if the cursor is empty
+    * @throws IllegalArgumentException if the date time of the last row is NULL, invalid or not in the data base format
+    *                                  ('yyyy-MM-dd'T'HH:mm')
+    */
+   public static PageToken fromLastRow(Cursor cursor, int timeColumn, int idColumn, boolean descending) {
+
+      if (!cursor.moveToLast()) {
+         return null;
+      }
+
+      CharArrayBuffer buffer = new CharArrayBuffer(DbDateTimeCodec.DATE_TIME_LENGTH);
+      long afterTime = EpochMinuteCodec.read(cursor, timeColumn, buffer);
+
+      // The selection compares the text column with the canonical value, other spellings (e.g. with seconds or a
+      // blank separator) would repeat or skip rows
+      if (afterTime == EpochMinuteCodec.NO_VALUE || buffer.sizeCopied != DbDateTimeCodec.DATE_TIME_LENGTH
+            || buffer.data[DbDateTimeCodec.DATE_LENGTH] != DbDateTimeCodec.DATE_TIME_SEPARATOR) {
+         throw new IllegalArgumentException("Last row (_ID " + cursor.getLong(idColumn) + ") has no valid date time ('yyyy-MM-dd'T'HH:mm') in column " + timeColumn);
+      }
+
+      return new PageToken(afterTime, cursor.getLong(idColumn), descending);
+   }
+
+   /**
+    * Read the token of a page URI (for the content provider)
+    *
+    * @param uri Queried URI
+    * @return Token or null for the first page
+    * @throws IllegalArgumentException if the token is invalid
+    */
+   public static PageToken fromUri(Uri uri) {
+
+      String token = uri.getQueryParameter(TimeTrackingContract.QUERY_PARAMETER_PAGE_TOKEN);
+
+      return token == null ? null : decode(token);
+   }
+
+   /**
+    * Get date time of the last row
+    *
+    * @return Epoch minute
+    */
+   public long getAfterTime() {
+
+      return _afterTime;
+   }
+
+   /**
+    * Get _ID of the last row
+    *
+    * @return Row ID
+    */
+   public long getAfterId() {
+
+      return _afterId;
+   }
+
+   /**
+    * Get sort direction
+    *
+    * @return True, if the rows are sorted descending
+    */
+   public boolean isDescending() {
+
+      return _descending;
+   }
+
+   /**
+    * Create the selection for the rows after the token
+    *
+    * @param timeColumn Name of the date time column
+    * @param idColumn   Name of the _ID column
+    * @return Selection with three arguments (see {@link #getSelectionArgs()})
+    */
+   public String getSelection(String timeColumn, String idColumn) {
+
+      String operator = _descending ? " < ?" : " > ?";
+
+      return "(" + timeColumn + operator + " OR (" + timeColumn + " = ? AND " + idColumn + operator + "))";
+   }
+
+   /**
+    * Get the arguments for {@link #getSelection(String, String)}
+    *
+    * @return New array with the selection arguments
+    */
+   public String[] getSelectionArgs() {
+
+      String time = EpochMinuteCodec.encode(_afterTime);
+
+      return new String[]{time, time, Long.toString(_afterId)};
+   }
+
+   /**
+    * Create the sort order for paged queries
+    *
+    * @param timeColumn Name of the date time column
+    * @param idColumn   Name of the _ID column
+    * @param descending True for descending order
+    * @return Sort order on both columns
+    */
+   public static String getSortOrder(String timeColumn, String idColumn, boolean descending) {
+
+      String direction = descending ? " DESC" : " ASC";
+
+      return timeColumn + direction + ", " + idColumn + direction;
+   }
+
+   /**
+    * Encode the token
+    *
+    * @return URL safe token
+    */
+   public String encode() {
+
+      return new StringBuilder(32)
+            .append(_VERSION)
+            .append(_descending ? _DESCENDING : _ASCENDING)
+            .append(Long.toString(_afterTime, _RADIX))
+            .append(_SEPARATOR)
+            .append(Long.toString(_afterId, _RADIX))
+            .toString();
+   }
+
+   /**
+    * Decode the token
+    *
+    * @param token Token created by {@link #encode()}
+    * @return Decoded token
+    * @throws IllegalArgumentException if the token is invalid
+    */
+   public static PageToken decode(CharSequence token) {
+
+      String value = token.toString();
+      int separator = value.indexOf(_SEPARATOR);
+
+      if (value.length() < 5 || value.charAt(0) != _VERSION || separator < 3
+            || (value.charAt(1) != _ASCENDING && value.charAt(1) != _DESCENDING)) {
+         throw new IllegalArgumentException("Invalid page token '" + value + "'");
+      }
+
+      try {
+         long afterTime = Long.parseLong(value.substring(2, separator), _RADIX);
+         long afterId = Long.parseLong(value.substring(separator + 1), _RADIX);
+
+         return new PageToken(afterTime, afterId, value.charAt(1) == _DESCENDING);
+      } catch (NumberFormatException e) {
+         throw new IllegalArgumentException("Invalid page token '" + value + "'", e);
+      }
+   }
+
+   @Override
+   public boolean equals(Object other) {
+
+      if (this == other) {
+         return true;
+      }
+
+      if (!(other instanceof PageToken)) {
+         return false;
+      }
+
+      PageToken token = (PageToken) other;
+
+      return _afterTime == token._afterTime && _afterId == token._afterId && _descending == token._descending;
+   }
+
+   @Override
+   public int hashCode() {
+
+      return 31 * (31 * (int) (_afterTime ^ (_afterTime >>> 32)) + (int) (_afterId ^ (_afterId >>> 32))) + (_descending ? 1 : 0);
+   }
+
+   @Override
+   public String toString() {
+
+      return encode();
+   }
+}
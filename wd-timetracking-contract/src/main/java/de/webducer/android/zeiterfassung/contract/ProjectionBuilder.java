@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+
+/**
+ * Builder for the published projections of the contract.
+ * <p/>
+ * Columns added more than once are kept only at their first position. Column names, that differ only in case, are
+ * the same column for SQLite and are rejected, as well as null or empty names.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class ProjectionBuilder {
+   /* Private fields */
+   private final ArrayList<String> _columns = new ArrayList<String>();
+   private final HashMap<String, String> _columnsByKey = new HashMap<String, String>();
+
+   /* Constructors */
+
+   /**
+    * Create builder with the base columns
+    *
+    * @param columns Base columns (e.g. ALL_COLUMNS)
+    * @throws IllegalArgumentException on invalid or colliding column names
+    */
+   public ProjectionBuilder(String... columns) {
+
+      add(columns);
+   }
+
+   /**
+    * Add columns to the end of the projection
+    *
+    * @param columns Columns to add (already added columns are skipped)
+    * @return Same builder for chaining
+    * @throws IllegalArgumentException on invalid or colliding column names
+    */
+   public ProjectionBuilder add(String... columns) {
+
+      if (columns == null) {
+         return this;
+      }
+
+      for (String column : columns) {
+         if (column == null || column.length() == 0) {
+            throw new IllegalArgumentException("Column name must not be empty (position " + _columns.size() + ")");
+         }
+
+         String key = column.toLowerCase(Locale.US);
+         String existing = _columnsByKey.get(key);
+         if (existing == null) {
+            _columnsByKey.put(key, column);
+            _columns.add(column);
+         } else if (!existing.equals(column)) {
+            throw new IllegalArgumentException("Column '" + column + "' collides with '" + existing + "'");
+         }
+      }
+
+      return this;
+   }
+
+   /**
+    * Create the projection
+    *
+    * @return New array with the distinct columns in the order of the first occurrence
+    */
+   public String[] build() {
+
+      return _columns.toArray(new String[_columns.size()]);
+   }
+}
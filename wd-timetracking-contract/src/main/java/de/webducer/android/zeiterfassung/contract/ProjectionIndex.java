@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract;
+
+import android.database.Cursor;
+
+/**
+ * Precomputed column positions of a published projection (e.g. ALL_COLUMNS or ALL_QUERY_COLUMNS).
+ * <p/>
+ * A cursor queried with exactly this projection has its columns in the order of the projection, so the column indices
+ * (IDX_* constants of the contract) can be used directly instead of {@link Cursor#getColumnIndex(String)}.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class ProjectionIndex {
+   /* Private fields */
+   private static volatile boolean _validationEnabled = false;
+   private final String[] _projection;
+
+   /* Constructors */
+
+   /**
+    * Create index for the projection
+    *
+    * @param projection Published projection of the contract
+    * @throws IllegalArgumentException if the projection contains empty or duplicate column names
+    */
+   public ProjectionIndex(String[] projection) {
+
+      for (int index = 0; index < projection.length; index++) {
+         if (projection[index] == null || projection[index].length() == 0) {
+            throw new IllegalArgumentException("Column name must not be empty (position " + index + ")");
+         }
+
+         for (int previous = 0; previous < index; previous++) {
+            if (projection[previous].equalsIgnoreCase(projection[index])) {
+               throw new IllegalArgumentException("Column '" + projection[index] + "' is part of the projection more than once");
+            }
+         }
+      }
+
+      _projection = projection;
+   }
+
+   /**
+    * Get the position of the column in the projection
+    *
+    * @param column Column name
+    * @return Index of the column
+    * @throws IllegalArgumentException if the column is not part of the projection
+    */
+   public int indexOf(String column) {
+
+      for (int index = 0; index < _projection.length; index++) {
+         if (_projection[index].equals(column)) {
+            return index;
+         }
+      }
+
+      throw new IllegalArgumentException("Column '" + column + "' is not part of the projection");
+   }
+
+   /**
+    * Get the indexed projection (to be used for the query)
+    *
+    * @return Shared projection array, do not modify
+    */
+   public String[] getProjection() {
+
+      return _projection;
+   }
+
+   /**
+    * Get number of columns in the projection
+    *
+    * @return Column count
+    */
+   public int size() {
+
+      return _projection.length;
+   }
+
+   /**
+    * Enable the check of the cursors in {@link #validate(Cursor)} (e.g. for debug builds)
+    *
+    * @param enabled True to check cursors, false to skip the check
+    */
+   public static void setValidationEnabled(boolean enabled) {
+
+      _validationEnabled = enabled;
+   }
+
+   /**
+    * Check, that the cursor columns match the projection, if validation is enabled
+    *
+    * @param cursor Cursor queried with the projection (can be null)
+    * @return Same cursor for chaining
+    * @throws IllegalStateException if a column of the cursor does not match the projection
+    */
+   public Cursor validate(Cursor cursor) {
+
+      if (!_validationEnabled || cursor == null) {
+         return cursor;
+      }
+
+      if (cursor.getColumnCount() < _projection.length) {
+         throw new IllegalStateException("Cursor has " + cursor.getColumnCount() + " columns, projection " + _projection.length);
+      }
+
+      for (int index = 0; index < _projection.length; index++) {
+         if (!_projection[index].equalsIgnoreCase(cursor.getColumnName(index))) {
+            throw new IllegalStateException("Cursor column " + index + " is '" + cursor.getColumnName(index) + "', expected '" + _projection[index] + "'");
+         }
+      }
+
+      return cursor;
+   }
+}
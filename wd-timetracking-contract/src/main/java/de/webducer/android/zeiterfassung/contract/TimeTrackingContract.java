@@ -25,12 +25,15 @@
 package de.webducer.android.zeiterfassung.contract;
 
 import android.content.ContentResolver;
+import android.database.Cursor;
 import android.net.Uri;
 import android.provider.BaseColumns;
 
 import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Locale;
+
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeCodec;
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeFormat;
+import de.webducer.android.zeiterfassung.contract.enums.RollupPeriod;
 
 /**
  * Contract for the content provider of the app
@@ -82,6 +85,32 @@ public final class TimeTrackingContract {
     * False value of boolean columns as String
     */
    public final static String BOOL_FALSE_AS_STRING = "0";
+   /**
+    * Query parameter for incremental sync: only rows with a change sequence greater than the value [long]
+    * <p/>
+    * The change sequence is one monotonic counter of the provider for all tables, so one value can be used for all
+    * tables and the {@link SyncData.Tombstone} directory. Sort by the CHANGE_SEQUENCE column of the table to continue
+    * with the last received value.
+    */
+   public final static String QUERY_PARAMETER_SINCE = "since";
+   /**
+    * Change sequence before the first change (incremental sync returns all rows)
+    */
+   public final static long NO_CHANGE_SEQUENCE = 0;
+   /**
+    * Query parameter for keyset pagination: position after the last row of the previous page [String]
+    *
+    * @see PageToken
+    */
+   public final static String QUERY_PARAMETER_PAGE_TOKEN = "page_token";
+   /**
+    * Query parameter for pagination: maximal number of rows of the page [int]
+    */
+   public final static String QUERY_PARAMETER_LIMIT = "limit";
+   /**
+    * Limit value for queries without {@link #QUERY_PARAMETER_LIMIT}
+    */
+   public final static int NO_LIMIT = 0;
 
    /* Constructors */
    private TimeTrackingContract() {
@@ -112,6 +141,97 @@ public final class TimeTrackingContract {
       return returnValue;
    }
 
+   /**
+    * Create URI for the rows changed after the change sequence (incremental sync)
+    *
+    * @param contentUri     CONTENT_URI of a table with change sequence
+    * @param changeSequence Largest change sequence known to the caller ({@link #NO_CHANGE_SEQUENCE} for all rows)
+    * @return URI with the {@link #QUERY_PARAMETER_SINCE} parameter
+    * @throws IllegalArgumentException if the change sequence is negative
+    */
+   public final static Uri buildSinceUri(Uri contentUri, long changeSequence) {
+
+      if (changeSequence < NO_CHANGE_SEQUENCE) {
+         throw new IllegalArgumentException("Invalid change sequence: " + changeSequence);
+      }
+
+      return contentUri.buildUpon().appendQueryParameter(QUERY_PARAMETER_SINCE, Long.toString(changeSequence)).build();
+   }
+
+   /**
+    * Read the change sequence of an incremental sync URI (for the content provider)
+    *
+    * @param uri Queried URI
+    * @return Change sequence or {@link #NO_CHANGE_SEQUENCE}, if the URI has no {@link #QUERY_PARAMETER_SINCE} parameter
+    * @throws IllegalArgumentException if the parameter is not a valid change sequence
+    */
+   public final static long getSince(Uri uri) {
+
+      String since = uri.getQueryParameter(QUERY_PARAMETER_SINCE);
+      if (since == null) {
+         return NO_CHANGE_SEQUENCE;
+      }
+
+      try {
+         long changeSequence = Long.parseLong(since);
+         if (changeSequence >= NO_CHANGE_SEQUENCE) {
+            return changeSequence;
+         }
+      } catch (NumberFormatException e) {
+         // handled below
+      }
+
+      throw new IllegalArgumentException("Invalid change sequence '" + since + "' in " + uri);
+   }
+
+   /**
+    * Create URI for one page of rows (keyset pagination)
+    *
+    * @param contentUri CONTENT_URI of a table with pagination support
+    * @param token      Position after the last row of the previous page (null for the first page)
+    * @param limit      Maximal number of rows of the page
+    * @return URI with the {@link #QUERY_PARAMETER_PAGE_TOKEN} and {@link #QUERY_PARAMETER_LIMIT} parameters
+    */
+   public final static Uri buildPageUri(Uri contentUri, PageToken token, int limit) {
+
+      if (limit <= 0) {
+         throw new IllegalArgumentException("Page limit must be positive");
+      }
+
+      Uri.Builder builder = contentUri.buildUpon();
+      if (token != null) {
+         builder.appendQueryParameter(QUERY_PARAMETER_PAGE_TOKEN, token.encode());
+      }
+
+      return builder.appendQueryParameter(QUERY_PARAMETER_LIMIT, Integer.toString(limit)).build();
+   }
+
+   /**
+    * Read the row limit of a page URI (for the content provider)
+    *
+    * @param uri Queried URI
+    * @return Limit or {@link #NO_LIMIT}, if the URI has no {@link #QUERY_PARAMETER_LIMIT} parameter
+    * @throws IllegalArgumentException if the parameter is not a positive number
+    */
+   public final static int getLimit(Uri uri) {
+
+      String limit = uri.getQueryParameter(QUERY_PARAMETER_LIMIT);
+      if (limit == null) {
+         return NO_LIMIT;
+      }
+
+      try {
+         int value = Integer.parseInt(limit);
+         if (value > 0) {
+            return value;
+         }
+      } catch (NumberFormatException e) {
+         // handled below
+      }
+
+      throw new IllegalArgumentException("Invalid limit '" + limit + "' in " + uri);
+   }
+
 	/* Permissions */
 
    public static interface Values {
@@ -251,28 +371,69 @@ public final class TimeTrackingContract {
        * Fired from content provider after insert, update or delete of the report data
        */
       public final static String ACTION_REPORT_DATA_CHANGED = _BASE_PATH + ".ACTION_REPORT_DATA_CHANGED";
+
+      /**
+       * Extra of coalesced change broadcasts: changed tables [String[], CONTENT_DIRECTORY of the tables]
+       *
+       * @see de.webducer.android.zeiterfassung.contract.notification.ChangeSet
+       */
+      public final static String EXTRA_CHANGED_TABLES = _BASE_PATH + ".EXTRA_CHANGED_TABLES";
+
+      /**
+       * Extra of coalesced change broadcasts: number of changed IDs per table [int[], -1 for all rows of the table]
+       *
+       * @see de.webducer.android.zeiterfassung.contract.notification.ChangeSet
+       */
+      public final static String EXTRA_CHANGED_ID_COUNTS = _BASE_PATH + ".EXTRA_CHANGED_ID_COUNTS";
+
+      /**
+       * Extra of coalesced change broadcasts: changed IDs of all tables [long[], sorted per table, in the order of the tables]
+       *
+       * @see de.webducer.android.zeiterfassung.contract.notification.ChangeSet
+       */
+      public final static String EXTRA_CHANGED_IDS = _BASE_PATH + ".EXTRA_CHANGED_IDS";
+
+      /**
+       * Extra of change broadcasts: binary change events [long[], two values per event]
+       *
+       * @see de.webducer.android.zeiterfassung.contract.notification.ChangeEventCodec
+       */
+      public final static String EXTRA_CHANGE_EVENTS = _BASE_PATH + ".EXTRA_CHANGE_EVENTS";
+
+      /**
+       * Extra of change broadcasts: format version of {@link #EXTRA_CHANGE_EVENTS} [int]
+       */
+      public final static String EXTRA_CHANGE_EVENTS_VERSION = _BASE_PATH + ".EXTRA_CHANGE_EVENTS_VERSION";
    }
 
    /**
     * Converter for date and time fields
+    *
+    * @see de.webducer.android.zeiterfassung.contract.converter.DbDateTimeCodec
     */
    public final static class Converter {
 
-      private final static String _DB_DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm";
-      private final static String _DB_DATE_PATTERN = "yyyy-MM-dd";
-      private final static String _DB_TIME_PATTERN = "HH:mm";
       /**
-       * Formatter for data base date time fields
+       * Formatter for data base date time fields (yyyy-MM-dd'T'HH:mm)
+       *
+       * @deprecated Use {@link DbDateTimeCodec#parseDateTime(CharSequence, int)} and {@link DbDateTimeCodec#formatDateTime(long, char[], int)}
        */
-      public final static DateFormat DB_DATE_TIME_FORMATTER = new SimpleDateFormat(_DB_DATE_TIME_PATTERN, Locale.GERMANY);
+      @Deprecated
+      public final static DateFormat DB_DATE_TIME_FORMATTER = new DbDateTimeFormat(DbDateTimeFormat.STYLE_DATE_TIME);
       /**
-       * Formatter for data base date fields
+       * Formatter for data base date fields (yyyy-MM-dd)
+       *
+       * @deprecated Use {@link DbDateTimeCodec#parseDate(CharSequence, int)} and {@link DbDateTimeCodec#formatDate(int, char[], int)}
        */
-      public final static DateFormat DB_DATE_FORMATTER = new SimpleDateFormat(_DB_DATE_PATTERN, Locale.GERMANY);
+      @Deprecated
+      public final static DateFormat DB_DATE_FORMATTER = new DbDateTimeFormat(DbDateTimeFormat.STYLE_DATE);
       /**
-       * Formatter for data base time fields
+       * Formatter for data base time fields (HH:mm)
+       *
+       * @deprecated Use {@link DbDateTimeCodec#parseTime(CharSequence, int)} and {@link DbDateTimeCodec#formatTime(int, char[], int)}
        */
-      public final static DateFormat DB_TIME_FORMATTER = new SimpleDateFormat(_DB_TIME_PATTERN, Locale.GERMANY);
+      @Deprecated
+      public final static DateFormat DB_TIME_FORMATTER = new DbDateTimeFormat(DbDateTimeFormat.STYLE_TIME);
    }
 
    /**
@@ -358,6 +519,41 @@ public final class TimeTrackingContract {
              * All configuration data available columns as array
              */
             public final static String[] ALL_COLUMNS = {_ID, KEY, TYPE, VALUE, ACTIVE, VISIBLE};
+
+            /**
+             * Column positions of {@link #ALL_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
+
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
+
+            /**
+             * Index of {@link #KEY} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_KEY = ALL_COLUMNS_INDEX.indexOf(KEY);
+
+            /**
+             * Index of {@link #TYPE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_TYPE = ALL_COLUMNS_INDEX.indexOf(TYPE);
+
+            /**
+             * Index of {@link #VALUE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_VALUE = ALL_COLUMNS_INDEX.indexOf(VALUE);
+
+            /**
+             * Index of {@link #ACTIVE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ACTIVE = ALL_COLUMNS_INDEX.indexOf(ACTIVE);
+
+            /**
+             * Index of {@link #VISIBLE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_VISIBLE = ALL_COLUMNS_INDEX.indexOf(VISIBLE);
          }
 
          /**
@@ -439,6 +635,68 @@ public final class TimeTrackingContract {
              * All address available columns as array
              */
             public final static String[] ALL_COLUMNS = {_ID, NAME, STREET, POSTAL_CODE, CITY, COUNTRY, ACTIVE};
+
+            /**
+             * Column positions of {@link #ALL_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
+
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
+
+            /**
+             * Index of {@link #NAME} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_NAME = ALL_COLUMNS_INDEX.indexOf(NAME);
+
+            /**
+             * Index of {@link #STREET} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_STREET = ALL_COLUMNS_INDEX.indexOf(STREET);
+
+            /**
+             * Index of {@link #POSTAL_CODE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_POSTAL_CODE = ALL_COLUMNS_INDEX.indexOf(POSTAL_CODE);
+
+            /**
+             * Index of {@link #CITY} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_CITY = ALL_COLUMNS_INDEX.indexOf(CITY);
+
+            /**
+             * Index of {@link #COUNTRY} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_COUNTRY = ALL_COLUMNS_INDEX.indexOf(COUNTRY);
+
+            /**
+             * Index of {@link #ACTIVE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ACTIVE = ALL_COLUMNS_INDEX.indexOf(ACTIVE);
+
+            /**
+             * Change sequence of the last insert or update [INTEGER, set by the provider, not part of {@link #ALL_COLUMNS}]
+             *
+             * @see TimeTrackingContract#QUERY_PARAMETER_SINCE
+             */
+            public final static String CHANGE_SEQUENCE = "ad_change_seq";
+
+            /**
+             * All columns for incremental sync ({@link #ALL_COLUMNS} and {@link #CHANGE_SEQUENCE})
+             */
+            public final static String[] SYNC_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(CHANGE_SEQUENCE).build();
+
+            /**
+             * Column positions of {@link #SYNC_COLUMNS}
+             */
+            public final static ProjectionIndex SYNC_COLUMNS_INDEX = new ProjectionIndex(SYNC_COLUMNS);
+
+            /**
+             * Index of {@link #CHANGE_SEQUENCE} in {@link #SYNC_COLUMNS}
+             */
+            public final static int IDX_SYNC_CHANGE_SEQUENCE = SYNC_COLUMNS_INDEX.indexOf(CHANGE_SEQUENCE);
          }
 
          public static interface QueryColumns extends Columns {
@@ -451,7 +709,17 @@ public final class TimeTrackingContract {
             /**
              * All available columns for the query
              */
-            public final static String[] ALL_QUERY_COLUMNS = concatArrays(ALL_COLUMNS, PROJECT_COUNT);
+            public final static String[] ALL_QUERY_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(PROJECT_COUNT).build();
+
+            /**
+             * Column positions of {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_QUERY_COLUMNS_INDEX = new ProjectionIndex(ALL_QUERY_COLUMNS);
+
+            /**
+             * Index of {@link #PROJECT_COUNT} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PROJECT_COUNT = ALL_QUERY_COLUMNS_INDEX.indexOf(PROJECT_COUNT);
          }
 
          /**
@@ -459,6 +727,19 @@ public final class TimeTrackingContract {
           */
          public final static Uri CONTENT_URI = Uri.withAppendedPath(AUTHORITY_URI, CONTENT_DIRECTORY);
 
+         /**
+          * Create URI for the address rows changed after the change sequence
+          *
+          * @param changeSequence Largest change sequence known to the caller
+          * @return {@link #CONTENT_URI} with the since parameter
+          * @throws IllegalArgumentException if the change sequence is negative
+          * @see TimeTrackingContract#buildSinceUri(Uri, long)
+          */
+         public final static Uri buildSinceUri(long changeSequence) {
+
+            return TimeTrackingContract.buildSinceUri(CONTENT_URI, changeSequence);
+         }
+
 
 
 
@@ -537,6 +818,68 @@ public final class TimeTrackingContract {
              * All time type available columns as array
              */
             public final static String[] ALL_COLUMNS = {_ID, KIND, NAME, DESCRIPTION, FEE, TIME_FACTOR, ACTIVE};
+
+            /**
+             * Column positions of {@link #ALL_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
+
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
+
+            /**
+             * Index of {@link #KIND} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_KIND = ALL_COLUMNS_INDEX.indexOf(KIND);
+
+            /**
+             * Index of {@link #NAME} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_NAME = ALL_COLUMNS_INDEX.indexOf(NAME);
+
+            /**
+             * Index of {@link #DESCRIPTION} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_DESCRIPTION = ALL_COLUMNS_INDEX.indexOf(DESCRIPTION);
+
+            /**
+             * Index of {@link #FEE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_FEE = ALL_COLUMNS_INDEX.indexOf(FEE);
+
+            /**
+             * Index of {@link #TIME_FACTOR} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_TIME_FACTOR = ALL_COLUMNS_INDEX.indexOf(TIME_FACTOR);
+
+            /**
+             * Index of {@link #ACTIVE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ACTIVE = ALL_COLUMNS_INDEX.indexOf(ACTIVE);
+
+            /**
+             * Change sequence of the last insert or update [INTEGER, set by the provider, not part of {@link #ALL_COLUMNS}]
+             *
+             * @see TimeTrackingContract#QUERY_PARAMETER_SINCE
+             */
+            public final static String CHANGE_SEQUENCE = "tt_change_seq";
+
+            /**
+             * All columns for incremental sync ({@link #ALL_COLUMNS} and {@link #CHANGE_SEQUENCE})
+             */
+            public final static String[] SYNC_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(CHANGE_SEQUENCE).build();
+
+            /**
+             * Column positions of {@link #SYNC_COLUMNS}
+             */
+            public final static ProjectionIndex SYNC_COLUMNS_INDEX = new ProjectionIndex(SYNC_COLUMNS);
+
+            /**
+             * Index of {@link #CHANGE_SEQUENCE} in {@link #SYNC_COLUMNS}
+             */
+            public final static int IDX_SYNC_CHANGE_SEQUENCE = SYNC_COLUMNS_INDEX.indexOf(CHANGE_SEQUENCE);
          }
 
          public static interface QueryColumns extends Columns {
@@ -554,7 +897,22 @@ public final class TimeTrackingContract {
             /**
              * All available columns for the query
              */
-            public final static String[] ALL_QUERY_COLUMNS = concatArrays(ALL_COLUMNS, TIME_RECORD_COUNT, PROJECT_COUNT);
+            public final static String[] ALL_QUERY_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(TIME_RECORD_COUNT, PROJECT_COUNT).build();
+
+            /**
+             * Column positions of {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_QUERY_COLUMNS_INDEX = new ProjectionIndex(ALL_QUERY_COLUMNS);
+
+            /**
+             * Index of {@link #TIME_RECORD_COUNT} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_RECORD_COUNT = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_RECORD_COUNT);
+
+            /**
+             * Index of {@link #PROJECT_COUNT} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PROJECT_COUNT = ALL_QUERY_COLUMNS_INDEX.indexOf(PROJECT_COUNT);
          }
 
          /**
@@ -562,6 +920,19 @@ public final class TimeTrackingContract {
           */
          public final static Uri CONTENT_URI = Uri.withAppendedPath(AUTHORITY_URI, CONTENT_DIRECTORY);
 
+         /**
+          * Create URI for the time type rows changed after the change sequence
+          *
+          * @param changeSequence Largest change sequence known to the caller
+          * @return {@link #CONTENT_URI} with the since parameter
+          * @throws IllegalArgumentException if the change sequence is negative
+          * @see TimeTrackingContract#buildSinceUri(Uri, long)
+          */
+         public final static Uri buildSinceUri(long changeSequence) {
+
+            return TimeTrackingContract.buildSinceUri(CONTENT_URI, changeSequence);
+         }
+
 
       }
 
@@ -614,6 +985,58 @@ public final class TimeTrackingContract {
              * All time type available columns as array
              */
             public final static String[] ALL_COLUMNS = {_ID, ADDRESS_ID, NAME, DESCRIPTION, ACTIVE};
+
+            /**
+             * Column positions of {@link #ALL_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
+
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
+
+            /**
+             * Index of {@link #ADDRESS_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ADDRESS_ID = ALL_COLUMNS_INDEX.indexOf(ADDRESS_ID);
+
+            /**
+             * Index of {@link #NAME} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_NAME = ALL_COLUMNS_INDEX.indexOf(NAME);
+
+            /**
+             * Index of {@link #DESCRIPTION} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_DESCRIPTION = ALL_COLUMNS_INDEX.indexOf(DESCRIPTION);
+
+            /**
+             * Index of {@link #ACTIVE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ACTIVE = ALL_COLUMNS_INDEX.indexOf(ACTIVE);
+
+            /**
+             * Change sequence of the last insert or update [INTEGER, set by the provider, not part of {@link #ALL_COLUMNS}]
+             *
+             * @see TimeTrackingContract#QUERY_PARAMETER_SINCE
+             */
+            public final static String CHANGE_SEQUENCE = "pj_change_seq";
+
+            /**
+             * All columns for incremental sync ({@link #ALL_COLUMNS} and {@link #CHANGE_SEQUENCE})
+             */
+            public final static String[] SYNC_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(CHANGE_SEQUENCE).build();
+
+            /**
+             * Column positions of {@link #SYNC_COLUMNS}
+             */
+            public final static ProjectionIndex SYNC_COLUMNS_INDEX = new ProjectionIndex(SYNC_COLUMNS);
+
+            /**
+             * Index of {@link #CHANGE_SEQUENCE} in {@link #SYNC_COLUMNS}
+             */
+            public final static int IDX_SYNC_CHANGE_SEQUENCE = SYNC_COLUMNS_INDEX.indexOf(CHANGE_SEQUENCE);
          }
 
          public static interface QueryColumns extends Columns {
@@ -658,7 +1081,52 @@ public final class TimeTrackingContract {
             /**
              * All available columns for the query
              */
-            public final static String[] ALL_QUERY_COLUMNS = concatArrays(ALL_COLUMNS, ADDRESS_NAME, ADDRESS_STREET, ADDRESS_POSTAL_CODE, ADDRESS_CITY, ADDRESS_CITY, ADDRESS_COUNTRY, ADDRESS_ACTIVE, TIME_RECORD_COUNT, TIME_TYPE_COUNT);
+            public final static String[] ALL_QUERY_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(ADDRESS_NAME, ADDRESS_STREET, ADDRESS_POSTAL_CODE, ADDRESS_CITY, ADDRESS_COUNTRY, ADDRESS_ACTIVE, TIME_RECORD_COUNT, TIME_TYPE_COUNT).build();
+
+            /**
+             * Column positions of {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_QUERY_COLUMNS_INDEX = new ProjectionIndex(ALL_QUERY_COLUMNS);
+
+            /**
+             * Index of {@link #ADDRESS_NAME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_ADDRESS_NAME = ALL_QUERY_COLUMNS_INDEX.indexOf(ADDRESS_NAME);
+
+            /**
+             * Index of {@link #ADDRESS_STREET} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_ADDRESS_STREET = ALL_QUERY_COLUMNS_INDEX.indexOf(ADDRESS_STREET);
+
+            /**
+             * Index of {@link #ADDRESS_POSTAL_CODE} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_ADDRESS_POSTAL_CODE = ALL_QUERY_COLUMNS_INDEX.indexOf(ADDRESS_POSTAL_CODE);
+
+            /**
+             * Index of {@link #ADDRESS_CITY} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_ADDRESS_CITY = ALL_QUERY_COLUMNS_INDEX.indexOf(ADDRESS_CITY);
+
+            /**
+             * Index of {@link #ADDRESS_COUNTRY} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_ADDRESS_COUNTRY = ALL_QUERY_COLUMNS_INDEX.indexOf(ADDRESS_COUNTRY);
+
+            /**
+             * Index of {@link #ADDRESS_ACTIVE} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_ADDRESS_ACTIVE = ALL_QUERY_COLUMNS_INDEX.indexOf(ADDRESS_ACTIVE);
+
+            /**
+             * Index of {@link #TIME_RECORD_COUNT} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_RECORD_COUNT = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_RECORD_COUNT);
+
+            /**
+             * Index of {@link #TIME_TYPE_COUNT} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_COUNT = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_COUNT);
          }
 
          /**
@@ -666,6 +1134,19 @@ public final class TimeTrackingContract {
           */
          public final static Uri CONTENT_URI = Uri.withAppendedPath(AUTHORITY_URI, CONTENT_DIRECTORY);
 
+         /**
+          * Create URI for the project rows changed after the change sequence
+          *
+          * @param changeSequence Largest change sequence known to the caller
+          * @return {@link #CONTENT_URI} with the since parameter
+          * @throws IllegalArgumentException if the change sequence is negative
+          * @see TimeTrackingContract#buildSinceUri(Uri, long)
+          */
+         public final static Uri buildSinceUri(long changeSequence) {
+
+            return TimeTrackingContract.buildSinceUri(CONTENT_URI, changeSequence);
+         }
+
 
       }
 
@@ -718,14 +1199,66 @@ public final class TimeTrackingContract {
              * All time type available columns as array
              */
             public final static String[] ALL_COLUMNS = {_ID, PROJECT_ID, TIME_TYPE_ID, DISCOUNT, DEFAULT};
-         }
-
-         public static interface QueryColumns extends Columns {
 
             /**
-             * Diasplay Name ('Project Name : Time Type Name')
+             * Column positions of {@link #ALL_COLUMNS}
              */
-            public final static String DISPALY_NAME = "ptt_display_name";
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
+
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
+
+            /**
+             * Index of {@link #PROJECT_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_PROJECT_ID = ALL_COLUMNS_INDEX.indexOf(PROJECT_ID);
+
+            /**
+             * Index of {@link #TIME_TYPE_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_ID = ALL_COLUMNS_INDEX.indexOf(TIME_TYPE_ID);
+
+            /**
+             * Index of {@link #DISCOUNT} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_DISCOUNT = ALL_COLUMNS_INDEX.indexOf(DISCOUNT);
+
+            /**
+             * Index of {@link #DEFAULT} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_DEFAULT = ALL_COLUMNS_INDEX.indexOf(DEFAULT);
+
+            /**
+             * Change sequence of the last insert or update [INTEGER, set by the provider, not part of {@link #ALL_COLUMNS}]
+             *
+             * @see TimeTrackingContract#QUERY_PARAMETER_SINCE
+             */
+            public final static String CHANGE_SEQUENCE = "ptt_change_seq";
+
+            /**
+             * All columns for incremental sync ({@link #ALL_COLUMNS} and {@link #CHANGE_SEQUENCE})
+             */
+            public final static String[] SYNC_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(CHANGE_SEQUENCE).build();
+
+            /**
+             * Column positions of {@link #SYNC_COLUMNS}
+             */
+            public final static ProjectionIndex SYNC_COLUMNS_INDEX = new ProjectionIndex(SYNC_COLUMNS);
+
+            /**
+             * Index of {@link #CHANGE_SEQUENCE} in {@link #SYNC_COLUMNS}
+             */
+            public final static int IDX_SYNC_CHANGE_SEQUENCE = SYNC_COLUMNS_INDEX.indexOf(CHANGE_SEQUENCE);
+         }
+
+         public static interface QueryColumns extends Columns {
+
+            /**
+             * Diasplay Name ('Project Name : Time Type Name')
+             */
+            public final static String DISPALY_NAME = "ptt_display_name";
 
             /**
              * Name of the assigned project
@@ -773,7 +1306,52 @@ public final class TimeTrackingContract {
             /**
              * All available columns for the query
              */
-            public final static String[] ALL_QUERY_COLUMNS = concatArrays(ALL_COLUMNS, DISPALY_NAME, PROJECT_NAME, PROJECT_DESCRIPTION, PROJECT_ACTIVE, TIME_TYPE_KIND, TIME_TYPE_NAME, TIME_TYPE_DESCRIPTION, TIME_TYPE_ACTIVE);
+            public final static String[] ALL_QUERY_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(DISPALY_NAME, PROJECT_NAME, PROJECT_DESCRIPTION, PROJECT_ACTIVE, TIME_TYPE_KIND, TIME_TYPE_NAME, TIME_TYPE_DESCRIPTION, TIME_TYPE_ACTIVE).build();
+
+            /**
+             * Column positions of {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_QUERY_COLUMNS_INDEX = new ProjectionIndex(ALL_QUERY_COLUMNS);
+
+            /**
+             * Index of {@link #DISPALY_NAME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_DISPALY_NAME = ALL_QUERY_COLUMNS_INDEX.indexOf(DISPALY_NAME);
+
+            /**
+             * Index of {@link #PROJECT_NAME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PROJECT_NAME = ALL_QUERY_COLUMNS_INDEX.indexOf(PROJECT_NAME);
+
+            /**
+             * Index of {@link #PROJECT_DESCRIPTION} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PROJECT_DESCRIPTION = ALL_QUERY_COLUMNS_INDEX.indexOf(PROJECT_DESCRIPTION);
+
+            /**
+             * Index of {@link #PROJECT_ACTIVE} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PROJECT_ACTIVE = ALL_QUERY_COLUMNS_INDEX.indexOf(PROJECT_ACTIVE);
+
+            /**
+             * Index of {@link #TIME_TYPE_KIND} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_KIND = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_KIND);
+
+            /**
+             * Index of {@link #TIME_TYPE_NAME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_NAME = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_NAME);
+
+            /**
+             * Index of {@link #TIME_TYPE_DESCRIPTION} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_DESCRIPTION = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_DESCRIPTION);
+
+            /**
+             * Index of {@link #TIME_TYPE_ACTIVE} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_ACTIVE = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_ACTIVE);
          }
 
          /**
@@ -781,6 +1359,19 @@ public final class TimeTrackingContract {
           */
          public final static Uri CONTENT_URI = Uri.withAppendedPath(AUTHORITY_URI, CONTENT_DIRECTORY);
 
+         /**
+          * Create URI for the project time type rows changed after the change sequence
+          *
+          * @param changeSequence Largest change sequence known to the caller
+          * @return {@link #CONTENT_URI} with the since parameter
+          * @throws IllegalArgumentException if the change sequence is negative
+          * @see TimeTrackingContract#buildSinceUri(Uri, long)
+          */
+         public final static Uri buildSinceUri(long changeSequence) {
+
+            return TimeTrackingContract.buildSinceUri(CONTENT_URI, changeSequence);
+         }
+
 
       }
 
@@ -854,6 +1445,73 @@ public final class TimeTrackingContract {
              * All time type available columns as array
              */
             public final static String[] ALL_COLUMNS = {_ID, PAUSE_TYPE, START_TIME, END_TIME, TRACKED_TIME, PAUSE_DURATION, COMMENT, ACTIVE};
+
+            /**
+             * Column positions of {@link #ALL_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
+
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
+
+            /**
+             * Index of {@link #PAUSE_TYPE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_PAUSE_TYPE = ALL_COLUMNS_INDEX.indexOf(PAUSE_TYPE);
+
+            /**
+             * Index of {@link #START_TIME} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_START_TIME = ALL_COLUMNS_INDEX.indexOf(START_TIME);
+
+            /**
+             * Index of {@link #END_TIME} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_END_TIME = ALL_COLUMNS_INDEX.indexOf(END_TIME);
+
+            /**
+             * Index of {@link #TRACKED_TIME} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_TRACKED_TIME = ALL_COLUMNS_INDEX.indexOf(TRACKED_TIME);
+
+            /**
+             * Index of {@link #PAUSE_DURATION} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_PAUSE_DURATION = ALL_COLUMNS_INDEX.indexOf(PAUSE_DURATION);
+
+            /**
+             * Index of {@link #COMMENT} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_COMMENT = ALL_COLUMNS_INDEX.indexOf(COMMENT);
+
+            /**
+             * Index of {@link #ACTIVE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ACTIVE = ALL_COLUMNS_INDEX.indexOf(ACTIVE);
+
+            /**
+             * Change sequence of the last insert or update [INTEGER, set by the provider, not part of {@link #ALL_COLUMNS}]
+             *
+             * @see TimeTrackingContract#QUERY_PARAMETER_SINCE
+             */
+            public final static String CHANGE_SEQUENCE = "pd_change_seq";
+
+            /**
+             * All columns for incremental sync ({@link #ALL_COLUMNS} and {@link #CHANGE_SEQUENCE})
+             */
+            public final static String[] SYNC_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(CHANGE_SEQUENCE).build();
+
+            /**
+             * Column positions of {@link #SYNC_COLUMNS}
+             */
+            public final static ProjectionIndex SYNC_COLUMNS_INDEX = new ProjectionIndex(SYNC_COLUMNS);
+
+            /**
+             * Index of {@link #CHANGE_SEQUENCE} in {@link #SYNC_COLUMNS}
+             */
+            public final static int IDX_SYNC_CHANGE_SEQUENCE = SYNC_COLUMNS_INDEX.indexOf(CHANGE_SEQUENCE);
          }
 
          public interface QueryColumns extends Columns {
@@ -866,7 +1524,17 @@ public final class TimeTrackingContract {
             /**
              * All available columns for the query
              */
-            public final static String[] ALL_QUERY_COLUMNS = concatArrays(ALL_COLUMNS, ASSIGNMENTS);
+            public final static String[] ALL_QUERY_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(ASSIGNMENTS).build();
+
+            /**
+             * Column positions of {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_QUERY_COLUMNS_INDEX = new ProjectionIndex(ALL_QUERY_COLUMNS);
+
+            /**
+             * Index of {@link #ASSIGNMENTS} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_ASSIGNMENTS = ALL_QUERY_COLUMNS_INDEX.indexOf(ASSIGNMENTS);
          }
 
          /**
@@ -874,6 +1542,19 @@ public final class TimeTrackingContract {
           */
          public final static Uri CONTENT_URI = Uri.withAppendedPath(AUTHORITY_URI, CONTENT_DIRECTORY);
 
+         /**
+          * Create URI for the pause definition rows changed after the change sequence
+          *
+          * @param changeSequence Largest change sequence known to the caller
+          * @return {@link #CONTENT_URI} with the since parameter
+          * @throws IllegalArgumentException if the change sequence is negative
+          * @see TimeTrackingContract#buildSinceUri(Uri, long)
+          */
+         public final static Uri buildSinceUri(long changeSequence) {
+
+            return TimeTrackingContract.buildSinceUri(CONTENT_URI, changeSequence);
+         }
+
 
       }
 
@@ -916,6 +1597,48 @@ public final class TimeTrackingContract {
              * All time type available columns as array
              */
             public final static String[] ALL_COLUMNS = {_ID, PROJECT_TIME_TYPE_ID, PAUSE_DEFINITION_ID};
+
+            /**
+             * Column positions of {@link #ALL_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
+
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
+
+            /**
+             * Index of {@link #PROJECT_TIME_TYPE_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_PROJECT_TIME_TYPE_ID = ALL_COLUMNS_INDEX.indexOf(PROJECT_TIME_TYPE_ID);
+
+            /**
+             * Index of {@link #PAUSE_DEFINITION_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_PAUSE_DEFINITION_ID = ALL_COLUMNS_INDEX.indexOf(PAUSE_DEFINITION_ID);
+
+            /**
+             * Change sequence of the last insert or update [INTEGER, set by the provider, not part of {@link #ALL_COLUMNS}]
+             *
+             * @see TimeTrackingContract#QUERY_PARAMETER_SINCE
+             */
+            public final static String CHANGE_SEQUENCE = "pttpd_change_seq";
+
+            /**
+             * All columns for incremental sync ({@link #ALL_COLUMNS} and {@link #CHANGE_SEQUENCE})
+             */
+            public final static String[] SYNC_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(CHANGE_SEQUENCE).build();
+
+            /**
+             * Column positions of {@link #SYNC_COLUMNS}
+             */
+            public final static ProjectionIndex SYNC_COLUMNS_INDEX = new ProjectionIndex(SYNC_COLUMNS);
+
+            /**
+             * Index of {@link #CHANGE_SEQUENCE} in {@link #SYNC_COLUMNS}
+             */
+            public final static int IDX_SYNC_CHANGE_SEQUENCE = SYNC_COLUMNS_INDEX.indexOf(CHANGE_SEQUENCE);
          }
 
          public static interface QueryColumns extends Columns {
@@ -1021,7 +1744,97 @@ public final class TimeTrackingContract {
             /**
              * All available columns for the query
              */
-            public final static String[] ALL_QUERY_COLUMNS = concatArrays(ALL_COLUMNS, DISPLAY_NAME, PROJECT_ID, PROJECT_NAME, PROJECT_DESCRIPTION, PROJECT_ACTIVE, TIME_TYPE_ID, TIME_TYPE_KIND, TIME_TYPE_NAME, TIME_TYPE_DESCRIPTION, TIME_TYPE_ACTIVE, PAUSE_TYPE, PAUSE_START_TIME, PAUSE_END_TIME, TRACKED_TIME, PAUSE_DURATION, PAUSE_COMMENT, PAUSE_ACTIVE);
+            public final static String[] ALL_QUERY_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(DISPLAY_NAME, PROJECT_ID, PROJECT_NAME, PROJECT_DESCRIPTION, PROJECT_ACTIVE, TIME_TYPE_ID, TIME_TYPE_KIND, TIME_TYPE_NAME, TIME_TYPE_DESCRIPTION, TIME_TYPE_ACTIVE, PAUSE_TYPE, PAUSE_START_TIME, PAUSE_END_TIME, TRACKED_TIME, PAUSE_DURATION, PAUSE_COMMENT, PAUSE_ACTIVE).build();
+
+            /**
+             * Column positions of {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_QUERY_COLUMNS_INDEX = new ProjectionIndex(ALL_QUERY_COLUMNS);
+
+            /**
+             * Index of {@link #DISPLAY_NAME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_DISPLAY_NAME = ALL_QUERY_COLUMNS_INDEX.indexOf(DISPLAY_NAME);
+
+            /**
+             * Index of {@link #PROJECT_ID} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PROJECT_ID = ALL_QUERY_COLUMNS_INDEX.indexOf(PROJECT_ID);
+
+            /**
+             * Index of {@link #PROJECT_NAME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PROJECT_NAME = ALL_QUERY_COLUMNS_INDEX.indexOf(PROJECT_NAME);
+
+            /**
+             * Index of {@link #PROJECT_DESCRIPTION} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PROJECT_DESCRIPTION = ALL_QUERY_COLUMNS_INDEX.indexOf(PROJECT_DESCRIPTION);
+
+            /**
+             * Index of {@link #PROJECT_ACTIVE} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PROJECT_ACTIVE = ALL_QUERY_COLUMNS_INDEX.indexOf(PROJECT_ACTIVE);
+
+            /**
+             * Index of {@link #TIME_TYPE_ID} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_ID = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_ID);
+
+            /**
+             * Index of {@link #TIME_TYPE_KIND} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_KIND = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_KIND);
+
+            /**
+             * Index of {@link #TIME_TYPE_NAME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_NAME = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_NAME);
+
+            /**
+             * Index of {@link #TIME_TYPE_DESCRIPTION} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_DESCRIPTION = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_DESCRIPTION);
+
+            /**
+             * Index of {@link #TIME_TYPE_ACTIVE} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_ACTIVE = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_ACTIVE);
+
+            /**
+             * Index of {@link #PAUSE_TYPE} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PAUSE_TYPE = ALL_QUERY_COLUMNS_INDEX.indexOf(PAUSE_TYPE);
+
+            /**
+             * Index of {@link #PAUSE_START_TIME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PAUSE_START_TIME = ALL_QUERY_COLUMNS_INDEX.indexOf(PAUSE_START_TIME);
+
+            /**
+             * Index of {@link #PAUSE_END_TIME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PAUSE_END_TIME = ALL_QUERY_COLUMNS_INDEX.indexOf(PAUSE_END_TIME);
+
+            /**
+             * Index of {@link #TRACKED_TIME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TRACKED_TIME = ALL_QUERY_COLUMNS_INDEX.indexOf(TRACKED_TIME);
+
+            /**
+             * Index of {@link #PAUSE_DURATION} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PAUSE_DURATION = ALL_QUERY_COLUMNS_INDEX.indexOf(PAUSE_DURATION);
+
+            /**
+             * Index of {@link #PAUSE_COMMENT} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PAUSE_COMMENT = ALL_QUERY_COLUMNS_INDEX.indexOf(PAUSE_COMMENT);
+
+            /**
+             * Index of {@link #PAUSE_ACTIVE} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PAUSE_ACTIVE = ALL_QUERY_COLUMNS_INDEX.indexOf(PAUSE_ACTIVE);
          }
 
          /**
@@ -1029,6 +1842,19 @@ public final class TimeTrackingContract {
           */
          public final static Uri CONTENT_URI = Uri.withAppendedPath(AUTHORITY_URI, CONTENT_DIRECTORY);
 
+         /**
+          * Create URI for the pause definition assignment rows changed after the change sequence
+          *
+          * @param changeSequence Largest change sequence known to the caller
+          * @return {@link #CONTENT_URI} with the since parameter
+          * @throws IllegalArgumentException if the change sequence is negative
+          * @see TimeTrackingContract#buildSinceUri(Uri, long)
+          */
+         public final static Uri buildSinceUri(long changeSequence) {
+
+            return TimeTrackingContract.buildSinceUri(CONTENT_URI, changeSequence);
+         }
+
 
       }
 
@@ -1080,11 +1906,15 @@ public final class TimeTrackingContract {
 
             /**
              * Start time for the time record [String, Required, ISO-8601, eg. '2013-11-27T18:15']
+             *
+             * @see de.webducer.android.zeiterfassung.contract.converter.EpochMinuteCodec
              */
             public final static String START_TIME = "tr_start_time";
 
             /**
              * End time for the time record [String, ISO-8601, eg. '2013-11-27T23:30']
+             *
+             * @see de.webducer.android.zeiterfassung.contract.converter.EpochMinuteCodec
              */
             public final static String END_TIME = "tr_end_time";
 
@@ -1097,81 +1927,209 @@ public final class TimeTrackingContract {
              * All time type available columns as array
              */
             public final static String[] ALL_COLUMNS = {_ID, PROJECT_TIME_TYPE_ID, START_TIME, END_TIME, COMMENT};
-         }
-
-         /**
-          * Time Record data URI
-          */
-         public final static Uri CONTENT_URI = Uri.withAppendedPath(AUTHORITY_URI, CONTENT_DIRECTORY);
-
-         public static interface QueryColumns extends Columns {
 
             /**
-             * Total sum of the time in minutes
+             * Column positions of {@link #ALL_COLUMNS}
              */
-            public final static String TIME_SUM = "tr_time_sum";
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
 
             /**
-             * Total sum of all pause time in minutes
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
              */
-            public final static String PAUSE_SUM = "tr_pause_sum";
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
 
             /**
-             * Total count of all pauses for the record
+             * Index of {@link #PROJECT_TIME_TYPE_ID} in {@link #ALL_COLUMNS}
              */
-            public final static String PAUSE_COUNT = "tr_pause_count";
+            public final static int IDX_PROJECT_TIME_TYPE_ID = ALL_COLUMNS_INDEX.indexOf(PROJECT_TIME_TYPE_ID);
 
             /**
-             * ID of the assigned project
+             * Index of {@link #START_TIME} in {@link #ALL_COLUMNS}
              */
-            public final static String PROJECT_ID = "pj_id";
+            public final static int IDX_START_TIME = ALL_COLUMNS_INDEX.indexOf(START_TIME);
 
             /**
-             * Name of the assigned project
+             * Index of {@link #END_TIME} in {@link #ALL_COLUMNS}
              */
-            public final static String PROJECT_NAME = "pj_name";
+            public final static int IDX_END_TIME = ALL_COLUMNS_INDEX.indexOf(END_TIME);
 
             /**
-             * Description of the assigned project
+             * Index of {@link #COMMENT} in {@link #ALL_COLUMNS}
              */
-            public final static String PROJECT_DESCRIPTION = "pj_desc";
+            public final static int IDX_COMMENT = ALL_COLUMNS_INDEX.indexOf(COMMENT);
 
             /**
-             * Active flag for the assigned project
+             * Change sequence of the last insert or update [INTEGER, set by the provider, not part of {@link #ALL_COLUMNS}]
+             *
+             * @see TimeTrackingContract#QUERY_PARAMETER_SINCE
              */
-            public final static String PROJECT_ACTIVE = "pj_active";
+            public final static String CHANGE_SEQUENCE = "tr_change_seq";
 
             /**
-             * ID of the assigned address
+             * All columns for incremental sync ({@link #ALL_COLUMNS} and {@link #CHANGE_SEQUENCE})
              */
-            public final static String ADDRESS_ID = "ad_id";
+            public final static String[] SYNC_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(CHANGE_SEQUENCE).build();
 
             /**
-             * Name of the assigned address
+             * Column positions of {@link #SYNC_COLUMNS}
              */
-            public final static String ADDRESS_NAME = "ad_name";
+            public final static ProjectionIndex SYNC_COLUMNS_INDEX = new ProjectionIndex(SYNC_COLUMNS);
 
             /**
-             * Active flag for the assigned address
+             * Index of {@link #CHANGE_SEQUENCE} in {@link #SYNC_COLUMNS}
              */
-            public final static String ADDRESS_ACTIVE = "ad_active";
+            public final static int IDX_SYNC_CHANGE_SEQUENCE = SYNC_COLUMNS_INDEX.indexOf(CHANGE_SEQUENCE);
+         }
 
-            /**
-             * ID of the assigned time type
-             */
-            public final static String TIME_TYPE_ID = "tt_id";
+         /**
+          * Time Record data URI
+          */
+         public final static Uri CONTENT_URI = Uri.withAppendedPath(AUTHORITY_URI, CONTENT_DIRECTORY);
 
-            /**
-             * Kind of the assigned time type
-             */
-            public final static String TIME_TYPE_KIND = "tt_kind";
+         /**
+          * Default number of rows for a page
+          */
+         public final static int DEFAULT_PAGE_SIZE = 100;
 
-            /**
-             * Name of the assigned time type
-             */
-            public final static String TIME_TYPE_NAME = "tt_name";
+         /**
+          * Sort order of the pages in ascending order (start time, then ID)
+          */
+         public final static String PAGE_SORT_ORDER = PageToken.getSortOrder(Columns.START_TIME, Columns._ID, false);
 
-            /**
+         /**
+          * Sort order of the pages in descending order (newest first)
+          */
+         public final static String PAGE_SORT_ORDER_DESCENDING = PageToken.getSortOrder(Columns.START_TIME, Columns._ID, true);
+
+         /**
+          * Create URI for the first page of time records (query with {@link #PAGE_SORT_ORDER} or {@link #PAGE_SORT_ORDER_DESCENDING})
+          *
+          * @param limit Maximal number of rows of the page
+          * @return {@link #CONTENT_URI} with the limit parameter
+          */
+         public final static Uri buildFirstPageUri(int limit) {
+
+            return TimeTrackingContract.buildPageUri(CONTENT_URI, null, limit);
+         }
+
+         /**
+          * Create URI for the time records after the given row in ascending order (query with {@link #PAGE_SORT_ORDER})
+          *
+          * @param afterStartTime Start time of the last row of the previous page as epoch minute
+          * @param afterId        ID of the last row of the previous page
+          * @param limit          Maximal number of rows of the page
+          * @return {@link #CONTENT_URI} with page token and limit parameters
+          */
+         public final static Uri buildPageUri(long afterStartTime, long afterId, int limit) {
+
+            return TimeTrackingContract.buildPageUri(CONTENT_URI, new PageToken(afterStartTime, afterId, false), limit);
+         }
+
+         /**
+          * Create URI for the time records after the page token
+          *
+          * @param token Position after the last row of the previous page (see {@link #createPageToken(Cursor, boolean)})
+          * @param limit Maximal number of rows of the page
+          * @return {@link #CONTENT_URI} with page token and limit parameters
+          */
+         public final static Uri buildPageUri(PageToken token, int limit) {
+
+            return TimeTrackingContract.buildPageUri(CONTENT_URI, token, limit);
+         }
+
+         /**
+          * Create the token for the page after the cursor
+          *
+          * @param cursor     Time records of the current page (with {@link Columns#START_TIME} and {@link Columns#_ID})
+          * @param descending True, if the page was queried with {@link #PAGE_SORT_ORDER_DESCENDING}
+          * @return Token for the next page or null, if the cursor is empty
+          */
+         public final static PageToken createPageToken(Cursor cursor, boolean descending) {
+
+            return PageToken.fromLastRow(cursor, cursor.getColumnIndexOrThrow(Columns.START_TIME), cursor.getColumnIndexOrThrow(Columns._ID), descending);
+         }
+
+         /**
+          * Create URI for the time record rows changed after the change sequence
+          *
+          * @param changeSequence Largest change sequence known to the caller
+          * @return {@link #CONTENT_URI} with the since parameter
+          * @throws IllegalArgumentException if the change sequence is negative
+          * @see TimeTrackingContract#buildSinceUri(Uri, long)
+          */
+         public final static Uri buildSinceUri(long changeSequence) {
+
+            return TimeTrackingContract.buildSinceUri(CONTENT_URI, changeSequence);
+         }
+
+         public static interface QueryColumns extends Columns {
+
+            /**
+             * Total sum of the time in minutes
+             */
+            public final static String TIME_SUM = "tr_time_sum";
+
+            /**
+             * Total sum of all pause time in minutes
+             */
+            public final static String PAUSE_SUM = "tr_pause_sum";
+
+            /**
+             * Total count of all pauses for the record
+             */
+            public final static String PAUSE_COUNT = "tr_pause_count";
+
+            /**
+             * ID of the assigned project
+             */
+            public final static String PROJECT_ID = "pj_id";
+
+            /**
+             * Name of the assigned project
+             */
+            public final static String PROJECT_NAME = "pj_name";
+
+            /**
+             * Description of the assigned project
+             */
+            public final static String PROJECT_DESCRIPTION = "pj_desc";
+
+            /**
+             * Active flag for the assigned project
+             */
+            public final static String PROJECT_ACTIVE = "pj_active";
+
+            /**
+             * ID of the assigned address
+             */
+            public final static String ADDRESS_ID = "ad_id";
+
+            /**
+             * Name of the assigned address
+             */
+            public final static String ADDRESS_NAME = "ad_name";
+
+            /**
+             * Active flag for the assigned address
+             */
+            public final static String ADDRESS_ACTIVE = "ad_active";
+
+            /**
+             * ID of the assigned time type
+             */
+            public final static String TIME_TYPE_ID = "tt_id";
+
+            /**
+             * Kind of the assigned time type
+             */
+            public final static String TIME_TYPE_KIND = "tt_kind";
+
+            /**
+             * Name of the assigned time type
+             */
+            public final static String TIME_TYPE_NAME = "tt_name";
+
+            /**
              * Description of the assigned time type
              */
             public final static String TIME_TYPE_DESCRIPTION = "tt_desc";
@@ -1184,7 +2142,87 @@ public final class TimeTrackingContract {
             /**
              * All available columns for the query
              */
-            public final static String[] ALL_QUERY_COLUMNS = concatArrays(ALL_COLUMNS, TIME_SUM, PAUSE_SUM, PAUSE_COUNT, PROJECT_ID, PROJECT_NAME, PROJECT_DESCRIPTION, PROJECT_ACTIVE, ADDRESS_ID, ADDRESS_NAME, ADDRESS_ACTIVE, TIME_TYPE_ID, TIME_TYPE_KIND, TIME_TYPE_NAME, TIME_TYPE_DESCRIPTION, TIME_TYPE_ACTIVE);
+            public final static String[] ALL_QUERY_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(TIME_SUM, PAUSE_SUM, PAUSE_COUNT, PROJECT_ID, PROJECT_NAME, PROJECT_DESCRIPTION, PROJECT_ACTIVE, ADDRESS_ID, ADDRESS_NAME, ADDRESS_ACTIVE, TIME_TYPE_ID, TIME_TYPE_KIND, TIME_TYPE_NAME, TIME_TYPE_DESCRIPTION, TIME_TYPE_ACTIVE).build();
+
+            /**
+             * Column positions of {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_QUERY_COLUMNS_INDEX = new ProjectionIndex(ALL_QUERY_COLUMNS);
+
+            /**
+             * Index of {@link #TIME_SUM} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_SUM = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_SUM);
+
+            /**
+             * Index of {@link #PAUSE_SUM} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PAUSE_SUM = ALL_QUERY_COLUMNS_INDEX.indexOf(PAUSE_SUM);
+
+            /**
+             * Index of {@link #PAUSE_COUNT} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PAUSE_COUNT = ALL_QUERY_COLUMNS_INDEX.indexOf(PAUSE_COUNT);
+
+            /**
+             * Index of {@link #PROJECT_ID} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PROJECT_ID = ALL_QUERY_COLUMNS_INDEX.indexOf(PROJECT_ID);
+
+            /**
+             * Index of {@link #PROJECT_NAME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PROJECT_NAME = ALL_QUERY_COLUMNS_INDEX.indexOf(PROJECT_NAME);
+
+            /**
+             * Index of {@link #PROJECT_DESCRIPTION} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PROJECT_DESCRIPTION = ALL_QUERY_COLUMNS_INDEX.indexOf(PROJECT_DESCRIPTION);
+
+            /**
+             * Index of {@link #PROJECT_ACTIVE} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_PROJECT_ACTIVE = ALL_QUERY_COLUMNS_INDEX.indexOf(PROJECT_ACTIVE);
+
+            /**
+             * Index of {@link #ADDRESS_ID} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_ADDRESS_ID = ALL_QUERY_COLUMNS_INDEX.indexOf(ADDRESS_ID);
+
+            /**
+             * Index of {@link #ADDRESS_NAME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_ADDRESS_NAME = ALL_QUERY_COLUMNS_INDEX.indexOf(ADDRESS_NAME);
+
+            /**
+             * Index of {@link #ADDRESS_ACTIVE} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_ADDRESS_ACTIVE = ALL_QUERY_COLUMNS_INDEX.indexOf(ADDRESS_ACTIVE);
+
+            /**
+             * Index of {@link #TIME_TYPE_ID} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_ID = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_ID);
+
+            /**
+             * Index of {@link #TIME_TYPE_KIND} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_KIND = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_KIND);
+
+            /**
+             * Index of {@link #TIME_TYPE_NAME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_NAME = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_NAME);
+
+            /**
+             * Index of {@link #TIME_TYPE_DESCRIPTION} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_DESCRIPTION = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_DESCRIPTION);
+
+            /**
+             * Index of {@link #TIME_TYPE_ACTIVE} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_ACTIVE = ALL_QUERY_COLUMNS_INDEX.indexOf(TIME_TYPE_ACTIVE);
          }
 
 
@@ -1222,11 +2260,15 @@ public final class TimeTrackingContract {
 
             /**
              * Start time for the record pause [String, Required, ISO-8601, eg. '2013-11-27T18:15']
+             *
+             * @see de.webducer.android.zeiterfassung.contract.converter.EpochMinuteCodec
              */
             public final static String START_TIME = "rp_start_time";
 
             /**
              * End time for the record pause [String, Required, ISO-8601 eg. '2013-11-27T23:30']
+             *
+             * @see de.webducer.android.zeiterfassung.contract.converter.EpochMinuteCodec
              */
             public final static String END_TIME = "rp_end_time";
 
@@ -1239,6 +2281,58 @@ public final class TimeTrackingContract {
              * All time type available columns as array
              */
             public final static String[] ALL_COLUMNS = {_ID, TIME_RECORD_ID, START_TIME, END_TIME, COMMENT};
+
+            /**
+             * Column positions of {@link #ALL_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
+
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
+
+            /**
+             * Index of {@link #TIME_RECORD_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_TIME_RECORD_ID = ALL_COLUMNS_INDEX.indexOf(TIME_RECORD_ID);
+
+            /**
+             * Index of {@link #START_TIME} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_START_TIME = ALL_COLUMNS_INDEX.indexOf(START_TIME);
+
+            /**
+             * Index of {@link #END_TIME} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_END_TIME = ALL_COLUMNS_INDEX.indexOf(END_TIME);
+
+            /**
+             * Index of {@link #COMMENT} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_COMMENT = ALL_COLUMNS_INDEX.indexOf(COMMENT);
+
+            /**
+             * Change sequence of the last insert or update [INTEGER, set by the provider, not part of {@link #ALL_COLUMNS}]
+             *
+             * @see TimeTrackingContract#QUERY_PARAMETER_SINCE
+             */
+            public final static String CHANGE_SEQUENCE = "rp_change_seq";
+
+            /**
+             * All columns for incremental sync ({@link #ALL_COLUMNS} and {@link #CHANGE_SEQUENCE})
+             */
+            public final static String[] SYNC_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(CHANGE_SEQUENCE).build();
+
+            /**
+             * Column positions of {@link #SYNC_COLUMNS}
+             */
+            public final static ProjectionIndex SYNC_COLUMNS_INDEX = new ProjectionIndex(SYNC_COLUMNS);
+
+            /**
+             * Index of {@link #CHANGE_SEQUENCE} in {@link #SYNC_COLUMNS}
+             */
+            public final static int IDX_SYNC_CHANGE_SEQUENCE = SYNC_COLUMNS_INDEX.indexOf(CHANGE_SEQUENCE);
          }
 
          public static interface QueryColumns extends Columns {
@@ -1256,7 +2350,22 @@ public final class TimeTrackingContract {
             /**
              * All available columns for the query
              */
-            public final static String[] ALL_QUERY_COLUMNS = concatArrays(ALL_COLUMNS, RECORD_START_TIME, RECORD_END_TIME);
+            public final static String[] ALL_QUERY_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(RECORD_START_TIME, RECORD_END_TIME).build();
+
+            /**
+             * Column positions of {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_QUERY_COLUMNS_INDEX = new ProjectionIndex(ALL_QUERY_COLUMNS);
+
+            /**
+             * Index of {@link #RECORD_START_TIME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_RECORD_START_TIME = ALL_QUERY_COLUMNS_INDEX.indexOf(RECORD_START_TIME);
+
+            /**
+             * Index of {@link #RECORD_END_TIME} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_RECORD_END_TIME = ALL_QUERY_COLUMNS_INDEX.indexOf(RECORD_END_TIME);
          }
 
          /**
@@ -1264,6 +2373,19 @@ public final class TimeTrackingContract {
           */
          public final static Uri CONTENT_URI = Uri.withAppendedPath(AUTHORITY_URI, CONTENT_DIRECTORY);
 
+         /**
+          * Create URI for the record pause rows changed after the change sequence
+          *
+          * @param changeSequence Largest change sequence known to the caller
+          * @return {@link #CONTENT_URI} with the since parameter
+          * @throws IllegalArgumentException if the change sequence is negative
+          * @see TimeTrackingContract#buildSinceUri(Uri, long)
+          */
+         public final static Uri buildSinceUri(long changeSequence) {
+
+            return TimeTrackingContract.buildSinceUri(CONTENT_URI, changeSequence);
+         }
+
 
       }
    }
@@ -1381,6 +2503,76 @@ public final class TimeTrackingContract {
              * All time type available columns as array
              */
             public final static String[] ALL_COLUMNS = {_ID, TYPE, NAME, DESCRIPTION, FROM, PROJECTION, SELECTION, SELECTION_ARGS, GROUP_BY, SORT_ORDER, SQL, AVAILABLE_FILTER, ACTIVE};
+
+            /**
+             * Column positions of {@link #ALL_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
+
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
+
+            /**
+             * Index of {@link #TYPE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_TYPE = ALL_COLUMNS_INDEX.indexOf(TYPE);
+
+            /**
+             * Index of {@link #NAME} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_NAME = ALL_COLUMNS_INDEX.indexOf(NAME);
+
+            /**
+             * Index of {@link #DESCRIPTION} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_DESCRIPTION = ALL_COLUMNS_INDEX.indexOf(DESCRIPTION);
+
+            /**
+             * Index of {@link #FROM} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_FROM = ALL_COLUMNS_INDEX.indexOf(FROM);
+
+            /**
+             * Index of {@link #PROJECTION} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_PROJECTION = ALL_COLUMNS_INDEX.indexOf(PROJECTION);
+
+            /**
+             * Index of {@link #SELECTION} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_SELECTION = ALL_COLUMNS_INDEX.indexOf(SELECTION);
+
+            /**
+             * Index of {@link #SELECTION_ARGS} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_SELECTION_ARGS = ALL_COLUMNS_INDEX.indexOf(SELECTION_ARGS);
+
+            /**
+             * Index of {@link #GROUP_BY} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_GROUP_BY = ALL_COLUMNS_INDEX.indexOf(GROUP_BY);
+
+            /**
+             * Index of {@link #SORT_ORDER} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_SORT_ORDER = ALL_COLUMNS_INDEX.indexOf(SORT_ORDER);
+
+            /**
+             * Index of {@link #SQL} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_SQL = ALL_COLUMNS_INDEX.indexOf(SQL);
+
+            /**
+             * Index of {@link #AVAILABLE_FILTER} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_AVAILABLE_FILTER = ALL_COLUMNS_INDEX.indexOf(AVAILABLE_FILTER);
+
+            /**
+             * Index of {@link #ACTIVE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ACTIVE = ALL_COLUMNS_INDEX.indexOf(ACTIVE);
          }
 
          /**
@@ -1486,25 +2678,115 @@ public final class TimeTrackingContract {
              * Time Kind
              */
             public final static String TIME_KIND = "tt_kind";
-         }
 
-         /**
-          * Report data URI
-          */
-         public final static Uri CONTENT_URI = Uri.withAppendedPath(AUTHORITY_URI, CONTENT_DIRECTORY);
+            /**
+             * All report data columns as array
+             */
+            public final static String[] ALL_COLUMNS = {_ID, DATE, YEAR, MONTH, DAY_OF_MONTH, DAY_OF_YEAR, WEEKDAY, WEEK_NUMBER, WEEK_YEAR, TIME_SUM, PUASE_SUM, OVERALL_SUM, ADDRESS_ID, PROJECT_ID, TIME_TYPE_ID, TIME_KIND};
 
+            /**
+             * Column positions of {@link #ALL_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
 
-      }
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
 
-      /**
-       * Contract for the report data (read only)
-       */
-      public final static class Statistic {
+            /**
+             * Index of {@link #DATE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_DATE = ALL_COLUMNS_INDEX.indexOf(DATE);
 
-         /* Private fields */
-         private final static String _DATA_DIRECTORY = "statistic";
+            /**
+             * Index of {@link #YEAR} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_YEAR = ALL_COLUMNS_INDEX.indexOf(YEAR);
 
-			/* Public fields */
+            /**
+             * Index of {@link #MONTH} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_MONTH = ALL_COLUMNS_INDEX.indexOf(MONTH);
+
+            /**
+             * Index of {@link #DAY_OF_MONTH} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_DAY_OF_MONTH = ALL_COLUMNS_INDEX.indexOf(DAY_OF_MONTH);
+
+            /**
+             * Index of {@link #DAY_OF_YEAR} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_DAY_OF_YEAR = ALL_COLUMNS_INDEX.indexOf(DAY_OF_YEAR);
+
+            /**
+             * Index of {@link #WEEKDAY} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_WEEKDAY = ALL_COLUMNS_INDEX.indexOf(WEEKDAY);
+
+            /**
+             * Index of {@link #WEEK_NUMBER} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_WEEK_NUMBER = ALL_COLUMNS_INDEX.indexOf(WEEK_NUMBER);
+
+            /**
+             * Index of {@link #WEEK_YEAR} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_WEEK_YEAR = ALL_COLUMNS_INDEX.indexOf(WEEK_YEAR);
+
+            /**
+             * Index of {@link #TIME_SUM} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_TIME_SUM = ALL_COLUMNS_INDEX.indexOf(TIME_SUM);
+
+            /**
+             * Index of {@link #PUASE_SUM} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_PAUSE_SUM = ALL_COLUMNS_INDEX.indexOf(PUASE_SUM);
+
+            /**
+             * Index of {@link #OVERALL_SUM} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_OVERALL_SUM = ALL_COLUMNS_INDEX.indexOf(OVERALL_SUM);
+
+            /**
+             * Index of {@link #ADDRESS_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ADDRESS_ID = ALL_COLUMNS_INDEX.indexOf(ADDRESS_ID);
+
+            /**
+             * Index of {@link #PROJECT_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_PROJECT_ID = ALL_COLUMNS_INDEX.indexOf(PROJECT_ID);
+
+            /**
+             * Index of {@link #TIME_TYPE_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_ID = ALL_COLUMNS_INDEX.indexOf(TIME_TYPE_ID);
+
+            /**
+             * Index of {@link #TIME_KIND} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_TIME_KIND = ALL_COLUMNS_INDEX.indexOf(TIME_KIND);
+         }
+
+         /**
+          * Report data URI
+          */
+         public final static Uri CONTENT_URI = Uri.withAppendedPath(AUTHORITY_URI, CONTENT_DIRECTORY);
+
+
+      }
+
+      /**
+       * Contract for the report data (read only)
+       */
+      public final static class Statistic {
+
+         /* Private fields */
+         private final static String _DATA_DIRECTORY = "statistic";
+
+			/* Public fields */
          /**
           * Report statistic directory
           */
@@ -1563,6 +2845,46 @@ public final class TimeTrackingContract {
              * All time type available columns as array
              */
             public final static String[] ALL_COLUMNS = {_ID, REPORT_ID, CAPTION, DURATION_FORMAT, FILTER, FILTER_ARGS, ORDER};
+
+            /**
+             * Column positions of {@link #ALL_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
+
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
+
+            /**
+             * Index of {@link #REPORT_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_REPORT_ID = ALL_COLUMNS_INDEX.indexOf(REPORT_ID);
+
+            /**
+             * Index of {@link #CAPTION} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_CAPTION = ALL_COLUMNS_INDEX.indexOf(CAPTION);
+
+            /**
+             * Index of {@link #DURATION_FORMAT} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_DURATION_FORMAT = ALL_COLUMNS_INDEX.indexOf(DURATION_FORMAT);
+
+            /**
+             * Index of {@link #FILTER} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_FILTER = ALL_COLUMNS_INDEX.indexOf(FILTER);
+
+            /**
+             * Index of {@link #FILTER_ARGS} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_FILTER_ARGS = ALL_COLUMNS_INDEX.indexOf(FILTER_ARGS);
+
+            /**
+             * Index of {@link #ORDER} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ORDER = ALL_COLUMNS_INDEX.indexOf(ORDER);
          }
 
          public static interface QueryColumns extends Columns {
@@ -1600,7 +2922,37 @@ public final class TimeTrackingContract {
             /**
              * All available columns for the query
              */
-            public final static String[] ALL_QUERY_COLUMNS = concatArrays(ALL_COLUMNS, REPORT_ID, REPORT_PROJECTION, REPORT_FROM, REPORT_GROUP_BY, REPORT_SELECTION, REPORT_SELECTION_ARGS);
+            public final static String[] ALL_QUERY_COLUMNS = new ProjectionBuilder(ALL_COLUMNS).add(REPORT_PROJECTION, REPORT_FROM, REPORT_GROUP_BY, REPORT_SELECTION, REPORT_SELECTION_ARGS).build();
+
+            /**
+             * Column positions of {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_QUERY_COLUMNS_INDEX = new ProjectionIndex(ALL_QUERY_COLUMNS);
+
+            /**
+             * Index of {@link #REPORT_PROJECTION} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_REPORT_PROJECTION = ALL_QUERY_COLUMNS_INDEX.indexOf(REPORT_PROJECTION);
+
+            /**
+             * Index of {@link #REPORT_FROM} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_REPORT_FROM = ALL_QUERY_COLUMNS_INDEX.indexOf(REPORT_FROM);
+
+            /**
+             * Index of {@link #REPORT_GROUP_BY} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_REPORT_GROUP_BY = ALL_QUERY_COLUMNS_INDEX.indexOf(REPORT_GROUP_BY);
+
+            /**
+             * Index of {@link #REPORT_SELECTION} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_REPORT_SELECTION = ALL_QUERY_COLUMNS_INDEX.indexOf(REPORT_SELECTION);
+
+            /**
+             * Index of {@link #REPORT_SELECTION_ARGS} in {@link #ALL_QUERY_COLUMNS}
+             */
+            public final static int IDX_REPORT_SELECTION_ARGS = ALL_QUERY_COLUMNS_INDEX.indexOf(REPORT_SELECTION_ARGS);
          }
 
          /**
@@ -1668,6 +3020,36 @@ public final class TimeTrackingContract {
              * All available columns for the query
              */
             public final static String[] ALL_COLUMNS = {_ID, CAPTION, DURATION_FORMAT, ORDER, VALUE};
+
+            /**
+             * Column positions of {@link #ALL_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
+
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
+
+            /**
+             * Index of {@link #CAPTION} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_CAPTION = ALL_COLUMNS_INDEX.indexOf(CAPTION);
+
+            /**
+             * Index of {@link #DURATION_FORMAT} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_DURATION_FORMAT = ALL_COLUMNS_INDEX.indexOf(DURATION_FORMAT);
+
+            /**
+             * Index of {@link #ORDER} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ORDER = ALL_COLUMNS_INDEX.indexOf(ORDER);
+
+            /**
+             * Index of {@link #VALUE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_VALUE = ALL_COLUMNS_INDEX.indexOf(VALUE);
          }
 
          /**
@@ -1678,6 +3060,298 @@ public final class TimeTrackingContract {
 
       }
 
+      /**
+       * Contract for the materialized rollups of the time records per period, project, time type and time kind.
+       * <p/>
+       * The rollups are maintained incrementally by the provider on every change of a time record, so dashboards read
+       * one row per period instead of scanning all time records. An insert adds the values to the row with the same
+       * key (see {@link de.webducer.android.zeiterfassung.contract.report.RollupDelta}), rows without records are
+       * removed.
+       */
+      public final static class Rollup {
+
+         /* Private fields */
+         private final static String _DATA_DIRECTORY = "rollup";
+
+			/* Public fields */
+         /**
+          * Rollup directory
+          */
+         public final static String CONTENT_DIRECTORY = _CATEGORY_DIRECTORY + "/" + _DATA_DIRECTORY;
+         /**
+          * Rollup list type
+          */
+         public final static String CONTENT_TYPE = ContentResolver.CURSOR_DIR_BASE_TYPE + "/" + _DATA_DIRECTORY;
+         /**
+          * Rollup item type
+          */
+         public final static String CONTENT_ITEM_TYPE = ContentResolver.CURSOR_ITEM_BASE_TYPE + "/" + _DATA_DIRECTORY;
+
+         /* Column Interfaces */
+         public static interface Columns extends BaseColumns {
+
+            /**
+             * Period of the rollup [INTEGER =&gt; RollupPeriod(Enumeration), Required]
+             * <dl>
+             * <dt>Day(1)</dt>
+             * <dd>Rollup per calendar day</dd>
+             * <dt>Week(2)</dt>
+             * <dd>Rollup per ISO week</dd>
+             * <dt>Month(3)</dt>
+             * <dd>Rollup per calendar month</dd>
+             * </dl>
+             */
+            public final static String PERIOD = "ru_period";
+
+            /**
+             * First day of the period [INTEGER, Required, days since 1970-01-01]
+             *
+             * @see de.webducer.android.zeiterfassung.contract.enums.RollupPeriod#getPeriodStart(int)
+             */
+            public final static String PERIOD_START = "ru_period_start";
+
+            /**
+             * ID of the project [INTEGER, Required]
+             */
+            public final static String PROJECT_ID = "pj_id";
+
+            /**
+             * ID of the time type [INTEGER, Required]
+             */
+            public final static String TIME_TYPE_ID = "tt_id";
+
+            /**
+             * Kind of the time type [INTEGER =&gt; TimeKind(Enumeration), Required]
+             */
+            public final static String TIME_KIND = "tt_kind";
+
+            /**
+             * Sum of the working time in minutes [INTEGER, Required]
+             */
+            public final static String TIME_SUM = "ru_time_sum";
+
+            /**
+             * Sum of the pause time in minutes [INTEGER, Required]
+             */
+            public final static String PAUSE_SUM = "ru_pause_sum";
+
+            /**
+             * Number of time records in the rollup [INTEGER, Required]
+             */
+            public final static String RECORD_COUNT = "ru_record_count";
+
+            /**
+             * All rollup columns as array
+             */
+            public final static String[] ALL_COLUMNS = {_ID, PERIOD, PERIOD_START, PROJECT_ID, TIME_TYPE_ID, TIME_KIND, TIME_SUM, PAUSE_SUM, RECORD_COUNT};
+
+            /**
+             * Column positions of {@link #ALL_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
+
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
+
+            /**
+             * Index of {@link #PERIOD} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_PERIOD = ALL_COLUMNS_INDEX.indexOf(PERIOD);
+
+            /**
+             * Index of {@link #PERIOD_START} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_PERIOD_START = ALL_COLUMNS_INDEX.indexOf(PERIOD_START);
+
+            /**
+             * Index of {@link #PROJECT_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_PROJECT_ID = ALL_COLUMNS_INDEX.indexOf(PROJECT_ID);
+
+            /**
+             * Index of {@link #TIME_TYPE_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_TIME_TYPE_ID = ALL_COLUMNS_INDEX.indexOf(TIME_TYPE_ID);
+
+            /**
+             * Index of {@link #TIME_KIND} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_TIME_KIND = ALL_COLUMNS_INDEX.indexOf(TIME_KIND);
+
+            /**
+             * Index of {@link #TIME_SUM} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_TIME_SUM = ALL_COLUMNS_INDEX.indexOf(TIME_SUM);
+
+            /**
+             * Index of {@link #PAUSE_SUM} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_PAUSE_SUM = ALL_COLUMNS_INDEX.indexOf(PAUSE_SUM);
+
+            /**
+             * Index of {@link #RECORD_COUNT} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_RECORD_COUNT = ALL_COLUMNS_INDEX.indexOf(RECORD_COUNT);
+         }
+
+         /**
+          * Selection of the periods in a range of days (arguments: first day inclusive, last day exclusive)
+          */
+         public final static String PERIOD_RANGE_SELECTION = Columns.PERIOD_START + " >= ? AND " + Columns.PERIOD_START + " < ?";
+
+         /**
+          * Rollup URI (all periods, inserts add to the existing rows)
+          */
+         public final static Uri CONTENT_URI = Uri.withAppendedPath(AUTHORITY_URI, CONTENT_DIRECTORY);
+
+         /**
+          * Create URI for the rollups of one period (read only)
+          *
+          * @param period Rollup period
+          * @return {@link #CONTENT_URI} with the enum code of the period as last path segment
+          */
+         public final static Uri buildPeriodUri(RollupPeriod period) {
+
+            return Uri.withAppendedPath(CONTENT_URI, String.valueOf(period.getEnumCode()));
+         }
+
+         /**
+          * Get period of an URI created by {@link #buildPeriodUri(RollupPeriod)}
+          *
+          * @param uri Rollup URI
+          * @return Rollup period or 'None' for {@link #CONTENT_URI}
+          */
+         public final static RollupPeriod getPeriod(Uri uri) {
+
+            String segment = uri.getLastPathSegment();
+            if (segment == null || _DATA_DIRECTORY.equals(segment)) {
+               return RollupPeriod.None;
+            }
+
+            try {
+               return RollupPeriod.getRollupPeriodByCode(Integer.parseInt(segment));
+            } catch (NumberFormatException e) {
+               return RollupPeriod.None;
+            }
+         }
+
+         /**
+          * Create the selection arguments for {@link #PERIOD_RANGE_SELECTION}
+          *
+          * @param fromEpochDay First day (inclusive, days since 1970-01-01)
+          * @param toEpochDay   Last day (exclusive, days since 1970-01-01)
+          * @return Selection arguments
+          */
+         public final static String[] getPeriodRangeSelectionArgs(int fromEpochDay, int toEpochDay) {
+
+            return new String[]{String.valueOf(fromEpochDay), String.valueOf(toEpochDay)};
+         }
+      }
+
+   }
+
+   /**
+    * Contract data for the incremental sync
+    */
+   public final static class SyncData {
+
+      /* Private fields */
+      // base path for all sync data
+      private final static String _CATEGORY_DIRECTORY = "sync_data";
+
+      /**
+       * Contract for the deleted rows of the tables with change sequence (read only)
+       */
+      public final static class Tombstone {
+
+         /* Private fields */
+         private final static String _DATA_DIRECTORY = "tombstone";
+
+			/* Public fields */
+         /**
+          * Tombstone directory
+          */
+         public final static String CONTENT_DIRECTORY = _CATEGORY_DIRECTORY + "/" + _DATA_DIRECTORY;
+         /**
+          * Tombstone list type
+          */
+         public final static String CONTENT_TYPE = ContentResolver.CURSOR_DIR_BASE_TYPE + "/" + _DATA_DIRECTORY;
+         /**
+          * Tombstone item type
+          */
+         public final static String CONTENT_ITEM_TYPE = ContentResolver.CURSOR_ITEM_BASE_TYPE + "/" + _DATA_DIRECTORY;
+
+         /* Column Interfaces */
+         public static interface Columns extends BaseColumns {
+
+            /**
+             * Table of the deleted row [String, Required, CONTENT_DIRECTORY of the table, eg. 'record_data/time_record']
+             */
+            public final static String TABLE = "ts_table";
+
+            /**
+             * ID of the deleted row [INTEGER, Required]
+             */
+            public final static String ROW_ID = "ts_row_id";
+
+            /**
+             * Change sequence of the delete [INTEGER, Required]
+             *
+             * @see TimeTrackingContract#QUERY_PARAMETER_SINCE
+             */
+            public final static String CHANGE_SEQUENCE = "ts_change_seq";
+
+            /**
+             * All tombstone columns as array
+             */
+            public final static String[] ALL_COLUMNS = {_ID, TABLE, ROW_ID, CHANGE_SEQUENCE};
+
+            /**
+             * Column positions of {@link #ALL_COLUMNS}
+             */
+            public final static ProjectionIndex ALL_COLUMNS_INDEX = new ProjectionIndex(ALL_COLUMNS);
+
+            /**
+             * Index of {@link #_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ID = ALL_COLUMNS_INDEX.indexOf(_ID);
+
+            /**
+             * Index of {@link #TABLE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_TABLE = ALL_COLUMNS_INDEX.indexOf(TABLE);
+
+            /**
+             * Index of {@link #ROW_ID} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_ROW_ID = ALL_COLUMNS_INDEX.indexOf(ROW_ID);
+
+            /**
+             * Index of {@link #CHANGE_SEQUENCE} in {@link #ALL_COLUMNS}
+             */
+            public final static int IDX_CHANGE_SEQUENCE = ALL_COLUMNS_INDEX.indexOf(CHANGE_SEQUENCE);
+         }
+
+         /**
+          * Tombstone URI (readable with the read permission of the tables)
+          */
+         public final static Uri CONTENT_URI = Uri.withAppendedPath(AUTHORITY_URI, CONTENT_DIRECTORY);
+
+         /**
+          * Create URI for the rows deleted after the change sequence
+          *
+          * @param changeSequence Largest change sequence known to the caller
+          * @return {@link #CONTENT_URI} with the since parameter
+          * @throws IllegalArgumentException if the change sequence is negative
+          * @see TimeTrackingContract#buildSinceUri(Uri, long)
+          */
+         public final static Uri buildSinceUri(long changeSequence) {
+
+            return TimeTrackingContract.buildSinceUri(CONTENT_URI, changeSequence);
+         }
+      }
    }
 
 }
@@ -0,0 +1,305 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.batch;
+
+import android.content.ContentProviderOperation;
+import android.content.ContentProviderResult;
+import android.content.ContentResolver;
+import android.content.ContentValues;
+import android.content.OperationApplicationException;
+import android.os.RemoteException;
+
+import java.util.ArrayList;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.RecordData.RecordPause;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.RecordData.TimeRecord;
+import de.webducer.android.zeiterfassung.contract.converter.EpochMinuteCodec;
+
+/**
+ * Builder for batched writes of time records with their pauses (e.g. for imports).
+ * <p/>
+ * Pauses of new time records reference the record by a back reference to its insert operation, so all rows can be
+ * written with one {@link ContentResolver#applyBatch(String, ArrayList)} call, that the provider executes in one
+ * transaction with one change notification. Rows without new parent records can also be written with
+ * {@link ContentResolver#bulkInsert(android.net.Uri, ContentValues[])}.
+ * <p/>
+ * Times are epoch minutes as used by {@link EpochMinuteCodec}.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class RecordBatchBuilder {
+   /* Private fields */
+   // Parent marker for time record rows
+   private final static int _TIME_RECORD = -1;
+   // Parent marker for pauses of already stored time records
+   private final static int _STORED_RECORD = -2;
+
+   private final ArrayList<ContentValues> _values;
+   // Index of the parent time record row in _values or one of the markers
+   private int[] _parents;
+   private int _lastTimeRecord = -1;
+   private int _timeRecordCount = 0;
+
+   /* Constructors */
+
+   /**
+    * Create empty batch
+    */
+   public RecordBatchBuilder() {
+
+      this(16);
+   }
+
+   /**
+    * Create empty batch
+    *
+    * @param expectedRows Expected number of time records and pauses
+    */
+   public RecordBatchBuilder(int expectedRows) {
+
+      _values = new ArrayList<ContentValues>(expectedRows);
+      _parents = new int[Math.max(expectedRows, 1)];
+   }
+
+   /**
+    * Add a new time record; pauses added with {@link #addRecordPause(long, long, String)} belong to this record
+    *
+    * @param projectTimeTypeId ID of the assigned project time type
+    * @param startTime         Start time as epoch minute
+    * @param endTime           End time as epoch minute or {@link EpochMinuteCodec#NO_VALUE}
+    * @param comment           Comment (can be null)
+    * @return Same builder for chaining
+    * @throws IllegalArgumentException if the start time is {@link EpochMinuteCodec#NO_VALUE}
+    */
+   public RecordBatchBuilder addTimeRecord(long projectTimeTypeId, long startTime, long endTime, String comment) {
+
+      ContentValues values = new ContentValues(4);
+      values.put(TimeRecord.Columns.PROJECT_TIME_TYPE_ID, projectTimeTypeId);
+      putRequiredTime(values, TimeRecord.Columns.START_TIME, startTime);
+      putTime(values, TimeRecord.Columns.END_TIME, endTime);
+      values.put(TimeRecord.Columns.COMMENT, comment);
+
+      _lastTimeRecord = _values.size();
+      _timeRecordCount++;
+      addRow(values, _TIME_RECORD);
+
+      return this;
+   }
+
+   /**
+    * Add a pause to the last added time record
+    *
+    * @param startTime Start time as epoch minute
+    * @param endTime   End time as epoch minute
+    * @param comment   Comment (can be null)
+    * @return Same builder for chaining
+    * @throws IllegalStateException    if no time record was added before
+    * @throws IllegalArgumentException if the start or end time is {@link EpochMinuteCodec#NO_VALUE}
+    */
+   public RecordBatchBuilder addRecordPause(long startTime, long endTime, String comment) {
+
+      if (_lastTimeRecord < 0) {
+         throw new IllegalStateException("Pause without time record");
+      }
+
+      addRow(createPause(startTime, endTime, comment), _lastTimeRecord);
+
+      return this;
+   }
+
+   /**
+    * Add a pause to an already stored time record
+    *
+    * @param timeRecordId ID of the stored time record
+    * @param startTime    Start time as epoch minute
+    * @param endTime      End time as epoch minute
+    * @param comment      Comment (can be null)
+    * @return Same builder for chaining
+    * @throws IllegalArgumentException if the start or end time is {@link EpochMinuteCodec#NO_VALUE}
+    */
+   public RecordBatchBuilder addRecordPause(long timeRecordId, long startTime, long endTime, String comment) {
+
+      ContentValues values = createPause(startTime, endTime, comment);
+      values.put(RecordPause.Columns.TIME_RECORD_ID, timeRecordId);
+      addRow(values, _STORED_RECORD);
+
+      return this;
+   }
+
+   /**
+    * Get number of rows in the batch
+    *
+    * @return Count of time records and pauses
+    */
+   public int size() {
+
+      return _values.size();
+   }
+
+   /**
+    * Create insert operations for all rows in the order they were added
+    *
+    * @return Operations for {@link ContentResolver#applyBatch(String, ArrayList)} with {@link TimeTrackingContract#AUTHORITY}
+    */
+   public ArrayList<ContentProviderOperation> buildOperations() {
+
+      ArrayList<ContentProviderOperation> operations = new ArrayList<ContentProviderOperation>(_values.size());
+
+      for (int index = 0; index < _values.size(); index++) {
+         int parent = _parents[index];
+         ContentProviderOperation.Builder builder;
+
+         if (parent == _TIME_RECORD) {
+            builder = ContentProviderOperation.newInsert(TimeRecord.CONTENT_URI);
+         } else {
+            builder = ContentProviderOperation.newInsert(RecordPause.CONTENT_URI);
+            if (parent >= 0) {
+               builder.withValueBackReference(RecordPause.Columns.TIME_RECORD_ID, parent);
+            }
+         }
+
+         operations.add(builder.withValues(_values.get(index)).build());
+      }
+
+      return operations;
+   }
+
+   /**
+    * Create the values of all time records for {@link ContentResolver#bulkInsert(android.net.Uri, ContentValues[])}
+    * with {@link TimeRecord#CONTENT_URI}
+    *
+    * @return Values of the time records
+    * @throws IllegalStateException if pauses of new time records are part of the batch (IDs unknown before insert)
+    */
+   public ContentValues[] buildTimeRecordValues() {
+
+      ContentValues[] result = new ContentValues[_timeRecordCount];
+      int count = 0;
+
+      for (int index = 0; index < _values.size(); index++) {
+         int parent = _parents[index];
+         if (parent == _TIME_RECORD) {
+            result[count++] = _values.get(index);
+         } else if (parent >= 0) {
+            throw new IllegalStateException("Pauses of new time records need back references, use buildOperations()");
+         }
+      }
+
+      return result;
+   }
+
+   /**
+    * Create the values of all pauses for {@link ContentResolver#bulkInsert(android.net.Uri, ContentValues[])}
+    * with {@link RecordPause#CONTENT_URI}
+    *
+    * @return Values of the pauses
+    * @throws IllegalStateException if pauses of new time records are part of the batch (IDs unknown before insert)
+    */
+   public ContentValues[] buildRecordPauseValues() {
+
+      ContentValues[] result = new ContentValues[_values.size() - _timeRecordCount];
+      int count = 0;
+
+      for (int index = 0; index < _values.size(); index++) {
+         int parent = _parents[index];
+         if (parent == _STORED_RECORD) {
+            result[count++] = _values.get(index);
+         } else if (parent >= 0) {
+            throw new IllegalStateException("Pauses of new time records need back references, use buildOperations()");
+         }
+      }
+
+      return result;
+   }
+
+   /**
+    * Write all rows as one batch
+    *
+    * @param resolver Content resolver
+    * @return Results of the insert operations in the order the rows were added
+    * @throws RemoteException               if the provider process failed
+    * @throws OperationApplicationException if an insert failed (whole batch is rolled back)
+    */
+   public ContentProviderResult[] apply(ContentResolver resolver) throws RemoteException, OperationApplicationException {
+
+      return resolver.applyBatch(TimeTrackingContract.AUTHORITY, buildOperations());
+   }
+
+   /**
+    * Remove all rows from the batch (e.g. to reuse the builder for the next chunk of an import)
+    */
+   public void clear() {
+
+      _values.clear();
+      _lastTimeRecord = -1;
+      _timeRecordCount = 0;
+   }
+
+   /* Private helpers */
+   private void addRow(ContentValues values, int parent) {
+
+      int index = _values.size();
+      if (index == _parents.length) {
+         int[] parents = new int[index * 2];
+         System.arraycopy(_parents, 0, parents, 0, index);
+         _parents = parents;
+      }
+
+      _parents[index] = parent;
+      _values.add(values);
+   }
+
+   private static ContentValues createPause(long startTime, long endTime, String comment) {
+
+      ContentValues values = new ContentValues(4);
+      putRequiredTime(values, RecordPause.Columns.START_TIME, startTime);
+      putRequiredTime(values, RecordPause.Columns.END_TIME, endTime);
+      values.put(RecordPause.Columns.COMMENT, comment);
+
+      return values;
+   }
+
+   // Required columns of the contract must not be NULL, the provider would fail the whole batch on apply
+   private static void putRequiredTime(ContentValues values, String column, long epochMinute) {
+
+      if (epochMinute == EpochMinuteCodec.NO_VALUE) {
+         throw new IllegalArgumentException("Required time " + column + " is missing");
+      }
+
+      values.put(column, EpochMinuteCodec.encode(epochMinute));
+   }
+
+   private static void putTime(ContentValues values, String column, long epochMinute) {
+
+      if (epochMinute == EpochMinuteCodec.NO_VALUE) {
+         values.putNull(column);
+      } else {
+         values.put(column, EpochMinuteCodec.encode(epochMinute));
+      }
+   }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.cache;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.database.Cursor;
+
+import java.util.concurrent.Executor;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.Actions;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ConfigurationData.Configuration;
+
+/**
+ * Cache of the active configuration values, reloaded after {@link Actions#ACTION_CONFIG_DATA_CHANGED}
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class ConfigurationCache extends SnapshotCache<ConfigurationSnapshot> {
+   /* Private fields */
+   private final static String _SELECTION = Configuration.Columns.ACTIVE + " = ?";
+   private final static String[] _SELECTION_ARGS = {TimeTrackingContract.BOOL_TRUE_AS_STRING};
+
+   /* Constructors */
+
+   /**
+    * Create cache, that reloads on a shared background thread
+    *
+    * @param context App context
+    */
+   public ConfigurationCache(Context context) {
+
+      this(context, null);
+   }
+
+   /**
+    * Create cache
+    *
+    * @param context  App context
+    * @param executor Executor for the background reloads
+    */
+   public ConfigurationCache(Context context, Executor executor) {
+
+      super(context, Actions.ACTION_CONFIG_DATA_CHANGED, executor);
+   }
+
+   @Override
+   protected ConfigurationSnapshot load(ContentResolver resolver) {
+
+      Cursor cursor = resolver.query(Configuration.CONTENT_URI, Configuration.Columns.ALL_COLUMNS, _SELECTION, _SELECTION_ARGS, null);
+      if (cursor == null) {
+         return ConfigurationSnapshot.EMPTY;
+      }
+
+      try {
+         return ConfigurationSnapshot.fromCursor(Configuration.Columns.ALL_COLUMNS_INDEX.validate(cursor));
+      } finally {
+         cursor.close();
+      }
+   }
+}
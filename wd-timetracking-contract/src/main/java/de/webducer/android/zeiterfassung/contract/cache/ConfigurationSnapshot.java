@@ -0,0 +1,344 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.cache;
+
+import android.database.Cursor;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ConfigurationData.Configuration;
+import de.webducer.android.zeiterfassung.contract.enums.ConfigDataType;
+
+/**
+ * Immutable, typed copy of the active configuration values.
+ * <p/>
+ * Values are parsed once on load according to their {@link ConfigDataType}, the getters do not box or parse. Getters
+ * return the given default value for missing keys and for values, that can not be converted to the requested type.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class ConfigurationSnapshot {
+   /* Public fields */
+   /**
+    * Snapshot without values
+    */
+   public final static ConfigurationSnapshot EMPTY = new ConfigurationSnapshot(new String[0], new ConfigDataType[0], new String[0], new long[0], new boolean[0]);
+
+   /* Private fields */
+   // Sorted keys, all other arrays are in the order of the keys
+   private final String[] _keys;
+   private final ConfigDataType[] _types;
+   private final String[] _values;
+   // Boolean, Integer and Long as long, Double and Float as raw long bits of the double value
+   private final long[] _numbers;
+   private final boolean[] _parsed;
+
+   /* Constructors */
+   private ConfigurationSnapshot(String[] keys, ConfigDataType[] types, String[] values, long[] numbers, boolean[] parsed) {
+
+      _keys = keys;
+      _types = types;
+      _values = values;
+      _numbers = numbers;
+      _parsed = parsed;
+   }
+
+   /**
+    * Read the configuration rows of the cursor
+    *
+    * @param cursor Cursor with the {@link Configuration.Columns#ALL_COLUMNS} projection (e.g. only active rows)
+    * @return New snapshot
+    */
+   public static ConfigurationSnapshot fromCursor(Cursor cursor) {
+
+      int count = cursor.getCount();
+      String[] keys = new String[count];
+      ConfigDataType[] types = new ConfigDataType[count];
+      String[] values = new String[count];
+      long[] numbers = new long[count];
+      boolean[] parsed = new boolean[count];
+
+      Integer[] order = new Integer[count];
+      int rows = 0;
+      if (cursor.moveToFirst()) {
+         do {
+            String key = cursor.getString(Configuration.Columns.IDX_KEY);
+            if (key == null) {
+               continue;
+            }
+
+            keys[rows] = key;
+            types[rows] = ConfigDataType.getConfigDataTypeByCode(cursor.getInt(Configuration.Columns.IDX_TYPE));
+            values[rows] = cursor.getString(Configuration.Columns.IDX_VALUE);
+            order[rows] = rows;
+            rows++;
+         } while (cursor.moveToNext() && rows < count);
+      }
+
+      final String[] unsortedKeys = keys;
+      Arrays.sort(order, 0, rows, new Comparator<Integer>() {
+         @Override
+         public int compare(Integer left, Integer right) {
+
+            return unsortedKeys[left].compareTo(unsortedKeys[right]);
+         }
+      });
+
+      String[] sortedKeys = new String[rows];
+      ConfigDataType[] sortedTypes = new ConfigDataType[rows];
+      String[] sortedValues = new String[rows];
+      int distinct = 0;
+      for (int index = 0; index < rows; index++) {
+         int row = order[index];
+         // Keys are unique in the data base, keep the last row for broken data
+         if (distinct > 0 && sortedKeys[distinct - 1].equals(keys[row])) {
+            distinct--;
+         }
+
+         sortedKeys[distinct] = keys[row];
+         sortedTypes[distinct] = types[row];
+         sortedValues[distinct] = values[row];
+         parsed[distinct] = parse(sortedTypes[distinct], sortedValues[distinct], numbers, distinct);
+         distinct++;
+      }
+
+      return new ConfigurationSnapshot(Arrays.copyOf(sortedKeys, distinct), Arrays.copyOf(sortedTypes, distinct),
+            Arrays.copyOf(sortedValues, distinct), Arrays.copyOf(numbers, distinct), Arrays.copyOf(parsed, distinct));
+   }
+
+   /**
+    * Get number of configuration values
+    *
+    * @return Value count
+    */
+   public int size() {
+
+      return _keys.length;
+   }
+
+   /**
+    * Check, if the key exists
+    *
+    * @param key Configuration key
+    * @return True, if the snapshot contains the key
+    */
+   public boolean contains(String key) {
+
+      return indexOf(key) >= 0;
+   }
+
+   /**
+    * Get the data type of the value
+    *
+    * @param key Configuration key
+    * @return Data type or {@link ConfigDataType#NotSet} for missing keys
+    */
+   public ConfigDataType getType(String key) {
+
+      int index = indexOf(key);
+
+      return index < 0 ? ConfigDataType.NotSet : _types[index];
+   }
+
+   /**
+    * Get the stored text of the value
+    *
+    * @param key          Configuration key
+    * @param defaultValue Value for missing keys or NULL values
+    * @return Stored text
+    */
+   public String getString(String key, String defaultValue) {
+
+      int index = indexOf(key);
+
+      return index < 0 || _values[index] == null ? defaultValue : _values[index];
+   }
+
+   /**
+    * Get boolean value
+    *
+    * @param key          Configuration key
+    * @param defaultValue Value for missing keys or other types
+    * @return Value of a {@link ConfigDataType#Boolean} configuration
+    */
+   public boolean getBoolean(String key, boolean defaultValue) {
+
+      int index = indexOf(key);
+      if (index < 0 || !_parsed[index] || _types[index] != ConfigDataType.Boolean) {
+         return defaultValue;
+      }
+
+      return _numbers[index] != TimeTrackingContract.BOOL_FALSE;
+   }
+
+   /**
+    * Get int value
+    *
+    * @param key          Configuration key
+    * @param defaultValue Value for missing keys, other types or values out of the int range
+    * @return Value of a {@link ConfigDataType#Integer} or {@link ConfigDataType#Long} configuration
+    */
+   public int getInt(String key, int defaultValue) {
+
+      int index = indexOf(key);
+      if (index < 0 || !isIntegral(index)) {
+         return defaultValue;
+      }
+
+      long value = _numbers[index];
+
+      return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (int) value : defaultValue;
+   }
+
+   /**
+    * Get long value
+    *
+    * @param key          Configuration key
+    * @param defaultValue Value for missing keys or other types
+    * @return Value of a {@link ConfigDataType#Integer} or {@link ConfigDataType#Long} configuration
+    */
+   public long getLong(String key, long defaultValue) {
+
+      int index = indexOf(key);
+
+      return index < 0 || !isIntegral(index) ? defaultValue : _numbers[index];
+   }
+
+   /**
+    * Get double value
+    *
+    * @param key          Configuration key
+    * @param defaultValue Value for missing keys or other types
+    * @return Value of a numeric configuration
+    */
+   public double getDouble(String key, double defaultValue) {
+
+      int index = indexOf(key);
+      if (index < 0) {
+         return defaultValue;
+      }
+
+      if (isIntegral(index)) {
+         return _numbers[index];
+      }
+
+      return isDecimal(index) ? Double.longBitsToDouble(_numbers[index]) : defaultValue;
+   }
+
+   /**
+    * Get float value
+    *
+    * @param key          Configuration key
+    * @param defaultValue Value for missing keys or other types
+    * @return Value of a numeric configuration
+    */
+   public float getFloat(String key, float defaultValue) {
+
+      int index = indexOf(key);
+      if (index < 0) {
+         return defaultValue;
+      }
+
+      if (isIntegral(index)) {
+         return _numbers[index];
+      }
+
+      return isDecimal(index) ? (float) Double.longBitsToDouble(_numbers[index]) : defaultValue;
+   }
+
+   /* Private helpers */
+   private int indexOf(String key) {
+
+      int low = 0;
+      int high = _keys.length - 1;
+
+      while (low <= high) {
+         int middle = (low + high) >>> 1;
+         int compare = _keys[middle].compareTo(key);
+
+         if (compare < 0) {
+            low = middle + 1;
+         } else if (compare > 0) {
+            high = middle - 1;
+         } else {
+            return middle;
+         }
+      }
+
+      return -1;
+   }
+
+   private boolean isIntegral(int index) {
+
+      return _parsed[index] && (_types[index] == ConfigDataType.Integer || _types[index] == ConfigDataType.Long);
+   }
+
+   private boolean isDecimal(int index) {
+
+      return _parsed[index] && (_types[index] == ConfigDataType.Double || _types[index] == ConfigDataType.Float);
+   }
+
+   private static boolean parse(ConfigDataType type, String value, long[] numbers, int index) {
+
+      if (value == null) {
+         return false;
+      }
+
+      String text = value.trim();
+      try {
+         switch (type) {
+            case Boolean:
+               if (TimeTrackingContract.BOOL_TRUE_AS_STRING.equals(text) || "true".equalsIgnoreCase(text)) {
+                  numbers[index] = TimeTrackingContract.BOOL_TRUE;
+                  return true;
+               }
+               if (TimeTrackingContract.BOOL_FALSE_AS_STRING.equals(text) || "false".equalsIgnoreCase(text)) {
+                  numbers[index] = TimeTrackingContract.BOOL_FALSE;
+                  return true;
+               }
+               return false;
+
+            case Integer:
+            case Long:
+               numbers[index] = Long.parseLong(text);
+               return true;
+
+            case Double:
+            case Float:
+               numbers[index] = Double.doubleToRawLongBits(Double.parseDouble(text));
+               return true;
+
+            default:
+               return false;
+         }
+      } catch (NumberFormatException e) {
+         return false;
+      }
+   }
+}
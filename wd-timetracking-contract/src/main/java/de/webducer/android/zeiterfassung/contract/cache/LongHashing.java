@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.cache;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract;
+
+/**
+ * Shared helpers of the open addressing maps with long keys ({@link LongObjectMap}, {@link LongIntMap}).
+ * <p/>
+ * Key 0 marks a free slot in the hash table. The key 0 and the ID sentinels of the contract are stored in dedicated
+ * slots outside of the table, so they never collide with row IDs.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+final class LongHashing {
+   /* Package fields */
+   /**
+    * Key of a free table slot
+    */
+   final static long FREE_KEY = 0;
+
+   /**
+    * Number of keys with dedicated slots
+    */
+   final static int SPECIAL_KEY_COUNT = 4;
+
+   /**
+    * Minimal table size
+    */
+   final static int MIN_CAPACITY = 8;
+
+   /* Private fields */
+   private final static long _PHI = 0x9E3779B97F4A7C15L;
+
+   /* Constructors */
+   private LongHashing() {
+
+   }
+
+   /**
+    * Get dedicated slot of a key
+    *
+    * @param key Key
+    * @return Slot (0 to {@link #SPECIAL_KEY_COUNT} - 1) or -1 for keys in the hash table
+    */
+   static int getSpecialSlot(long key) {
+
+      if (key == FREE_KEY) {
+         return 0;
+      }
+
+      if (key == TimeTrackingContract.NO_ID) {
+         return 1;
+      }
+
+      if (key == TimeTrackingContract.NULL_ID) {
+         return 2;
+      }
+
+      if (key == TimeTrackingContract.ALL_ID) {
+         return 3;
+      }
+
+      return -1;
+   }
+
+   /**
+    * Get key of a dedicated slot
+    *
+    * @param slot Slot (0 to {@link #SPECIAL_KEY_COUNT} - 1)
+    * @return Key of the slot
+    */
+   static long getSpecialKey(int slot) {
+
+      switch (slot) {
+         case 0:
+            return FREE_KEY;
+         case 1:
+            return TimeTrackingContract.NO_ID;
+         case 2:
+            return TimeTrackingContract.NULL_ID;
+         default:
+            return TimeTrackingContract.ALL_ID;
+      }
+   }
+
+   /**
+    * Get start slot of the key in a table
+    *
+    * @param key  Key
+    * @param mask Table size - 1 (table size is a power of two)
+    * @return Start slot
+    */
+   static int getSlot(long key, int mask) {
+
+      // Fibonacci hashing spreads sequential IDs over the table
+      long hash = key * _PHI;
+
+      return (int) (hash ^ (hash >>> 32)) & mask;
+   }
+
+   /**
+    * Get table size for the number of entries (at most 3/4 of the table is used)
+    *
+    * @param expectedSize Expected number of entries
+    * @return Table size (power of two)
+    */
+   static int getCapacity(int expectedSize) {
+
+      int capacity = MIN_CAPACITY;
+      while (capacity - (capacity >>> 2) < expectedSize) {
+         capacity <<= 1;
+      }
+
+      return capacity;
+   }
+
+   /**
+    * Check, if the table has to grow before another entry is added
+    *
+    * @param size     Number of entries in the table
+    * @param capacity Table size
+    * @return True, if the table is full
+    */
+   static boolean isFull(int size, int capacity) {
+
+      return size >= capacity - (capacity >>> 2);
+   }
+
+   /**
+    * Check, if the slot lies cyclically between the start slot and the free slot (so the entry must not be moved)
+    *
+    * @param start Start slot of the entry's key
+    * @param free  Slot, that was freed
+    * @param slot  Current slot of the entry
+    * @return True, if the entry has to stay in place
+    */
+   static boolean isBetween(int start, int free, int slot) {
+
+      return free <= slot ? start > free && start <= slot : start > free || start <= slot;
+   }
+}
@@ -0,0 +1,300 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.cache;
+
+import java.util.Arrays;
+
+/**
+ * Map from long keys (e.g. {@link android.provider.BaseColumns#_ID}) to objects without boxing and entry objects.
+ * <p/>
+ * Open addressing with linear probing, the sentinels {@link de.webducer.android.zeiterfassung.contract.TimeTrackingContract#NO_ID},
+ * {@link de.webducer.android.zeiterfassung.contract.TimeTrackingContract#NULL_ID} and
+ * {@link de.webducer.android.zeiterfassung.contract.TimeTrackingContract#ALL_ID} are valid keys. Not thread safe.
+ *
+ * @param <V> Value type
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class LongObjectMap<V> {
+   /* Private fields */
+   private long[] _keys;
+   private Object[] _values;
+   private int _mask;
+   private int _tableSize = 0;
+   private final Object[] _specialValues = new Object[LongHashing.SPECIAL_KEY_COUNT];
+   private final boolean[] _specialUsed = new boolean[LongHashing.SPECIAL_KEY_COUNT];
+   private int _specialSize = 0;
+
+   /* Constructors */
+
+   /**
+    * Create empty map
+    */
+   public LongObjectMap() {
+
+      this(0);
+   }
+
+   /**
+    * Create empty map for the expected number of entries
+    *
+    * @param expectedSize Number of entries, that can be added without resize
+    */
+   public LongObjectMap(int expectedSize) {
+
+      allocate(LongHashing.getCapacity(expectedSize));
+   }
+
+   /**
+    * Get value of the key
+    *
+    * @param key Key
+    * @return Value or null, if the key is not in the map
+    */
+   @SuppressWarnings("unchecked")
+   public V get(long key) {
+
+      int special = LongHashing.getSpecialSlot(key);
+      if (special >= 0) {
+         return (V) _specialValues[special];
+      }
+
+      int slot = findSlot(key);
+
+      return slot < 0 ? null : (V) _values[slot];
+   }
+
+   /**
+    * Check, if the map contains the key
+    *
+    * @param key Key
+    * @return True, if the key was put into the map
+    */
+   public boolean containsKey(long key) {
+
+      int special = LongHashing.getSpecialSlot(key);
+
+      return special >= 0 ? _specialUsed[special] : findSlot(key) >= 0;
+   }
+
+   /**
+    * Put value for the key
+    *
+    * @param key   Key
+    * @param value Value (can be null)
+    * @return Previous value or null
+    */
+   @SuppressWarnings("unchecked")
+   public V put(long key, V value) {
+
+      int special = LongHashing.getSpecialSlot(key);
+      if (special >= 0) {
+         V previous = (V) _specialValues[special];
+         if (!_specialUsed[special]) {
+            _specialUsed[special] = true;
+            _specialSize++;
+         }
+
+         _specialValues[special] = value;
+         return previous;
+      }
+
+      int slot = LongHashing.getSlot(key, _mask);
+      while (_keys[slot] != LongHashing.FREE_KEY) {
+         if (_keys[slot] == key) {
+            V previous = (V) _values[slot];
+            _values[slot] = value;
+            return previous;
+         }
+
+         slot = (slot + 1) & _mask;
+      }
+
+      if (LongHashing.isFull(_tableSize, _keys.length)) {
+         rehash(_keys.length << 1);
+         slot = LongHashing.getSlot(key, _mask);
+         while (_keys[slot] != LongHashing.FREE_KEY) {
+            slot = (slot + 1) & _mask;
+         }
+      }
+
+      _keys[slot] = key;
+      _values[slot] = value;
+      _tableSize++;
+
+      return null;
+   }
+
+   /**
+    * Remove the key
+    *
+    * @param key Key
+    * @return Removed value or null
+    */
+   @SuppressWarnings("unchecked")
+   public V remove(long key) {
+
+      int special = LongHashing.getSpecialSlot(key);
+      if (special >= 0) {
+         V previous = (V) _specialValues[special];
+         if (_specialUsed[special]) {
+            _specialUsed[special] = false;
+            _specialValues[special] = null;
+            _specialSize--;
+         }
+
+         return previous;
+      }
+
+      int slot = findSlot(key);
+      if (slot < 0) {
+         return null;
+      }
+
+      V previous = (V) _values[slot];
+      removeAt(slot);
+
+      return previous;
+   }
+
+   /**
+    * Get number of entries
+    *
+    * @return Entry count
+    */
+   public int size() {
+
+      return _tableSize + _specialSize;
+   }
+
+   /**
+    * Check, if the map has no entries
+    *
+    * @return True, if empty
+    */
+   public boolean isEmpty() {
+
+      return size() == 0;
+   }
+
+   /**
+    * Remove all entries (the capacity is kept)
+    */
+   public void clear() {
+
+      Arrays.fill(_keys, LongHashing.FREE_KEY);
+      Arrays.fill(_values, null);
+      Arrays.fill(_specialValues, null);
+      Arrays.fill(_specialUsed, false);
+      _tableSize = 0;
+      _specialSize = 0;
+   }
+
+   /**
+    * Get all keys
+    *
+    * @return New array of the keys in undefined order
+    */
+   public long[] keys() {
+
+      long[] result = new long[size()];
+      int count = 0;
+
+      for (int special = 0; special < LongHashing.SPECIAL_KEY_COUNT; special++) {
+         if (_specialUsed[special]) {
+            result[count++] = LongHashing.getSpecialKey(special);
+         }
+      }
+
+      for (long key : _keys) {
+         if (key != LongHashing.FREE_KEY) {
+            result[count++] = key;
+         }
+      }
+
+      return result;
+   }
+
+   /* Private helpers */
+   private void allocate(int capacity) {
+
+      _keys = new long[capacity];
+      _values = new Object[capacity];
+      _mask = capacity - 1;
+   }
+
+   private int findSlot(long key) {
+
+      int slot = LongHashing.getSlot(key, _mask);
+      while (_keys[slot] != LongHashing.FREE_KEY) {
+         if (_keys[slot] == key) {
+            return slot;
+         }
+
+         slot = (slot + 1) & _mask;
+      }
+
+      return -1;
+   }
+
+   // Backward shift deletion keeps the probe sequences intact without tombstones
+   private void removeAt(int free) {
+
+      int slot = (free + 1) & _mask;
+      while (_keys[slot] != LongHashing.FREE_KEY) {
+         if (!LongHashing.isBetween(LongHashing.getSlot(_keys[slot], _mask), free, slot)) {
+            _keys[free] = _keys[slot];
+            _values[free] = _values[slot];
+            free = slot;
+         }
+
+         slot = (slot + 1) & _mask;
+      }
+
+      _keys[free] = LongHashing.FREE_KEY;
+      _values[free] = null;
+      _tableSize--;
+   }
+
+   private void rehash(int capacity) {
+
+      long[] oldKeys = _keys;
+      Object[] oldValues = _values;
+      allocate(capacity);
+
+      for (int index = 0; index < oldKeys.length; index++) {
+         if (oldKeys[index] != LongHashing.FREE_KEY) {
+            int slot = LongHashing.getSlot(oldKeys[index], _mask);
+            while (_keys[slot] != LongHashing.FREE_KEY) {
+               slot = (slot + 1) & _mask;
+            }
+
+            _keys[slot] = oldKeys[index];
+            _values[slot] = oldValues[index];
+         }
+      }
+   }
+}
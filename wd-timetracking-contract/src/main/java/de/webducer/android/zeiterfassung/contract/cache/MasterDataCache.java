@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.cache;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.database.Cursor;
+import android.net.Uri;
+
+import java.util.concurrent.Executor;
+
+import de.webducer.android.zeiterfassung.contract.ProjectionIndex;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.Actions;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.MasterData;
+
+/**
+ * Cache of the addresses, projects, time types and project time types, reloaded after
+ * {@link Actions#ACTION_MASTER_DATA_CHANGED}.
+ * <p/>
+ * Lookups work on the current immutable {@link MasterDataSnapshot} without locking, a reload replaces the snapshot as
+ * a whole.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class MasterDataCache extends SnapshotCache<MasterDataSnapshot> {
+   /* Private fields */
+   private final static String _SORT_ORDER = MasterData.Address.Columns._ID + " ASC";
+
+   /* Constructors */
+
+   /**
+    * Create cache, that reloads on a shared background thread
+    *
+    * @param context App context
+    */
+   public MasterDataCache(Context context) {
+
+      this(context, null);
+   }
+
+   /**
+    * Create cache
+    *
+    * @param context  App context
+    * @param executor Executor for the background reloads
+    */
+   public MasterDataCache(Context context, Executor executor) {
+
+      super(context, Actions.ACTION_MASTER_DATA_CHANGED, executor);
+   }
+
+   @Override
+   protected MasterDataSnapshot load(ContentResolver resolver) {
+
+      Cursor addresses = null;
+      Cursor projects = null;
+      Cursor timeTypes = null;
+      Cursor projectTimeTypes = null;
+
+      try {
+         addresses = query(resolver, MasterData.Address.CONTENT_URI, MasterData.Address.Columns.ALL_COLUMNS_INDEX);
+         projects = query(resolver, MasterData.Project.CONTENT_URI, MasterData.Project.Columns.ALL_COLUMNS_INDEX);
+         timeTypes = query(resolver, MasterData.TimeType.CONTENT_URI, MasterData.TimeType.Columns.ALL_COLUMNS_INDEX);
+         projectTimeTypes = query(resolver, MasterData.ProjectTimeType.CONTENT_URI, MasterData.ProjectTimeType.Columns.ALL_COLUMNS_INDEX);
+
+         return MasterDataSnapshot.fromCursors(addresses, projects, timeTypes, projectTimeTypes);
+      } finally {
+         close(addresses);
+         close(projects);
+         close(timeTypes);
+         close(projectTimeTypes);
+      }
+   }
+
+   /* Private helpers */
+   private static Cursor query(ContentResolver resolver, Uri uri, ProjectionIndex projection) {
+
+      return projection.validate(resolver.query(uri, projection.getProjection(), null, null, _SORT_ORDER));
+   }
+
+   private static void close(Cursor cursor) {
+
+      if (cursor != null) {
+         cursor.close();
+      }
+   }
+}
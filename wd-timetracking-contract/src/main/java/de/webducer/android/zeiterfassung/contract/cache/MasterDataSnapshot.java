@@ -0,0 +1,581 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.cache;
+
+import android.database.Cursor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.MasterData;
+import de.webducer.android.zeiterfassung.contract.enums.TimeKind;
+
+/**
+ * Immutable copy of the addresses, projects, time types and project time types (including inactive rows, as they are
+ * still referenced by time records), with lookup by _ID.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class MasterDataSnapshot {
+   /* Public fields */
+   /**
+    * Snapshot without rows
+    */
+   public final static MasterDataSnapshot EMPTY = new MasterDataSnapshot(null, null, null, null);
+
+   /* Private fields */
+   private final LongObjectMap<AddressEntry> _addresses;
+   private final LongObjectMap<ProjectEntry> _projects;
+   private final LongObjectMap<TimeTypeEntry> _timeTypes;
+   private final LongObjectMap<ProjectTimeTypeEntry> _projectTimeTypes;
+   // Rows in ascending _ID order for the positional access
+   private final List<AddressEntry> _addressList;
+   private final List<ProjectEntry> _projectList;
+   private final List<TimeTypeEntry> _timeTypeList;
+   private final List<ProjectTimeTypeEntry> _projectTimeTypeList;
+
+   /* Constructors */
+   private MasterDataSnapshot(LongObjectMap<AddressEntry> addresses, LongObjectMap<ProjectEntry> projects,
+                              LongObjectMap<TimeTypeEntry> timeTypes, LongObjectMap<ProjectTimeTypeEntry> projectTimeTypes) {
+
+      _addresses = addresses != null ? addresses : new LongObjectMap<AddressEntry>();
+      _projects = projects != null ? projects : new LongObjectMap<ProjectEntry>();
+      _timeTypes = timeTypes != null ? timeTypes : new LongObjectMap<TimeTypeEntry>();
+      _projectTimeTypes = projectTimeTypes != null ? projectTimeTypes : new LongObjectMap<ProjectTimeTypeEntry>();
+      _addressList = toSortedList(_addresses);
+      _projectList = toSortedList(_projects);
+      _timeTypeList = toSortedList(_timeTypes);
+      _projectTimeTypeList = toSortedList(_projectTimeTypes);
+   }
+
+   /**
+    * Read the master data rows of the cursors (each with the ALL_COLUMNS projection of its table)
+    *
+    * @param addresses        Address rows (can be null)
+    * @param projects         Project rows (can be null)
+    * @param timeTypes        Time type rows (can be null)
+    * @param projectTimeTypes Project time type rows (can be null)
+    * @return New snapshot
+    */
+   public static MasterDataSnapshot fromCursors(Cursor addresses, Cursor projects, Cursor timeTypes, Cursor projectTimeTypes) {
+
+      return new MasterDataSnapshot(readAddresses(addresses), readProjects(projects), readTimeTypes(timeTypes), readProjectTimeTypes(projectTimeTypes));
+   }
+
+   /**
+    * Get address by ID
+    *
+    * @param id Address ID
+    * @return Address or null
+    */
+   public AddressEntry getAddress(long id) {
+
+      return _addresses.get(id);
+   }
+
+   /**
+    * Get project by ID
+    *
+    * @param id Project ID
+    * @return Project or null
+    */
+   public ProjectEntry getProject(long id) {
+
+      return _projects.get(id);
+   }
+
+   /**
+    * Get time type by ID
+    *
+    * @param id Time type ID
+    * @return Time type or null
+    */
+   public TimeTypeEntry getTimeType(long id) {
+
+      return _timeTypes.get(id);
+   }
+
+   /**
+    * Get project time type by ID
+    *
+    * @param id Project time type ID (e.g. of a time record)
+    * @return Project time type or null
+    */
+   public ProjectTimeTypeEntry getProjectTimeType(long id) {
+
+      return _projectTimeTypes.get(id);
+   }
+
+   /**
+    * Get the project of a project time type
+    *
+    * @param projectTimeTypeId Project time type ID (e.g. of a time record)
+    * @return Project or null
+    */
+   public ProjectEntry getProjectOfProjectTimeType(long projectTimeTypeId) {
+
+      ProjectTimeTypeEntry projectTimeType = _projectTimeTypes.get(projectTimeTypeId);
+
+      return projectTimeType == null ? null : _projects.get(projectTimeType.getProjectId());
+   }
+
+   /**
+    * Get the time type of a project time type
+    *
+    * @param projectTimeTypeId Project time type ID (e.g. of a time record)
+    * @return Time type or null
+    */
+   public TimeTypeEntry getTimeTypeOfProjectTimeType(long projectTimeTypeId) {
+
+      ProjectTimeTypeEntry projectTimeType = _projectTimeTypes.get(projectTimeTypeId);
+
+      return projectTimeType == null ? null : _timeTypes.get(projectTimeType.getTimeTypeId());
+   }
+
+   /**
+    * Number of addresses
+    *
+    * @return Address count
+    */
+   public int getAddressCount() {
+
+      return _addresses.size();
+   }
+
+   /**
+    * Get address by position (ascending IDs)
+    *
+    * @param index Position
+    * @return Address
+    */
+   public AddressEntry getAddressAt(int index) {
+
+      return _addressList.get(index);
+   }
+
+   /**
+    * Number of projects
+    *
+    * @return Project count
+    */
+   public int getProjectCount() {
+
+      return _projects.size();
+   }
+
+   /**
+    * Get project by position (ascending IDs)
+    *
+    * @param index Position
+    * @return Project
+    */
+   public ProjectEntry getProjectAt(int index) {
+
+      return _projectList.get(index);
+   }
+
+   /**
+    * Number of time types
+    *
+    * @return Time type count
+    */
+   public int getTimeTypeCount() {
+
+      return _timeTypes.size();
+   }
+
+   /**
+    * Get time type by position (ascending IDs)
+    *
+    * @param index Position
+    * @return Time type
+    */
+   public TimeTypeEntry getTimeTypeAt(int index) {
+
+      return _timeTypeList.get(index);
+   }
+
+   /**
+    * Number of project time types
+    *
+    * @return Project time type count
+    */
+   public int getProjectTimeTypeCount() {
+
+      return _projectTimeTypes.size();
+   }
+
+   /**
+    * Get project time type by position (ascending IDs)
+    *
+    * @param index Position
+    * @return Project time type
+    */
+   public ProjectTimeTypeEntry getProjectTimeTypeAt(int index) {
+
+      return _projectTimeTypeList.get(index);
+   }
+
+   /* Private helpers */
+   private static LongObjectMap<AddressEntry> readAddresses(Cursor cursor) {
+
+      if (cursor == null) {
+         return null;
+      }
+
+      int count = cursor.getCount();
+      LongObjectMap<AddressEntry> rows = new LongObjectMap<AddressEntry>(count);
+
+      if (cursor.moveToFirst()) {
+         do {
+            AddressEntry row = new AddressEntry(
+                  cursor.getLong(MasterData.Address.Columns.IDX_ID),
+                  cursor.getString(MasterData.Address.Columns.IDX_NAME),
+                  cursor.getString(MasterData.Address.Columns.IDX_STREET),
+                  cursor.getString(MasterData.Address.Columns.IDX_POSTAL_CODE),
+                  cursor.getString(MasterData.Address.Columns.IDX_CITY),
+                  cursor.getString(MasterData.Address.Columns.IDX_COUNTRY),
+                  getBoolean(cursor, MasterData.Address.Columns.IDX_ACTIVE));
+            rows.put(row.getId(), row);
+         } while (rows.size() < count && cursor.moveToNext());
+      }
+
+      return rows;
+   }
+
+   private static LongObjectMap<ProjectEntry> readProjects(Cursor cursor) {
+
+      if (cursor == null) {
+         return null;
+      }
+
+      int count = cursor.getCount();
+      LongObjectMap<ProjectEntry> rows = new LongObjectMap<ProjectEntry>(count);
+
+      if (cursor.moveToFirst()) {
+         do {
+            ProjectEntry row = new ProjectEntry(
+                  cursor.getLong(MasterData.Project.Columns.IDX_ID),
+                  getId(cursor, MasterData.Project.Columns.IDX_ADDRESS_ID),
+                  cursor.getString(MasterData.Project.Columns.IDX_NAME),
+                  cursor.getString(MasterData.Project.Columns.IDX_DESCRIPTION),
+                  getBoolean(cursor, MasterData.Project.Columns.IDX_ACTIVE));
+            rows.put(row.getId(), row);
+         } while (rows.size() < count && cursor.moveToNext());
+      }
+
+      return rows;
+   }
+
+   private static LongObjectMap<TimeTypeEntry> readTimeTypes(Cursor cursor) {
+
+      if (cursor == null) {
+         return null;
+      }
+
+      int count = cursor.getCount();
+      LongObjectMap<TimeTypeEntry> rows = new LongObjectMap<TimeTypeEntry>(count);
+
+      if (cursor.moveToFirst()) {
+         do {
+            TimeTypeEntry row = new TimeTypeEntry(
+                  cursor.getLong(MasterData.TimeType.Columns.IDX_ID),
+                  TimeKind.getTimeKindByCode(cursor.getInt(MasterData.TimeType.Columns.IDX_KIND)),
+                  cursor.getString(MasterData.TimeType.Columns.IDX_NAME),
+                  cursor.getString(MasterData.TimeType.Columns.IDX_DESCRIPTION),
+                  cursor.getDouble(MasterData.TimeType.Columns.IDX_FEE),
+                  cursor.isNull(MasterData.TimeType.Columns.IDX_TIME_FACTOR) ? 1 : cursor.getDouble(MasterData.TimeType.Columns.IDX_TIME_FACTOR),
+                  getBoolean(cursor, MasterData.TimeType.Columns.IDX_ACTIVE));
+            rows.put(row.getId(), row);
+         } while (rows.size() < count && cursor.moveToNext());
+      }
+
+      return rows;
+   }
+
+   private static LongObjectMap<ProjectTimeTypeEntry> readProjectTimeTypes(Cursor cursor) {
+
+      if (cursor == null) {
+         return null;
+      }
+
+      int count = cursor.getCount();
+      LongObjectMap<ProjectTimeTypeEntry> rows = new LongObjectMap<ProjectTimeTypeEntry>(count);
+
+      if (cursor.moveToFirst()) {
+         do {
+            ProjectTimeTypeEntry row = new ProjectTimeTypeEntry(
+                  cursor.getLong(MasterData.ProjectTimeType.Columns.IDX_ID),
+                  getId(cursor, MasterData.ProjectTimeType.Columns.IDX_PROJECT_ID),
+                  getId(cursor, MasterData.ProjectTimeType.Columns.IDX_TIME_TYPE_ID),
+                  cursor.getDouble(MasterData.ProjectTimeType.Columns.IDX_DISCOUNT),
+                  getBoolean(cursor, MasterData.ProjectTimeType.Columns.IDX_DEFAULT));
+            rows.put(row.getId(), row);
+         } while (rows.size() < count && cursor.moveToNext());
+      }
+
+      return rows;
+   }
+
+   private static <E> List<E> toSortedList(LongObjectMap<E> rows) {
+
+      long[] ids = rows.keys();
+      Arrays.sort(ids);
+
+      List<E> result = new ArrayList<E>(ids.length);
+      for (long id : ids) {
+         result.add(rows.get(id));
+      }
+
+      return result;
+   }
+
+   private static long getId(Cursor cursor, int columnIndex) {
+
+      return cursor.isNull(columnIndex) ? TimeTrackingContract.NO_ID : cursor.getLong(columnIndex);
+   }
+
+   private static boolean getBoolean(Cursor cursor, int columnIndex) {
+
+      return !cursor.isNull(columnIndex) && cursor.getInt(columnIndex) != TimeTrackingContract.BOOL_FALSE;
+   }
+
+   /**
+    * Cached address row
+    */
+   public final static class AddressEntry {
+      private final long _id;
+      private final String _name;
+      private final String _street;
+      private final String _postalCode;
+      private final String _city;
+      private final String _country;
+      private final boolean _active;
+
+      AddressEntry(long id, String name, String street, String postalCode, String city, String country, boolean active) {
+
+         _id = id;
+         _name = name;
+         _street = street;
+         _postalCode = postalCode;
+         _city = city;
+         _country = country;
+         _active = active;
+      }
+
+      public long getId() {
+
+         return _id;
+      }
+
+      public String getName() {
+
+         return _name;
+      }
+
+      public String getStreet() {
+
+         return _street;
+      }
+
+      public String getPostalCode() {
+
+         return _postalCode;
+      }
+
+      public String getCity() {
+
+         return _city;
+      }
+
+      public String getCountry() {
+
+         return _country;
+      }
+
+      public boolean isActive() {
+
+         return _active;
+      }
+   }
+
+   /**
+    * Cached project row
+    */
+   public final static class ProjectEntry {
+      private final long _id;
+      private final long _addressId;
+      private final String _name;
+      private final String _description;
+      private final boolean _active;
+
+      ProjectEntry(long id, long addressId, String name, String description, boolean active) {
+
+         _id = id;
+         _addressId = addressId;
+         _name = name;
+         _description = description;
+         _active = active;
+      }
+
+      public long getId() {
+
+         return _id;
+      }
+
+      /**
+       * Get ID of the assigned address
+       *
+       * @return Address ID or {@link TimeTrackingContract#NO_ID}
+       */
+      public long getAddressId() {
+
+         return _addressId;
+      }
+
+      public String getName() {
+
+         return _name;
+      }
+
+      public String getDescription() {
+
+         return _description;
+      }
+
+      public boolean isActive() {
+
+         return _active;
+      }
+   }
+
+   /**
+    * Cached time type row
+    */
+   public final static class TimeTypeEntry {
+      private final long _id;
+      private final TimeKind _kind;
+      private final String _name;
+      private final String _description;
+      private final double _fee;
+      private final double _timeFactor;
+      private final boolean _active;
+
+      TimeTypeEntry(long id, TimeKind kind, String name, String description, double fee, double timeFactor, boolean active) {
+
+         _id = id;
+         _kind = kind;
+         _name = name;
+         _description = description;
+         _fee = fee;
+         _timeFactor = timeFactor;
+         _active = active;
+      }
+
+      public long getId() {
+
+         return _id;
+      }
+
+      public TimeKind getKind() {
+
+         return _kind;
+      }
+
+      public String getName() {
+
+         return _name;
+      }
+
+      public String getDescription() {
+
+         return _description;
+      }
+
+      public double getFee() {
+
+         return _fee;
+      }
+
+      public double getTimeFactor() {
+
+         return _timeFactor;
+      }
+
+      public boolean isActive() {
+
+         return _active;
+      }
+   }
+
+   /**
+    * Cached project time type row
+    */
+   public final static class ProjectTimeTypeEntry {
+      private final long _id;
+      private final long _projectId;
+      private final long _timeTypeId;
+      private final double _discount;
+      private final boolean _default;
+
+      ProjectTimeTypeEntry(long id, long projectId, long timeTypeId, double discount, boolean isDefault) {
+
+         _id = id;
+         _projectId = projectId;
+         _timeTypeId = timeTypeId;
+         _discount = discount;
+         _default = isDefault;
+      }
+
+      public long getId() {
+
+         return _id;
+      }
+
+      public long getProjectId() {
+
+         return _projectId;
+      }
+
+      public long getTimeTypeId() {
+
+         return _timeTypeId;
+      }
+
+      public double getDiscount() {
+
+         return _discount;
+      }
+
+      public boolean isDefault() {
+
+         return _default;
+      }
+   }
+}
@@ -0,0 +1,200 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.cache;
+
+import android.content.BroadcastReceiver;
+import android.content.ContentResolver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holder of an immutable snapshot of provider data, that is replaced as a whole after a change broadcast.
+ * <p/>
+ * Readers get the current snapshot with one volatile read and never wait for a reload; the new snapshot is loaded
+ * in the background and published atomically. Several broadcasts during a running reload cause one more reload.
+ *
+ * @param <T> Immutable snapshot type
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public abstract class SnapshotCache<T> {
+   /* Private fields */
+   private static ExecutorService _defaultExecutor = null;
+
+   private final Context _context;
+   private final String _action;
+   private final Executor _executor;
+   private final AtomicBoolean _refreshPending = new AtomicBoolean(false);
+   // Serializes the loads, so an older load can not replace a newer snapshot
+   private final Object _loadLock = new Object();
+   private volatile T _snapshot = null;
+   private boolean _registered = false;
+
+   private final BroadcastReceiver _receiver = new BroadcastReceiver() {
+      @Override
+      public void onReceive(Context context, Intent intent) {
+
+         refreshAsync();
+      }
+   };
+
+   private final Runnable _refreshTask = new Runnable() {
+      @Override
+      public void run() {
+
+         _refreshPending.set(false);
+         refresh();
+      }
+   };
+
+   /* Constructors */
+
+   /**
+    * Create cache
+    *
+    * @param context  App context
+    * @param action   Broadcast action, that triggers the reload (e.g. {@code Actions.ACTION_CONFIG_DATA_CHANGED})
+    * @param executor Executor for the background reloads (null for a shared background thread)
+    */
+   protected SnapshotCache(Context context, String action, Executor executor) {
+
+      Context applicationContext = context.getApplicationContext();
+      _context = applicationContext != null ? applicationContext : context;
+      _action = action;
+      _executor = executor != null ? executor : getDefaultExecutor();
+   }
+
+   /**
+    * Get the current snapshot (loaded on the calling thread on first access)
+    *
+    * @return Current snapshot
+    */
+   public T get() {
+
+      T snapshot = _snapshot;
+      if (snapshot != null) {
+         return snapshot;
+      }
+
+      synchronized (_loadLock) {
+         if (_snapshot == null) {
+            _snapshot = load(_context.getContentResolver());
+         }
+
+         return _snapshot;
+      }
+   }
+
+   /**
+    * Get the current snapshot without loading it
+    *
+    * @return Current snapshot or null, if not loaded yet
+    */
+   public T peek() {
+
+      return _snapshot;
+   }
+
+   /**
+    * Load a new snapshot on the calling thread and publish it
+    *
+    * @return New snapshot
+    */
+   public T refresh() {
+
+      synchronized (_loadLock) {
+         T snapshot = load(_context.getContentResolver());
+         _snapshot = snapshot;
+
+         return snapshot;
+      }
+   }
+
+   /**
+    * Load a new snapshot in the background (several calls before the start of the load cause one load)
+    */
+   public void refreshAsync() {
+
+      if (_refreshPending.compareAndSet(false, true)) {
+         _executor.execute(_refreshTask);
+      }
+   }
+
+   /**
+    * Register for the change broadcasts (e.g. in Application.onCreate)
+    */
+   public synchronized void register() {
+
+      if (!_registered) {
+         _context.registerReceiver(_receiver, new IntentFilter(_action));
+         _registered = true;
+      }
+   }
+
+   /**
+    * Unregister from the change broadcasts
+    */
+   public synchronized void unregister() {
+
+      if (_registered) {
+         _context.unregisterReceiver(_receiver);
+         _registered = false;
+      }
+   }
+
+   /**
+    * Load the snapshot from the provider
+    *
+    * @param resolver Content resolver
+    * @return New immutable snapshot (never null)
+    */
+   protected abstract T load(ContentResolver resolver);
+
+   /* Private helpers */
+   private static synchronized ExecutorService getDefaultExecutor() {
+
+      if (_defaultExecutor == null) {
+         _defaultExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+
+               Thread thread = new Thread(runnable, "SnapshotCache");
+               thread.setDaemon(true);
+               return thread;
+            }
+         });
+      }
+
+      return _defaultExecutor;
+   }
+}
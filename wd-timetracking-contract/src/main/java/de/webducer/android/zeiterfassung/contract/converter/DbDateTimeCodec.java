@@ -0,0 +1,488 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.converter;
+
+import java.util.TimeZone;
+
+import de.webducer.android.zeiterfassung.contract.Constants;
+
+/**
+ * Thread safe codec for the data base date and time fields ('yyyy-MM-dd'T'HH:mm', 'yyyy-MM-dd' and 'HH:mm').
+ * <p/>
+ * The codec works on primitive values only: dates are represented as epoch day (days since 1970-01-01), times as minute
+ * of the day and date times as epoch minute (minutes since 1970-01-01T00:00). All values are wall clock values without
+ * time zone, exactly as stored in the data base. Formatting writes into caller supplied buffers and parsing reads from
+ * any {@link CharSequence}, so no objects are created per call.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class DbDateTimeCodec {
+   /* Public fields */
+   /**
+    * Length of a data base date time value (yyyy-MM-dd'T'HH:mm)
+    */
+   public final static int DATE_TIME_LENGTH = 16;
+
+   /**
+    * Length of a data base date value (yyyy-MM-dd)
+    */
+   public final static int DATE_LENGTH = 10;
+
+   /**
+    * Length of a data base time value (HH:mm)
+    */
+   public final static int TIME_LENGTH = 5;
+
+   /**
+    * Separator between year, month and day
+    */
+   public final static char DATE_SEPARATOR = '-';
+
+   /**
+    * Separator between date and time
+    */
+   public final static char DATE_TIME_SEPARATOR = 'T';
+
+   /**
+    * Separator between hours and minutes
+    */
+   public final static char TIME_SEPARATOR = ':';
+
+   /* Private fields */
+   private final static int _MIN_YEAR = 0;
+   private final static int _MAX_YEAR = 9999;
+   private final static long _MILLIS_IN_A_MINUTE = 60000L;
+   // Days from 0000-03-01 to 1970-01-01
+   private final static int _DAYS_0000_TO_1970 = 719468;
+   private final static int _DAYS_PER_ERA = 146097;
+   private final static int[] _DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+   /* Constructors */
+   private DbDateTimeCodec() {
+
+   }
+
+   /**
+    * Convert a calendar date into the epoch day
+    *
+    * @param year  Year (0 - 9999)
+    * @param month Month of the year (1 - 12)
+    * @param day   Day of the month (1 - 31)
+    * @return Days since 1970-01-01
+    */
+   public static int toEpochDay(int year, int month, int day) {
+
+      int y = month <= 2 ? year - 1 : year;
+      int era = (y >= 0 ? y : y - 399) / 400;
+      int yearOfEra = y - era * 400;
+      int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+      int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+      return era * _DAYS_PER_ERA + dayOfEra - _DAYS_0000_TO_1970;
+   }
+
+   /**
+    * Convert an epoch day into a packed calendar date
+    *
+    * @param epochDay Days since 1970-01-01
+    * @return Calendar date as packed int (year * 10000 + month * 100 + day, e.g. 20131127)
+    */
+   public static int toYearMonthDay(int epochDay) {
+
+      int z = epochDay + _DAYS_0000_TO_1970;
+      int era = (z >= 0 ? z : z - _DAYS_PER_ERA + 1) / _DAYS_PER_ERA;
+      int dayOfEra = z - era * _DAYS_PER_ERA;
+      int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+      int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+      int mp = (5 * dayOfYear + 2) / 153;
+      int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+      int month = mp < 10 ? mp + 3 : mp - 9;
+      int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+      return year * 10000 + month * 100 + day;
+   }
+
+   /**
+    * Get the year of the epoch day
+    *
+    * @param epochDay Days since 1970-01-01
+    * @return Year
+    */
+   public static int getYear(int epochDay) {
+
+      return toYearMonthDay(epochDay) / 10000;
+   }
+
+   /**
+    * Get the month of the epoch day
+    *
+    * @param epochDay Days since 1970-01-01
+    * @return Month of the year (1 - 12)
+    */
+   public static int getMonth(int epochDay) {
+
+      return (toYearMonthDay(epochDay) / 100) % 100;
+   }
+
+   /**
+    * Get the day of month of the epoch day
+    *
+    * @param epochDay Days since 1970-01-01
+    * @return Day of the month (1 - 31)
+    */
+   public static int getDayOfMonth(int epochDay) {
+
+      return toYearMonthDay(epochDay) % 100;
+   }
+
+   /**
+    * Get the number of days in the month
+    *
+    * @param year  Year
+    * @param month Month of the year (1 - 12)
+    * @return Number of days in the month
+    */
+   public static int getDaysInMonth(int year, int month) {
+
+      if (month == 2 && (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0))) {
+         return 29;
+      }
+
+      return _DAYS_IN_MONTH[month - 1];
+   }
+
+   /**
+    * Get the epoch day of the epoch minute
+    *
+    * @param epochMinute Minutes since 1970-01-01T00:00
+    * @return Days since 1970-01-01
+    */
+   public static int getEpochDay(long epochMinute) {
+
+      return (int) floorDiv(epochMinute, Constants.MINUTES_IN_A_DAY);
+   }
+
+   /**
+    * Get the minute of the day of the epoch minute
+    *
+    * @param epochMinute Minutes since 1970-01-01T00:00
+    * @return Minute of the day (0 - 1439)
+    */
+   public static int getMinuteOfDay(long epochMinute) {
+
+      return (int) (epochMinute - floorDiv(epochMinute, Constants.MINUTES_IN_A_DAY) * Constants.MINUTES_IN_A_DAY);
+   }
+
+   /**
+    * Combine epoch day and minute of the day into the epoch minute
+    *
+    * @param epochDay    Days since 1970-01-01
+    * @param minuteOfDay Minute of the day (0 - 1439)
+    * @return Minutes since 1970-01-01T00:00
+    */
+   public static long toEpochMinute(int epochDay, int minuteOfDay) {
+
+      return (long) epochDay * Constants.MINUTES_IN_A_DAY + minuteOfDay;
+   }
+
+   /**
+    * Write the date (yyyy-MM-dd) into the buffer
+    *
+    * @param epochDay Days since 1970-01-01
+    * @param buffer   Target buffer (at least {@link #DATE_LENGTH} chars from offset)
+    * @param offset   Start position in the buffer
+    * @return Position after the last written char
+    */
+   public static int formatDate(int epochDay, char[] buffer, int offset) {
+
+      int ymd = toYearMonthDay(epochDay);
+      int year = ymd / 10000;
+      checkYear(year);
+
+      offset = writeFourDigits(year, buffer, offset);
+      buffer[offset++] = DATE_SEPARATOR;
+      offset = writeTwoDigits((ymd / 100) % 100, buffer, offset);
+      buffer[offset++] = DATE_SEPARATOR;
+
+      return writeTwoDigits(ymd % 100, buffer, offset);
+   }
+
+   /**
+    * Write the time (HH:mm) into the buffer
+    *
+    * @param minuteOfDay Minute of the day (0 - 1439)
+    * @param buffer      Target buffer (at least {@link #TIME_LENGTH} chars from offset)
+    * @param offset      Start position in the buffer
+    * @return Position after the last written char
+    */
+   public static int formatTime(int minuteOfDay, char[] buffer, int offset) {
+
+      checkMinuteOfDay(minuteOfDay);
+
+      offset = writeTwoDigits(minuteOfDay / Constants.MINUTES_IN_A_HOUR, buffer, offset);
+      buffer[offset++] = TIME_SEPARATOR;
+
+      return writeTwoDigits(minuteOfDay % Constants.MINUTES_IN_A_HOUR, buffer, offset);
+   }
+
+   /**
+    * Write the date time (yyyy-MM-dd'T'HH:mm) into the buffer
+    *
+    * @param epochMinute Minutes since 1970-01-01T00:00
+    * @param buffer      Target buffer (at least {@link #DATE_TIME_LENGTH} chars from offset)
+    * @param offset      Start position in the buffer
+    * @return Position after the last written char
+    */
+   public static int formatDateTime(long epochMinute, char[] buffer, int offset) {
+
+      offset = formatDate(getEpochDay(epochMinute), buffer, offset);
+      buffer[offset++] = DATE_TIME_SEPARATOR;
+
+      return formatTime(getMinuteOfDay(epochMinute), buffer, offset);
+   }
+
+   /**
+    * Append the date (yyyy-MM-dd) to the builder
+    *
+    * @param epochDay Days since 1970-01-01
+    * @param builder  Target builder
+    * @return Same builder for chaining
+    */
+   public static StringBuilder appendDate(int epochDay, StringBuilder builder) {
+
+      int ymd = toYearMonthDay(epochDay);
+      int year = ymd / 10000;
+      checkYear(year);
+
+      appendFourDigits(year, builder).append(DATE_SEPARATOR);
+      appendTwoDigits((ymd / 100) % 100, builder).append(DATE_SEPARATOR);
+
+      return appendTwoDigits(ymd % 100, builder);
+   }
+
+   /**
+    * Append the time (HH:mm) to the builder
+    *
+    * @param minuteOfDay Minute of the day (0 - 1439)
+    * @param builder     Target builder
+    * @return Same builder for chaining
+    */
+   public static StringBuilder appendTime(int minuteOfDay, StringBuilder builder) {
+
+      checkMinuteOfDay(minuteOfDay);
+
+      appendTwoDigits(minuteOfDay / Constants.MINUTES_IN_A_HOUR, builder).append(TIME_SEPARATOR);
+
+      return appendTwoDigits(minuteOfDay % Constants.MINUTES_IN_A_HOUR, builder);
+   }
+
+   /**
+    * Append the date time (yyyy-MM-dd'T'HH:mm) to the builder
+    *
+    * @param epochMinute Minutes since 1970-01-01T00:00
+    * @param builder     Target builder
+    * @return Same builder for chaining
+    */
+   public static StringBuilder appendDateTime(long epochMinute, StringBuilder builder) {
+
+      appendDate(getEpochDay(epochMinute), builder).append(DATE_TIME_SEPARATOR);
+
+      return appendTime(getMinuteOfDay(epochMinute), builder);
+   }
+
+   /**
+    * Parse the date (yyyy-MM-dd)
+    *
+    * @param value  Source value
+    * @param offset Start position of the date in the source
+    * @return Days since 1970-01-01
+    * @throws IllegalArgumentException if the value is not a valid date
+    */
+   public static int parseDate(CharSequence value, int offset) {
+
+      checkLength(value, offset, DATE_LENGTH);
+
+      int year = readDigits(value, offset, 4);
+      checkSeparator(value, offset + 4, DATE_SEPARATOR);
+      int month = readDigits(value, offset + 5, 2);
+      checkSeparator(value, offset + 7, DATE_SEPARATOR);
+      int day = readDigits(value, offset + 8, 2);
+
+      if (month < 1 || month > 12 || day < 1 || day > getDaysInMonth(year, month)) {
+         throw new IllegalArgumentException("Invalid date at position " + offset);
+      }
+
+      return toEpochDay(year, month, day);
+   }
+
+   /**
+    * Parse the time (HH:mm)
+    *
+    * @param value  Source value
+    * @param offset Start position of the time in the source
+    * @return Minute of the day (0 - 1439)
+    * @throws IllegalArgumentException if the value is not a valid time
+    */
+   public static int parseTime(CharSequence value, int offset) {
+
+      checkLength(value, offset, TIME_LENGTH);
+
+      int hour = readDigits(value, offset, 2);
+      checkSeparator(value, offset + 2, TIME_SEPARATOR);
+      int minute = readDigits(value, offset + 3, 2);
+
+      if (hour >= Constants.HOURS_IN_A_DAY || minute >= Constants.MINUTES_IN_A_HOUR) {
+         throw new IllegalArgumentException("Invalid time at position " + offset);
+      }
+
+      return hour * Constants.MINUTES_IN_A_HOUR + minute;
+   }
+
+   /**
+    * Parse the date time (yyyy-MM-dd'T'HH:mm)
+    *
+    * @param value  Source value
+    * @param offset Start position of the date time in the source
+    * @return Minutes since 1970-01-01T00:00
+    * @throws IllegalArgumentException if the value is not a valid date time
+    */
+   public static long parseDateTime(CharSequence value, int offset) {
+
+      checkLength(value, offset, DATE_TIME_LENGTH);
+
+      int epochDay = parseDate(value, offset);
+      checkSeparator(value, offset + DATE_LENGTH, DATE_TIME_SEPARATOR);
+
+      return toEpochMinute(epochDay, parseTime(value, offset + DATE_LENGTH + 1));
+   }
+
+   /**
+    * Convert a point in time into the wall clock epoch minute of the time zone
+    *
+    * @param millis Milliseconds since 1970-01-01T00:00Z (e.g. {@link java.util.Date#getTime()})
+    * @param zone   Time zone of the wall clock
+    * @return Minutes since 1970-01-01T00:00 (wall clock)
+    */
+   public static long fromMillis(long millis, TimeZone zone) {
+
+      return floorDiv(millis + zone.getOffset(millis), _MILLIS_IN_A_MINUTE);
+   }
+
+   /**
+    * Convert the wall clock epoch minute of the time zone into a point in time
+    *
+    * @param epochMinute Minutes since 1970-01-01T00:00 (wall clock)
+    * @param zone        Time zone of the wall clock
+    * @return Milliseconds since 1970-01-01T00:00Z
+    */
+   public static long toMillis(long epochMinute, TimeZone zone) {
+
+      long localMillis = epochMinute * _MILLIS_IN_A_MINUTE;
+      int offset = zone.getOffset(localMillis - zone.getRawOffset());
+      int correctedOffset = zone.getOffset(localMillis - offset);
+
+      return localMillis - (correctedOffset != offset ? correctedOffset : offset);
+   }
+
+   /* Private helpers */
+   static long floorDiv(long value, long divisor) {
+
+      long quotient = value / divisor;
+
+      return (value % divisor != 0 && (value < 0) != (divisor < 0)) ? quotient - 1 : quotient;
+   }
+
+   private static void checkYear(int year) {
+
+      if (year < _MIN_YEAR || year > _MAX_YEAR) {
+         throw new IllegalArgumentException("Year out of range: " + year);
+      }
+   }
+
+   private static void checkMinuteOfDay(int minuteOfDay) {
+
+      if (minuteOfDay < 0 || minuteOfDay >= Constants.MINUTES_IN_A_DAY) {
+         throw new IllegalArgumentException("Minute of day out of range: " + minuteOfDay);
+      }
+   }
+
+   private static void checkLength(CharSequence value, int offset, int length) {
+
+      if (value == null || offset < 0 || value.length() - offset < length) {
+         throw new IllegalArgumentException("Value too short at position " + offset);
+      }
+   }
+
+   private static void checkSeparator(CharSequence value, int position, char separator) {
+
+      if (value.charAt(position) != separator) {
+         throw new IllegalArgumentException("Expected '" + separator + "' at position " + position);
+      }
+   }
+
+   private static int readDigits(CharSequence value, int offset, int count) {
+
+      int result = 0;
+      for (int index = offset; index < offset + count; index++) {
+         int digit = value.charAt(index) - '0';
+         if (digit < 0 || digit > 9) {
+            throw new IllegalArgumentException("Expected digit at position " + index);
+         }
+
+         result = result * 10 + digit;
+      }
+
+      return result;
+   }
+
+   private static int writeTwoDigits(int value, char[] buffer, int offset) {
+
+      buffer[offset] = (char) ('0' + value / 10);
+      buffer[offset + 1] = (char) ('0' + value % 10);
+
+      return offset + 2;
+   }
+
+   private static int writeFourDigits(int value, char[] buffer, int offset) {
+
+      writeTwoDigits(value / 100, buffer, offset);
+
+      return writeTwoDigits(value % 100, buffer, offset + 2);
+   }
+
+   private static StringBuilder appendTwoDigits(int value, StringBuilder builder) {
+
+      return builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+   }
+
+   private static StringBuilder appendFourDigits(int value, StringBuilder builder) {
+
+      appendTwoDigits(value / 100, builder);
+
+      return appendTwoDigits(value % 100, builder);
+   }
+}
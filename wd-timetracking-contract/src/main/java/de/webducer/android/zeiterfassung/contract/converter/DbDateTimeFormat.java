@@ -0,0 +1,181 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.converter;
+
+import java.text.DateFormat;
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * {@link DateFormat} adapter over {@link DbDateTimeCodec} for the legacy formatter fields of the contract.
+ * <p/>
+ * Formatting and parsing are thread safe as long as the time zone is not changed. Parsing is always strict.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class DbDateTimeFormat extends DateFormat {
+   /* Public fields */
+   /**
+    * Pattern 'yyyy-MM-dd'T'HH:mm'
+    */
+   public final static int STYLE_DATE_TIME = 0;
+
+   /**
+    * Pattern 'yyyy-MM-dd'
+    */
+   public final static int STYLE_DATE = 1;
+
+   /**
+    * Pattern 'HH:mm'
+    */
+   public final static int STYLE_TIME = 2;
+
+   /* Private fields */
+   private final int _style;
+
+   /* Constructors */
+
+   /**
+    * Create adapter for the given pattern style
+    *
+    * @param style One of {@link #STYLE_DATE_TIME}, {@link #STYLE_DATE} or {@link #STYLE_TIME}
+    */
+   public DbDateTimeFormat(int style) {
+
+      if (style < STYLE_DATE_TIME || style > STYLE_TIME) {
+         throw new IllegalArgumentException("Unknown style: " + style);
+      }
+
+      _style = style;
+      // Only needed by the inherited API (time zone), not used for formatting or parsing
+      calendar = Calendar.getInstance(TimeZone.getDefault(), Locale.GERMANY);
+      numberFormat = NumberFormat.getIntegerInstance(Locale.GERMANY);
+   }
+
+   @Override
+   public StringBuffer format(Date date, StringBuffer toAppendTo, FieldPosition fieldPosition) {
+
+      long epochMinute = DbDateTimeCodec.fromMillis(date.getTime(), getTimeZone());
+      char[] buffer = new char[DbDateTimeCodec.DATE_TIME_LENGTH];
+      int length;
+
+      switch (_style) {
+         case STYLE_DATE:
+            length = DbDateTimeCodec.formatDate(DbDateTimeCodec.getEpochDay(epochMinute), buffer, 0);
+            break;
+
+         case STYLE_TIME:
+            length = DbDateTimeCodec.formatTime(DbDateTimeCodec.getMinuteOfDay(epochMinute), buffer, 0);
+            break;
+
+         default:
+            length = DbDateTimeCodec.formatDateTime(epochMinute, buffer, 0);
+            break;
+      }
+
+      fieldPosition.setBeginIndex(0);
+      fieldPosition.setEndIndex(0);
+
+      return toAppendTo.append(buffer, 0, length);
+   }
+
+   @Override
+   public Date parse(String source, ParsePosition position) {
+
+      int start = position.getIndex();
+      long epochMinute;
+      int length;
+
+      try {
+         switch (_style) {
+            case STYLE_DATE:
+               epochMinute = DbDateTimeCodec.toEpochMinute(DbDateTimeCodec.parseDate(source, start), 0);
+               length = DbDateTimeCodec.DATE_LENGTH;
+               break;
+
+            case STYLE_TIME:
+               epochMinute = DbDateTimeCodec.parseTime(source, start);
+               length = DbDateTimeCodec.TIME_LENGTH;
+               break;
+
+            default:
+               epochMinute = DbDateTimeCodec.parseDateTime(source, start);
+               length = DbDateTimeCodec.DATE_TIME_LENGTH;
+               break;
+         }
+      } catch (IllegalArgumentException e) {
+         position.setErrorIndex(start);
+         return null;
+      }
+
+      position.setIndex(start + length);
+
+      return new Date(DbDateTimeCodec.toMillis(epochMinute, getTimeZone()));
+   }
+
+   /**
+    * Parsing is always strict
+    *
+    * @return Always false
+    */
+   @Override
+   public boolean isLenient() {
+
+      return false;
+   }
+
+   /**
+    * Parsing is always strict, only false is accepted
+    *
+    * @param lenient Must be false
+    * @throws IllegalArgumentException if lenient parsing is requested
+    */
+   @Override
+   public void setLenient(boolean lenient) {
+
+      if (lenient) {
+         throw new IllegalArgumentException("Lenient parsing is not supported");
+      }
+   }
+
+   @Override
+   public boolean equals(Object other) {
+
+      return other instanceof DbDateTimeFormat && ((DbDateTimeFormat) other)._style == _style && getTimeZone().equals(((DbDateTimeFormat) other).getTimeZone());
+   }
+
+   @Override
+   public int hashCode() {
+
+      return _style;
+   }
+}
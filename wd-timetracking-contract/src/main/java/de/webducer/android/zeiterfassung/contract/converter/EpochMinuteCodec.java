@@ -0,0 +1,297 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.converter;
+
+import android.database.CharArrayBuffer;
+import android.database.Cursor;
+
+import de.webducer.android.zeiterfassung.contract.Constants;
+
+/**
+ * Codec between the date time columns of the records (e.g. tr_start_time, tr_end_time, rp_start_time, rp_end_time) and
+ * the primitive epoch minute (wall clock minutes since 1970-01-01T00:00).
+ * <p/>
+ * Well formed values ('yyyy-MM-dd'T'HH:mm') are decoded by a fixed width fast path. All other values are decoded by a
+ * lenient generic parser, that accepts a blank instead of 'T', seconds and fractions of a second (truncated) and dates
+ * without time. Empty, missing and invalid values are decoded as {@link #NO_VALUE}.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class EpochMinuteCodec {
+   /* Public fields */
+   /**
+    * Epoch minute for missing or invalid values (e.g. end time of a running record)
+    */
+   public final static long NO_VALUE = Long.MIN_VALUE;
+
+   /* Constructors */
+   private EpochMinuteCodec() {
+
+   }
+
+   /**
+    * Decode the date time value into the epoch minute
+    *
+    * @param value Date time value from data base (can be null)
+    * @return Minutes since 1970-01-01T00:00 or {@link #NO_VALUE}
+    */
+   public static long decode(CharSequence value) {
+
+      if (value == null) {
+         return NO_VALUE;
+      }
+
+      if (value.length() == DbDateTimeCodec.DATE_TIME_LENGTH
+            && value.charAt(4) == DbDateTimeCodec.DATE_SEPARATOR
+            && value.charAt(7) == DbDateTimeCodec.DATE_SEPARATOR
+            && value.charAt(10) == DbDateTimeCodec.DATE_TIME_SEPARATOR
+            && value.charAt(13) == DbDateTimeCodec.TIME_SEPARATOR) {
+         return combine(digit(value.charAt(0)) * 1000 + digit(value.charAt(1)) * 100 + digit(value.charAt(2)) * 10 + digit(value.charAt(3)),
+               digit(value.charAt(5)) * 10 + digit(value.charAt(6)),
+               digit(value.charAt(8)) * 10 + digit(value.charAt(9)),
+               digit(value.charAt(11)) * 10 + digit(value.charAt(12)),
+               digit(value.charAt(14)) * 10 + digit(value.charAt(15)));
+      }
+
+      return decodeGeneric(value);
+   }
+
+   /**
+    * Decode the date time value from a char buffer into the epoch minute
+    *
+    * @param data   Buffer with the value
+    * @param offset Start of the value in the buffer
+    * @param length Length of the value
+    * @return Minutes since 1970-01-01T00:00 or {@link #NO_VALUE}
+    */
+   public static long decode(char[] data, int offset, int length) {
+
+      if (data == null || length <= 0) {
+         return NO_VALUE;
+      }
+
+      if (length == DbDateTimeCodec.DATE_TIME_LENGTH
+            && data[offset + 4] == DbDateTimeCodec.DATE_SEPARATOR
+            && data[offset + 7] == DbDateTimeCodec.DATE_SEPARATOR
+            && data[offset + 10] == DbDateTimeCodec.DATE_TIME_SEPARATOR
+            && data[offset + 13] == DbDateTimeCodec.TIME_SEPARATOR) {
+         return combine(digit(data[offset]) * 1000 + digit(data[offset + 1]) * 100 + digit(data[offset + 2]) * 10 + digit(data[offset + 3]),
+               digit(data[offset + 5]) * 10 + digit(data[offset + 6]),
+               digit(data[offset + 8]) * 10 + digit(data[offset + 9]),
+               digit(data[offset + 11]) * 10 + digit(data[offset + 12]),
+               digit(data[offset + 14]) * 10 + digit(data[offset + 15]));
+      }
+
+      // Malformed values are rare, the copy is acceptable here
+      return decodeGeneric(new String(data, offset, length));
+   }
+
+   /**
+    * Read the date time column of the current cursor row as epoch minute without creating a String
+    *
+    * @param cursor      Cursor positioned on a row
+    * @param columnIndex Index of the date time column
+    * @param buffer      Reusable buffer (e.g. one per loop)
+    * @return Minutes since 1970-01-01T00:00 or {@link #NO_VALUE}
+    */
+   public static long read(Cursor cursor, int columnIndex, CharArrayBuffer buffer) {
+
+      cursor.copyStringToBuffer(columnIndex, buffer);
+
+      return decode(buffer.data, 0, buffer.sizeCopied);
+   }
+
+   /**
+    * Encode the epoch minute as data base date time value
+    *
+    * @param epochMinute Minutes since 1970-01-01T00:00 or {@link #NO_VALUE}
+    * @return Value for the data base ('yyyy-MM-dd'T'HH:mm') or null for {@link #NO_VALUE}
+    */
+   public static String encode(long epochMinute) {
+
+      if (epochMinute == NO_VALUE) {
+         return null;
+      }
+
+      char[] buffer = new char[DbDateTimeCodec.DATE_TIME_LENGTH];
+      DbDateTimeCodec.formatDateTime(epochMinute, buffer, 0);
+
+      return new String(buffer);
+   }
+
+   /**
+    * Encode the epoch minute as data base date time value into the buffer
+    *
+    * @param epochMinute Minutes since 1970-01-01T00:00
+    * @param buffer      Target buffer (at least {@link DbDateTimeCodec#DATE_TIME_LENGTH} chars from offset)
+    * @param offset      Start position in the buffer
+    * @return Position after the last written char
+    */
+   public static int encode(long epochMinute, char[] buffer, int offset) {
+
+      return DbDateTimeCodec.formatDateTime(epochMinute, buffer, offset);
+   }
+
+   /**
+    * Duration between two epoch minutes
+    *
+    * @param startEpochMinute Start in minutes since 1970-01-01T00:00
+    * @param endEpochMinute   End in minutes since 1970-01-01T00:00
+    * @return Duration in minutes or 0, if one of the values is {@link #NO_VALUE}
+    */
+   public static int getDuration(long startEpochMinute, long endEpochMinute) {
+
+      if (startEpochMinute == NO_VALUE || endEpochMinute == NO_VALUE) {
+         return 0;
+      }
+
+      return (int) (endEpochMinute - startEpochMinute);
+   }
+
+   /* Private helpers */
+   // Returns a negative value for non digits, that is detected by the range checks in combine
+   private static int digit(char value) {
+
+      int digit = value - '0';
+
+      return (digit >= 0 && digit <= 9) ? digit : -100000;
+   }
+
+   private static long combine(int year, int month, int day, int hour, int minute) {
+
+      if (year < 0 || month < 1 || month > 12 || day < 1 || day > DbDateTimeCodec.getDaysInMonth(year, month)
+            || hour < 0 || hour >= Constants.HOURS_IN_A_DAY || minute < 0 || minute >= Constants.MINUTES_IN_A_HOUR) {
+         return NO_VALUE;
+      }
+
+      return DbDateTimeCodec.toEpochMinute(DbDateTimeCodec.toEpochDay(year, month, day), hour * Constants.MINUTES_IN_A_HOUR + minute);
+   }
+
+   private static long decodeGeneric(CharSequence value) {
+
+      int end = value.length();
+      int position = 0;
+
+      while (position < end && value.charAt(position) <= ' ') {
+         position++;
+      }
+      while (end > position && value.charAt(end - 1) <= ' ') {
+         end--;
+      }
+
+      // Fields: year, month, day, hour, minute, second
+      int year = 0, month = 0, day = 0, hour = 0, minute = 0;
+      int field = 0;
+      int digits = 0;
+      int current = 0;
+
+      for (; position <= end; position++) {
+         char c = position < end ? value.charAt(position) : '\0';
+
+         if (c >= '0' && c <= '9') {
+            current = current * 10 + (c - '0');
+            digits++;
+
+            if (digits > (field == 0 ? 4 : 2)) {
+               return NO_VALUE;
+            }
+
+            continue;
+         }
+
+         if (digits == 0) {
+            return NO_VALUE;
+         }
+
+         switch (field) {
+            case 0:
+               year = current;
+               break;
+
+            case 1:
+               month = current;
+               break;
+
+            case 2:
+               day = current;
+               break;
+
+            case 3:
+               hour = current;
+               break;
+
+            case 4:
+               minute = current;
+               break;
+
+            default:
+               // seconds are truncated
+               break;
+         }
+
+         boolean expected;
+         switch (field) {
+            case 0:
+            case 1:
+               expected = c == DbDateTimeCodec.DATE_SEPARATOR;
+               break;
+
+            case 2:
+               expected = c == DbDateTimeCodec.DATE_TIME_SEPARATOR || c == ' ' || c == '\0';
+               break;
+
+            case 3:
+            case 4:
+               expected = c == DbDateTimeCodec.TIME_SEPARATOR || (field == 4 && c == '\0');
+               break;
+
+            default:
+               expected = c == '.' || c == '\0';
+               break;
+         }
+
+         if (!expected) {
+            return NO_VALUE;
+         }
+
+         if (c == '\0' || c == '.') {
+            // end of value or fraction of the second (ignored)
+            break;
+         }
+
+         field++;
+         current = 0;
+         digits = 0;
+      }
+
+      if (field < 2) {
+         return NO_VALUE;
+      }
+
+      return combine(year, month, day, hour, minute);
+   }
+}
@@ -72,9 +72,10 @@ public enum ConfigDataType implements ITranslatableEnum {
    Float(6, R.string.enum_config_data_type_float);
 
    /* Private fields */
+   private final static EnumCodeIndex<ConfigDataType> _CODE_INDEX = new EnumCodeIndex<ConfigDataType>(values(), NotSet);
+
    private final int _enumCode;
    private final int _enumTranslationId;
-   private String _translatedValue = null;
 
    /* Constructors */
    private ConfigDataType(int enumCode, int enumTranslationId) {
@@ -111,11 +112,7 @@ public enum ConfigDataType implements ITranslatableEnum {
     */
    public String getTranslatedValue(Context context) {
 
-      if (_translatedValue == null) {
-         _translatedValue = context.getString(_enumTranslationId);
-      }
-
-      return _translatedValue;
+      return TranslationCache.getTranslatedValue(context, this);
    }
 
    /**
@@ -126,28 +123,7 @@ public enum ConfigDataType implements ITranslatableEnum {
     */
    public static ConfigDataType getConfigDataTypeByCode(int enumCode) {
 
-      switch (enumCode) {
-         case 1:
-            return String;
-
-         case 2:
-            return Boolean;
-
-         case 3:
-            return Integer;
-
-         case 4:
-            return Long;
-
-         case 5:
-            return Double;
-
-         case 6:
-            return Float;
-
-         default:
-            return NotSet;
-      }
+      return _CODE_INDEX.get(enumCode);
    }
 
    @Override
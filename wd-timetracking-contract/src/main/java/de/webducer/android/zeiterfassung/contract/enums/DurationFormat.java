@@ -27,7 +27,11 @@ package de.webducer.android.zeiterfassung.contract.enums;
 import android.content.Context;
 
 import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
 
 import de.webducer.android.zeiterfassung.contract.Constants;
 import de.webducer.android.zeiterfassung.contract.R;
@@ -57,14 +61,35 @@ public enum DurationFormat implements ITranslatableEnum {
     */
    Minutes(3, R.string.enum_duration_format_minutes);
 
+   /* Public fields */
+   /**
+    * Maximum length of a formatted duration (e.g. for buffers of {@link #formatTo(int, char[], int)})
+    */
+   public final static int MAX_FORMATTED_LENGTH = 32;
+
+   /**
+    * Default memory limit of the duration cache in bytes (enough for all durations between -24 hours and +7 days)
+    */
+   public final static long DEFAULT_CACHE_MEMORY_LIMIT = 1024 * 1024;
+
+   /**
+    * Smallest memory limit of the duration cache in bytes (the slot table alone needs about 46 KB)
+    */
+   public final static long MIN_CACHE_MEMORY_LIMIT = 64 * 1024;
+
    /* Private fields */
-   private final static String _DURATION_HOUR_MINUTES_FORMAT_STRING = "%s%02d:%02d";
-   private final static String _DURATION_DAYS_HOUR_MINUTES_FORMAT_STRING = "%s%01d %02d:%02d";
+   private final static EnumCodeIndex<DurationFormat> _CODE_INDEX = new EnumCodeIndex<DurationFormat>(values(), None);
+   private final static List<DurationFormat> _VISIBLE_VALUES = Collections.unmodifiableList(Arrays.asList(DaysHoursMinutes, HoursMinutes, Minutes));
+
    private final static String _MINUS = "-";
-   
+   private final static char _DAYS_SEPARATOR = ' ';
+   private final static char _HOURS_SEPARATOR = ':';
+   private final static long[] _POWERS_OF_TEN = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L};
+
    private final int _enumCode;
    private final int _enumTranslationId;
-   private String _translatedValue = null;
+   // null = cache disabled
+   private final AtomicReference<DurationFormatCache> _cache = new AtomicReference<DurationFormatCache>();
 
    /* Constructors */
    private DurationFormat(int enumCode, int enumTranslationId) {
@@ -88,11 +113,7 @@ public enum DurationFormat implements ITranslatableEnum {
    @Override
    public String getTranslatedValue(Context context) {
 
-      if (_translatedValue == null) {
-         _translatedValue = context.getString(_enumTranslationId);
-      }
-
-      return _translatedValue;
+      return TranslationCache.getTranslatedValue(context, this);
    }
 
    /**
@@ -102,22 +123,215 @@ public enum DurationFormat implements ITranslatableEnum {
     * @return String representation
     */
    public String format(int duration) {
-      int absMinutes = Math.abs(duration);
+
+      DurationFormatCache cache = _cache.get();
+      if (cache == null || !DurationFormatCache.isInRange(duration)) {
+         return formatTo(duration, new StringBuilder(MAX_FORMATTED_LENGTH)).toString();
+      }
+
+      Locale locale = Locale.getDefault();
+      if (!cache.locale.equals(locale)) {
+         // Locale changed, drop all values of the old locale (unless the cache was disabled or replaced meanwhile)
+         DurationFormatCache localized = new DurationFormatCache(locale, cache.getMemoryLimit());
+         if (!_cache.compareAndSet(cache, localized)) {
+            return formatTo(duration, new StringBuilder(MAX_FORMATTED_LENGTH)).toString();
+         }
+
+         cache = localized;
+      }
+
+      String value = cache.get(duration);
+      if (value == null) {
+         value = cache.put(duration, formatTo(duration, new StringBuilder(MAX_FORMATTED_LENGTH)).toString());
+      }
+
+      return value;
+   }
+
+   /**
+    * Enable or disable the cache of formatted durations between -24 hours and +7 days. The cache is filled lazily by
+    * {@link #format(int)}, so repeated calls return shared instances. It is dropped on change of the default locale.
+    *
+    * @param memoryLimit Maximum memory of the cache in bytes (e.g. {@link #DEFAULT_CACHE_MEMORY_LIMIT}), 0 disables
+    *                    the cache
+    * @throws IllegalArgumentException if the limit is positive, but below {@link #MIN_CACHE_MEMORY_LIMIT}
+    */
+   public void setCacheMemoryLimit(long memoryLimit) {
+
+      if (memoryLimit > 0 && memoryLimit < MIN_CACHE_MEMORY_LIMIT) {
+         throw new IllegalArgumentException("Cache memory limit must be at least " + MIN_CACHE_MEMORY_LIMIT + " bytes: " + memoryLimit);
+      }
+
+      _cache.set(memoryLimit > 0 ? new DurationFormatCache(Locale.getDefault(), memoryLimit) : null);
+   }
+
+   /**
+    * Get the number of cached durations
+    *
+    * @return Count of cached values (0 if the cache is disabled)
+    */
+   public int getCacheSize() {
+
+      DurationFormatCache cache = _cache.get();
+
+      return cache == null ? 0 : cache.size();
+   }
+
+   /**
+    * Get the estimated memory usage of the cache
+    *
+    * @return Memory usage in bytes (0 if the cache is disabled)
+    */
+   public long getCacheMemoryUsage() {
+
+      DurationFormatCache cache = _cache.get();
+
+      return cache == null ? 0 : cache.memoryUsage();
+   }
+
+   /**
+    * Append string representation of duration to the builder, without creating intermediate objects
+    *
+    * @param duration in minutes
+    * @param builder  Target builder
+    * @return Same builder for chaining
+    */
+   public StringBuilder formatTo(int duration, StringBuilder builder) {
+
+      DurationSymbols symbols = DurationSymbols.getDefault();
+      long absMinutes = Math.abs((long) duration);
+
+      switch (this) {
+         case DaysHoursMinutes:
+            if (duration < 0) {
+               builder.append(_MINUS);
+            }
+            appendDigits(absMinutes / Constants.MINUTES_IN_A_DAY, 1, 0, symbols, builder).append(_DAYS_SEPARATOR);
+            appendDigits((absMinutes % Constants.MINUTES_IN_A_DAY) / Constants.MINUTES_IN_A_HOUR, 2, 0, symbols, builder).append(_HOURS_SEPARATOR);
+            return appendDigits(absMinutes % Constants.MINUTES_IN_A_HOUR, 2, 0, symbols, builder);
+
+         case HoursMinutes:
+            if (duration < 0) {
+               builder.append(_MINUS);
+            }
+            appendDigits(absMinutes / Constants.MINUTES_IN_A_HOUR, 2, 0, symbols, builder).append(_HOURS_SEPARATOR);
+            return appendDigits(absMinutes % Constants.MINUTES_IN_A_HOUR, 2, 0, symbols, builder);
+
+         default:
+            if (!symbols.exact) {
+               return builder.append(NumberFormat.getInstance(symbols.locale).format(duration));
+            }
+            builder.append(duration < 0 ? symbols.negativePrefix : symbols.positivePrefix);
+            appendDigits(absMinutes, 1, symbols.groupingSize, symbols, builder);
+            return builder.append(duration < 0 ? symbols.negativeSuffix : symbols.positiveSuffix);
+      }
+   }
+
+   /**
+    * Write string representation of duration into the buffer, without creating intermediate objects
+    *
+    * @param duration in minutes
+    * @param buffer   Target buffer (at least {@link #MAX_FORMATTED_LENGTH} chars from offset)
+    * @param offset   Start position in the buffer
+    * @return Position after the last written char
+    */
+   public int formatTo(int duration, char[] buffer, int offset) {
+
+      DurationSymbols symbols = DurationSymbols.getDefault();
+      long absMinutes = Math.abs((long) duration);
 
       switch (this) {
          case DaysHoursMinutes:
-            int days = absMinutes / Constants.MINUTES_IN_A_DAY;
-            int hours = (absMinutes % Constants.MINUTES_IN_A_DAY) / Constants.MINUTES_IN_A_HOUR;
-            return String.format(Locale.getDefault(), _DURATION_DAYS_HOUR_MINUTES_FORMAT_STRING, duration < 0 ? _MINUS : Constants.EMPTY, days, hours, absMinutes % Constants.MINUTES_IN_A_HOUR);
+            if (duration < 0) {
+               offset = writeText(_MINUS, buffer, offset);
+            }
+            offset = writeDigits(absMinutes / Constants.MINUTES_IN_A_DAY, 1, 0, symbols, buffer, offset);
+            buffer[offset++] = _DAYS_SEPARATOR;
+            offset = writeDigits((absMinutes % Constants.MINUTES_IN_A_DAY) / Constants.MINUTES_IN_A_HOUR, 2, 0, symbols, buffer, offset);
+            buffer[offset++] = _HOURS_SEPARATOR;
+            return writeDigits(absMinutes % Constants.MINUTES_IN_A_HOUR, 2, 0, symbols, buffer, offset);
 
          case HoursMinutes:
-            return String.format(Locale.getDefault(), _DURATION_HOUR_MINUTES_FORMAT_STRING, duration < 0 ? _MINUS : Constants.EMPTY, absMinutes / Constants.MINUTES_IN_A_HOUR, absMinutes % Constants.MINUTES_IN_A_HOUR);
+            if (duration < 0) {
+               offset = writeText(_MINUS, buffer, offset);
+            }
+            offset = writeDigits(absMinutes / Constants.MINUTES_IN_A_HOUR, 2, 0, symbols, buffer, offset);
+            buffer[offset++] = _HOURS_SEPARATOR;
+            return writeDigits(absMinutes % Constants.MINUTES_IN_A_HOUR, 2, 0, symbols, buffer, offset);
 
          default:
-            return NumberFormat.getInstance().format(duration);
+            if (!symbols.exact) {
+               return writeText(NumberFormat.getInstance(symbols.locale).format(duration), buffer, offset);
+            }
+            offset = writeText(duration < 0 ? symbols.negativePrefix : symbols.positivePrefix, buffer, offset);
+            offset = writeDigits(absMinutes, 1, symbols.groupingSize, symbols, buffer, offset);
+            return writeText(duration < 0 ? symbols.negativeSuffix : symbols.positiveSuffix, buffer, offset);
       }
    }
 
+   /**
+    * Parse string representation of duration (reverse of {@link #format(int)})
+    *
+    * @param value String representation of the duration in the current locale
+    * @return Duration in minutes
+    * @throws IllegalArgumentException if the value can not be parsed with this format
+    */
+   public int parse(CharSequence value) {
+
+      DurationSymbols symbols = DurationSymbols.getDefault();
+      int end = value == null ? 0 : value.length();
+      int position = 0;
+      boolean negative = false;
+      long minutes;
+
+      switch (this) {
+         case DaysHoursMinutes:
+         case HoursMinutes:
+            if (end > 0 && value.charAt(0) == _MINUS.charAt(0)) {
+               negative = true;
+               position++;
+            }
+
+            long days = 0;
+            if (this == DaysHoursMinutes) {
+               int separator = indexOf(value, _DAYS_SEPARATOR, position, end);
+               days = readDigits(value, position, separator, 0, symbols);
+               position = separator + 1;
+            }
+
+            int hoursEnd = indexOf(value, _HOURS_SEPARATOR, position, end);
+            long hours = readDigits(value, position, hoursEnd, 0, symbols);
+            long minutesOfHour = readDigits(value, hoursEnd + 1, end, 0, symbols);
+            if (end - hoursEnd - 1 != 2 || minutesOfHour >= Constants.MINUTES_IN_A_HOUR || (this == DaysHoursMinutes && hours >= Constants.HOURS_IN_A_DAY)) {
+               throw new IllegalArgumentException("Invalid duration: " + value);
+            }
+
+            minutes = (days * Constants.HOURS_IN_A_DAY + hours) * Constants.MINUTES_IN_A_HOUR + minutesOfHour;
+            break;
+
+         default:
+            if (startsWith(value, symbols.negativePrefix, 0) && value.length() > symbols.negativePrefix.length() && endsWith(value, symbols.negativeSuffix)
+                  && (symbols.negativePrefix.length() > 0 || symbols.negativeSuffix.length() > 0)) {
+               negative = true;
+               position = symbols.negativePrefix.length();
+               end -= symbols.negativeSuffix.length();
+            } else if (startsWith(value, symbols.positivePrefix, 0) && endsWith(value, symbols.positiveSuffix)) {
+               position = symbols.positivePrefix.length();
+               end -= symbols.positiveSuffix.length();
+            }
+
+            minutes = readDigits(value, position, end, symbols.groupingSize, symbols);
+            break;
+      }
+
+      minutes = negative ? -minutes : minutes;
+      if (minutes < Integer.MIN_VALUE || minutes > Integer.MAX_VALUE) {
+         throw new IllegalArgumentException("Duration out of range: " + value);
+      }
+
+      return (int) minutes;
+   }
+
    /**
     * Get Enum value by given enum code
     *
@@ -126,24 +340,40 @@ public enum DurationFormat implements ITranslatableEnum {
     */
    public static DurationFormat getDurationFormatByCode(int enumCode) {
 
-      switch (enumCode) {
-         case 1:
-            return HoursMinutes;
+      return _CODE_INDEX.get(enumCode);
+   }
+
+   /**
+    * Get values, that can be selected on the UI
+    *
+    * @return New array with the visible values
+    * @deprecated Use {@link #getVisibleValueList()}, that does not copy the values
+    */
+   @Deprecated
+   public static DurationFormat[] getVisibleValues() {
 
-         case 2:
-            return DaysHoursMinutes;
+      return _VISIBLE_VALUES.toArray(new DurationFormat[_VISIBLE_VALUES.size()]);
+   }
 
-         case 3:
-            return Minutes;
+   /**
+    * Get values, that can be selected on the UI
+    *
+    * @return Shared unmodifiable list of the visible values
+    */
+   public static List<DurationFormat> getVisibleValueList() {
 
-         default:
-            return None;
-      }
+      return _VISIBLE_VALUES;
    }
 
-   public static DurationFormat[] getVisibleValues() {
+   /**
+    * Get translations of the visible values (same order as {@link #getVisibleValueList()})
+    *
+    * @param context App context
+    * @return Shared unmodifiable list of the translations for the current locale
+    */
+   public static List<String> getVisibleTranslations(Context context) {
 
-      return new DurationFormat[] {DaysHoursMinutes, HoursMinutes, Minutes};
+      return TranslationCache.getVisibleTranslations(context, DurationFormat.class, _VISIBLE_VALUES);
    }
 
    @Override
@@ -151,4 +381,111 @@ public enum DurationFormat implements ITranslatableEnum {
 
       return getDurationFormatByCode(enumCode);
    }
+
+   /* Private helpers */
+   private static int digitCount(long value) {
+
+      int count = 1;
+      while (count < _POWERS_OF_TEN.length && value >= _POWERS_OF_TEN[count]) {
+         count++;
+      }
+
+      return count;
+   }
+
+   private static StringBuilder appendDigits(long value, int minDigits, int groupingSize, DurationSymbols symbols, StringBuilder builder) {
+
+      int count = Math.max(digitCount(value), minDigits);
+      for (int index = count - 1; index >= 0; index--) {
+         builder.append((char) (symbols.zeroDigit + (value / _POWERS_OF_TEN[index]) % 10));
+         if (groupingSize > 0 && index > 0 && index % groupingSize == 0) {
+            builder.append(symbols.groupingSeparator);
+         }
+      }
+
+      return builder;
+   }
+
+   private static int writeDigits(long value, int minDigits, int groupingSize, DurationSymbols symbols, char[] buffer, int offset) {
+
+      int count = Math.max(digitCount(value), minDigits);
+      for (int index = count - 1; index >= 0; index--) {
+         buffer[offset++] = (char) (symbols.zeroDigit + (value / _POWERS_OF_TEN[index]) % 10);
+         if (groupingSize > 0 && index > 0 && index % groupingSize == 0) {
+            buffer[offset++] = symbols.groupingSeparator;
+         }
+      }
+
+      return offset;
+   }
+
+   private static int writeText(String text, char[] buffer, int offset) {
+
+      text.getChars(0, text.length(), buffer, offset);
+
+      return offset + text.length();
+   }
+
+   private static int indexOf(CharSequence value, char separator, int start, int end) {
+
+      for (int index = start; index < end; index++) {
+         if (value.charAt(index) == separator) {
+            return index;
+         }
+      }
+
+      throw new IllegalArgumentException("Missing '" + separator + "' in duration: " + value);
+   }
+
+   private static boolean startsWith(CharSequence value, String prefix, int offset) {
+
+      if (value == null || value.length() - offset < prefix.length()) {
+         return false;
+      }
+
+      for (int index = 0; index < prefix.length(); index++) {
+         if (value.charAt(offset + index) != prefix.charAt(index)) {
+            return false;
+         }
+      }
+
+      return true;
+   }
+
+   private static boolean endsWith(CharSequence value, String suffix) {
+
+      return value != null && value.length() >= suffix.length() && startsWith(value, suffix, value.length() - suffix.length());
+   }
+
+   // Reads localized or ASCII digits, skipping grouping separators if grouping is used
+   private static long readDigits(CharSequence value, int start, int end, int groupingSize, DurationSymbols symbols) {
+
+      long result = 0;
+      int digits = 0;
+
+      for (int index = start; index < end; index++) {
+         char c = value.charAt(index);
+         int digit = c - symbols.zeroDigit;
+         if (digit < 0 || digit > 9) {
+            digit = c - '0';
+         }
+
+         if (digit >= 0 && digit <= 9) {
+            result = result * 10 + digit;
+            digits++;
+         } else if (groupingSize <= 0 || c != symbols.groupingSeparator || digits == 0) {
+            throw new IllegalArgumentException("Invalid duration: " + value);
+         }
+
+         if (digits > 10) {
+            throw new IllegalArgumentException("Duration out of range: " + value);
+         }
+      }
+
+      if (digits == 0) {
+         throw new IllegalArgumentException("Invalid duration: " + value);
+      }
+
+      return result;
+   }
 }
@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.enums;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import de.webducer.android.zeiterfassung.contract.Constants;
+
+/**
+ * Memory bounded intern table of formatted durations for one {@link DurationFormat} and one locale.
+ * <p/>
+ * Slots are filled lazily on first use; once the memory limit is reached, no further values are interned.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+final class DurationFormatCache {
+   /* Package fields */
+   /**
+    * Smallest cached duration (-24 hours)
+    */
+   final static int MIN_DURATION = -Constants.MINUTES_IN_A_DAY;
+
+   /**
+    * Largest cached duration (+7 days)
+    */
+   final static int MAX_DURATION = 7 * Constants.MINUTES_IN_A_DAY;
+
+   final Locale locale;
+
+   /* Private fields */
+   // Rough object sizes on ART / Dalvik
+   private final static int _REFERENCE_SIZE = 4;
+   private final static int _STRING_OVERHEAD = 40;
+
+   private final AtomicReferenceArray<String> _entries;
+   private final long _memoryLimit;
+   private final AtomicInteger _size = new AtomicInteger();
+   private final AtomicLong _memoryUsage;
+
+   /* Constructors */
+   DurationFormatCache(Locale locale, long memoryLimit) {
+
+      this.locale = locale;
+      _memoryLimit = memoryLimit;
+      _entries = new AtomicReferenceArray<String>(MAX_DURATION - MIN_DURATION + 1);
+      _memoryUsage = new AtomicLong((long) _entries.length() * _REFERENCE_SIZE);
+   }
+
+   /**
+    * Check, if the duration is in the cached range
+    *
+    * @param duration Duration in minutes
+    * @return True, if the duration can be cached
+    */
+   static boolean isInRange(int duration) {
+
+      return duration >= MIN_DURATION && duration <= MAX_DURATION;
+   }
+
+   /**
+    * Get interned value
+    *
+    * @param duration Duration in minutes (in range)
+    * @return Interned value or null
+    */
+   String get(int duration) {
+
+      return _entries.get(duration - MIN_DURATION);
+   }
+
+   /**
+    * Intern the value, if the memory limit allows it
+    *
+    * @param duration Duration in minutes (in range)
+    * @param value    Formatted value
+    * @return Interned instance (can be a value interned concurrently by another thread)
+    */
+   String put(int duration, String value) {
+
+      long entrySize = _STRING_OVERHEAD + 2L * value.length();
+      if (_memoryUsage.get() + entrySize > _memoryLimit) {
+         return value;
+      }
+
+      if (_entries.compareAndSet(duration - MIN_DURATION, null, value)) {
+         _size.incrementAndGet();
+         _memoryUsage.addAndGet(entrySize);
+         return value;
+      }
+
+      return _entries.get(duration - MIN_DURATION);
+   }
+
+   /**
+    * Get the memory limit of the cache
+    *
+    * @return Limit in bytes
+    */
+   long getMemoryLimit() {
+
+      return _memoryLimit;
+   }
+
+   /**
+    * Number of interned values
+    *
+    * @return Count of filled slots
+    */
+   int size() {
+
+      return _size.get();
+   }
+
+   /**
+    * Estimated memory usage
+    *
+    * @return Bytes used by the table and the interned values
+    */
+   long memoryUsage() {
+
+      return _memoryUsage.get();
+   }
+}
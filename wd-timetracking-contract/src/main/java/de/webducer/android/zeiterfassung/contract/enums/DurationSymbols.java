@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.enums;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * Immutable number symbols of a locale, as used by {@link DurationFormat} to write digits without formatter objects
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+final class DurationSymbols {
+   /* Private fields */
+   private static volatile DurationSymbols _current = null;
+
+   /* Package fields */
+   final Locale locale;
+   final char zeroDigit;
+   final char groupingSeparator;
+   // 0 = no grouping
+   final int groupingSize;
+   final String positivePrefix;
+   final String positiveSuffix;
+   final String negativePrefix;
+   final String negativeSuffix;
+   // False, if the number format of the locale can not be reproduced (e.g. secondary grouping)
+   final boolean exact;
+
+   /* Constructors */
+   private DurationSymbols(Locale locale) {
+
+      this.locale = locale;
+      zeroDigit = DecimalFormatSymbols.getInstance(locale).getZeroDigit();
+
+      NumberFormat numberFormat = NumberFormat.getInstance(locale);
+      if (numberFormat instanceof DecimalFormat) {
+         DecimalFormat decimalFormat = (DecimalFormat) numberFormat;
+         DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+
+         groupingSeparator = symbols.getGroupingSeparator();
+         groupingSize = decimalFormat.isGroupingUsed() ? decimalFormat.getGroupingSize() : 0;
+         positivePrefix = decimalFormat.getPositivePrefix();
+         positiveSuffix = decimalFormat.getPositiveSuffix();
+         negativePrefix = decimalFormat.getNegativePrefix();
+         negativeSuffix = decimalFormat.getNegativeSuffix();
+         exact = symbols.getZeroDigit() == zeroDigit && !hasSecondaryGrouping(decimalFormat.toPattern(), groupingSize);
+      } else {
+         groupingSeparator = ',';
+         groupingSize = 0;
+         positivePrefix = "";
+         positiveSuffix = "";
+         negativePrefix = "-";
+         negativeSuffix = "";
+         exact = false;
+      }
+   }
+
+   /**
+    * Get symbols for the current default locale
+    *
+    * @return Symbols of {@link Locale#getDefault()}
+    */
+   static DurationSymbols getDefault() {
+
+      Locale locale = Locale.getDefault();
+      DurationSymbols current = _current;
+
+      if (current == null || !current.locale.equals(locale)) {
+         current = new DurationSymbols(locale);
+         _current = current;
+      }
+
+      return current;
+   }
+
+   // Pattern like '#,##,##0' uses a different size for the higher groups
+   private static boolean hasSecondaryGrouping(String pattern, int groupingSize) {
+
+      int lastSeparator = pattern.lastIndexOf(',');
+      if (groupingSize <= 0 || lastSeparator < 0) {
+         return false;
+      }
+
+      int previousSeparator = pattern.lastIndexOf(',', lastSeparator - 1);
+
+      return previousSeparator >= 0 && lastSeparator - previousSeparator - 1 != groupingSize;
+   }
+}
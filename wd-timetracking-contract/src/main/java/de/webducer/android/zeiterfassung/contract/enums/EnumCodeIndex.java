@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.enums;
+
+import android.database.Cursor;
+
+import java.util.Arrays;
+
+/**
+ * Dense lookup of enum values by their enum code (e.g. from data base)
+ *
+ * @param <E> Enumeration with translation
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class EnumCodeIndex<E extends Enum<E> & ITranslatableEnum> {
+   /* Private fields */
+   private final E[] _valuesByCode;
+   private final E _defaultValue;
+
+   /* Constructors */
+
+   /**
+    * Build the lookup array for the enum values
+    *
+    * @param values       All enum values (e.g. values())
+    * @param defaultValue Value for unknown codes
+    * @throws IllegalArgumentException on negative or duplicate enum codes
+    */
+   public EnumCodeIndex(E[] values, E defaultValue) {
+
+      int maxCode = 0;
+      for (E value : values) {
+         if (value.getEnumCode() < 0) {
+            throw new IllegalArgumentException("Negative enum code for " + value);
+         }
+
+         maxCode = Math.max(maxCode, value.getEnumCode());
+      }
+
+      E[] valuesByCode = Arrays.copyOf(values, maxCode + 1);
+      Arrays.fill(valuesByCode, null);
+
+      for (E value : values) {
+         if (valuesByCode[value.getEnumCode()] != null) {
+            throw new IllegalArgumentException("Duplicate enum code " + value.getEnumCode() + " for " + value);
+         }
+
+         valuesByCode[value.getEnumCode()] = value;
+      }
+
+      for (int code = 0; code < valuesByCode.length; code++) {
+         if (valuesByCode[code] == null) {
+            valuesByCode[code] = defaultValue;
+         }
+      }
+
+      _valuesByCode = valuesByCode;
+      _defaultValue = defaultValue;
+   }
+
+   /**
+    * Get Enum value by given enum code
+    *
+    * @param enumCode Enum code (eg. from data base)
+    * @return Resolved enum value or default value if no match
+    */
+   public E get(int enumCode) {
+
+      return enumCode >= 0 && enumCode < _valuesByCode.length ? _valuesByCode[enumCode] : _defaultValue;
+   }
+
+   /**
+    * Get Enum value from the enum code column of the current cursor row
+    *
+    * @param cursor      Cursor positioned on a row
+    * @param columnIndex Index of the enum code column
+    * @return Resolved enum value or default value if no match or NULL
+    */
+   public E get(Cursor cursor, int columnIndex) {
+
+      return cursor.isNull(columnIndex) ? _defaultValue : get(cursor.getInt(columnIndex));
+   }
+
+   /**
+    * Get value for unknown enum codes
+    *
+    * @return Default value
+    */
+   public E getDefaultValue() {
+
+      return _defaultValue;
+   }
+}
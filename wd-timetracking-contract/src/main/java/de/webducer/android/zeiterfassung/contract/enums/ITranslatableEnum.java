@@ -49,7 +49,7 @@ public interface ITranslatableEnum {
    public int getTranslationId();
 
    /**
-    * Get translated value of the enum value
+    * Get translated value of the enum value (cached per locale in {@link TranslationCache})
     *
     * @param context App context
     * @return Translated enum value
@@ -26,6 +26,10 @@ package de.webducer.android.zeiterfassung.contract.enums;
 
 import android.content.Context;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import de.webducer.android.zeiterfassung.contract.R;
 
 /**
@@ -50,9 +54,11 @@ public enum PauseDefinitionType implements ITranslatableEnum {
    DurationBased(2, R.string.enum_pause_definition_type_duration_based);
 
    /* Private fields */
+   private final static EnumCodeIndex<PauseDefinitionType> _CODE_INDEX = new EnumCodeIndex<PauseDefinitionType>(values(), None);
+   private final static List<PauseDefinitionType> _VISIBLE_VALUES = Collections.unmodifiableList(Arrays.asList(TimeBased, DurationBased));
+
    private final int _enumCode;
    private final int _enumTranslationId;
-   private String _translatedValue = null;
 
    /* Constructors */
    private PauseDefinitionType(int enumCode, int enumTranslationId) {
@@ -76,11 +82,7 @@ public enum PauseDefinitionType implements ITranslatableEnum {
    @Override
    public String getTranslatedValue(Context context) {
 
-      if (_translatedValue == null) {
-         _translatedValue = context.getString(_enumTranslationId);
-      }
-
-      return _translatedValue;
+      return TranslationCache.getTranslatedValue(context, this);
    }
 
    /**
@@ -91,21 +93,40 @@ public enum PauseDefinitionType implements ITranslatableEnum {
     */
    public static PauseDefinitionType getPauseDefinitionTypeByCode(int enumCode) {
 
-      switch (enumCode) {
-         case 1:
-            return TimeBased;
+      return _CODE_INDEX.get(enumCode);
+   }
 
-         case 2:
-            return DurationBased;
+   /**
+    * Get values, that can be selected on the UI
+    *
+    * @return New array with the visible values
+    * @deprecated Use {@link #getVisibleValueList()}, that does not copy the values
+    */
+   @Deprecated
+   public static PauseDefinitionType[] getVisibleValues() {
 
-         default:
-            return None;
-      }
+      return _VISIBLE_VALUES.toArray(new PauseDefinitionType[_VISIBLE_VALUES.size()]);
    }
 
-   public static PauseDefinitionType[] getVisibleValues() {
+   /**
+    * Get values, that can be selected on the UI
+    *
+    * @return Shared unmodifiable list of the visible values
+    */
+   public static List<PauseDefinitionType> getVisibleValueList() {
+
+      return _VISIBLE_VALUES;
+   }
+
+   /**
+    * Get translations of the visible values (same order as {@link #getVisibleValueList()})
+    *
+    * @param context App context
+    * @return Shared unmodifiable list of the translations for the current locale
+    */
+   public static List<String> getVisibleTranslations(Context context) {
 
-      return new PauseDefinitionType[] {TimeBased, DurationBased};
+      return TranslationCache.getVisibleTranslations(context, PauseDefinitionType.class, _VISIBLE_VALUES);
    }
 
    @Override
@@ -26,6 +26,9 @@ package de.webducer.android.zeiterfassung.contract.enums;
 
 import android.content.Context;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import de.webducer.android.zeiterfassung.contract.R;
 
 /**
@@ -50,9 +53,11 @@ public enum ReportType implements ITranslatableEnum {
    List(2, R.string.enum_report_type_list);
 
    /* Private fields */
+   private final static EnumCodeIndex<ReportType> _CODE_INDEX = new EnumCodeIndex<ReportType>(values(), None);
+   private final static java.util.List<ReportType> _VISIBLE_VALUES = Collections.unmodifiableList(Arrays.asList(SingleValue, List));
+
    private final int _enumCode;
    private final int _enumTranslationId;
-   private String _translatedValue = null;
 
    /* Constructors */
    private ReportType(int enumCode, int enumTranslationId) {
@@ -76,11 +81,7 @@ public enum ReportType implements ITranslatableEnum {
    @Override
    public String getTranslatedValue(Context context) {
 
-      if (_translatedValue == null) {
-         _translatedValue = context.getString(_enumTranslationId);
-      }
-
-      return _translatedValue;
+      return TranslationCache.getTranslatedValue(context, this);
    }
 
    /**
@@ -91,21 +92,40 @@ public enum ReportType implements ITranslatableEnum {
     */
    public static ReportType getReportTypeByCode(int enumCode) {
 
-      switch (enumCode) {
-         case 1:
-            return SingleValue;
+      return _CODE_INDEX.get(enumCode);
+   }
 
-         case 2:
-            return List;
+   /**
+    * Get values, that can be selected on the UI
+    *
+    * @return New array with the visible values
+    * @deprecated Use {@link #getVisibleValueList()}, that does not copy the values
+    */
+   @Deprecated
+   public static ReportType[] getVisibleValues() {
 
-         default:
-            return None;
-      }
+      return _VISIBLE_VALUES.toArray(new ReportType[_VISIBLE_VALUES.size()]);
    }
 
-   public static ReportType[] getVisibleValues() {
+   /**
+    * Get values, that can be selected on the UI
+    *
+    * @return Shared unmodifiable list of the visible values
+    */
+   public static java.util.List<ReportType> getVisibleValueList() {
+
+      return _VISIBLE_VALUES;
+   }
+
+   /**
+    * Get translations of the visible values (same order as {@link #getVisibleValueList()})
+    *
+    * @param context App context
+    * @return Shared unmodifiable list of the translations for the current locale
+    */
+   public static java.util.List<String> getVisibleTranslations(Context context) {
 
-      return new ReportType[] {SingleValue, List};
+      return TranslationCache.getVisibleTranslations(context, ReportType.class, _VISIBLE_VALUES);
    }
 
    @Override
@@ -0,0 +1,154 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.enums;
+
+import android.content.Context;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import de.webducer.android.zeiterfassung.contract.R;
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeCodec;
+
+/**
+ * Enumeration for the period of the materialized report rollups
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public enum RollupPeriod implements ITranslatableEnum {
+   /**
+    * Not defined
+    */
+   None(0, R.string.enum_rollup_period_none),
+
+   /**
+    * Rollup per calendar day
+    */
+   Day(1, R.string.enum_rollup_period_day),
+
+   /**
+    * Rollup per ISO week (starting on Monday)
+    */
+   Week(2, R.string.enum_rollup_period_week),
+
+   /**
+    * Rollup per calendar month
+    */
+   Month(3, R.string.enum_rollup_period_month);
+
+   /* Private fields */
+   private final static EnumCodeIndex<RollupPeriod> _CODE_INDEX = new EnumCodeIndex<RollupPeriod>(values(), None);
+   private final static List<RollupPeriod> _VISIBLE_VALUES = Collections.unmodifiableList(Arrays.asList(Day, Week, Month));
+   // 1970-01-01 was a Thursday
+   private final static int _EPOCH_DAY_OF_WEEK = 3;
+
+   private final int _enumCode;
+   private final int _enumTranslationId;
+
+   /* Constructors */
+   private RollupPeriod(int enumCode, int enumTranslationId) {
+
+      _enumCode = enumCode;
+      _enumTranslationId = enumTranslationId;
+   }
+
+   @Override
+   public int getEnumCode() {
+
+      return _enumCode;
+   }
+
+   @Override
+   public int getTranslationId() {
+
+      return _enumTranslationId;
+   }
+
+   @Override
+   public String getTranslatedValue(Context context) {
+
+      return TranslationCache.getTranslatedValue(context, this);
+   }
+
+   /**
+    * Get first day of the period, that contains the day
+    *
+    * @param epochDay Days since 1970-01-01
+    * @return First day of the period as days since 1970-01-01 (same day for 'None')
+    */
+   public int getPeriodStart(int epochDay) {
+
+      switch (this) {
+         case Week:
+            int dayOfWeek = (epochDay + _EPOCH_DAY_OF_WEEK) % 7;
+            return epochDay - (dayOfWeek < 0 ? dayOfWeek + 7 : dayOfWeek);
+         case Month:
+            return epochDay - DbDateTimeCodec.getDayOfMonth(epochDay) + 1;
+         default:
+            return epochDay;
+      }
+   }
+
+   /**
+    * Get Enum value by given enum code
+    *
+    * @param enumCode Enum code (eg. from data base)
+    * @return Resolved enum value or 'None' if no match
+    */
+   public static RollupPeriod getRollupPeriodByCode(int enumCode) {
+
+      return _CODE_INDEX.get(enumCode);
+   }
+
+   /**
+    * Get values, that can be selected on the UI
+    *
+    * @return Shared unmodifiable list of the visible values
+    */
+   public static List<RollupPeriod> getVisibleValueList() {
+
+      return _VISIBLE_VALUES;
+   }
+
+   /**
+    * Get translations of the visible values (same order as {@link #getVisibleValueList()})
+    *
+    * @param context App context
+    * @return Shared unmodifiable list of the translations for the current locale
+    */
+   public static List<String> getVisibleTranslations(Context context) {
+
+      return TranslationCache.getVisibleTranslations(context, RollupPeriod.class, _VISIBLE_VALUES);
+   }
+
+   @Override
+   public ITranslatableEnum getByEnumCode(int enumCode) {
+
+      return getRollupPeriodByCode(enumCode);
+   }
+}
@@ -26,6 +26,10 @@ package de.webducer.android.zeiterfassung.contract.enums;
 
 import android.content.Context;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import de.webducer.android.zeiterfassung.contract.R;
 
 /**
@@ -57,9 +61,11 @@ public enum TimeKind implements ITranslatableEnum {
    Holiday(3, R.string.enum_time_kind_holiday);
 
    /* Private fields */
+   private final static EnumCodeIndex<TimeKind> _CODE_INDEX = new EnumCodeIndex<TimeKind>(values(), None);
+   private final static List<TimeKind> _VISIBLE_VALUES = Collections.unmodifiableList(Arrays.asList(WorkingTime, Overtime, Holiday));
+
    private final int _enumCode;
    private final int _enumTranslationId;
-   private String _translatedValue = null;
 
    /* Constructors */
    private TimeKind(int enumCode, int enumTranslationId) {
@@ -83,11 +89,7 @@ public enum TimeKind implements ITranslatableEnum {
    @Override
    public String getTranslatedValue(Context context) {
 
-      if (_translatedValue == null) {
-         _translatedValue = context.getString(_enumTranslationId);
-      }
-
-      return _translatedValue;
+      return TranslationCache.getTranslatedValue(context, this);
    }
 
    /**
@@ -98,24 +100,40 @@ public enum TimeKind implements ITranslatableEnum {
     */
    public static TimeKind getTimeKindByCode(int enumCode) {
 
-      switch (enumCode) {
-         case 1:
-            return WorkingTime;
+      return _CODE_INDEX.get(enumCode);
+   }
 
-         case 2:
-            return Overtime;
+   /**
+    * Get values, that can be selected on the UI
+    *
+    * @return New array with the visible values
+    * @deprecated Use {@link #getVisibleValueList()}, that does not copy the values
+    */
+   @Deprecated
+   public static TimeKind[] getVisibleValues() {
 
-         case 3:
-            return Holiday;
+      return _VISIBLE_VALUES.toArray(new TimeKind[_VISIBLE_VALUES.size()]);
+   }
 
-         default:
-            return None;
-      }
+   /**
+    * Get values, that can be selected on the UI
+    *
+    * @return Shared unmodifiable list of the visible values
+    */
+   public static List<TimeKind> getVisibleValueList() {
+
+      return _VISIBLE_VALUES;
    }
 
-   public static TimeKind[] getVisibleValues() {
+   /**
+    * Get translations of the visible values (same order as {@link #getVisibleValueList()})
+    *
+    * @param context App context
+    * @return Shared unmodifiable list of the translations for the current locale
+    */
+   public static List<String> getVisibleTranslations(Context context) {
 
-      return new TimeKind[] {WorkingTime, Overtime, Holiday};
+      return TranslationCache.getVisibleTranslations(context, TimeKind.class, _VISIBLE_VALUES);
    }
 
    @Override
@@ -0,0 +1,218 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.enums;
+
+import android.content.Context;
+import android.content.res.Resources;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread safe cache for the translations of all {@link ITranslatableEnum} implementations.
+ * <p/>
+ * Translations are cached per locale of the resource configuration. All constants of an enum are loaded together on
+ * first access, the cache is replaced as a whole if the locale changes.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class TranslationCache {
+   /* Private fields */
+   private static volatile Snapshot _snapshot = new Snapshot(null);
+   private final static AtomicLong _hitCount = new AtomicLong();
+   private final static AtomicLong _missCount = new AtomicLong();
+
+   /* Constructors */
+   private TranslationCache() {
+
+   }
+
+   /**
+    * Get translated value of the enum value
+    *
+    * @param context App context
+    * @param value   Enum value
+    * @param <E>     Enumeration with translation
+    * @return Translated enum value for the current locale
+    */
+   public static <E extends Enum<E> & ITranslatableEnum> String getTranslatedValue(Context context, E value) {
+
+      return getTranslations(context, value.getDeclaringClass())[value.ordinal()];
+   }
+
+   /**
+    * Load the translations of all constants of the enum in one pass (e.g. on app start)
+    *
+    * @param context   App context
+    * @param enumClass Enumeration with translation
+    * @param <E>       Enumeration with translation
+    */
+   public static <E extends Enum<E> & ITranslatableEnum> void prefetch(Context context, Class<E> enumClass) {
+
+      getTranslations(context, enumClass);
+   }
+
+   /**
+    * Get translations of all constants of the enum
+    *
+    * @param context   App context
+    * @param enumClass Enumeration with translation
+    * @param <E>       Enumeration with translation
+    * @return Translations indexed by ordinal (shared array, do not modify)
+    */
+   static <E extends Enum<E> & ITranslatableEnum> String[] getTranslations(Context context, Class<E> enumClass) {
+
+      Resources resources = context.getResources();
+
+      return getTranslations(resources, getSnapshot(resources), enumClass);
+   }
+
+   /**
+    * Get translations for the visible values of an enum
+    *
+    * @param context   App context
+    * @param enumClass Enumeration with translation
+    * @param values    Shared list of the visible values (one list per enum)
+    * @param <E>       Enumeration with translation
+    * @return Shared unmodifiable list of the translations in the order of the values
+    */
+   static <E extends Enum<E> & ITranslatableEnum> List<String> getVisibleTranslations(Context context, Class<E> enumClass, List<E> values) {
+
+      Resources resources = context.getResources();
+      Snapshot snapshot = getSnapshot(resources);
+
+      List<String> result = snapshot.visibleTranslations.get(enumClass);
+      if (result != null) {
+         _hitCount.incrementAndGet();
+         return result;
+      }
+
+      String[] translations = getTranslations(resources, snapshot, enumClass);
+      String[] valueTranslations = new String[values.size()];
+      for (int index = 0; index < valueTranslations.length; index++) {
+         valueTranslations[index] = translations[values.get(index).ordinal()];
+      }
+
+      result = Collections.unmodifiableList(Arrays.asList(valueTranslations));
+      List<String> existing = snapshot.visibleTranslations.putIfAbsent(enumClass, result);
+
+      return existing != null ? existing : result;
+   }
+
+   /**
+    * Get number of lookups answered from the cache
+    *
+    * @return Hit count since start or last reset
+    */
+   public static long getHitCount() {
+
+      return _hitCount.get();
+   }
+
+   /**
+    * Get number of lookups, that loaded translations from the resources
+    *
+    * @return Miss count since start or last reset
+    */
+   public static long getMissCount() {
+
+      return _missCount.get();
+   }
+
+   /**
+    * Reset hit and miss counters
+    */
+   public static void resetStatistics() {
+
+      _hitCount.set(0);
+      _missCount.set(0);
+   }
+
+   /**
+    * Drop all cached translations
+    */
+   public static void clear() {
+
+      _snapshot = new Snapshot(null);
+   }
+
+   /* Private helpers */
+   private static <E extends Enum<E> & ITranslatableEnum> String[] getTranslations(Resources resources, Snapshot snapshot, Class<E> enumClass) {
+
+      String[] translations = snapshot.translations.get(enumClass);
+      if (translations != null) {
+         _hitCount.incrementAndGet();
+         return translations;
+      }
+
+      _missCount.incrementAndGet();
+
+      E[] constants = enumClass.getEnumConstants();
+      translations = new String[constants.length];
+      for (E constant : constants) {
+         translations[constant.ordinal()] = resources.getString(constant.getTranslationId());
+      }
+
+      String[] existing = snapshot.translations.putIfAbsent(enumClass, translations);
+
+      return existing != null ? existing : translations;
+   }
+
+   private static Snapshot getSnapshot(Resources resources) {
+
+      Locale locale = resources.getConfiguration().locale;
+      if (locale == null) {
+         locale = Locale.getDefault();
+      }
+
+      Snapshot snapshot = _snapshot;
+      if (!locale.equals(snapshot.locale)) {
+         snapshot = new Snapshot(locale);
+         _snapshot = snapshot;
+      }
+
+      return snapshot;
+   }
+
+   /**
+    * Translations of one locale
+    */
+   private final static class Snapshot {
+      final Locale locale;
+      final ConcurrentHashMap<Class<?>, String[]> translations = new ConcurrentHashMap<Class<?>, String[]>();
+      final ConcurrentHashMap<Class<?>, List<String>> visibleTranslations = new ConcurrentHashMap<Class<?>, List<String>>();
+
+      Snapshot(Locale locale) {
+
+         this.locale = locale;
+      }
+   }
+}
@@ -0,0 +1,286 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.notification;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+
+/**
+ * Change of one row (table, operation, _ID and changed columns).
+ * <p/>
+ * The event is stored as two longs: a header with table code, operation and column mask, and the _ID of the row.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class ChangeEvent implements Parcelable {
+   /* Public fields */
+   /**
+    * Row was inserted (all columns changed)
+    */
+   public final static int OPERATION_INSERT = 1;
+
+   /**
+    * Row was updated (changed columns in the column mask)
+    */
+   public final static int OPERATION_UPDATE = 2;
+
+   /**
+    * Row was deleted (all columns changed)
+    */
+   public final static int OPERATION_DELETE = 3;
+
+   /**
+    * Parcelable creator (throws {@link IllegalArgumentException} for unknown tables or operations)
+    */
+   public final static Parcelable.Creator<ChangeEvent> CREATOR = new Parcelable.Creator<ChangeEvent>() {
+      @Override
+      public ChangeEvent createFromParcel(Parcel source) {
+
+         long header = source.readLong();
+         long id = source.readLong();
+
+         // A null element of a parcelled array or list would fail far away from the cause
+         ChangeEvent event = fromPacked(header, id);
+         if (event == null) {
+            throw new IllegalArgumentException("Unknown table " + getTableCode(header) + " or operation " + getOperation(header) + " of row " + id);
+         }
+
+         return event;
+      }
+
+      @Override
+      public ChangeEvent[] newArray(int size) {
+
+         return new ChangeEvent[size];
+      }
+   };
+
+   /* Private fields */
+   private final static int _TABLE_SHIFT = 40;
+   private final static int _OPERATION_SHIFT = 32;
+   private final static long _MASK_BITS = 0xFFFFFFFFL;
+
+   private final DataTable _table;
+   private final int _operation;
+   private final long _id;
+   private final int _columnMask;
+
+   /* Constructors */
+
+   /**
+    * Create change event
+    *
+    * @param table      Changed table
+    * @param operation  One of the OPERATION_* constants
+    * @param id         _ID of the changed row
+    * @param columnMask Changed columns (see {@link DataTable#getColumnMask(Iterable)})
+    * @throws IllegalArgumentException on unknown operation
+    */
+   public ChangeEvent(DataTable table, int operation, long id, int columnMask) {
+
+      if (operation < OPERATION_INSERT || operation > OPERATION_DELETE) {
+         throw new IllegalArgumentException("Unknown operation " + operation);
+      }
+
+      _table = table;
+      _operation = operation;
+      _id = id;
+      _columnMask = columnMask;
+   }
+
+   /**
+    * Create event for an inserted row
+    *
+    * @param table Changed table
+    * @param id    _ID of the inserted row
+    * @return Event with all columns changed
+    */
+   public static ChangeEvent insert(DataTable table, long id) {
+
+      return new ChangeEvent(table, OPERATION_INSERT, id, table.getAllColumnsMask());
+   }
+
+   /**
+    * Create event for an updated row
+    *
+    * @param table      Changed table
+    * @param id         _ID of the updated row
+    * @param columnMask Changed columns
+    * @return Update event
+    */
+   public static ChangeEvent update(DataTable table, long id, int columnMask) {
+
+      return new ChangeEvent(table, OPERATION_UPDATE, id, columnMask);
+   }
+
+   /**
+    * Create event for a deleted row
+    *
+    * @param table Changed table
+    * @param id    _ID of the deleted row
+    * @return Event with all columns changed
+    */
+   public static ChangeEvent delete(DataTable table, long id) {
+
+      return new ChangeEvent(table, OPERATION_DELETE, id, table.getAllColumnsMask());
+   }
+
+   /**
+    * Get changed table
+    *
+    * @return Table
+    */
+   public DataTable getTable() {
+
+      return _table;
+   }
+
+   /**
+    * Get operation
+    *
+    * @return One of the OPERATION_* constants
+    */
+   public int getOperation() {
+
+      return _operation;
+   }
+
+   /**
+    * Get _ID of the changed row
+    *
+    * @return Row ID
+    */
+   public long getId() {
+
+      return _id;
+   }
+
+   /**
+    * Get changed columns
+    *
+    * @return Bit mask, bit n for column n of the table's ALL_COLUMNS
+    */
+   public int getColumnMask() {
+
+      return _columnMask;
+   }
+
+   /**
+    * Check, if the column changed
+    *
+    * @param column Column name of the table
+    * @return True, if the column is part of the column mask
+    */
+   public boolean isColumnChanged(String column) {
+
+      return (_columnMask & _table.getColumnBit(column)) != 0;
+   }
+
+   /**
+    * Get the packed header (table code, operation and column mask)
+    *
+    * @return Header as stored by {@link ChangeEventCodec}
+    */
+   long toHeader() {
+
+      return ((long) _table.getCode() << _TABLE_SHIFT) | ((long) _operation << _OPERATION_SHIFT) | (_columnMask & _MASK_BITS);
+   }
+
+   /**
+    * Create event from packed values
+    *
+    * @param header Packed header
+    * @param id     _ID of the row
+    * @return Event or null for unknown tables or operations (e.g. from a newer provider)
+    */
+   static ChangeEvent fromPacked(long header, long id) {
+
+      DataTable table = DataTable.getByCode(getTableCode(header));
+      int operation = getOperation(header);
+      if (table == null || operation < OPERATION_INSERT || operation > OPERATION_DELETE) {
+         return null;
+      }
+
+      return new ChangeEvent(table, operation, id, getColumnMask(header));
+   }
+
+   static int getTableCode(long header) {
+
+      return (int) (header >>> _TABLE_SHIFT) & 0xFF;
+   }
+
+   static int getOperation(long header) {
+
+      return (int) (header >>> _OPERATION_SHIFT) & 0xFF;
+   }
+
+   static int getColumnMask(long header) {
+
+      return (int) (header & _MASK_BITS);
+   }
+
+   @Override
+   public int describeContents() {
+
+      return 0;
+   }
+
+   @Override
+   public void writeToParcel(Parcel dest, int flags) {
+
+      dest.writeLong(toHeader());
+      dest.writeLong(_id);
+   }
+
+   @Override
+   public boolean equals(Object other) {
+
+      if (this == other) {
+         return true;
+      }
+
+      if (!(other instanceof ChangeEvent)) {
+         return false;
+      }
+
+      ChangeEvent event = (ChangeEvent) other;
+
+      return _table == event._table && _operation == event._operation && _id == event._id && _columnMask == event._columnMask;
+   }
+
+   @Override
+   public int hashCode() {
+
+      return 31 * (int) (toHeader() ^ (toHeader() >>> 32)) + (int) (_id ^ (_id >>> 32));
+   }
+
+   @Override
+   public String toString() {
+
+      return _table + "[" + _id + "] op=" + _operation + " columns=0x" + Integer.toHexString(_columnMask);
+   }
+}
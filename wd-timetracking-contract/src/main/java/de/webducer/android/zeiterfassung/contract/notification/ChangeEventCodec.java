@@ -0,0 +1,215 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.notification;
+
+import android.content.Intent;
+import android.os.Bundle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.Actions;
+
+/**
+ * Binary encoding of {@link ChangeEvent} lists for broadcasts and bundles.
+ * <p/>
+ * Format version 1: two longs per event, the header (bits 40-47 table code, bits 32-39 operation, bits 0-31 column mask)
+ * followed by the _ID of the row. Events of unknown tables are skipped on decoding.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class ChangeEventCodec {
+   /* Public fields */
+   /**
+    * Current format version
+    */
+   public final static int FORMAT_VERSION = 1;
+
+   /**
+    * Number of longs per encoded event
+    */
+   public final static int EVENT_SIZE = 2;
+
+   /* Constructors */
+   private ChangeEventCodec() {
+
+   }
+
+   /**
+    * Encode the events
+    *
+    * @param events Events to encode
+    * @return Encoded events
+    */
+   public static long[] encode(List<ChangeEvent> events) {
+
+      long[] data = new long[events.size() * EVENT_SIZE];
+      for (int index = 0; index < events.size(); index++) {
+         ChangeEvent event = events.get(index);
+         data[index * EVENT_SIZE] = event.toHeader();
+         data[index * EVENT_SIZE + 1] = event.getId();
+      }
+
+      return data;
+   }
+
+   /**
+    * Decode the events
+    *
+    * @param data Encoded events
+    * @return Decoded events (without events of unknown tables)
+    */
+   public static ArrayList<ChangeEvent> decode(long[] data) {
+
+      int count = getEventCount(data);
+      ArrayList<ChangeEvent> events = new ArrayList<ChangeEvent>(count);
+      for (int index = 0; index < count; index++) {
+         ChangeEvent event = ChangeEvent.fromPacked(data[index * EVENT_SIZE], data[index * EVENT_SIZE + 1]);
+         if (event != null) {
+            events.add(event);
+         }
+      }
+
+      return events;
+   }
+
+   /**
+    * Get number of encoded events (for reading without decoding)
+    *
+    * @param data Encoded events
+    * @return Event count
+    */
+   public static int getEventCount(long[] data) {
+
+      return data.length / EVENT_SIZE;
+   }
+
+   /**
+    * Get table of an encoded event
+    *
+    * @param data  Encoded events
+    * @param index Event index
+    * @return Table or null for unknown tables
+    */
+   public static DataTable getTable(long[] data, int index) {
+
+      return DataTable.getByCode(ChangeEvent.getTableCode(data[index * EVENT_SIZE]));
+   }
+
+   /**
+    * Get operation of an encoded event
+    *
+    * @param data  Encoded events
+    * @param index Event index
+    * @return One of the {@link ChangeEvent} OPERATION_* constants
+    */
+   public static int getOperation(long[] data, int index) {
+
+      return ChangeEvent.getOperation(data[index * EVENT_SIZE]);
+   }
+
+   /**
+    * Get _ID of an encoded event
+    *
+    * @param data  Encoded events
+    * @param index Event index
+    * @return Row ID
+    */
+   public static long getId(long[] data, int index) {
+
+      return data[index * EVENT_SIZE + 1];
+   }
+
+   /**
+    * Get column mask of an encoded event
+    *
+    * @param data  Encoded events
+    * @param index Event index
+    * @return Changed columns
+    */
+   public static int getColumnMask(long[] data, int index) {
+
+      return ChangeEvent.getColumnMask(data[index * EVENT_SIZE]);
+   }
+
+   /**
+    * Write encoded events to the bundle
+    *
+    * @param bundle Target bundle
+    * @param data   Encoded events
+    */
+   public static void putEvents(Bundle bundle, long[] data) {
+
+      bundle.putInt(Actions.EXTRA_CHANGE_EVENTS_VERSION, FORMAT_VERSION);
+      bundle.putLongArray(Actions.EXTRA_CHANGE_EVENTS, data);
+   }
+
+   /**
+    * Read encoded events from the bundle
+    *
+    * @param bundle Source bundle
+    * @return Encoded events or null, if missing or in an unsupported version
+    */
+   public static long[] getEvents(Bundle bundle) {
+
+      if (bundle == null || bundle.getInt(Actions.EXTRA_CHANGE_EVENTS_VERSION, 0) != FORMAT_VERSION) {
+         return null;
+      }
+
+      return bundle.getLongArray(Actions.EXTRA_CHANGE_EVENTS);
+   }
+
+   /**
+    * Write encoded events to the broadcast
+    *
+    * @param intent Broadcast to send
+    * @param data   Encoded events
+    * @return Same intent for chaining
+    */
+   public static Intent putEvents(Intent intent, long[] data) {
+
+      intent.putExtra(Actions.EXTRA_CHANGE_EVENTS_VERSION, FORMAT_VERSION);
+      intent.putExtra(Actions.EXTRA_CHANGE_EVENTS, data);
+
+      return intent;
+   }
+
+   /**
+    * Read encoded events from the broadcast
+    *
+    * @param intent Received broadcast
+    * @return Encoded events or null, if missing or in an unsupported version
+    */
+   public static long[] getEvents(Intent intent) {
+
+      if (intent.getIntExtra(Actions.EXTRA_CHANGE_EVENTS_VERSION, 0) != FORMAT_VERSION) {
+         return null;
+      }
+
+      return intent.getLongArrayExtra(Actions.EXTRA_CHANGE_EVENTS);
+   }
+}
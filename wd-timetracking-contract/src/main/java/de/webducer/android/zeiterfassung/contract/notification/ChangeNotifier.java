@@ -0,0 +1,291 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.notification;
+
+import android.content.Context;
+import android.content.Intent;
+import android.os.Handler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Coalescing sender for the change broadcasts of the content provider.
+ * <p/>
+ * All changes reported within the window (starting with the first change) are sent as one broadcast per action, with
+ * the changed tables and IDs as {@link ChangeSet} payload and the reported {@link ChangeEvent}s (see
+ * {@link ChangeEventCodec}). The window is not extended by further changes, so
+ * listeners are notified at most one window after the first change, even during long bulk edits.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class ChangeNotifier {
+   /* Public fields */
+   /**
+    * Default coalescing window in milliseconds
+    */
+   public final static long DEFAULT_WINDOW = 250;
+
+   /**
+    * Default number of IDs per table in one broadcast, before the table is marked for complete reload
+    */
+   public final static int DEFAULT_MAX_IDS_PER_TABLE = 500;
+
+   /**
+    * Default number of change events in one broadcast, before the events are dropped (change set is still sent)
+    */
+   public final static int DEFAULT_MAX_EVENTS = 1000;
+
+   /* Private fields */
+   private final Context _context;
+   private final Handler _handler;
+   private final int _maxIdsPerTable;
+   private final int _maxEvents;
+   private final Object _lock = new Object();
+   // Pending changes per action (guarded by _lock)
+   private LinkedHashMap<String, Pending> _pending = new LinkedHashMap<String, Pending>();
+   private boolean _scheduled = false;
+   private volatile long _window;
+
+   private final Runnable _flushTask = new Runnable() {
+      @Override
+      public void run() {
+
+         flush();
+      }
+   };
+
+   /* Constructors */
+
+   /**
+    * Create notifier with the default window, sending on the main thread
+    *
+    * @param context Context to send the broadcasts with
+    */
+   public ChangeNotifier(Context context) {
+
+      this(context, new Handler(context.getMainLooper()), DEFAULT_WINDOW, DEFAULT_MAX_IDS_PER_TABLE, DEFAULT_MAX_EVENTS);
+   }
+
+   /**
+    * Create notifier
+    *
+    * @param context        Context to send the broadcasts with
+    * @param handler        Handler of the thread, the delayed broadcasts are sent on
+    * @param window         Coalescing window in milliseconds (0 sends every change immediately)
+    * @param maxIdsPerTable Number of IDs per table in one broadcast, before the table is marked for complete reload
+    * @param maxEvents      Number of change events in one broadcast, before the events are dropped
+    */
+   public ChangeNotifier(Context context, Handler handler, long window, int maxIdsPerTable, int maxEvents) {
+
+      _context = context;
+      _handler = handler;
+      _window = window;
+      _maxIdsPerTable = maxIdsPerTable;
+      _maxEvents = maxEvents;
+   }
+
+   /**
+    * Report a changed row
+    *
+    * @param action Broadcast action (e.g. {@code Actions.ACTION_RECORD_DATA_CHANGED})
+    * @param table  CONTENT_DIRECTORY of the table
+    * @param id     ID of the changed row
+    */
+   public void notifyChange(String action, String table, long id) {
+
+      synchronized (_lock) {
+         Pending pending = getPending(action);
+         pending.changes.addId(table, id);
+         // Listeners can not rely on the events, if changes without events are part of the broadcast
+         pending.dropEvents();
+      }
+
+      schedule();
+   }
+
+   /**
+    * Report a change of unknown rows of the table (e.g. delete with selection)
+    *
+    * @param action Broadcast action (e.g. {@code Actions.ACTION_MASTER_DATA_CHANGED})
+    * @param table  CONTENT_DIRECTORY of the table
+    */
+   public void notifyChange(String action, String table) {
+
+      synchronized (_lock) {
+         Pending pending = getPending(action);
+         pending.changes.addTable(table);
+         pending.dropEvents();
+      }
+
+      schedule();
+   }
+
+   /**
+    * Report a row change with operation and changed columns
+    *
+    * @param event Change event (broadcast with the action of the table)
+    */
+   public void notifyChange(ChangeEvent event) {
+
+      DataTable table = event.getTable();
+      synchronized (_lock) {
+         Pending pending = getPending(table.getAction());
+         pending.changes.addId(table.getContentDirectory(), event.getId());
+         pending.addEvent(event);
+      }
+
+      schedule();
+   }
+
+   /**
+    * Send all pending changes immediately (e.g. at the end of a batch)
+    */
+   public void flush() {
+
+      LinkedHashMap<String, Pending> pending;
+      synchronized (_lock) {
+         _handler.removeCallbacks(_flushTask);
+         _scheduled = false;
+
+         if (_pending.isEmpty()) {
+            return;
+         }
+
+         pending = _pending;
+         _pending = new LinkedHashMap<String, Pending>();
+      }
+
+      ArrayList<Intent> broadcasts = new ArrayList<Intent>(pending.size());
+      for (Map.Entry<String, Pending> entry : pending.entrySet()) {
+         Pending changes = entry.getValue();
+         Intent broadcast = changes.changes.build().writeTo(new Intent(entry.getKey()));
+         if (changes.events != null) {
+            ChangeEventCodec.putEvents(broadcast, Arrays.copyOf(changes.events, changes.eventCount * ChangeEventCodec.EVENT_SIZE));
+         }
+         broadcasts.add(broadcast);
+      }
+
+      for (Intent broadcast : broadcasts) {
+         _context.sendBroadcast(broadcast);
+      }
+   }
+
+   /**
+    * Get the coalescing window
+    *
+    * @return Window in milliseconds
+    */
+   public long getWindow() {
+
+      return _window;
+   }
+
+   /**
+    * Set the coalescing window (used from the next change on)
+    *
+    * @param window Window in milliseconds (0 sends every change immediately)
+    */
+   public void setWindow(long window) {
+
+      _window = window;
+   }
+
+   /* Private helpers */
+   private Pending getPending(String action) {
+
+      Pending pending = _pending.get(action);
+      if (pending == null) {
+         pending = new Pending(_maxIdsPerTable, _maxEvents);
+         _pending.put(action, pending);
+      }
+
+      return pending;
+   }
+
+   private void schedule() {
+
+      long window = _window;
+      if (window <= 0) {
+         flush();
+         return;
+      }
+
+      synchronized (_lock) {
+         if (!_scheduled) {
+            _scheduled = true;
+            _handler.postDelayed(_flushTask, window);
+         }
+      }
+   }
+
+   /**
+    * Pending changes of one action
+    */
+   private final static class Pending {
+      final ChangeSet.Builder changes;
+      final int maxEvents;
+      // Encoded events, null if dropped
+      long[] events = new long[8 * ChangeEventCodec.EVENT_SIZE];
+      int eventCount;
+
+      Pending(int maxIdsPerTable, int maxEvents) {
+
+         changes = new ChangeSet.Builder(maxIdsPerTable);
+         this.maxEvents = maxEvents;
+      }
+
+      void addEvent(ChangeEvent event) {
+
+         if (events == null) {
+            return;
+         }
+
+         if (eventCount == maxEvents) {
+            dropEvents();
+            return;
+         }
+
+         int offset = eventCount * ChangeEventCodec.EVENT_SIZE;
+         if (offset == events.length) {
+            events = Arrays.copyOf(events, events.length * 2);
+         }
+
+         events[offset] = event.toHeader();
+         events[offset + 1] = event.getId();
+         eventCount++;
+      }
+
+      void dropEvents() {
+
+         events = null;
+         eventCount = 0;
+      }
+   }
+}
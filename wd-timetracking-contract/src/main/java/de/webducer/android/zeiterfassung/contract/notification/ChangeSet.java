@@ -0,0 +1,386 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.notification;
+
+import android.content.Intent;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.Actions;
+
+/**
+ * Tables and IDs changed since the last change broadcast.
+ * <p/>
+ * Tables are identified by their CONTENT_DIRECTORY (e.g. {@code RecordData.TimeRecord.CONTENT_DIRECTORY}). A table can
+ * be marked as changed completely, if too many or unknown rows changed. Broadcasts without payload (e.g. from an older
+ * provider) are decoded as complete change of all tables.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class ChangeSet {
+   /* Private fields */
+   private final static String[] _NO_TABLES = new String[0];
+   private final static long[] _NO_IDS = new long[0];
+   private final static int _ALL_ROWS = -1;
+
+   private final boolean _complete;
+   private final String[] _tables;
+   // Sorted IDs per table, null for all rows
+   private final long[][] _ids;
+
+   /* Constructors */
+   private ChangeSet(boolean complete, String[] tables, long[][] ids) {
+
+      _complete = complete;
+      _tables = tables;
+      _ids = ids;
+   }
+
+   /**
+    * Decode the payload of a change broadcast
+    *
+    * @param intent Received broadcast
+    * @return Decoded changes (complete change, if the broadcast has no or an invalid payload)
+    */
+   public static ChangeSet fromIntent(Intent intent) {
+
+      String[] tables = intent.getStringArrayExtra(Actions.EXTRA_CHANGED_TABLES);
+      int[] counts = intent.getIntArrayExtra(Actions.EXTRA_CHANGED_ID_COUNTS);
+      long[] ids = intent.getLongArrayExtra(Actions.EXTRA_CHANGED_IDS);
+
+      if (tables == null || counts == null || counts.length != tables.length) {
+         return new ChangeSet(true, _NO_TABLES, new long[0][]);
+      }
+
+      if (ids == null) {
+         ids = _NO_IDS;
+      }
+
+      long[][] tableIds = new long[tables.length][];
+      int offset = 0;
+      for (int index = 0; index < tables.length; index++) {
+         int count = counts[index];
+         if (count == _ALL_ROWS) {
+            continue;
+         }
+
+         if (count < 0 || offset + count > ids.length) {
+            return new ChangeSet(true, _NO_TABLES, new long[0][]);
+         }
+
+         tableIds[index] = Arrays.copyOfRange(ids, offset, offset + count);
+         offset += count;
+      }
+
+      return new ChangeSet(false, tables, tableIds);
+   }
+
+   /**
+    * Write the payload to a change broadcast
+    *
+    * @param intent Broadcast to send
+    * @return Same intent for chaining
+    */
+   public Intent writeTo(Intent intent) {
+
+      if (_complete) {
+         return intent;
+      }
+
+      int[] counts = new int[_tables.length];
+      int total = 0;
+      for (int index = 0; index < _tables.length; index++) {
+         counts[index] = _ids[index] == null ? _ALL_ROWS : _ids[index].length;
+         total += Math.max(counts[index], 0);
+      }
+
+      long[] ids = new long[total];
+      int offset = 0;
+      for (long[] tableIds : _ids) {
+         if (tableIds != null) {
+            System.arraycopy(tableIds, 0, ids, offset, tableIds.length);
+            offset += tableIds.length;
+         }
+      }
+
+      intent.putExtra(Actions.EXTRA_CHANGED_TABLES, _tables);
+      intent.putExtra(Actions.EXTRA_CHANGED_ID_COUNTS, counts);
+      intent.putExtra(Actions.EXTRA_CHANGED_IDS, ids);
+
+      return intent;
+   }
+
+   /**
+    * Check, if the change details are unknown (everything must be reloaded)
+    *
+    * @return True for broadcasts without payload
+    */
+   public boolean isComplete() {
+
+      return _complete;
+   }
+
+   /**
+    * Get the changed tables
+    *
+    * @return CONTENT_DIRECTORY of the changed tables (empty for complete changes)
+    */
+   public String[] getTables() {
+
+      return _tables.clone();
+   }
+
+   /**
+    * Check, if the table changed
+    *
+    * @param table CONTENT_DIRECTORY of the table
+    * @return True, if any row of the table changed
+    */
+   public boolean isTableChanged(String table) {
+
+      return _complete || indexOf(table) >= 0;
+   }
+
+   /**
+    * Check, if the table must be reloaded completely
+    *
+    * @param table CONTENT_DIRECTORY of the table
+    * @return True, if unknown rows of the table changed
+    */
+   public boolean isTableReloadRequired(String table) {
+
+      if (_complete) {
+         return true;
+      }
+
+      int index = indexOf(table);
+
+      return index >= 0 && _ids[index] == null;
+   }
+
+   /**
+    * Get changed IDs of the table
+    *
+    * @param table CONTENT_DIRECTORY of the table
+    * @return Sorted IDs (empty, if the table did not change), null if the table must be reloaded completely
+    */
+   public long[] getIds(String table) {
+
+      if (_complete) {
+         return null;
+      }
+
+      int index = indexOf(table);
+      if (index < 0) {
+         return _NO_IDS;
+      }
+
+      return _ids[index] == null ? null : _ids[index].clone();
+   }
+
+   /**
+    * Check, if the row changed
+    *
+    * @param table CONTENT_DIRECTORY of the table
+    * @param id    ID of the row
+    * @return True, if the row changed or the table must be reloaded completely
+    */
+   public boolean isChanged(String table, long id) {
+
+      if (_complete) {
+         return true;
+      }
+
+      int index = indexOf(table);
+      if (index < 0) {
+         return false;
+      }
+
+      return _ids[index] == null || Arrays.binarySearch(_ids[index], id) >= 0;
+   }
+
+   /* Private helpers */
+   private int indexOf(String table) {
+
+      for (int index = 0; index < _tables.length; index++) {
+         if (_tables[index].equals(table)) {
+            return index;
+         }
+      }
+
+      return -1;
+   }
+
+   /**
+    * Collector for the changes of one broadcast (not thread safe)
+    */
+   public final static class Builder {
+      /* Private fields */
+      private final int _maxIdsPerTable;
+      private final LinkedHashMap<String, IdList> _tables = new LinkedHashMap<String, IdList>();
+
+      /* Constructors */
+
+      /**
+       * Create empty collector
+       *
+       * @param maxIdsPerTable Number of IDs per table, after that the table is marked for complete reload
+       */
+      public Builder(int maxIdsPerTable) {
+
+         _maxIdsPerTable = maxIdsPerTable;
+      }
+
+      /**
+       * Add a changed row
+       *
+       * @param table CONTENT_DIRECTORY of the table
+       * @param id    ID of the changed row
+       * @return Same builder for chaining
+       */
+      public Builder addId(String table, long id) {
+
+         IdList ids = getIdList(table);
+         if (ids.ids == null) {
+            return this;
+         }
+
+         if (ids.size == _maxIdsPerTable) {
+            // Same rows are often changed more than once
+            ids.compact();
+            if (ids.size == _maxIdsPerTable) {
+               if (Arrays.binarySearch(ids.ids, 0, ids.size, id) < 0) {
+                  ids.ids = null;
+               }
+               return this;
+            }
+         }
+
+         if (ids.size == ids.ids.length) {
+            ids.ids = Arrays.copyOf(ids.ids, Math.min(ids.size * 2, _maxIdsPerTable));
+         }
+         ids.ids[ids.size++] = id;
+
+         return this;
+      }
+
+      /**
+       * Mark the table for complete reload (e.g. after delete with selection)
+       *
+       * @param table CONTENT_DIRECTORY of the table
+       * @return Same builder for chaining
+       */
+      public Builder addTable(String table) {
+
+         getIdList(table).ids = null;
+
+         return this;
+      }
+
+      /**
+       * Check, if any change was added
+       *
+       * @return True, if no change was added
+       */
+      public boolean isEmpty() {
+
+         return _tables.isEmpty();
+      }
+
+      /**
+       * Create the change set
+       *
+       * @return Change set with sorted distinct IDs per table
+       */
+      public ChangeSet build() {
+
+         String[] tables = new String[_tables.size()];
+         long[][] ids = new long[tables.length][];
+         int index = 0;
+
+         for (Map.Entry<String, IdList> entry : _tables.entrySet()) {
+            tables[index] = entry.getKey();
+            ids[index] = entry.getValue().toSortedIds();
+            index++;
+         }
+
+         return new ChangeSet(false, tables, ids);
+      }
+
+      private IdList getIdList(String table) {
+
+         IdList ids = _tables.get(table);
+         if (ids == null) {
+            ids = new IdList(Math.min(16, Math.max(_maxIdsPerTable, 1)));
+            _tables.put(table, ids);
+         }
+
+         return ids;
+      }
+   }
+
+   /**
+    * Growing ID array of one table
+    */
+   private final static class IdList {
+      // null = all rows
+      long[] ids;
+      int size;
+
+      IdList(int capacity) {
+
+         ids = new long[capacity];
+      }
+
+      void compact() {
+
+         Arrays.sort(ids, 0, size);
+
+         int count = 0;
+         for (int index = 0; index < size; index++) {
+            if (count == 0 || ids[count - 1] != ids[index]) {
+               ids[count++] = ids[index];
+            }
+         }
+
+         size = count;
+      }
+
+      long[] toSortedIds() {
+
+         if (ids == null) {
+            return null;
+         }
+
+         compact();
+
+         return Arrays.copyOf(ids, size);
+      }
+   }
+}
@@ -0,0 +1,279 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.notification;
+
+import android.net.Uri;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.Actions;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ConfigurationData;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.MasterData;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.RecordData;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData;
+
+/**
+ * Tables of the contract with their binary code for change events.
+ * <p/>
+ * Changed columns are encoded as bit mask, bit n is the column n of the table's ALL_COLUMNS.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public enum DataTable {
+   /**
+    * {@link ConfigurationData.Configuration}
+    */
+   Configuration(1, ConfigurationData.Configuration.CONTENT_DIRECTORY, ConfigurationData.Configuration.CONTENT_URI, ConfigurationData.Configuration.Columns.ALL_COLUMNS, Actions.ACTION_CONFIG_DATA_CHANGED),
+
+   /**
+    * {@link MasterData.Address}
+    */
+   Address(2, MasterData.Address.CONTENT_DIRECTORY, MasterData.Address.CONTENT_URI, MasterData.Address.Columns.ALL_COLUMNS, Actions.ACTION_MASTER_DATA_CHANGED),
+
+   /**
+    * {@link MasterData.TimeType}
+    */
+   TimeType(3, MasterData.TimeType.CONTENT_DIRECTORY, MasterData.TimeType.CONTENT_URI, MasterData.TimeType.Columns.ALL_COLUMNS, Actions.ACTION_MASTER_DATA_CHANGED),
+
+   /**
+    * {@link MasterData.Project}
+    */
+   Project(4, MasterData.Project.CONTENT_DIRECTORY, MasterData.Project.CONTENT_URI, MasterData.Project.Columns.ALL_COLUMNS, Actions.ACTION_MASTER_DATA_CHANGED),
+
+   /**
+    * {@link MasterData.ProjectTimeType}
+    */
+   ProjectTimeType(5, MasterData.ProjectTimeType.CONTENT_DIRECTORY, MasterData.ProjectTimeType.CONTENT_URI, MasterData.ProjectTimeType.Columns.ALL_COLUMNS, Actions.ACTION_MASTER_DATA_CHANGED),
+
+   /**
+    * {@link MasterData.PauseDefinition}
+    */
+   PauseDefinition(6, MasterData.PauseDefinition.CONTENT_DIRECTORY, MasterData.PauseDefinition.CONTENT_URI, MasterData.PauseDefinition.Columns.ALL_COLUMNS, Actions.ACTION_MASTER_DATA_CHANGED),
+
+   /**
+    * {@link MasterData.ProjectTimeTypePauseDefinition}
+    */
+   ProjectTimeTypePauseDefinition(7, MasterData.ProjectTimeTypePauseDefinition.CONTENT_DIRECTORY, MasterData.ProjectTimeTypePauseDefinition.CONTENT_URI, MasterData.ProjectTimeTypePauseDefinition.Columns.ALL_COLUMNS, Actions.ACTION_MASTER_DATA_CHANGED),
+
+   /**
+    * {@link RecordData.TimeRecord}
+    */
+   TimeRecord(8, RecordData.TimeRecord.CONTENT_DIRECTORY, RecordData.TimeRecord.CONTENT_URI, RecordData.TimeRecord.Columns.ALL_COLUMNS, Actions.ACTION_RECORD_DATA_CHANGED),
+
+   /**
+    * {@link RecordData.RecordPause}
+    */
+   RecordPause(9, RecordData.RecordPause.CONTENT_DIRECTORY, RecordData.RecordPause.CONTENT_URI, RecordData.RecordPause.Columns.ALL_COLUMNS, Actions.ACTION_RECORD_DATA_CHANGED),
+
+   /**
+    * {@link ReportData.Report}
+    */
+   Report(10, ReportData.Report.CONTENT_DIRECTORY, ReportData.Report.CONTENT_URI, ReportData.Report.Columns.ALL_COLUMNS, Actions.ACTION_REPORT_DATA_CHANGED),
+
+   /**
+    * {@link ReportData.Data}
+    */
+   Data(11, ReportData.Data.CONTENT_DIRECTORY, ReportData.Data.CONTENT_URI, ReportData.Data.Columns.ALL_COLUMNS, Actions.ACTION_REPORT_DATA_CHANGED),
+
+   /**
+    * {@link ReportData.Statistic}
+    */
+   Statistic(12, ReportData.Statistic.CONTENT_DIRECTORY, ReportData.Statistic.CONTENT_URI, ReportData.Statistic.Columns.ALL_COLUMNS, Actions.ACTION_REPORT_DATA_CHANGED),
+
+   /**
+    * {@link ReportData.StatisticData}
+    */
+   StatisticData(13, ReportData.StatisticData.CONTENT_DIRECTORY, ReportData.StatisticData.CONTENT_URI, ReportData.StatisticData.Columns.ALL_COLUMNS, Actions.ACTION_REPORT_DATA_CHANGED),
+
+   /**
+    * {@link ReportData.Rollup}
+    */
+   Rollup(14, ReportData.Rollup.CONTENT_DIRECTORY, ReportData.Rollup.CONTENT_URI, ReportData.Rollup.Columns.ALL_COLUMNS, Actions.ACTION_REPORT_DATA_CHANGED);
+
+   /* Public fields */
+   /**
+    * Maximal number of columns, that can be encoded in the column mask
+    */
+   public final static int MAX_COLUMNS = Integer.SIZE;
+
+   /* Private fields */
+   private final static DataTable[] _BY_CODE;
+
+   private final int _code;
+   private final String _contentDirectory;
+   private final Uri _contentUri;
+   private final String[] _columns;
+   private final String _action;
+   private final int _allColumnsMask;
+
+   static {
+      int maxCode = 0;
+      for (DataTable table : values()) {
+         maxCode = Math.max(maxCode, table._code);
+      }
+
+      _BY_CODE = new DataTable[maxCode + 1];
+      for (DataTable table : values()) {
+         _BY_CODE[table._code] = table;
+      }
+   }
+
+   /* Constructors */
+   private DataTable(int code, String contentDirectory, Uri contentUri, String[] columns, String action) {
+
+      if (columns.length > MAX_COLUMNS) {
+         throw new IllegalArgumentException("Too many columns for the column mask: " + contentDirectory);
+      }
+
+      _code = code;
+      _contentDirectory = contentDirectory;
+      _contentUri = contentUri;
+      _columns = columns;
+      _action = action;
+      _allColumnsMask = columns.length == MAX_COLUMNS ? -1 : (1 << columns.length) - 1;
+   }
+
+   /**
+    * Get binary code of the table
+    *
+    * @return Code (1 - 255)
+    */
+   public int getCode() {
+
+      return _code;
+   }
+
+   /**
+    * Get content directory of the table (as used in {@link ChangeSet})
+    *
+    * @return CONTENT_DIRECTORY of the table contract
+    */
+   public String getContentDirectory() {
+
+      return _contentDirectory;
+   }
+
+   /**
+    * Get content URI of the table
+    *
+    * @return CONTENT_URI of the table contract
+    */
+   public Uri getContentUri() {
+
+      return _contentUri;
+   }
+
+   /**
+    * Get broadcast action for changes of the table
+    *
+    * @return One of the {@link TimeTrackingContract.Actions}
+    */
+   public String getAction() {
+
+      return _action;
+   }
+
+   /**
+    * Get the columns of the table in mask order
+    *
+    * @return ALL_COLUMNS of the table contract (shared array, do not modify)
+    */
+   public String[] getColumns() {
+
+      return _columns;
+   }
+
+   /**
+    * Get mask with all columns of the table
+    *
+    * @return Mask with one bit for each column
+    */
+   public int getAllColumnsMask() {
+
+      return _allColumnsMask;
+   }
+
+   /**
+    * Get bit of the column in the column mask
+    *
+    * @param column Column name of the table
+    * @return Bit of the column or 0 for unknown columns
+    */
+   public int getColumnBit(String column) {
+
+      for (int index = 0; index < _columns.length; index++) {
+         if (_columns[index].equals(column)) {
+            return 1 << index;
+         }
+      }
+
+      return 0;
+   }
+
+   /**
+    * Get column mask for the columns (e.g. keys of the update values)
+    *
+    * @param columns Column names of the table
+    * @return Mask of the known columns
+    */
+   public int getColumnMask(Iterable<String> columns) {
+
+      int mask = 0;
+      for (String column : columns) {
+         mask |= getColumnBit(column);
+      }
+
+      return mask;
+   }
+
+   /**
+    * Get table by binary code
+    *
+    * @param code Binary code
+    * @return Table or null for unknown codes
+    */
+   public static DataTable getByCode(int code) {
+
+      return code > 0 && code < _BY_CODE.length ? _BY_CODE[code] : null;
+   }
+
+   /**
+    * Get table by content directory
+    *
+    * @param contentDirectory CONTENT_DIRECTORY of the table contract
+    * @return Table or null for unknown directories
+    */
+   public static DataTable getByContentDirectory(String contentDirectory) {
+
+      for (DataTable table : values()) {
+         if (table._contentDirectory.equals(contentDirectory)) {
+            return table;
+         }
+      }
+
+      return null;
+   }
+}
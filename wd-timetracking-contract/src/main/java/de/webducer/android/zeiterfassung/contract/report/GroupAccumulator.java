@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import java.util.Arrays;
+
+import de.webducer.android.zeiterfassung.contract.cache.LongIntMap;
+
+/**
+ * Primitive sums per (time key, entity code) group
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+final class GroupAccumulator {
+   /* Package fields */
+   int size = 0;
+   int[] timeKeys = new int[16];
+   int[] entityCodes = new int[16];
+   long[] timeSums = new long[16];
+   long[] pauseSums = new long[16];
+   long[] overallSums = new long[16];
+   int[] rowCounts = new int[16];
+
+   /* Private fields */
+   private final LongIntMap _groups = new LongIntMap(16);
+
+   /**
+    * Add the rows of the range
+    *
+    * @param data     Report data
+    * @param time     Time grouping
+    * @param entity   Entity grouping
+    * @param filter   Typed row filter (null for all rows)
+    * @param startRow First row (inclusive)
+    * @param endRow   Last row (exclusive)
+    */
+   void addRows(ReportDataSnapshot data, ReportTimeGrouping time, ReportEntityGrouping entity, StatisticFilter filter, int startRow, int endRow) {
+
+      for (int row = startRow; row < endRow; row++) {
+         if (filter != null && !filter.matches(data, row)) {
+            continue;
+         }
+
+         int group = getGroup(time.getKey(data, row), entity.getCode(data, row));
+         timeSums[group] += data.timeSums[row];
+         pauseSums[group] += data.pauseSums[row];
+         overallSums[group] += data.overallSums[row];
+         rowCounts[group]++;
+      }
+   }
+
+   /**
+    * Add the listed rows
+    *
+    * @param data   Report data
+    * @param time   Time grouping
+    * @param entity Entity grouping
+    * @param filter Typed row filter (null for all rows)
+    * @param rows   Row positions
+    * @param start  First position in rows (inclusive)
+    * @param end    Last position in rows (exclusive)
+    */
+   void addRows(ReportDataSnapshot data, ReportTimeGrouping time, ReportEntityGrouping entity, StatisticFilter filter, int[] rows, int start, int end) {
+
+      for (int index = start; index < end; index++) {
+         int row = rows[index];
+         if (filter != null && !filter.matches(data, row)) {
+            continue;
+         }
+
+         int group = getGroup(time.getKey(data, row), entity.getCode(data, row));
+         timeSums[group] += data.timeSums[row];
+         pauseSums[group] += data.pauseSums[row];
+         overallSums[group] += data.overallSums[row];
+         rowCounts[group]++;
+      }
+   }
+
+   /**
+    * Add the sums of another accumulator
+    *
+    * @param other Partial result
+    */
+   void addAll(GroupAccumulator other) {
+
+      for (int index = 0; index < other.size; index++) {
+         int group = getGroup(other.timeKeys[index], other.entityCodes[index]);
+         timeSums[group] += other.timeSums[index];
+         pauseSums[group] += other.pauseSums[index];
+         overallSums[group] += other.overallSums[index];
+         rowCounts[group] += other.rowCounts[index];
+      }
+   }
+
+   /* Private helpers */
+   private int getGroup(int timeKey, int entityCode) {
+
+      long key = ((long) timeKey << 32) | (entityCode & 0xFFFFFFFFL);
+      int group = _groups.get(key, -1);
+      if (group >= 0) {
+         return group;
+      }
+
+      if (size == timeKeys.length) {
+         int capacity = size << 1;
+         timeKeys = Arrays.copyOf(timeKeys, capacity);
+         entityCodes = Arrays.copyOf(entityCodes, capacity);
+         timeSums = Arrays.copyOf(timeSums, capacity);
+         pauseSums = Arrays.copyOf(pauseSums, capacity);
+         overallSums = Arrays.copyOf(overallSums, capacity);
+         rowCounts = Arrays.copyOf(rowCounts, capacity);
+      }
+
+      group = size++;
+      timeKeys[group] = timeKey;
+      entityCodes[group] = entityCode;
+      _groups.put(key, group);
+
+      return group;
+   }
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import android.database.Cursor;
+
+import java.util.Arrays;
+
+import de.webducer.android.zeiterfassung.contract.cache.LongIntMap;
+
+/**
+ * Dictionary of the IDs (and names) of a joined table, that assigns dense codes in the order of first occurrence
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+final class IdDictionary {
+   /* Package fields */
+   /**
+    * Code for rows without ID (e.g. NULL in a left join)
+    */
+   final static int NO_CODE = -1;
+
+   /* Private fields */
+   private final LongIntMap _codes = new LongIntMap();
+   private long[] _ids = new long[8];
+   private String[] _names = new String[8];
+   private int _size = 0;
+
+   /**
+    * Get code of the ID in the current cursor row (the name is read only for new IDs)
+    *
+    * @param cursor          Cursor positioned on a row
+    * @param idColumnIndex   Index of the ID column
+    * @param nameColumnIndex Index of the name column (negative for dictionaries without names)
+    * @return Code or {@link #NO_CODE}, if the ID is NULL
+    */
+   int encode(Cursor cursor, int idColumnIndex, int nameColumnIndex) {
+
+      if (cursor.isNull(idColumnIndex)) {
+         return NO_CODE;
+      }
+
+      long id = cursor.getLong(idColumnIndex);
+      int code = _codes.get(id, NO_CODE);
+      if (code != NO_CODE) {
+         return code;
+      }
+
+      if (_size == _ids.length) {
+         _ids = Arrays.copyOf(_ids, _size << 1);
+         _names = Arrays.copyOf(_names, _size << 1);
+      }
+
+      code = _size++;
+      _ids[code] = id;
+      _names[code] = nameColumnIndex < 0 ? null : cursor.getString(nameColumnIndex);
+      _codes.put(id, code);
+
+      return code;
+   }
+
+   /**
+    * Get the IDs by code
+    *
+    * @return New array with one entry per code
+    */
+   long[] getIds() {
+
+      return Arrays.copyOf(_ids, _size);
+   }
+
+   /**
+    * Get the names by code
+    *
+    * @return New array with one entry per code
+    */
+   String[] getNames() {
+
+      return Arrays.copyOf(_names, _size);
+   }
+}
@@ -0,0 +1,212 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Immutable result of an in memory report aggregation, one entry per group sorted by time key and entity key
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class ReportAggregation {
+   /* Private fields */
+   private final ReportTimeGrouping _timeGrouping;
+   private final ReportEntityGrouping _entityGrouping;
+   private final int[] _timeKeys;
+   private final long[] _entityKeys;
+   private final long[] _timeSums;
+   private final long[] _pauseSums;
+   private final long[] _overallSums;
+   private final int[] _rowCounts;
+
+   /* Constructors */
+   ReportAggregation(ReportDataSnapshot data, ReportTimeGrouping time, ReportEntityGrouping entity, final GroupAccumulator groups) {
+
+      _timeGrouping = time;
+      _entityGrouping = entity;
+
+      final long[] entityKeys = new long[groups.size];
+      Integer[] order = new Integer[groups.size];
+      for (int group = 0; group < groups.size; group++) {
+         entityKeys[group] = entity.getKey(data, groups.entityCodes[group]);
+         order[group] = group;
+      }
+
+      Arrays.sort(order, new Comparator<Integer>() {
+         @Override
+         public int compare(Integer left, Integer right) {
+
+            if (groups.timeKeys[left] != groups.timeKeys[right]) {
+               return groups.timeKeys[left] < groups.timeKeys[right] ? -1 : 1;
+            }
+
+            return entityKeys[left] < entityKeys[right] ? -1 : (entityKeys[left] == entityKeys[right] ? 0 : 1);
+         }
+      });
+
+      _timeKeys = new int[groups.size];
+      _entityKeys = new long[groups.size];
+      _timeSums = new long[groups.size];
+      _pauseSums = new long[groups.size];
+      _overallSums = new long[groups.size];
+      _rowCounts = new int[groups.size];
+
+      for (int index = 0; index < order.length; index++) {
+         int group = order[index];
+         _timeKeys[index] = groups.timeKeys[group];
+         _entityKeys[index] = entityKeys[group];
+         _timeSums[index] = groups.timeSums[group];
+         _pauseSums[index] = groups.pauseSums[group];
+         _overallSums[index] = groups.overallSums[group];
+         _rowCounts[index] = groups.rowCounts[group];
+      }
+   }
+
+   /**
+    * Get time dimension of the aggregation
+    *
+    * @return Time grouping
+    */
+   public ReportTimeGrouping getTimeGrouping() {
+
+      return _timeGrouping;
+   }
+
+   /**
+    * Get master data dimension of the aggregation
+    *
+    * @return Entity grouping
+    */
+   public ReportEntityGrouping getEntityGrouping() {
+
+      return _entityGrouping;
+   }
+
+   /**
+    * Number of groups
+    *
+    * @return Group count
+    */
+   public int size() {
+
+      return _timeKeys.length;
+   }
+
+   /**
+    * Get time key of the group
+    *
+    * @param index Group position
+    * @return Time key (see {@link ReportTimeGrouping})
+    */
+   public int getTimeKey(int index) {
+
+      return _timeKeys[index];
+   }
+
+   /**
+    * Get entity key of the group
+    *
+    * @param index Group position
+    * @return Entity key (see {@link ReportEntityGrouping})
+    */
+   public long getEntityKey(int index) {
+
+      return _entityKeys[index];
+   }
+
+   /**
+    * Get sum of the working time
+    *
+    * @param index Group position
+    * @return Time sum in minutes
+    */
+   public long getTimeSum(int index) {
+
+      return _timeSums[index];
+   }
+
+   /**
+    * Get sum of the pauses
+    *
+    * @param index Group position
+    * @return Pause sum in minutes
+    */
+   public long getPauseSum(int index) {
+
+      return _pauseSums[index];
+   }
+
+   /**
+    * Get sum of the overall time
+    *
+    * @param index Group position
+    * @return Overall sum in minutes
+    */
+   public long getOverallSum(int index) {
+
+      return _overallSums[index];
+   }
+
+   /**
+    * Get number of report data rows in the group
+    *
+    * @param index Group position
+    * @return Row count
+    */
+   public int getRowCount(int index) {
+
+      return _rowCounts[index];
+   }
+
+   /**
+    * Find group by keys
+    *
+    * @param timeKey   Time key
+    * @param entityKey Entity key
+    * @return Group position or -1
+    */
+   public int indexOf(int timeKey, long entityKey) {
+
+      int low = 0;
+      int high = _timeKeys.length - 1;
+
+      while (low <= high) {
+         int middle = (low + high) >>> 1;
+         if (_timeKeys[middle] < timeKey || (_timeKeys[middle] == timeKey && _entityKeys[middle] < entityKey)) {
+            low = middle + 1;
+         } else if (_timeKeys[middle] == timeKey && _entityKeys[middle] == entityKey) {
+            return middle;
+         } else {
+            high = middle - 1;
+         }
+      }
+
+      return -1;
+   }
+}
@@ -0,0 +1,256 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * In memory group by over the report data view, that answers any combination of {@link ReportTimeGrouping} and
+ * {@link ReportEntityGrouping} without another provider query.
+ * <p/>
+ * Sums are accumulated in primitive arrays. Large snapshots can be split into chunks, that are aggregated on an
+ * executor and merged afterwards; the result is the same as the sequential one.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class ReportAggregator {
+   /* Public fields */
+   /**
+    * Minimal number of rows per parallel chunk (smaller snapshots are aggregated sequentially)
+    */
+   public final static int MIN_CHUNK_SIZE = 4096;
+
+   /* Private fields */
+   private final ReportDataSnapshot _data;
+   // Last partitioning, reused by the next partitioned aggregation with the same time dimension
+   private volatile ReportPartitions _partitions = null;
+
+   /* Constructors */
+
+   /**
+    * Create aggregator for the report data
+    *
+    * @param data Report data snapshot
+    */
+   public ReportAggregator(ReportDataSnapshot data) {
+
+      _data = data;
+   }
+
+   /**
+    * Aggregate on the calling thread
+    *
+    * @param time   Time dimension
+    * @param entity Master data dimension
+    * @return Sums per group
+    */
+   public ReportAggregation aggregate(ReportTimeGrouping time, ReportEntityGrouping entity) {
+
+      return aggregate(time, entity, (StatisticFilter) null);
+   }
+
+   /**
+    * Aggregate the matching rows on the calling thread
+    *
+    * @param time   Time dimension
+    * @param entity Master data dimension
+    * @param filter Typed filter (null for all rows)
+    * @return Sums per group
+    * @throws IllegalArgumentException for SQL filters
+    */
+   public ReportAggregation aggregate(ReportTimeGrouping time, ReportEntityGrouping entity, StatisticFilter filter) {
+
+      filter = checkFilter(filter);
+      GroupAccumulator groups = new GroupAccumulator();
+      groups.addRows(_data, time, entity, filter, 0, _data.size());
+
+      return new ReportAggregation(_data, time, entity, groups);
+   }
+
+   /**
+    * Aggregate in chunks on the executor (sequentially, if the snapshot is small or no executor is given)
+    *
+    * @param time        Time dimension
+    * @param entity      Master data dimension
+    * @param executor    Executor for the chunks (can be null)
+    * @param parallelism Maximal number of chunks (e.g. number of processors)
+    * @return Sums per group
+    * @throws InterruptedException if the calling thread was interrupted while waiting for the chunks
+    */
+   public ReportAggregation aggregate(ReportTimeGrouping time, ReportEntityGrouping entity, ExecutorService executor, int parallelism)
+         throws InterruptedException {
+
+      return aggregate(time, entity, null, executor, parallelism);
+   }
+
+   /**
+    * Aggregate the matching rows in chunks on the executor (sequentially, if the snapshot is small or no executor is
+    * given)
+    *
+    * @param time        Time dimension
+    * @param entity      Master data dimension
+    * @param rowFilter   Typed filter (null for all rows)
+    * @param executor    Executor for the chunks (can be null)
+    * @param parallelism Maximal number of chunks (e.g. number of processors)
+    * @return Sums per group
+    * @throws InterruptedException     if the calling thread was interrupted while waiting for the chunks
+    * @throws IllegalArgumentException for SQL filters
+    */
+   public ReportAggregation aggregate(final ReportTimeGrouping time, final ReportEntityGrouping entity, StatisticFilter rowFilter,
+                                      ExecutorService executor, int parallelism) throws InterruptedException {
+
+      final StatisticFilter filter = checkFilter(rowFilter);
+      int chunkCount = Math.min(parallelism, _data.size() / MIN_CHUNK_SIZE);
+      if (executor == null || chunkCount < 2) {
+         return aggregate(time, entity, filter);
+      }
+
+      List<Future<GroupAccumulator>> chunks = new ArrayList<Future<GroupAccumulator>>(chunkCount);
+      int chunkSize = (_data.size() + chunkCount - 1) / chunkCount;
+
+      for (int start = 0; start < _data.size(); start += chunkSize) {
+         final int startRow = start;
+         final int endRow = Math.min(start + chunkSize, _data.size());
+
+         chunks.add(executor.submit(new Callable<GroupAccumulator>() {
+            @Override
+            public GroupAccumulator call() {
+
+               GroupAccumulator groups = new GroupAccumulator();
+               groups.addRows(_data, time, entity, filter, startRow, endRow);
+
+               return groups;
+            }
+         }));
+      }
+
+      return new ReportAggregation(_data, time, entity, merge(chunks));
+   }
+
+   /**
+    * Aggregate the matching rows partitioned by month or ISO week on the executor (e.g. list reports over several
+    * years).
+    * <p/>
+    * The partitions are split into ranges of about the same row count, one task per range, and merged in the order of
+    * the partitions. The result is the same as the sequential one. The partitions of the last call are kept, so other
+    * groupings of the same report reuse them.
+    *
+    * @param time         Time dimension
+    * @param entity       Master data dimension
+    * @param rowFilter    Typed filter (null for all rows)
+    * @param partitioning Time dimension of the partitions ({@link ReportTimeGrouping#Year}, {@link
+    *                     ReportTimeGrouping#Month} or {@link ReportTimeGrouping#Week})
+    * @param executor     Executor for the partition ranges (can be null)
+    * @param parallelism  Maximal number of tasks (e.g. number of processors)
+    * @return Sums per group
+    * @throws InterruptedException     if the calling thread was interrupted while waiting for the tasks
+    * @throws IllegalArgumentException for SQL filters or a partitioning, that does not split the date range
+    */
+   public ReportAggregation aggregatePartitioned(final ReportTimeGrouping time, final ReportEntityGrouping entity, StatisticFilter rowFilter,
+                                                 ReportTimeGrouping partitioning, ExecutorService executor, int parallelism)
+         throws InterruptedException {
+
+      if (partitioning != ReportTimeGrouping.Year && partitioning != ReportTimeGrouping.Month && partitioning != ReportTimeGrouping.Week) {
+         throw new IllegalArgumentException("Partitioning must split the date range: " + partitioning);
+      }
+
+      final StatisticFilter filter = checkFilter(rowFilter);
+      if (executor == null || parallelism < 2 || _data.size() < MIN_CHUNK_SIZE) {
+         return aggregate(time, entity, filter);
+      }
+
+      ReportPartitions cached = _partitions;
+      if (cached == null || cached.partitioning != partitioning) {
+         cached = ReportPartitions.create(_data, partitioning);
+         _partitions = cached;
+      }
+
+      final ReportPartitions partitions = cached;
+      List<Future<GroupAccumulator>> tasks = new ArrayList<Future<GroupAccumulator>>(parallelism);
+      int rowsPerTask = (_data.size() + parallelism - 1) / parallelism;
+
+      int partition = 0;
+      while (partition < partitions.size()) {
+         final int start = partitions.starts[partition];
+
+         // At least one partition per task, more until the task has about the row count
+         partition++;
+         while (partition < partitions.size() && partitions.starts[partition + 1] - start <= rowsPerTask) {
+            partition++;
+         }
+
+         final int end = partitions.starts[partition];
+
+         tasks.add(executor.submit(new Callable<GroupAccumulator>() {
+            @Override
+            public GroupAccumulator call() {
+
+               GroupAccumulator groups = new GroupAccumulator();
+               groups.addRows(_data, time, entity, filter, partitions.rows, start, end);
+
+               return groups;
+            }
+         }));
+      }
+
+      return new ReportAggregation(_data, time, entity, merge(tasks));
+   }
+
+   /* Private helpers */
+   // Merge the partial results in the order of the tasks
+   private static GroupAccumulator merge(List<Future<GroupAccumulator>> tasks) throws InterruptedException {
+
+      GroupAccumulator groups = new GroupAccumulator();
+      try {
+         for (Future<GroupAccumulator> task : tasks) {
+            groups.addAll(task.get());
+         }
+      } catch (ExecutionException e) {
+         throw new IllegalStateException("Aggregation of a chunk failed", e.getCause());
+      } finally {
+         for (Future<GroupAccumulator> task : tasks) {
+            task.cancel(true);
+         }
+      }
+
+      return groups;
+   }
+
+   private static StatisticFilter checkFilter(StatisticFilter filter) {
+
+      if (filter != null && !filter.isTyped()) {
+         throw new IllegalArgumentException("SQL filters can only be evaluated by the data base");
+      }
+
+      return filter == null || filter.isEmpty() ? null : filter;
+   }
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import android.database.Cursor;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Data;
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeCodec;
+
+/**
+ * Column wise copy of the report data view (projection {@link Data.Columns#ALL_COLUMNS}, one row per record and day).
+ * <p/>
+ * Address, project and time type IDs are dictionary encoded to dense codes, so {@link ReportAggregator} can group by
+ * them with primitive keys.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class ReportDataSnapshot {
+   /* Package fields */
+   final int[] epochDays;
+   final int[] years;
+   final int[] months;
+   final int[] weekYears;
+   final int[] weekNumbers;
+   final int[] weekdays;
+   final int[] timeSums;
+   final int[] pauseSums;
+   final int[] overallSums;
+   final int[] timeKindCodes;
+   final int[] addressCodes;
+   final int[] projectCodes;
+   final int[] timeTypeCodes;
+   final long[] addressIds;
+   final long[] projectIds;
+   final long[] timeTypeIds;
+
+   /* Constructors */
+   private ReportDataSnapshot(Cursor cursor) {
+
+      int count = cursor == null ? 0 : cursor.getCount();
+      epochDays = new int[count];
+      years = new int[count];
+      months = new int[count];
+      weekYears = new int[count];
+      weekNumbers = new int[count];
+      weekdays = new int[count];
+      timeSums = new int[count];
+      pauseSums = new int[count];
+      overallSums = new int[count];
+      timeKindCodes = new int[count];
+      addressCodes = new int[count];
+      projectCodes = new int[count];
+      timeTypeCodes = new int[count];
+
+      IdDictionary addresses = new IdDictionary();
+      IdDictionary projects = new IdDictionary();
+      IdDictionary timeTypes = new IdDictionary();
+
+      int row = 0;
+      if (count > 0 && cursor.moveToFirst()) {
+         do {
+            years[row] = cursor.getInt(Data.Columns.IDX_YEAR);
+            months[row] = cursor.getInt(Data.Columns.IDX_MONTH);
+            epochDays[row] = DbDateTimeCodec.toEpochDay(years[row], months[row], cursor.getInt(Data.Columns.IDX_DAY_OF_MONTH));
+            weekYears[row] = cursor.getInt(Data.Columns.IDX_WEEK_YEAR);
+            weekNumbers[row] = cursor.getInt(Data.Columns.IDX_WEEK_NUMBER);
+            weekdays[row] = cursor.getInt(Data.Columns.IDX_WEEKDAY);
+            timeSums[row] = cursor.getInt(Data.Columns.IDX_TIME_SUM);
+            pauseSums[row] = cursor.getInt(Data.Columns.IDX_PAUSE_SUM);
+            overallSums[row] = cursor.getInt(Data.Columns.IDX_OVERALL_SUM);
+            timeKindCodes[row] = cursor.getInt(Data.Columns.IDX_TIME_KIND);
+            addressCodes[row] = addresses.encode(cursor, Data.Columns.IDX_ADDRESS_ID, -1);
+            projectCodes[row] = projects.encode(cursor, Data.Columns.IDX_PROJECT_ID, -1);
+            timeTypeCodes[row] = timeTypes.encode(cursor, Data.Columns.IDX_TIME_TYPE_ID, -1);
+            row++;
+         } while (row < count && cursor.moveToNext());
+      }
+
+      if (row != count) {
+         throw new IllegalStateException("Cursor returned " + row + " of " + count + " rows");
+      }
+
+      addressIds = addresses.getIds();
+      projectIds = projects.getIds();
+      timeTypeIds = timeTypes.getIds();
+   }
+
+   /**
+    * Read all rows of the cursor (the cursor position is changed, the cursor is not closed)
+    *
+    * @param cursor Cursor with the projection {@link Data.Columns#ALL_COLUMNS} (can be null)
+    * @return New snapshot
+    */
+   public static ReportDataSnapshot fromCursor(Cursor cursor) {
+
+      return new ReportDataSnapshot(Data.Columns.ALL_COLUMNS_INDEX.validate(cursor));
+   }
+
+   /**
+    * Number of rows
+    *
+    * @return Row count
+    */
+   public int size() {
+
+      return years.length;
+   }
+}
@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract;
+
+/**
+ * Master data dimension of an in memory report aggregation
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public enum ReportEntityGrouping {
+   /**
+    * No master data grouping (entity key 0)
+    */
+   None {
+      @Override
+      int getCode(ReportDataSnapshot data, int row) {
+
+         return 0;
+      }
+
+      @Override
+      long getKey(ReportDataSnapshot data, int code) {
+
+         return 0;
+      }
+   },
+
+   /**
+    * Group by project (entity key is the project ID)
+    */
+   Project {
+      @Override
+      int getCode(ReportDataSnapshot data, int row) {
+
+         return data.projectCodes[row];
+      }
+
+      @Override
+      long getKey(ReportDataSnapshot data, int code) {
+
+         return getId(data.projectIds, code);
+      }
+   },
+
+   /**
+    * Group by address of the project (entity key is the address ID)
+    */
+   Address {
+      @Override
+      int getCode(ReportDataSnapshot data, int row) {
+
+         return data.addressCodes[row];
+      }
+
+      @Override
+      long getKey(ReportDataSnapshot data, int code) {
+
+         return getId(data.addressIds, code);
+      }
+   },
+
+   /**
+    * Group by time type (entity key is the time type ID)
+    */
+   TimeType {
+      @Override
+      int getCode(ReportDataSnapshot data, int row) {
+
+         return data.timeTypeCodes[row];
+      }
+
+      @Override
+      long getKey(ReportDataSnapshot data, int code) {
+
+         return getId(data.timeTypeIds, code);
+      }
+   },
+
+   /**
+    * Group by time kind (entity key is the enum code of the time kind)
+    */
+   TimeKind {
+      @Override
+      int getCode(ReportDataSnapshot data, int row) {
+
+         return data.timeKindCodes[row];
+      }
+
+      @Override
+      long getKey(ReportDataSnapshot data, int code) {
+
+         return code;
+      }
+   };
+
+   /**
+    * Get dense entity code of the row
+    *
+    * @param data Report data
+    * @param row  Row position
+    * @return Entity code
+    */
+   abstract int getCode(ReportDataSnapshot data, int row);
+
+   /**
+    * Get entity key for the entity code
+    *
+    * @param data Report data
+    * @param code Entity code
+    * @return Entity key (e.g. ID or {@link TimeTrackingContract#NULL_ID} for rows without the entity)
+    */
+   abstract long getKey(ReportDataSnapshot data, int code);
+
+   private static long getId(long[] ids, int code) {
+
+      return code == IdDictionary.NO_CODE ? TimeTrackingContract.NULL_ID : ids[code];
+   }
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import java.util.Arrays;
+
+import de.webducer.android.zeiterfassung.contract.cache.LongIntMap;
+
+/**
+ * Rows of the report data grouped by a time partition (e.g. month or ISO week), partitions in ascending key order
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+final class ReportPartitions {
+   /* Package fields */
+   final ReportTimeGrouping partitioning;
+   // Partition keys in ascending order
+   final int[] keys;
+   // Position of the first row of each partition in rows (one more entry for the end)
+   final int[] starts;
+   // Row positions, grouped by partition and ascending within a partition
+   final int[] rows;
+
+   /* Constructors */
+   private ReportPartitions(ReportTimeGrouping partitioning, int[] keys, int[] starts, int[] rows) {
+
+      this.partitioning = partitioning;
+      this.keys = keys;
+      this.starts = starts;
+      this.rows = rows;
+   }
+
+   /**
+    * Group the rows by the time key of the partitioning
+    *
+    * @param data         Report data
+    * @param partitioning Time dimension of the partitions
+    * @return Partitions
+    */
+   static ReportPartitions create(ReportDataSnapshot data, ReportTimeGrouping partitioning) {
+
+      int[] rowKeys = new int[data.size()];
+      LongIntMap counts = new LongIntMap(16);
+      for (int row = 0; row < rowKeys.length; row++) {
+         rowKeys[row] = partitioning.getKey(data, row);
+         counts.add(rowKeys[row], 1);
+      }
+
+      long[] countKeys = counts.keys();
+      int[] keys = new int[countKeys.length];
+      for (int index = 0; index < keys.length; index++) {
+         keys[index] = (int) countKeys[index];
+      }
+      Arrays.sort(keys);
+
+      // Reuse the map for the next free position of each partition
+      int[] starts = new int[keys.length + 1];
+      for (int partition = 0; partition < keys.length; partition++) {
+         int count = counts.get(keys[partition], 0);
+         counts.put(keys[partition], starts[partition]);
+         starts[partition + 1] = starts[partition] + count;
+      }
+
+      int[] rows = new int[rowKeys.length];
+      for (int row = 0; row < rowKeys.length; row++) {
+         int position = counts.get(rowKeys[row], 0);
+         rows[position] = row;
+         counts.put(rowKeys[row], position + 1);
+      }
+
+      return new ReportPartitions(partitioning, keys, starts, rows);
+   }
+
+   /**
+    * Number of partitions
+    *
+    * @return Partition count
+    */
+   int size() {
+
+      return keys.length;
+   }
+}
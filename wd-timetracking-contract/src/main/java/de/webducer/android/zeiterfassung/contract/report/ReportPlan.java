@@ -0,0 +1,533 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import android.database.CharArrayBuffer;
+import android.database.Cursor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+
+import de.webducer.android.zeiterfassung.contract.ProjectionBuilder;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Report;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Statistic;
+import de.webducer.android.zeiterfassung.contract.enums.ReportType;
+
+/**
+ * Immutable, validated execution plan of a stored {@link Report} definition.
+ * <p/>
+ * The text columns of the report are parsed once: the projection and the lists are split, the SQL statement is
+ * assembled (or taken from rp_sql) and the parameter slots ('?') are counted. The stored selection arguments are
+ * bound to the first slots, the remaining slots are filled per execution (e.g. by the filters).
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class ReportPlan {
+   /* Private fields */
+   private final static long _FNV_OFFSET = 0xCBF29CE484222325L;
+   private final static long _FNV_PRIME = 0x100000001B3L;
+   private final static String[] _NO_VALUES = new String[0];
+   private final static int[] _HASHED_COLUMNS = {Report.Columns.IDX_NAME, Report.Columns.IDX_FROM, Report.Columns.IDX_PROJECTION, Report.Columns.IDX_SELECTION,
+         Report.Columns.IDX_SELECTION_ARGS, Report.Columns.IDX_GROUP_BY, Report.Columns.IDX_SORT_ORDER, Report.Columns.IDX_SQL,
+         Report.Columns.IDX_AVAILABLE_FILTER};
+   private final static int[] _HASHED_STATISTIC_COLUMNS = {Statistic.QueryColumns.IDX_REPORT_FROM, Statistic.QueryColumns.IDX_REPORT_PROJECTION,
+         Statistic.QueryColumns.IDX_REPORT_SELECTION, Statistic.QueryColumns.IDX_REPORT_SELECTION_ARGS, Statistic.QueryColumns.IDX_REPORT_GROUP_BY};
+
+   private final long _id;
+   private final long _contentHash;
+   private final ReportType _type;
+   private final String _name;
+   private final String _from;
+   private final String[] _projection;
+   private final String _selection;
+   private final String[] _boundArgs;
+   private final String _groupBy;
+   private final String _sortOrder;
+   private final String _sql;
+   private final int _parameterCount;
+   private final String[] _availableFilters;
+
+   /* Constructors */
+   private ReportPlan(long id, long contentHash, ReportType type, String name, String from, String projection, String selection,
+                      String selectionArgs, String groupBy, String sortOrder, String sql, String availableFilter) {
+
+      _id = id;
+      _contentHash = contentHash;
+      _type = type;
+      _name = name;
+      _from = trim(from);
+      _selection = trim(selection);
+      _groupBy = trim(groupBy);
+      _sortOrder = trim(sortOrder);
+      _boundArgs = splitList(selectionArgs);
+      _availableFilters = splitList(availableFilter);
+      for (int index = 0; index < _availableFilters.length; index++) {
+         _availableFilters[index] = _availableFilters[index].toUpperCase(Locale.US);
+      }
+
+      String[] projectionItems = splitList(projection);
+      try {
+         _projection = projectionItems.length == 0 ? null : new ProjectionBuilder(projectionItems).build();
+      } catch (IllegalArgumentException e) {
+         throw invalid(e.getMessage());
+      }
+
+      String statement = trim(sql);
+      if (statement == null) {
+         if (_from == null) {
+            throw invalid("No source (rp_from) and no SQL (rp_sql)");
+         }
+
+         statement = assembleSql();
+      }
+
+      checkSyntax(statement);
+      _sql = statement;
+      _parameterCount = countParameters(statement);
+
+      if (_boundArgs.length > _parameterCount) {
+         throw invalid(_boundArgs.length + " selection arguments for " + _parameterCount + " parameters");
+      }
+   }
+
+   /**
+    * Compile the report of the current cursor row
+    *
+    * @param cursor Cursor with the projection {@link Report.Columns#ALL_COLUMNS} positioned on a row
+    * @return New plan
+    * @throws IllegalArgumentException if the report definition is invalid
+    */
+   public static ReportPlan fromCursor(Cursor cursor) {
+
+      return fromCursor(cursor, computeContentHash(cursor, new CharArrayBuffer(128)));
+   }
+
+   /**
+    * Compile the report of the current cursor row with a known content hash
+    *
+    * @param cursor      Cursor with the projection {@link Report.Columns#ALL_COLUMNS} positioned on a row
+    * @param contentHash Hash of the row from {@link #computeContentHash(Cursor, CharArrayBuffer)}
+    * @return New plan
+    */
+   static ReportPlan fromCursor(Cursor cursor, long contentHash) {
+
+      ReportType type = ReportType.getReportTypeByCode(cursor.isNull(Report.Columns.IDX_TYPE) ? ReportType.List.getEnumCode() : cursor.getInt(Report.Columns.IDX_TYPE));
+
+      return new ReportPlan(cursor.getLong(Report.Columns.IDX_ID), contentHash, type, cursor.getString(Report.Columns.IDX_NAME),
+            cursor.getString(Report.Columns.IDX_FROM), cursor.getString(Report.Columns.IDX_PROJECTION), cursor.getString(Report.Columns.IDX_SELECTION),
+            cursor.getString(Report.Columns.IDX_SELECTION_ARGS), cursor.getString(Report.Columns.IDX_GROUP_BY), cursor.getString(Report.Columns.IDX_SORT_ORDER),
+            cursor.getString(Report.Columns.IDX_SQL), cursor.getString(Report.Columns.IDX_AVAILABLE_FILTER));
+   }
+
+   /**
+    * Compile the report of a statistic from the report columns of the current cursor row
+    * <p/>
+    * The plan has no name, sort order and filters, because the statistic query does not contain them.
+    *
+    * @param cursor      Cursor with the projection {@link Statistic.QueryColumns#ALL_QUERY_COLUMNS} positioned on a row
+    * @param contentHash Hash of the row from {@link #computeStatisticContentHash(Cursor, CharArrayBuffer)}
+    * @return New plan of the type {@link ReportType#SingleValue}
+    * @throws IllegalArgumentException if the report definition is invalid
+    */
+   static ReportPlan fromStatisticCursor(Cursor cursor, long contentHash) {
+
+      return new ReportPlan(cursor.getLong(Statistic.Columns.IDX_REPORT_ID), contentHash, ReportType.SingleValue, null,
+            cursor.getString(Statistic.QueryColumns.IDX_REPORT_FROM), cursor.getString(Statistic.QueryColumns.IDX_REPORT_PROJECTION),
+            cursor.getString(Statistic.QueryColumns.IDX_REPORT_SELECTION), cursor.getString(Statistic.QueryColumns.IDX_REPORT_SELECTION_ARGS),
+            cursor.getString(Statistic.QueryColumns.IDX_REPORT_GROUP_BY), null, null, null);
+   }
+
+   /**
+    * Compute the hash of the definition columns of the current cursor row without creating Strings
+    *
+    * @param cursor Cursor with the projection {@link Report.Columns#ALL_COLUMNS} positioned on a row
+    * @param buffer Reusable buffer
+    * @return 64 bit FNV-1a hash of the report type, the name and the definition columns
+    */
+   public static long computeContentHash(Cursor cursor, CharArrayBuffer buffer) {
+
+      long hash = _FNV_OFFSET;
+      hash = (hash ^ (cursor.isNull(Report.Columns.IDX_TYPE) ? -1 : cursor.getInt(Report.Columns.IDX_TYPE))) * _FNV_PRIME;
+
+      return hashColumns(hash, cursor, _HASHED_COLUMNS, buffer);
+   }
+
+   /**
+    * Compute the hash of the report columns of a statistic row without creating Strings
+    *
+    * @param cursor Cursor with the projection {@link Statistic.QueryColumns#ALL_QUERY_COLUMNS} positioned on a row
+    * @param buffer Reusable buffer
+    * @return 64 bit FNV-1a hash of the report columns
+    */
+   public static long computeStatisticContentHash(Cursor cursor, CharArrayBuffer buffer) {
+
+      return hashColumns(_FNV_OFFSET, cursor, _HASHED_STATISTIC_COLUMNS, buffer);
+   }
+
+   /**
+    * Get report ID
+    *
+    * @return Report ID
+    */
+   public long getId() {
+
+      return _id;
+   }
+
+   /**
+    * Get hash of the definition, the plan was compiled from
+    *
+    * @return Content hash
+    */
+   public long getContentHash() {
+
+      return _contentHash;
+   }
+
+   /**
+    * Get report type
+    *
+    * @return Report type
+    */
+   public ReportType getType() {
+
+      return _type;
+   }
+
+   /**
+    * Get report name
+    *
+    * @return Report name
+    */
+   public String getName() {
+
+      return _name;
+   }
+
+   /**
+    * Get source of the report (view, table or sub query)
+    *
+    * @return Source or null, if the report uses rp_sql
+    */
+   public String getFrom() {
+
+      return _from;
+   }
+
+   /**
+    * Get projection of the report
+    *
+    * @return New array of the result columns or null for all columns
+    */
+   public String[] getProjection() {
+
+      return _projection == null ? null : _projection.clone();
+   }
+
+   /**
+    * Get base selection
+    *
+    * @return Selection or null
+    */
+   public String getSelection() {
+
+      return _selection;
+   }
+
+   /**
+    * Get group by clause
+    *
+    * @return Group by or null
+    */
+   public String getGroupBy() {
+
+      return _groupBy;
+   }
+
+   /**
+    * Get sort order
+    *
+    * @return Sort order or null
+    */
+   public String getSortOrder() {
+
+      return _sortOrder;
+   }
+
+   /**
+    * Get the complete SQL statement
+    *
+    * @return SQL with '?' for all parameters
+    */
+   public String getSql() {
+
+      return _sql;
+   }
+
+   /**
+    * Number of parameter slots in the SQL statement
+    *
+    * @return Parameter count
+    */
+   public int getParameterCount() {
+
+      return _parameterCount;
+   }
+
+   /**
+    * Number of parameter slots, that are bound to the stored selection arguments
+    *
+    * @return Bound parameter count
+    */
+   public int getBoundParameterCount() {
+
+      return _boundArgs.length;
+   }
+
+   /**
+    * Check, if the report supports the filter
+    *
+    * @param filter Filter name (e.g. 'PROJECT', case insensitive)
+    * @return True, if the filter is available
+    */
+   public boolean isFilterAvailable(String filter) {
+
+      for (String availableFilter : _availableFilters) {
+         if (availableFilter.equalsIgnoreCase(filter)) {
+            return true;
+         }
+      }
+
+      return false;
+   }
+
+   /**
+    * Create the arguments for all parameter slots
+    *
+    * @param args Values for the unbound slots (in the order of the slots)
+    * @return New array with the stored and the given arguments
+    * @throws IllegalArgumentException if the number of arguments does not match the unbound slots
+    */
+   public String[] bind(String... args) {
+
+      int argCount = args == null ? 0 : args.length;
+      if (_boundArgs.length + argCount != _parameterCount) {
+         throw new IllegalArgumentException("Report " + _id + " needs " + (_parameterCount - _boundArgs.length) + " arguments, got " + argCount);
+      }
+
+      String[] result = Arrays.copyOf(_boundArgs, _parameterCount);
+      if (argCount > 0) {
+         System.arraycopy(args, 0, result, _boundArgs.length, argCount);
+      }
+
+      return result;
+   }
+
+   /* Private helpers */
+   private static long hashColumns(long hash, Cursor cursor, int[] columns, CharArrayBuffer buffer) {
+
+      for (int columnIndex : columns) {
+         if (cursor.isNull(columnIndex)) {
+            // Different from every char, so NULL and '' differ
+            hash = (hash ^ 0x10000) * _FNV_PRIME;
+            continue;
+         }
+
+         cursor.copyStringToBuffer(columnIndex, buffer);
+         for (int index = 0; index < buffer.sizeCopied; index++) {
+            hash = (hash ^ buffer.data[index]) * _FNV_PRIME;
+         }
+
+         // Column separator
+         hash = (hash ^ 0x10001) * _FNV_PRIME;
+      }
+
+      return hash;
+   }
+
+   private String assembleSql() {
+
+      StringBuilder sql = new StringBuilder(128).append("SELECT ");
+
+      if (_projection == null) {
+         sql.append('*');
+      } else {
+         for (int index = 0; index < _projection.length; index++) {
+            if (index > 0) {
+               sql.append(", ");
+            }
+
+            sql.append(_projection[index]);
+         }
+      }
+
+      sql.append(" FROM ").append(_from);
+      if (_selection != null) {
+         sql.append(" WHERE ").append(_selection);
+      }
+
+      if (_groupBy != null) {
+         sql.append(" GROUP BY ").append(_groupBy);
+      }
+
+      if (_sortOrder != null) {
+         sql.append(" ORDER BY ").append(_sortOrder);
+      }
+
+      return sql.toString();
+   }
+
+   // Balanced parentheses and closed quotes
+   private void checkSyntax(String sql) {
+
+      int depth = 0;
+      char quote = 0;
+
+      for (int index = 0; index < sql.length(); index++) {
+         char value = sql.charAt(index);
+         if (quote != 0) {
+            if (value == quote) {
+               quote = 0;
+            }
+         } else if (value == '\'' || value == '"') {
+            quote = value;
+         } else if (value == '(') {
+            depth++;
+         } else if (value == ')' && --depth < 0) {
+            throw invalid("Unexpected ')' at position " + index);
+         }
+      }
+
+      if (quote != 0) {
+         throw invalid("Unclosed quote " + quote);
+      }
+
+      if (depth != 0) {
+         throw invalid("Unclosed '('");
+      }
+   }
+
+   private IllegalArgumentException invalid(String message) {
+
+      return new IllegalArgumentException("Invalid report " + _id + ": " + message);
+   }
+
+   /**
+    * Count the parameter slots ('?' outside of quotes)
+    *
+    * @param sql SQL or part of it
+    * @return Parameter count
+    */
+   static int countParameters(String sql) {
+
+      int count = 0;
+      char quote = 0;
+
+      for (int index = 0; index < sql.length(); index++) {
+         char value = sql.charAt(index);
+         if (quote != 0) {
+            if (value == quote) {
+               quote = 0;
+            }
+         } else if (value == '\'' || value == '"') {
+            quote = value;
+         } else if (value == '?') {
+            count++;
+         }
+      }
+
+      return count;
+   }
+
+   /**
+    * Split a comma separated list of the report definition (commas in parentheses and quotes are kept)
+    *
+    * @param value List (can be null)
+    * @return Trimmed, non empty entries
+    */
+   static String[] splitList(String value) {
+
+      if (value == null) {
+         return _NO_VALUES;
+      }
+
+      ArrayList<String> result = new ArrayList<String>();
+      int depth = 0;
+      char quote = 0;
+      int start = 0;
+
+      for (int index = 0; index <= value.length(); index++) {
+         char current = index < value.length() ? value.charAt(index) : ',';
+         if (quote != 0) {
+            if (current == quote && index < value.length()) {
+               quote = 0;
+            }
+         } else if (current == '\'' || current == '"') {
+            quote = current;
+         } else if (current == '(') {
+            depth++;
+         } else if (current == ')') {
+            depth--;
+         } else if (current == ',' && depth <= 0) {
+            String entry = value.substring(start, index).trim();
+            if (entry.length() > 0) {
+               result.add(entry);
+            }
+
+            start = index + 1;
+         }
+      }
+
+      // Unclosed quote: keep the rest as one entry, the syntax check reports it
+      if (start < value.length()) {
+         String entry = value.substring(start).trim();
+         if (entry.length() > 0) {
+            result.add(entry);
+         }
+      }
+
+      return result.toArray(new String[result.size()]);
+   }
+
+   /**
+    * Trim the value
+    *
+    * @param value Value (can be null)
+    * @return Trimmed value or null, if empty
+    */
+   static String trim(String value) {
+
+      if (value == null) {
+         return null;
+      }
+
+      value = value.trim();
+
+      return value.length() == 0 ? null : value;
+   }
+}
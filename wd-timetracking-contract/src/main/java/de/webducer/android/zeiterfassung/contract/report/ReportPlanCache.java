@@ -0,0 +1,212 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import android.database.CharArrayBuffer;
+import android.database.Cursor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Report;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Statistic;
+
+/**
+ * Thread safe LRU cache of the compiled {@link ReportPlan}s, keyed by the report _ID and the content hash of the
+ * definition.
+ * <p/>
+ * A changed report row has a new content hash and is compiled again, the old plan of the report is replaced. The
+ * plans of the statistic rows ({@link #getForStatistic(Cursor)}) are kept apart, because the statistic query contains
+ * only a part of the report columns.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class ReportPlanCache {
+   /* Public fields */
+   /**
+    * Default number of cached plans
+    */
+   public final static int DEFAULT_MAX_SIZE = 32;
+
+   /* Private fields */
+   private final LinkedHashMap<Long, ReportPlan> _plans;
+   private final LinkedHashMap<Long, ReportPlan> _statisticPlans;
+   private final CharArrayBuffer _buffer = new CharArrayBuffer(128);
+   private long _hitCount = 0;
+   private long _missCount = 0;
+
+   /* Constructors */
+
+   /**
+    * Create cache with {@link #DEFAULT_MAX_SIZE} entries
+    */
+   public ReportPlanCache() {
+
+      this(DEFAULT_MAX_SIZE);
+   }
+
+   /**
+    * Create cache
+    *
+    * @param maxSize Maximal number of cached plans (least recently used plans are dropped)
+    */
+   public ReportPlanCache(final int maxSize) {
+
+      if (maxSize < 1) {
+         throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+      }
+
+      _plans = createLru(maxSize);
+      _statisticPlans = createLru(maxSize);
+   }
+
+   /**
+    * Get plan for the report of the current cursor row (compiled on first use or after a change of the report)
+    *
+    * @param cursor Cursor with the projection {@link Report.Columns#ALL_COLUMNS} positioned on a row
+    * @return Compiled plan
+    * @throws IllegalArgumentException if the report definition is invalid
+    */
+   public synchronized ReportPlan get(Cursor cursor) {
+
+      long id = cursor.getLong(Report.Columns.IDX_ID);
+      long contentHash = ReportPlan.computeContentHash(cursor, _buffer);
+
+      ReportPlan plan = _plans.get(id);
+      if (plan != null && plan.getContentHash() == contentHash) {
+         _hitCount++;
+         return plan;
+      }
+
+      _missCount++;
+      plan = ReportPlan.fromCursor(cursor, contentHash);
+      _plans.put(id, plan);
+
+      return plan;
+   }
+
+   /**
+    * Get plan for the report of the statistic of the current cursor row (compiled on first use or after a change of
+    * the report)
+    *
+    * @param cursor Cursor with the projection {@link Statistic.QueryColumns#ALL_QUERY_COLUMNS} positioned on a row
+    * @return Compiled plan (see {@link ReportPlan#fromStatisticCursor(Cursor, long)})
+    * @throws IllegalArgumentException if the report definition is invalid
+    */
+   public synchronized ReportPlan getForStatistic(Cursor cursor) {
+
+      long id = cursor.getLong(Statistic.Columns.IDX_REPORT_ID);
+      long contentHash = ReportPlan.computeStatisticContentHash(cursor, _buffer);
+
+      ReportPlan plan = _statisticPlans.get(id);
+      if (plan != null && plan.getContentHash() == contentHash) {
+         _hitCount++;
+         return plan;
+      }
+
+      _missCount++;
+      plan = ReportPlan.fromStatisticCursor(cursor, contentHash);
+      _statisticPlans.put(id, plan);
+
+      return plan;
+   }
+
+   /**
+    * Get the cached plan of the report without a cursor (e.g. for repeated renders of the same dashboard)
+    * <p/>
+    * Counts as a use: the plan becomes the most recently used one and is dropped last.
+    *
+    * @param id Report ID
+    * @return Last compiled plan or null
+    */
+   public synchronized ReportPlan peek(long id) {
+
+      return _plans.get(id);
+   }
+
+   /**
+    * Drop the plan of the report (e.g. after delete)
+    *
+    * @param id Report ID
+    */
+   public synchronized void invalidate(long id) {
+
+      _plans.remove(id);
+      _statisticPlans.remove(id);
+   }
+
+   /**
+    * Drop all plans
+    */
+   public synchronized void clear() {
+
+      _plans.clear();
+      _statisticPlans.clear();
+   }
+
+   /**
+    * Number of cached plans
+    *
+    * @return Plan count (reports and statistics)
+    */
+   public synchronized int size() {
+
+      return _plans.size() + _statisticPlans.size();
+   }
+
+   /**
+    * Get number of lookups answered from the cache
+    *
+    * @return Hit count
+    */
+   public synchronized long getHitCount() {
+
+      return _hitCount;
+   }
+
+   /**
+    * Get number of lookups, that compiled a plan
+    *
+    * @return Miss count
+    */
+   public synchronized long getMissCount() {
+
+      return _missCount;
+   }
+
+   /* Private helpers */
+   private static LinkedHashMap<Long, ReportPlan> createLru(final int maxSize) {
+
+      return new LinkedHashMap<Long, ReportPlan>(maxSize + 1, 1f, true) {
+         @Override
+         protected boolean removeEldestEntry(Map.Entry<Long, ReportPlan> eldest) {
+
+            return size() > maxSize;
+         }
+      };
+   }
+}
@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+/**
+ * Time dimension of an in memory report aggregation
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public enum ReportTimeGrouping {
+   /**
+    * No time grouping (time key 0)
+    */
+   None {
+      @Override
+      int getKey(ReportDataSnapshot data, int row) {
+
+         return 0;
+      }
+   },
+
+   /**
+    * Group by year (time key yyyy)
+    */
+   Year {
+      @Override
+      int getKey(ReportDataSnapshot data, int row) {
+
+         return data.years[row];
+      }
+   },
+
+   /**
+    * Group by month (time key yyyyMM)
+    */
+   Month {
+      @Override
+      int getKey(ReportDataSnapshot data, int row) {
+
+         return data.years[row] * 100 + data.months[row];
+      }
+   },
+
+   /**
+    * Group by ISO week (time key of week year and week number yyyyww)
+    */
+   Week {
+      @Override
+      int getKey(ReportDataSnapshot data, int row) {
+
+         return data.weekYears[row] * 100 + data.weekNumbers[row];
+      }
+   },
+
+   /**
+    * Group by day of week over all weeks (time key is the weekday of the report data view)
+    */
+   Weekday {
+      @Override
+      int getKey(ReportDataSnapshot data, int row) {
+
+         return data.weekdays[row];
+      }
+   };
+
+   /**
+    * Get time key of the row
+    *
+    * @param data Report data
+    * @param row  Row position
+    * @return Time key
+    */
+   abstract int getKey(ReportDataSnapshot data, int row);
+}
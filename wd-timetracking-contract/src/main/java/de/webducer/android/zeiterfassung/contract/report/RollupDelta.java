@@ -0,0 +1,231 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import android.content.ContentProviderOperation;
+import android.content.ContentValues;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Rollup;
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeCodec;
+import de.webducer.android.zeiterfassung.contract.enums.RollupPeriod;
+
+/**
+ * Collector of the changes of the {@link Rollup} rows caused by inserted, updated or deleted time records.
+ * <p/>
+ * Each time record counts for the day, week and month of its start time. An update is the removal of the old values
+ * and the addition of the new ones; changes, that cancel each other out, are dropped. The resulting rows are
+ * increments, that the provider adds to the stored rollups instead of rebuilding them.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class RollupDelta {
+   /* Private fields */
+   private final static RollupPeriod[] _PERIODS = {RollupPeriod.Day, RollupPeriod.Week, RollupPeriod.Month};
+
+   private final Map<Group, Group> _groups = new LinkedHashMap<Group, Group>();
+
+   /**
+    * Add an inserted time record (or the new values of an updated one)
+    *
+    * @param startTime    Start time as epoch minute
+    * @param projectId    ID of the project
+    * @param timeTypeId   ID of the time type
+    * @param timeKindCode Enum code of the time kind
+    * @param timeSum      Working time in minutes
+    * @param pauseSum     Pause time in minutes
+    * @return Same delta for chaining
+    */
+   public RollupDelta addRecord(long startTime, long projectId, long timeTypeId, int timeKindCode, int timeSum, int pauseSum) {
+
+      add(startTime, projectId, timeTypeId, timeKindCode, timeSum, pauseSum, 1);
+
+      return this;
+   }
+
+   /**
+    * Add a deleted time record (or the old values of an updated one)
+    *
+    * @param startTime    Start time as epoch minute
+    * @param projectId    ID of the project
+    * @param timeTypeId   ID of the time type
+    * @param timeKindCode Enum code of the time kind
+    * @param timeSum      Working time in minutes
+    * @param pauseSum     Pause time in minutes
+    * @return Same delta for chaining
+    */
+   public RollupDelta removeRecord(long startTime, long projectId, long timeTypeId, int timeKindCode, int timeSum, int pauseSum) {
+
+      add(startTime, projectId, timeTypeId, timeKindCode, -timeSum, -pauseSum, -1);
+
+      return this;
+   }
+
+   /**
+    * Check, if the collected changes modify any rollup
+    *
+    * @return True, if all changes cancel each other out
+    */
+   public boolean isEmpty() {
+
+      for (Group group : _groups.values()) {
+         if (!group.isZero()) {
+            return false;
+         }
+      }
+
+      return true;
+   }
+
+   /**
+    * Create the increments (one row per changed rollup, columns of {@link Rollup.Columns} without _ID)
+    *
+    * @return New list of the increments
+    */
+   public ArrayList<ContentValues> buildValues() {
+
+      ArrayList<ContentValues> result = new ArrayList<ContentValues>(_groups.size());
+
+      for (Group group : _groups.values()) {
+         if (group.isZero()) {
+            continue;
+         }
+
+         ContentValues values = new ContentValues(8);
+         values.put(Rollup.Columns.PERIOD, group.period.getEnumCode());
+         values.put(Rollup.Columns.PERIOD_START, group.periodStart);
+         values.put(Rollup.Columns.PROJECT_ID, group.projectId);
+         values.put(Rollup.Columns.TIME_TYPE_ID, group.timeTypeId);
+         values.put(Rollup.Columns.TIME_KIND, group.timeKindCode);
+         values.put(Rollup.Columns.TIME_SUM, group.timeSum);
+         values.put(Rollup.Columns.PAUSE_SUM, group.pauseSum);
+         values.put(Rollup.Columns.RECORD_COUNT, group.recordCount);
+         result.add(values);
+      }
+
+      return result;
+   }
+
+   /**
+    * Create the insert operations of the increments for {@link Rollup#CONTENT_URI}
+    *
+    * @return New list of operations
+    */
+   public ArrayList<ContentProviderOperation> buildOperations() {
+
+      ArrayList<ContentValues> rows = buildValues();
+      ArrayList<ContentProviderOperation> result = new ArrayList<ContentProviderOperation>(rows.size());
+
+      for (ContentValues values : rows) {
+         result.add(ContentProviderOperation.newInsert(Rollup.CONTENT_URI).withValues(values).build());
+      }
+
+      return result;
+   }
+
+   /**
+    * Remove all collected changes
+    */
+   public void clear() {
+
+      _groups.clear();
+   }
+
+   /* Private helpers */
+   private void add(long startTime, long projectId, long timeTypeId, int timeKindCode, int timeSum, int pauseSum, int recordCount) {
+
+      int epochDay = DbDateTimeCodec.getEpochDay(startTime);
+
+      for (RollupPeriod period : _PERIODS) {
+         Group key = new Group(period, period.getPeriodStart(epochDay), projectId, timeTypeId, timeKindCode);
+         Group group = _groups.get(key);
+         if (group == null) {
+            group = key;
+            _groups.put(key, key);
+         }
+
+         group.timeSum += timeSum;
+         group.pauseSum += pauseSum;
+         group.recordCount += recordCount;
+      }
+   }
+
+   /**
+    * Key and increments of one rollup row
+    */
+   private final static class Group {
+      final RollupPeriod period;
+      final int periodStart;
+      final long projectId;
+      final long timeTypeId;
+      final int timeKindCode;
+      long timeSum = 0;
+      long pauseSum = 0;
+      int recordCount = 0;
+
+      Group(RollupPeriod period, int periodStart, long projectId, long timeTypeId, int timeKindCode) {
+
+         this.period = period;
+         this.periodStart = periodStart;
+         this.projectId = projectId;
+         this.timeTypeId = timeTypeId;
+         this.timeKindCode = timeKindCode;
+      }
+
+      boolean isZero() {
+
+         return timeSum == 0 && pauseSum == 0 && recordCount == 0;
+      }
+
+      @Override
+      public boolean equals(Object other) {
+
+         if (!(other instanceof Group)) {
+            return false;
+         }
+
+         Group group = (Group) other;
+
+         return period == group.period && periodStart == group.periodStart && projectId == group.projectId
+               && timeTypeId == group.timeTypeId && timeKindCode == group.timeKindCode;
+      }
+
+      @Override
+      public int hashCode() {
+
+         int result = period.hashCode();
+         result = 31 * result + periodStart;
+         result = 31 * result + (int) (projectId ^ (projectId >>> 32));
+         result = 31 * result + (int) (timeTypeId ^ (timeTypeId >>> 32));
+
+         return 31 * result + timeKindCode;
+      }
+   }
+}
@@ -0,0 +1,511 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import android.database.Cursor;
+import android.database.MatrixCursor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Statistic;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.StatisticData;
+
+/**
+ * Evaluation of all statistics of a dashboard with one query per report source.
+ * <p/>
+ * Statistics with the same rp_from and rp_group_by are evaluated by one statement. Without group by, simple
+ * aggregates (SUM, TOTAL, COUNT, MIN, MAX, AVG) are rewritten to conditional aggregates (e.g.
+ * {@code SUM(CASE WHEN <condition> THEN x END)}), so the source is scanned once for all statistics of the group.
+ * Other projections and grouped reports are evaluated as scalar sub queries of the same statement. The report columns
+ * are parsed by {@link ReportPlanCache#getForStatistic(Cursor)}, so repeated renders of a dashboard reuse the plans of
+ * unchanged reports.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class StatisticBatch {
+   /* Private fields */
+   private final static Pattern _AGGREGATE = Pattern.compile("(SUM|TOTAL|COUNT|MIN|MAX|AVG)\\s*\\((\\s*DISTINCT\\s+)?(.*)\\)", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+   // Plans of the default entry points, shared by all batches of the process
+   private final static ReportPlanCache _SHARED_PLAN_CACHE = new ReportPlanCache();
+   private final static Comparator<Entry> _ORDER = new Comparator<Entry>() {
+      @Override
+      public int compare(Entry left, Entry right) {
+
+         if (left.order != right.order) {
+            return left.order < right.order ? -1 : 1;
+         }
+
+         return left.id < right.id ? -1 : (left.id == right.id ? 0 : 1);
+      }
+   };
+
+   private final Entry[] _entries;
+   private final List<Query> _queries;
+
+   /* Constructors */
+   private StatisticBatch(Cursor cursor, boolean separateSubQueries, ReportPlanCache planCache) {
+
+      ArrayList<Entry> entries = new ArrayList<Entry>(cursor == null ? 0 : cursor.getCount());
+      LinkedHashMap<String, Query> queries = new LinkedHashMap<String, Query>();
+
+      if (cursor != null && cursor.moveToFirst()) {
+         do {
+            Entry entry = new Entry(cursor, planCache.getForStatistic(cursor));
+            entries.add(entry);
+
+            // NUL can not be part of the SQL, so the key is unique
+            String key = entry.from + '\u0000' + (entry.groupBy == null ? "" : entry.groupBy);
+            if (separateSubQueries && entry.aggregate == null) {
+               key = key + '\u0000' + entry.id;
+            }
+
+            Query query = queries.get(key);
+            if (query == null) {
+               query = new Query(entry.from, entry.groupBy);
+               queries.put(key, query);
+            }
+
+            entry.column = query.add(entry);
+         } while (cursor.moveToNext());
+      }
+
+      _entries = entries.toArray(new Entry[entries.size()]);
+      Arrays.sort(_entries, _ORDER);
+
+      _queries = Collections.unmodifiableList(new ArrayList<Query>(queries.values()));
+   }
+
+   /**
+    * Plan the evaluation of the statistics with the shared report plan cache
+    *
+    * @param cursor Cursor with the projection {@link Statistic.QueryColumns#ALL_QUERY_COLUMNS} (can be null)
+    * @return New batch
+    * @throws IllegalArgumentException if a statistic has no report source or projection or its arguments do not match
+    */
+   public static StatisticBatch fromCursor(Cursor cursor) {
+
+      return fromCursor(cursor, false);
+   }
+
+   /**
+    * Plan the evaluation of the statistics with the shared report plan cache
+    *
+    * @param cursor             Cursor with the projection {@link Statistic.QueryColumns#ALL_QUERY_COLUMNS} (can be
+    *                           null)
+    * @param separateSubQueries True to evaluate each statistic, that needs a sub query, by its own statement (e.g. to
+    *                           stream the cheap statistics first, see {@link StatisticStream})
+    * @return New batch
+    * @throws IllegalArgumentException if a statistic has no report source or projection or its arguments do not match
+    */
+   public static StatisticBatch fromCursor(Cursor cursor, boolean separateSubQueries) {
+
+      return fromCursor(cursor, separateSubQueries, _SHARED_PLAN_CACHE);
+   }
+
+   /**
+    * Plan the evaluation of the statistics with the report plans of the cache
+    *
+    * @param cursor             Cursor with the projection {@link Statistic.QueryColumns#ALL_QUERY_COLUMNS} (can be
+    *                           null)
+    * @param separateSubQueries True to evaluate each statistic, that needs a sub query, by its own statement
+    * @param planCache          Cache of the report plans (e.g. shared by all renders of the dashboard)
+    * @return New batch
+    * @throws IllegalArgumentException if a statistic has no report source or projection, the report is invalid or the
+    *                                  arguments do not match the parameter slots
+    */
+   public static StatisticBatch fromCursor(Cursor cursor, boolean separateSubQueries, ReportPlanCache planCache) {
+
+      if (planCache == null) {
+         throw new IllegalArgumentException("Plan cache is required");
+      }
+
+      return new StatisticBatch(Statistic.QueryColumns.ALL_QUERY_COLUMNS_INDEX.validate(cursor), separateSubQueries, planCache);
+   }
+
+   /**
+    * Number of statistics
+    *
+    * @return Statistic count
+    */
+   public int size() {
+
+      return _entries.length;
+   }
+
+   /**
+    * Number of statements for all statistics
+    *
+    * @return Query count
+    */
+   public int getQueryCount() {
+
+      return _queries.size();
+   }
+
+   /**
+    * Get SQL of the statement (one result row, one column per statistic)
+    *
+    * @param query Statement position
+    * @return SQL
+    */
+   public String getSql(int query) {
+
+      return _queries.get(query).getSql();
+   }
+
+   /**
+    * Get arguments of the statement
+    *
+    * @param query Statement position
+    * @return New array of the arguments
+    */
+   public String[] getSelectionArgs(int query) {
+
+      List<String> args = _queries.get(query).args;
+
+      return args.toArray(new String[args.size()]);
+   }
+
+   /**
+    * Take the values of the statistics from the result of the statement
+    *
+    * @param query  Statement position
+    * @param result Result of the statement (can be null or empty, all values are NULL then)
+    */
+   public void setResult(int query, Cursor result) {
+
+      boolean hasRow = result != null && result.moveToFirst();
+
+      for (Entry entry : _queries.get(query).entries) {
+         entry.value = hasRow && !result.isNull(entry.column) ? Long.valueOf(result.getLong(entry.column)) : null;
+      }
+   }
+
+   /**
+    * Execute all statements and create the statistic data
+    *
+    * @param executor Executor of the statements (e.g. SQLiteDatabase.rawQuery in the provider)
+    * @return Cursor with the projection {@link StatisticData.Columns#ALL_COLUMNS} in the order of st_order
+    */
+   public MatrixCursor evaluate(QueryExecutor executor) {
+
+      for (int query = 0; query < _queries.size(); query++) {
+         Cursor result = executor.rawQuery(getSql(query), getSelectionArgs(query));
+         try {
+            setResult(query, result);
+         } finally {
+            if (result != null) {
+               result.close();
+            }
+         }
+      }
+
+      return buildStatisticData();
+   }
+
+   /**
+    * Create the statistic data from the values of {@link #setResult(int, Cursor)}
+    *
+    * @return Cursor with the projection {@link StatisticData.Columns#ALL_COLUMNS} in the order of st_order
+    */
+   public MatrixCursor buildStatisticData() {
+
+      return buildStatisticData(_entries);
+   }
+
+   /**
+    * Create the statistic data of one statement from the values of {@link #setResult(int, Cursor)}
+    *
+    * @param query Statement position
+    * @return Cursor with the projection {@link StatisticData.Columns#ALL_COLUMNS} in the order of st_order
+    */
+   public MatrixCursor buildStatisticData(int query) {
+
+      List<Entry> entries = _queries.get(query).entries;
+      Entry[] sorted = entries.toArray(new Entry[entries.size()]);
+      Arrays.sort(sorted, _ORDER);
+
+      return buildStatisticData(sorted);
+   }
+
+   /**
+    * Get the smallest st_order of the statistics of the statement
+    *
+    * @param query Statement position
+    * @return Order of the first tile, that depends on the statement
+    */
+   int getFirstOrder(int query) {
+
+      int result = Integer.MAX_VALUE;
+      for (Entry entry : _queries.get(query).entries) {
+         result = Math.min(result, entry.order);
+      }
+
+      return result;
+   }
+
+   /* Private helpers */
+   private static MatrixCursor buildStatisticData(Entry[] entries) {
+
+      MatrixCursor cursor = new MatrixCursor(StatisticData.Columns.ALL_COLUMNS, entries.length);
+
+      for (Entry entry : entries) {
+         Object[] row = new Object[StatisticData.Columns.ALL_COLUMNS.length];
+         row[StatisticData.Columns.IDX_ID] = entry.id;
+         row[StatisticData.Columns.IDX_CAPTION] = entry.caption;
+         row[StatisticData.Columns.IDX_DURATION_FORMAT] = entry.durationFormat;
+         row[StatisticData.Columns.IDX_ORDER] = entry.order;
+         row[StatisticData.Columns.IDX_VALUE] = entry.value;
+         cursor.addRow(row);
+      }
+
+      return cursor;
+   }
+
+   /**
+    * Executor of the batch statements
+    */
+   public static interface QueryExecutor {
+      /**
+       * Execute the statement
+       *
+       * @param sql           SQL statement
+       * @param selectionArgs Arguments of the statement
+       * @return Result cursor
+       */
+      Cursor rawQuery(String sql, String[] selectionArgs);
+   }
+
+   /**
+    * One statistic
+    */
+   private final static class Entry {
+      final long id;
+      final String caption;
+      final int durationFormat;
+      final int order;
+      final String projection;
+      final String from;
+      final String groupBy;
+      final String condition;
+      final String[] conditionArgs;
+      // Match of a simple aggregate, null if the statistic needs a sub query
+      final Matcher aggregate;
+      int column = -1;
+      Long value = null;
+
+      Entry(Cursor cursor, ReportPlan plan) {
+
+         id = cursor.getLong(Statistic.Columns.IDX_ID);
+         caption = cursor.getString(Statistic.Columns.IDX_CAPTION);
+         durationFormat = cursor.getInt(Statistic.Columns.IDX_DURATION_FORMAT);
+         order = cursor.getInt(Statistic.Columns.IDX_ORDER);
+         from = plan.getFrom();
+         groupBy = plan.getGroupBy();
+
+         String[] projectionItems = plan.getProjection();
+         if (projectionItems == null || from == null) {
+            throw new IllegalArgumentException("Statistic " + id + " has no report projection or source");
+         }
+
+         projection = join(projectionItems);
+
+         String selection = plan.getSelection();
+         StatisticFilter statisticFilter = StatisticFilterCodec.decode(cursor);
+         String filter = statisticFilter.getSelection();
+         if (selection != null && filter != null) {
+            condition = "(" + selection + ") AND (" + filter + ")";
+         } else if (selection != null) {
+            condition = selection;
+         } else {
+            condition = filter;
+         }
+
+         // The batch places the arguments at the conditions only, so all slots must be in rp_selection and bound
+         int selectionSlots = selection == null ? 0 : ReportPlan.countParameters(selection);
+         if (plan.getParameterCount() != selectionSlots) {
+            throw new IllegalArgumentException("Statistic " + id + " has parameters outside of the report selection");
+         }
+
+         if (plan.getBoundParameterCount() != selectionSlots) {
+            throw new IllegalArgumentException("Statistic " + id + " needs " + selectionSlots + " report selection arguments, got "
+                  + plan.getBoundParameterCount());
+         }
+
+         String[] filterArgs = statisticFilter.getSelectionArgs();
+         int filterSlots = filter == null ? 0 : ReportPlan.countParameters(filter);
+         if (filterArgs.length != filterSlots) {
+            throw new IllegalArgumentException("Statistic " + id + " needs " + filterSlots + " filter arguments, got " + filterArgs.length);
+         }
+
+         String[] selectionArgs = plan.bind();
+         conditionArgs = Arrays.copyOf(selectionArgs, selectionArgs.length + filterArgs.length);
+         System.arraycopy(filterArgs, 0, conditionArgs, selectionArgs.length, filterArgs.length);
+
+         Matcher matcher = projectionItems.length == 1 && groupBy == null ? _AGGREGATE.matcher(projectionItems[0]) : null;
+         // One argument only: MIN(a, b) and MAX(a, b) are scalar functions of SQLite, not aggregates
+         aggregate = matcher != null && matcher.matches() && isBalanced(matcher.group(3))
+               && ReportPlan.splitList(matcher.group(3)).length == 1 ? matcher : null;
+      }
+   }
+
+   /**
+    * One statement for the statistics of a source
+    */
+   private final static class Query {
+      final String from;
+      final String groupBy;
+      final List<String> columns = new ArrayList<String>();
+      final List<String> args = new ArrayList<String>();
+      final List<Entry> entries = new ArrayList<Entry>();
+      // True, if at least one column aggregates the rows of the source
+      boolean scansSource = false;
+
+      Query(String from, String groupBy) {
+
+         this.from = from;
+         this.groupBy = groupBy;
+      }
+
+      // Adds the value column of the statistic and returns its position
+      int add(Entry entry) {
+
+         StringBuilder column = new StringBuilder(64);
+         if (entry.aggregate != null) {
+            scansSource = true;
+            appendConditionalAggregate(column, entry.aggregate, entry);
+         } else {
+            appendSubQuery(column, entry);
+         }
+
+         columns.add(column.toString());
+         entries.add(entry);
+
+         return entries.size() - 1;
+      }
+
+      String getSql() {
+
+         StringBuilder sql = new StringBuilder(256).append("SELECT ");
+         for (int index = 0; index < columns.size(); index++) {
+            if (index > 0) {
+               sql.append(", ");
+            }
+
+            sql.append(columns.get(index));
+         }
+
+         if (scansSource) {
+            sql.append(" FROM ").append(from);
+         }
+
+         return sql.toString();
+      }
+
+      private void appendConditionalAggregate(StringBuilder column, Matcher aggregate, Entry entry) {
+
+         String function = aggregate.group(1).toUpperCase(Locale.US);
+         String distinct = aggregate.group(2) == null ? "" : "DISTINCT ";
+         String argument = aggregate.group(3).trim();
+
+         if (entry.condition == null) {
+            column.append(function).append('(').append(distinct).append(argument).append(')');
+            return;
+         }
+
+         // Only matching rows count, the others are NULL and ignored by the aggregate
+         if ("*".equals(argument)) {
+            argument = "1";
+         }
+
+         column.append(function).append('(').append(distinct).append("CASE WHEN ").append(entry.condition)
+               .append(" THEN ").append(argument).append(" END)");
+         args.addAll(Arrays.asList(entry.conditionArgs));
+      }
+
+      private void appendSubQuery(StringBuilder column, Entry entry) {
+
+         column.append("(SELECT ").append(entry.projection).append(" FROM ").append(from);
+         if (entry.condition != null) {
+            column.append(" WHERE ").append(entry.condition);
+         }
+
+         if (groupBy != null) {
+            column.append(" GROUP BY ").append(groupBy);
+         }
+
+         column.append(" LIMIT 1)");
+         args.addAll(Arrays.asList(entry.conditionArgs));
+      }
+   }
+
+   private static String join(String[] values) {
+
+      StringBuilder result = new StringBuilder(64);
+      for (int index = 0; index < values.length; index++) {
+         if (index > 0) {
+            result.append(", ");
+         }
+
+         result.append(values[index]);
+      }
+
+      return result.toString();
+   }
+
+   // Parentheses of the aggregate argument are balanced (e.g. not 'SUM(a) - SUM(b)')
+   private static boolean isBalanced(String value) {
+
+      int depth = 0;
+      char quote = 0;
+
+      for (int index = 0; index < value.length(); index++) {
+         char current = value.charAt(index);
+         if (quote != 0) {
+            if (current == quote) {
+               quote = 0;
+            }
+         } else if (current == '\'' || current == '"') {
+            quote = current;
+         } else if (current == '(') {
+            depth++;
+         } else if (current == ')' && --depth < 0) {
+            return false;
+         }
+      }
+
+      return depth == 0 && quote == 0;
+   }
+}
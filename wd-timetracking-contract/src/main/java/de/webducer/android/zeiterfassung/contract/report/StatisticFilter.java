@@ -0,0 +1,487 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract;
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Data;
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeCodec;
+import de.webducer.android.zeiterfassung.contract.enums.TimeKind;
+
+/**
+ * Parsed filter of a statistic (see {@link StatisticFilterCodec}).
+ * <p/>
+ * A typed filter restricts the report data by date range, address, project and time type IDs and time kinds. It can
+ * be applied to a {@link ReportDataSnapshot} without string work or converted into a selection for the report data
+ * view. A SQL filter (free selection with arguments in st_filter / st_filter_args) can only be used as selection.
+ * <p/>
+ * ID sets can contain {@link TimeTrackingContract#NULL_ID} to match rows without the entity.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class StatisticFilter {
+   /* Public fields */
+   /**
+    * Value for an open start or end of the date range
+    */
+   public final static int NO_DAY = Integer.MIN_VALUE;
+
+   /**
+    * Filter without restrictions
+    */
+   public final static StatisticFilter ALL = new Builder().build();
+
+   /* Private fields */
+   private final int _fromDay;
+   private final int _toDay;
+   private final long[] _addressIds;
+   private final long[] _projectIds;
+   private final long[] _timeTypeIds;
+   // Bit per time kind code, 0 = all kinds
+   private final int _timeKindMask;
+   private final boolean _typed;
+   private final String _selection;
+   private final String[] _selectionArgs;
+
+   /* Constructors */
+   private StatisticFilter(Builder builder) {
+
+      _fromDay = builder._fromDay;
+      _toDay = builder._toDay;
+      _addressIds = toSortedArray(builder._addressIds);
+      _projectIds = toSortedArray(builder._projectIds);
+      _timeTypeIds = toSortedArray(builder._timeTypeIds);
+      _timeKindMask = builder._timeKindMask;
+      _typed = true;
+      _selection = buildSelection();
+      _selectionArgs = buildSelectionArgs();
+   }
+
+   private StatisticFilter(String selection, String[] selectionArgs) {
+
+      _fromDay = NO_DAY;
+      _toDay = NO_DAY;
+      _addressIds = null;
+      _projectIds = null;
+      _timeTypeIds = null;
+      _timeKindMask = 0;
+      _typed = false;
+      _selection = selection;
+      _selectionArgs = selectionArgs;
+   }
+
+   /**
+    * Create a filter from a free selection
+    *
+    * @param selection     Selection (can be null)
+    * @param selectionArgs Arguments for the placeholders of the selection
+    * @return SQL filter or {@link #ALL}, if the selection is empty
+    */
+   static StatisticFilter fromSelection(String selection, String[] selectionArgs) {
+
+      selection = ReportPlan.trim(selection);
+
+      return selection == null ? ALL : new StatisticFilter(selection, selectionArgs);
+   }
+
+   /**
+    * Check, if the filter is typed (can be applied to a {@link ReportDataSnapshot})
+    *
+    * @return False for SQL filters
+    */
+   public boolean isTyped() {
+
+      return _typed;
+   }
+
+   /**
+    * Check, if the filter has no restrictions
+    *
+    * @return True, if all rows match
+    */
+   public boolean isEmpty() {
+
+      return isTyped() && _fromDay == NO_DAY && _toDay == NO_DAY && _addressIds == null && _projectIds == null
+            && _timeTypeIds == null && _timeKindMask == 0;
+   }
+
+   /**
+    * Get first day of the date range
+    *
+    * @return Epoch day (inclusive) or {@link #NO_DAY}
+    */
+   public int getFromDay() {
+
+      return _fromDay;
+   }
+
+   /**
+    * Get last day of the date range
+    *
+    * @return Epoch day (inclusive) or {@link #NO_DAY}
+    */
+   public int getToDay() {
+
+      return _toDay;
+   }
+
+   /**
+    * Get allowed address IDs
+    *
+    * @return Sorted copy of the IDs or null, if not restricted
+    */
+   public long[] getAddressIds() {
+
+      return _addressIds == null ? null : _addressIds.clone();
+   }
+
+   /**
+    * Get allowed project IDs
+    *
+    * @return Sorted copy of the IDs or null, if not restricted
+    */
+   public long[] getProjectIds() {
+
+      return _projectIds == null ? null : _projectIds.clone();
+   }
+
+   /**
+    * Get allowed time type IDs
+    *
+    * @return Sorted copy of the IDs or null, if not restricted
+    */
+   public long[] getTimeTypeIds() {
+
+      return _timeTypeIds == null ? null : _timeTypeIds.clone();
+   }
+
+   /**
+    * Check, if the time kind is allowed
+    *
+    * @param timeKind Time kind
+    * @return True, if the kinds are not restricted or the kind is part of the filter
+    */
+   public boolean isTimeKindAllowed(TimeKind timeKind) {
+
+      return _timeKindMask == 0 || (_timeKindMask & (1 << timeKind.getEnumCode())) != 0;
+   }
+
+   /**
+    * Check, if the row of the report data matches the filter
+    *
+    * @param data Report data
+    * @param row  Row index
+    * @return True, if the row matches
+    * @throws IllegalStateException for SQL filters
+    */
+   public boolean matches(ReportDataSnapshot data, int row) {
+
+      if (!isTyped()) {
+         throw new IllegalStateException("SQL filter can not be applied to report data");
+      }
+
+      if ((_fromDay != NO_DAY && data.epochDays[row] < _fromDay) || (_toDay != NO_DAY && data.epochDays[row] > _toDay)) {
+         return false;
+      }
+
+      if (_timeKindMask != 0 && (data.timeKindCodes[row] < 0 || data.timeKindCodes[row] > 31
+            || (_timeKindMask & (1 << data.timeKindCodes[row])) == 0)) {
+         return false;
+      }
+
+      return contains(_projectIds, data.projectIds, data.projectCodes[row])
+            && contains(_timeTypeIds, data.timeTypeIds, data.timeTypeCodes[row])
+            && contains(_addressIds, data.addressIds, data.addressCodes[row]);
+   }
+
+   /**
+    * Get the filter as selection over the report data view ({@link Data.Columns})
+    *
+    * @return Selection or null, if the filter has no restrictions
+    */
+   public String getSelection() {
+
+      return _selection;
+   }
+
+   /**
+    * Get the arguments for the placeholders of {@link #getSelection()}
+    *
+    * @return Selection arguments (shared array, do not modify)
+    */
+   public String[] getSelectionArgs() {
+
+      return _selectionArgs;
+   }
+
+   /**
+    * Get allowed time kinds
+    *
+    * @return Bit per time kind code or 0, if not restricted
+    */
+   int getTimeKindMask() {
+
+      return _timeKindMask;
+   }
+
+   /* Private helpers */
+   private String buildSelection() {
+
+      StringBuilder selection = new StringBuilder();
+      if (_fromDay != NO_DAY) {
+         appendCondition(selection).append(Data.Columns.DATE).append(" >= ?");
+      }
+
+      if (_toDay != NO_DAY) {
+         appendCondition(selection).append(Data.Columns.DATE).append(" <= ?");
+      }
+
+      appendIdCondition(selection, Data.Columns.ADDRESS_ID, _addressIds);
+      appendIdCondition(selection, Data.Columns.PROJECT_ID, _projectIds);
+      appendIdCondition(selection, Data.Columns.TIME_TYPE_ID, _timeTypeIds);
+
+      if (_timeKindMask != 0) {
+         appendCondition(selection).append(Data.Columns.TIME_KIND).append(" IN (");
+         String separator = "";
+         for (int code = 0; code < 32; code++) {
+            if ((_timeKindMask & (1 << code)) != 0) {
+               selection.append(separator).append(code);
+               separator = ",";
+            }
+         }
+
+         selection.append(')');
+      }
+
+      return selection.length() == 0 ? null : selection.toString();
+   }
+
+   private String[] buildSelectionArgs() {
+
+      ArrayList<String> args = new ArrayList<String>(2);
+      if (_fromDay != NO_DAY) {
+         args.add(DbDateTimeCodec.appendDate(_fromDay, new StringBuilder(DbDateTimeCodec.DATE_LENGTH)).toString());
+      }
+
+      if (_toDay != NO_DAY) {
+         args.add(DbDateTimeCodec.appendDate(_toDay, new StringBuilder(DbDateTimeCodec.DATE_LENGTH)).toString());
+      }
+
+      return args.toArray(new String[args.size()]);
+   }
+
+   private static boolean contains(long[] filterIds, long[] dictionaryIds, int code) {
+
+      if (filterIds == null) {
+         return true;
+      }
+
+      long id = code == IdDictionary.NO_CODE ? TimeTrackingContract.NULL_ID : dictionaryIds[code];
+
+      return Arrays.binarySearch(filterIds, id) >= 0;
+   }
+
+   private static StringBuilder appendCondition(StringBuilder selection) {
+
+      return selection.length() == 0 ? selection : selection.append(" AND ");
+   }
+
+   private static void appendIdCondition(StringBuilder selection, String column, long[] ids) {
+
+      if (ids == null) {
+         return;
+      }
+
+      boolean matchNull = Arrays.binarySearch(ids, TimeTrackingContract.NULL_ID) >= 0;
+      appendCondition(selection).append('(').append(column).append(" IN (");
+
+      String separator = "";
+      for (long id : ids) {
+         if (id != TimeTrackingContract.NULL_ID) {
+            selection.append(separator).append(id);
+            separator = ",";
+         }
+      }
+
+      selection.append(')');
+      if (matchNull) {
+         selection.append(" OR ").append(column).append(" IS NULL");
+      }
+
+      selection.append(')');
+   }
+
+   private static long[] toSortedArray(List<Long> ids) {
+
+      if (ids == null) {
+         return null;
+      }
+
+      long[] result = new long[ids.size()];
+      for (int index = 0; index < result.length; index++) {
+         result[index] = ids.get(index);
+      }
+
+      Arrays.sort(result);
+
+      return result;
+   }
+
+   /**
+    * Builder for typed filters
+    */
+   public final static class Builder {
+      /* Private fields */
+      private int _fromDay = NO_DAY;
+      private int _toDay = NO_DAY;
+      private List<Long> _addressIds = null;
+      private List<Long> _projectIds = null;
+      private List<Long> _timeTypeIds = null;
+      private int _timeKindMask = 0;
+
+      /**
+       * Set the date range
+       *
+       * @param fromDay First epoch day (inclusive) or {@link #NO_DAY}
+       * @param toDay   Last epoch day (inclusive) or {@link #NO_DAY}
+       * @return Same builder for chaining
+       * @throws IllegalArgumentException if the range is empty
+       */
+      public Builder setDateRange(int fromDay, int toDay) {
+
+         if (fromDay != NO_DAY && toDay != NO_DAY && fromDay > toDay) {
+            throw new IllegalArgumentException("Date range starts after the end: " + fromDay + " > " + toDay);
+         }
+
+         _fromDay = fromDay;
+         _toDay = toDay;
+
+         return this;
+      }
+
+      /**
+       * Allow the addresses
+       *
+       * @param ids Address IDs (or {@link TimeTrackingContract#NULL_ID})
+       * @return Same builder for chaining
+       */
+      public Builder addAddressIds(long... ids) {
+
+         _addressIds = addIds(_addressIds, ids);
+
+         return this;
+      }
+
+      /**
+       * Allow the projects
+       *
+       * @param ids Project IDs (or {@link TimeTrackingContract#NULL_ID})
+       * @return Same builder for chaining
+       */
+      public Builder addProjectIds(long... ids) {
+
+         _projectIds = addIds(_projectIds, ids);
+
+         return this;
+      }
+
+      /**
+       * Allow the time types
+       *
+       * @param ids Time type IDs (or {@link TimeTrackingContract#NULL_ID})
+       * @return Same builder for chaining
+       */
+      public Builder addTimeTypeIds(long... ids) {
+
+         _timeTypeIds = addIds(_timeTypeIds, ids);
+
+         return this;
+      }
+
+      /**
+       * Allow the time kinds
+       *
+       * @param timeKinds Time kinds
+       * @return Same builder for chaining
+       */
+      public Builder addTimeKinds(TimeKind... timeKinds) {
+
+         for (TimeKind timeKind : timeKinds) {
+            addTimeKindCode(timeKind.getEnumCode());
+         }
+
+         return this;
+      }
+
+      /**
+       * Create the filter
+       *
+       * @return Immutable filter
+       */
+      public StatisticFilter build() {
+
+         return new StatisticFilter(this);
+      }
+
+      /**
+       * Allow the time kind code (e.g. from the encoded filter)
+       *
+       * @param code Time kind code (0 - 31)
+       * @return Same builder for chaining
+       * @throws IllegalArgumentException if the code is out of range
+       */
+      Builder addTimeKindCode(int code) {
+
+         if (code < 0 || code > 31) {
+            throw new IllegalArgumentException("Unsupported time kind code " + code);
+         }
+
+         _timeKindMask |= 1 << code;
+
+         return this;
+      }
+
+      /* Private helpers */
+      private static List<Long> addIds(List<Long> target, long[] ids) {
+
+         if (target == null) {
+            target = new ArrayList<Long>(ids.length);
+         }
+
+         for (long id : ids) {
+            if (!target.contains(id)) {
+               target.add(id);
+            }
+         }
+
+         return target;
+      }
+   }
+}
@@ -0,0 +1,355 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import android.database.Cursor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.Statistic;
+import de.webducer.android.zeiterfassung.contract.converter.DbDateTimeCodec;
+
+/**
+ * Text encoding of {@link StatisticFilter}s for the st_filter column.
+ * <p/>
+ * Format version 1: {@code #1} followed by optional sections, each starting with ';' and a section letter:
+ * {@code D<from>:<to>} date range (yyyy-MM-dd, each side can be empty), {@code A}, {@code P}, {@code T} comma
+ * separated address, project and time type IDs, {@code K} comma separated time kind codes. Example:
+ * {@code #1;D2015-01-01:2015-12-31;P3,7;K1}. Values without the leading '#' are SQL filters with the arguments in
+ * st_filter_args.
+ * <p/>
+ * Decoded filters are immutable and cached (thread safe), so a filter is parsed once and not per evaluation.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class StatisticFilterCodec {
+   /* Public fields */
+   /**
+    * Current format version
+    */
+   public final static int FORMAT_VERSION = 1;
+
+   /**
+    * First character of a typed filter
+    */
+   public final static char TYPED_PREFIX = '#';
+
+   /**
+    * Number of cached filters
+    */
+   public final static int CACHE_SIZE = 64;
+
+   /* Private fields */
+   private final static char _SECTION_SEPARATOR = ';';
+   private final static char _LIST_SEPARATOR = ',';
+   private final static char _RANGE_SEPARATOR = ':';
+   private final static char _DATE_SECTION = 'D';
+   private final static char _ADDRESS_SECTION = 'A';
+   private final static char _PROJECT_SECTION = 'P';
+   private final static char _TIME_TYPE_SECTION = 'T';
+   private final static char _TIME_KIND_SECTION = 'K';
+
+   private final static LinkedHashMap<String, StatisticFilter> _cache = new LinkedHashMap<String, StatisticFilter>(CACHE_SIZE + 1, 1f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, StatisticFilter> eldest) {
+
+         return size() > CACHE_SIZE;
+      }
+   };
+   private static long _hitCount = 0;
+   private static long _missCount = 0;
+
+   /* Constructors */
+   private StatisticFilterCodec() {
+
+   }
+
+   /**
+    * Encode the typed filter for the st_filter column (st_filter_args stays empty)
+    *
+    * @param filter Typed filter
+    * @return Encoded filter or null for {@link StatisticFilter#ALL}
+    * @throws IllegalArgumentException for SQL filters
+    */
+   public static String encode(StatisticFilter filter) {
+
+      if (!filter.isTyped()) {
+         throw new IllegalArgumentException("SQL filters are stored as they are");
+      }
+
+      if (filter.isEmpty()) {
+         return null;
+      }
+
+      StringBuilder result = new StringBuilder(32).append(TYPED_PREFIX).append(FORMAT_VERSION);
+      if (filter.getFromDay() != StatisticFilter.NO_DAY || filter.getToDay() != StatisticFilter.NO_DAY) {
+         result.append(_SECTION_SEPARATOR).append(_DATE_SECTION);
+         if (filter.getFromDay() != StatisticFilter.NO_DAY) {
+            DbDateTimeCodec.appendDate(filter.getFromDay(), result);
+         }
+
+         result.append(_RANGE_SEPARATOR);
+         if (filter.getToDay() != StatisticFilter.NO_DAY) {
+            DbDateTimeCodec.appendDate(filter.getToDay(), result);
+         }
+      }
+
+      appendIds(result, _ADDRESS_SECTION, filter.getAddressIds());
+      appendIds(result, _PROJECT_SECTION, filter.getProjectIds());
+      appendIds(result, _TIME_TYPE_SECTION, filter.getTimeTypeIds());
+
+      int timeKindMask = filter.getTimeKindMask();
+      if (timeKindMask != 0) {
+         char separator = _TIME_KIND_SECTION;
+         result.append(_SECTION_SEPARATOR);
+         for (int code = 0; code < 32; code++) {
+            if ((timeKindMask & (1 << code)) != 0) {
+               result.append(separator).append(code);
+               separator = _LIST_SEPARATOR;
+            }
+         }
+      }
+
+      return result.toString();
+   }
+
+   /**
+    * Decode the filter of the current cursor row
+    *
+    * @param cursor Cursor with the projection {@link Statistic.Columns#ALL_COLUMNS} (or {@link
+    *               Statistic.QueryColumns#ALL_QUERY_COLUMNS}) positioned on a row
+    * @return Cached filter
+    * @throws IllegalArgumentException if the encoded filter is invalid or of an unsupported version
+    */
+   public static StatisticFilter decode(Cursor cursor) {
+
+      return decode(cursor.getString(Statistic.Columns.IDX_FILTER), cursor.getString(Statistic.Columns.IDX_FILTER_ARGS));
+   }
+
+   /**
+    * Decode the filter
+    *
+    * @param filter     Value of st_filter (can be null)
+    * @param filterArgs Value of st_filter_args (comma separated, only used for SQL filters, can be null)
+    * @return Cached filter
+    * @throws IllegalArgumentException if the encoded filter is invalid or of an unsupported version
+    */
+   public static StatisticFilter decode(String filter, String filterArgs) {
+
+      filter = ReportPlan.trim(filter);
+      if (filter == null) {
+         return StatisticFilter.ALL;
+      }
+
+      // NUL is not part of filters, so the key is unique
+      String key = filterArgs == null ? filter : filter + '\u0000' + filterArgs;
+      synchronized (_cache) {
+         StatisticFilter result = _cache.get(key);
+         if (result != null) {
+            _hitCount++;
+            return result;
+         }
+
+         _missCount++;
+      }
+
+      StatisticFilter result = filter.charAt(0) == TYPED_PREFIX
+            ? parse(filter)
+            : StatisticFilter.fromSelection(filter, ReportPlan.splitList(filterArgs));
+
+      synchronized (_cache) {
+         _cache.put(key, result);
+      }
+
+      return result;
+   }
+
+   /**
+    * Get number of decodings answered from the cache
+    *
+    * @return Hit count since start or last clear
+    */
+   public static long getHitCount() {
+
+      synchronized (_cache) {
+         return _hitCount;
+      }
+   }
+
+   /**
+    * Get number of decodings, that parsed the filter
+    *
+    * @return Miss count since start or last clear
+    */
+   public static long getMissCount() {
+
+      synchronized (_cache) {
+         return _missCount;
+      }
+   }
+
+   /**
+    * Drop all cached filters and reset the counters
+    */
+   public static void clearCache() {
+
+      synchronized (_cache) {
+         _cache.clear();
+         _hitCount = 0;
+         _missCount = 0;
+      }
+   }
+
+   /* Private helpers */
+   private static StatisticFilter parse(String value) {
+
+      int end = nextSection(value, 1);
+      if (parseInt(value, 1, end) != FORMAT_VERSION) {
+         throw new IllegalArgumentException("Unsupported filter format: " + value);
+      }
+
+      StatisticFilter.Builder builder = new StatisticFilter.Builder();
+      while (end < value.length()) {
+         int start = end + 1;
+         end = nextSection(value, start);
+         if (start == end) {
+            throw new IllegalArgumentException("Empty filter section at position " + start);
+         }
+
+         switch (value.charAt(start)) {
+            case _DATE_SECTION:
+               int separator = value.indexOf(_RANGE_SEPARATOR, start);
+               if (separator < 0 || separator > end) {
+                  throw new IllegalArgumentException("Date range without separator at position " + start);
+               }
+
+               builder.setDateRange(parseDay(value, start + 1, separator), parseDay(value, separator + 1, end));
+               break;
+            case _ADDRESS_SECTION:
+               builder.addAddressIds(parseIds(value, start + 1, end));
+               break;
+            case _PROJECT_SECTION:
+               builder.addProjectIds(parseIds(value, start + 1, end));
+               break;
+            case _TIME_TYPE_SECTION:
+               builder.addTimeTypeIds(parseIds(value, start + 1, end));
+               break;
+            case _TIME_KIND_SECTION:
+               for (long code : parseIds(value, start + 1, end)) {
+                  builder.addTimeKindCode((int) code);
+               }
+               break;
+            default:
+               throw new IllegalArgumentException("Unknown filter section '" + value.charAt(start) + "' at position " + start);
+         }
+      }
+
+      return builder.build();
+   }
+
+   private static int nextSection(String value, int start) {
+
+      int end = value.indexOf(_SECTION_SEPARATOR, start);
+
+      return end < 0 ? value.length() : end;
+   }
+
+   private static int parseDay(String value, int start, int end) {
+
+      if (start == end) {
+         return StatisticFilter.NO_DAY;
+      }
+
+      if (end - start != DbDateTimeCodec.DATE_LENGTH) {
+         throw new IllegalArgumentException("Invalid date at position " + start);
+      }
+
+      return DbDateTimeCodec.parseDate(value, start);
+   }
+
+   private static long[] parseIds(String value, int start, int end) {
+
+      if (start == end) {
+         return new long[0];
+      }
+
+      int count = 1;
+      for (int index = start; index < end; index++) {
+         if (value.charAt(index) == _LIST_SEPARATOR) {
+            count++;
+         }
+      }
+
+      long[] ids = new long[count];
+      int position = 0;
+      int itemStart = start;
+      for (int index = start; index <= end; index++) {
+         if (index == end || value.charAt(index) == _LIST_SEPARATOR) {
+            ids[position++] = parseLong(value, itemStart, index);
+            itemStart = index + 1;
+         }
+      }
+
+      return ids;
+   }
+
+   private static int parseInt(String value, int start, int end) {
+
+      long result = parseLong(value, start, end);
+      if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+         throw new IllegalArgumentException("Number out of range at position " + start);
+      }
+
+      return (int) result;
+   }
+
+   private static long parseLong(String value, int start, int end) {
+
+      try {
+         return Long.parseLong(value.substring(start, end));
+      } catch (NumberFormatException e) {
+         throw new IllegalArgumentException("Invalid number at position " + start, e);
+      }
+   }
+
+   private static void appendIds(StringBuilder result, char section, long[] ids) {
+
+      if (ids == null) {
+         return;
+      }
+
+      result.append(_SECTION_SEPARATOR).append(section);
+      for (int index = 0; index < ids.length; index++) {
+         if (index > 0) {
+            result.append(_LIST_SEPARATOR);
+         }
+
+         result.append(ids[index]);
+      }
+   }
+}
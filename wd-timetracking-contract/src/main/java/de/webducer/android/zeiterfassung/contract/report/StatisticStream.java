@@ -0,0 +1,260 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import android.database.Cursor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.ReportData.StatisticData;
+
+/**
+ * Streaming evaluation of a {@link StatisticBatch}: the statistic data of each statement is delivered as soon as the
+ * statement is finished, so a dashboard can show the first tiles while expensive statistics are still running.
+ * <p/>
+ * The statements are started in the order of their first tile (st_order). Each statement is a task of the executor,
+ * so slow statements (e.g. sub queries of a batch created with separate sub queries) do not block the others.
+ * Callbacks are called on the executor threads, one at a time. The check for {@link #cancel()} and the callback run
+ * under one lock, so no callback starts after cancel() returned. An exception of the listener stops the stream and is
+ * delivered to {@link Listener#onError(RuntimeException)}.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class StatisticStream {
+   /* Private fields */
+   private final StatisticBatch _batch;
+   private final StatisticBatch.QueryExecutor _queryExecutor;
+   private final Listener _listener;
+   private final AtomicInteger _pendingCount;
+   private final List<Future<?>> _tasks = new ArrayList<Future<?>>();
+   private final AtomicBoolean _cancelled = new AtomicBoolean(false);
+   // Guards the cancel check together with the callback
+   private final Object _callbackLock = new Object();
+   private boolean _started = false;
+
+   /* Constructors */
+
+   /**
+    * Create stream for the batch
+    *
+    * @param batch         Planned statistics
+    * @param queryExecutor Executor of the statements (must be thread safe, e.g. SQLiteDatabase.rawQuery)
+    * @param listener      Receiver of the statistic data
+    */
+   public StatisticStream(StatisticBatch batch, StatisticBatch.QueryExecutor queryExecutor, Listener listener) {
+
+      _batch = batch;
+      _queryExecutor = queryExecutor;
+      _listener = listener;
+      _pendingCount = new AtomicInteger(batch.getQueryCount());
+   }
+
+   /**
+    * Start all statements on the executor
+    *
+    * @param executor Background pool
+    * @return Same stream for chaining
+    * @throws IllegalStateException if the stream was already started
+    */
+   public synchronized StatisticStream start(ExecutorService executor) {
+
+      if (_started) {
+         throw new IllegalStateException("Stream was already started");
+      }
+
+      _started = true;
+      if (_batch.getQueryCount() == 0) {
+         synchronized (_callbackLock) {
+            try {
+               _listener.onComplete(_batch.buildStatisticData());
+            } catch (RuntimeException e) {
+               fail(e);
+            }
+         }
+
+         return this;
+      }
+
+      for (final int query : getQueriesByFirstOrder()) {
+         _tasks.add(executor.submit(new Runnable() {
+            @Override
+            public void run() {
+
+               evaluate(query);
+            }
+         }));
+      }
+
+      return this;
+   }
+
+   /**
+    * Stop the evaluation (running statements are interrupted, no more callbacks are called)
+    * <p/>
+    * Waits for a running callback, so it must not be called while holding a lock, that the listener needs.
+    */
+   public void cancel() {
+
+      synchronized (_callbackLock) {
+         _cancelled.set(true);
+      }
+
+      synchronized (this) {
+         for (Future<?> task : _tasks) {
+            task.cancel(true);
+         }
+      }
+   }
+
+   /**
+    * Check, if the evaluation was stopped
+    *
+    * @return True after {@link #cancel()} or an error
+    */
+   public boolean isCancelled() {
+
+      return _cancelled.get();
+   }
+
+   /**
+    * Check, if all statements are finished
+    *
+    * @return True, if the complete statistic data was delivered
+    */
+   public boolean isComplete() {
+
+      return _pendingCount.get() == 0;
+   }
+
+   /* Private helpers */
+   private void evaluate(int query) {
+
+      if (_cancelled.get()) {
+         return;
+      }
+
+      Cursor data;
+      try {
+         Cursor result = _queryExecutor.rawQuery(_batch.getSql(query), _batch.getSelectionArgs(query));
+         try {
+            // Each statement sets the values of its own statistics only
+            _batch.setResult(query, result);
+         } finally {
+            if (result != null) {
+               result.close();
+            }
+         }
+
+         data = _batch.buildStatisticData(query);
+      } catch (RuntimeException e) {
+         synchronized (_callbackLock) {
+            fail(e);
+         }
+
+         return;
+      }
+
+      synchronized (_callbackLock) {
+         if (_cancelled.get()) {
+            return;
+         }
+
+         try {
+            _listener.onStatisticData(data);
+
+            // The last statement sees the values of all others (ordered by the counter)
+            if (_pendingCount.decrementAndGet() == 0) {
+               _listener.onComplete(_batch.buildStatisticData());
+            }
+         } catch (RuntimeException e) {
+            fail(e);
+         }
+      }
+   }
+
+   // Stops the stream and reports the first error only (caller holds the callback lock)
+   private void fail(RuntimeException error) {
+
+      if (_cancelled.compareAndSet(false, true)) {
+         _listener.onError(error);
+      }
+   }
+
+   private Integer[] getQueriesByFirstOrder() {
+
+      Integer[] queries = new Integer[_batch.getQueryCount()];
+      final int[] firstOrders = new int[queries.length];
+      for (int query = 0; query < queries.length; query++) {
+         queries[query] = query;
+         firstOrders[query] = _batch.getFirstOrder(query);
+      }
+
+      Arrays.sort(queries, new Comparator<Integer>() {
+         @Override
+         public int compare(Integer left, Integer right) {
+
+            return firstOrders[left] < firstOrders[right] ? -1 : (firstOrders[left] == firstOrders[right] ? 0 : 1);
+         }
+      });
+
+      return queries;
+   }
+
+   /**
+    * Receiver of the streamed statistic data (called on the executor threads)
+    */
+   public static interface Listener {
+      /**
+       * Statistics of one statement are computed
+       *
+       * @param data Cursor with the projection {@link StatisticData.Columns#ALL_COLUMNS} with the finished statistics
+       */
+      void onStatisticData(Cursor data);
+
+      /**
+       * All statistics are computed
+       *
+       * @param data Cursor with the projection {@link StatisticData.Columns#ALL_COLUMNS} with all statistics in the
+       *             order of st_order
+       */
+      void onComplete(Cursor data);
+
+      /**
+       * A statement or a callback of the listener failed, the stream is stopped
+       *
+       * @param error Error of the statement or the listener
+       */
+      void onError(RuntimeException error);
+   }
+}
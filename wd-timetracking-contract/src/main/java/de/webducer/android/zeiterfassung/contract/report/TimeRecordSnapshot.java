@@ -0,0 +1,316 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Eugen [WebDucer] Richter
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.webducer.android.zeiterfassung.contract.report;
+
+import android.database.CharArrayBuffer;
+import android.database.Cursor;
+
+import de.webducer.android.zeiterfassung.contract.TimeTrackingContract.RecordData.TimeRecord;
+import de.webducer.android.zeiterfassung.contract.converter.EpochMinuteCodec;
+import de.webducer.android.zeiterfassung.contract.enums.TimeKind;
+
+/**
+ * Column wise copy of a time record query (projection {@link TimeRecord.QueryColumns#ALL_QUERY_COLUMNS}).
+ * <p/>
+ * The cursor is read once into primitive arrays (one array per column, one entry per row). Project and time type names
+ * are dictionary encoded: the rows hold a code, the name is stored once per project or time type. Aggregations and
+ * redraws work on the arrays without further cursor access.
+ *
+ * @author WebDucer - IT &amp; Internet Service
+ * @version 0.1
+ * @since 2026-10-17
+ */
+public final class TimeRecordSnapshot {
+   /* Public fields */
+   /**
+    * Epoch minute for missing times (e.g. end time of a running record)
+    */
+   public final static int NO_TIME = Integer.MIN_VALUE;
+
+   /**
+    * Dictionary code for rows without project or time type
+    */
+   public final static int NO_CODE = IdDictionary.NO_CODE;
+
+   /* Private fields */
+   private final long[] _ids;
+   private final long[] _projectTimeTypeIds;
+   private final int[] _startTimes;
+   private final int[] _endTimes;
+   private final int[] _timeSums;
+   private final int[] _pauseSums;
+   private final int[] _timeKindCodes;
+   private final int[] _projectCodes;
+   private final int[] _timeTypeCodes;
+   private final long[] _projectIds;
+   private final String[] _projectNames;
+   private final long[] _timeTypeIds;
+   private final String[] _timeTypeNames;
+
+   /* Constructors */
+   private TimeRecordSnapshot(Cursor cursor) {
+
+      int count = cursor == null ? 0 : cursor.getCount();
+      _ids = new long[count];
+      _projectTimeTypeIds = new long[count];
+      _startTimes = new int[count];
+      _endTimes = new int[count];
+      _timeSums = new int[count];
+      _pauseSums = new int[count];
+      _timeKindCodes = new int[count];
+      _projectCodes = new int[count];
+      _timeTypeCodes = new int[count];
+
+      IdDictionary projects = new IdDictionary();
+      IdDictionary timeTypes = new IdDictionary();
+      CharArrayBuffer buffer = new CharArrayBuffer(32);
+
+      int row = 0;
+      if (count > 0 && cursor.moveToFirst()) {
+         do {
+            _ids[row] = cursor.getLong(TimeRecord.Columns.IDX_ID);
+            _projectTimeTypeIds[row] = cursor.getLong(TimeRecord.Columns.IDX_PROJECT_TIME_TYPE_ID);
+            _startTimes[row] = toTime(EpochMinuteCodec.read(cursor, TimeRecord.Columns.IDX_START_TIME, buffer));
+            _endTimes[row] = toTime(EpochMinuteCodec.read(cursor, TimeRecord.Columns.IDX_END_TIME, buffer));
+            _timeSums[row] = cursor.getInt(TimeRecord.QueryColumns.IDX_TIME_SUM);
+            _pauseSums[row] = cursor.getInt(TimeRecord.QueryColumns.IDX_PAUSE_SUM);
+            _timeKindCodes[row] = cursor.getInt(TimeRecord.QueryColumns.IDX_TIME_TYPE_KIND);
+            _projectCodes[row] = projects.encode(cursor, TimeRecord.QueryColumns.IDX_PROJECT_ID, TimeRecord.QueryColumns.IDX_PROJECT_NAME);
+            _timeTypeCodes[row] = timeTypes.encode(cursor, TimeRecord.QueryColumns.IDX_TIME_TYPE_ID, TimeRecord.QueryColumns.IDX_TIME_TYPE_NAME);
+            row++;
+         } while (row < count && cursor.moveToNext());
+      }
+
+      if (row != count) {
+         throw new IllegalStateException("Cursor returned " + row + " of " + count + " rows");
+      }
+
+      _projectIds = projects.getIds();
+      _projectNames = projects.getNames();
+      _timeTypeIds = timeTypes.getIds();
+      _timeTypeNames = timeTypes.getNames();
+   }
+
+   /**
+    * Read all rows of the cursor (the cursor position is changed, the cursor is not closed)
+    *
+    * @param cursor Cursor with the projection {@link TimeRecord.QueryColumns#ALL_QUERY_COLUMNS} (can be null)
+    * @return New snapshot
+    */
+   public static TimeRecordSnapshot fromCursor(Cursor cursor) {
+
+      return new TimeRecordSnapshot(TimeRecord.QueryColumns.ALL_QUERY_COLUMNS_INDEX.validate(cursor));
+   }
+
+   /**
+    * Number of rows
+    *
+    * @return Row count
+    */
+   public int size() {
+
+      return _ids.length;
+   }
+
+   /**
+    * Get time record ID
+    *
+    * @param row Row position
+    * @return Time record ID
+    */
+   public long getId(int row) {
+
+      return _ids[row];
+   }
+
+   /**
+    * Get project time type ID
+    *
+    * @param row Row position
+    * @return Project time type ID
+    */
+   public long getProjectTimeTypeId(int row) {
+
+      return _projectTimeTypeIds[row];
+   }
+
+   /**
+    * Get start time
+    *
+    * @param row Row position
+    * @return Epoch minute or {@link #NO_TIME}
+    */
+   public int getStartTime(int row) {
+
+      return _startTimes[row];
+   }
+
+   /**
+    * Get end time
+    *
+    * @param row Row position
+    * @return Epoch minute or {@link #NO_TIME} (e.g. for a running record)
+    */
+   public int getEndTime(int row) {
+
+      return _endTimes[row];
+   }
+
+   /**
+    * Get total time (tr_time_sum)
+    *
+    * @param row Row position
+    * @return Time in minutes
+    */
+   public int getTimeSum(int row) {
+
+      return _timeSums[row];
+   }
+
+   /**
+    * Get total pause time (tr_pause_sum)
+    *
+    * @param row Row position
+    * @return Pause time in minutes
+    */
+   public int getPauseSum(int row) {
+
+      return _pauseSums[row];
+   }
+
+   /**
+    * Get enum code of the time kind (tt_kind)
+    *
+    * @param row Row position
+    * @return Enum code of {@link TimeKind}
+    */
+   public int getTimeKindCode(int row) {
+
+      return _timeKindCodes[row];
+   }
+
+   /**
+    * Get time kind
+    *
+    * @param row Row position
+    * @return Time kind
+    */
+   public TimeKind getTimeKind(int row) {
+
+      return TimeKind.getTimeKindByCode(_timeKindCodes[row]);
+   }
+
+   /**
+    * Get dictionary code of the project
+    *
+    * @param row Row position
+    * @return Project code (0 to {@link #getProjectCount()} - 1) or {@link #NO_CODE}
+    */
+   public int getProjectCode(int row) {
+
+      return _projectCodes[row];
+   }
+
+   /**
+    * Get dictionary code of the time type
+    *
+    * @param row Row position
+    * @return Time type code (0 to {@link #getTimeTypeCount()} - 1) or {@link #NO_CODE}
+    */
+   public int getTimeTypeCode(int row) {
+
+      return _timeTypeCodes[row];
+   }
+
+   /**
+    * Number of distinct projects
+    *
+    * @return Project count
+    */
+   public int getProjectCount() {
+
+      return _projectIds.length;
+   }
+
+   /**
+    * Get project ID of the dictionary code
+    *
+    * @param code Project code
+    * @return Project ID
+    */
+   public long getProjectId(int code) {
+
+      return _projectIds[code];
+   }
+
+   /**
+    * Get project name of the dictionary code
+    *
+    * @param code Project code
+    * @return Project name
+    */
+   public String getProjectName(int code) {
+
+      return _projectNames[code];
+   }
+
+   /**
+    * Number of distinct time types
+    *
+    * @return Time type count
+    */
+   public int getTimeTypeCount() {
+
+      return _timeTypeIds.length;
+   }
+
+   /**
+    * Get time type ID of the dictionary code
+    *
+    * @param code Time type code
+    * @return Time type ID
+    */
+   public long getTimeTypeId(int code) {
+
+      return _timeTypeIds[code];
+   }
+
+   /**
+    * Get time type name of the dictionary code
+    *
+    * @param code Time type code
+    * @return Time type name
+    */
+   public String getTimeTypeName(int code) {
+
+      return _timeTypeNames[code];
+   }
+
+   /* Private helpers */
+   private static int toTime(long epochMinute) {
+
+      return epochMinute == EpochMinuteCodec.NO_VALUE ? NO_TIME : (int) epochMinute;
+   }
+}